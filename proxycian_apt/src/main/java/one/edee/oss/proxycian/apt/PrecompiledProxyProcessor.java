@@ -0,0 +1,140 @@
+package one.edee.oss.proxycian.apt;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Annotation processor generating source code of the proxy classes for the types annotated with
+ * `one.edee.oss.proxycian.recipe.PrecompiledProxy`. The generated classes follow the contract of the classes generated
+ * by `ByteBuddyProxyGenerator` in `METHOD_DELEGATION` dispatch mode, so that the generator can load them instead of
+ * generating the byte-code at runtime. See {@link ProxySourceWriter}.
+ *
+ * The processor refers to the Proxycian classes only by their names so that it has no dependencies.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class PrecompiledProxyProcessor extends AbstractProcessor {
+	static final String ANNOTATION_CLASS = "one.edee.oss.proxycian.recipe.PrecompiledProxy";
+	static final String CLASS_NAME_SUFFIX = "$ProxycianPrecompiled";
+	static final String SERIALIZABLE_CLASS_NAME_SUFFIX = "$ProxycianPrecompiledSerializable";
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(ANNOTATION_CLASS);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (verifyContract(element)) {
+					final TypeElement contract = (TypeElement) element;
+					generate(contract, false);
+					if (isSerializable(contract)) {
+						generate(contract, true);
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Writes source file of the proxy class for passed contract.
+	 */
+	private void generate(TypeElement contract, boolean serializable) {
+		final ProxySourceWriter sourceWriter = new ProxySourceWriter(
+			this.processingEnv, contract, serializable ? SERIALIZABLE_CLASS_NAME_SUFFIX : CLASS_NAME_SUFFIX, serializable
+		);
+		try {
+			final JavaFileObject sourceFile = this.processingEnv.getFiler().createSourceFile(sourceWriter.getClassName(), contract);
+			try (final Writer writer = sourceFile.openWriter()) {
+				writer.write(sourceWriter.write());
+			}
+		} catch (IOException | RuntimeException ex) {
+			this.processingEnv.getMessager().printMessage(
+				Kind.ERROR, "Failed to generate precompiled proxy `" + sourceWriter.getClassName() + "`: " + ex, contract
+			);
+		}
+	}
+
+	/**
+	 * Returns value of the `serializable` attribute of the annotation present on passed contract.
+	 */
+	private boolean isSerializable(TypeElement contract) {
+		for (AnnotationMirror annotationMirror : contract.getAnnotationMirrors()) {
+			final TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().contentEquals(ANNOTATION_CLASS)) {
+				for (Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotationMirror.getElementValues().entrySet()) {
+					if (entry.getKey().getSimpleName().contentEquals("serializable")) {
+						return Boolean.TRUE.equals(entry.getValue().getValue());
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Reports error and returns false if the annotated element cannot be proxied by a precompiled class.
+	 */
+	private boolean verifyContract(Element element) {
+		if (element.getKind() != ElementKind.INTERFACE && element.getKind() != ElementKind.CLASS) {
+			return error(element, "Only interfaces and abstract classes can be precompiled proxy contracts!");
+		}
+		final TypeElement contract = (TypeElement) element;
+		if (contract.getModifiers().contains(Modifier.FINAL)) {
+			return error(element, "Final class cannot be precompiled proxy contract!");
+		}
+		if (!contract.getTypeParameters().isEmpty()) {
+			return error(element, "Generic types cannot be precompiled proxy contracts!");
+		}
+		for (Element enclosing = contract; enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+			if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+				return error(element, "Private types cannot be precompiled proxy contracts!");
+			}
+			if (enclosing.getKind() == ElementKind.CLASS && enclosing.getEnclosingElement() instanceof TypeElement &&
+				!enclosing.getModifiers().contains(Modifier.STATIC)) {
+				return error(element, "Inner (non-static) classes cannot be precompiled proxy contracts!");
+			}
+		}
+		if (contract.getKind() == ElementKind.CLASS) {
+			boolean accessibleConstructor = false;
+			for (ExecutableElement constructor : ElementFilter.constructorsIn(contract.getEnclosedElements())) {
+				final Set<Modifier> modifiers = constructor.getModifiers();
+				accessibleConstructor |= modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.PROTECTED);
+			}
+			if (!accessibleConstructor) {
+				return error(element, "Precompiled proxy contract must have public or protected constructor!");
+			}
+		}
+		return true;
+	}
+
+	private boolean error(Element element, String message) {
+		this.processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+		return false;
+	}
+
+}
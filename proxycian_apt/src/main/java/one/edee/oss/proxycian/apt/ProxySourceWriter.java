@@ -0,0 +1,461 @@
+package one.edee.oss.proxycian.apt;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes source code of single precompiled proxy class. The class mirrors the class generated by
+ * `ByteBuddyProxyGenerator` in `METHOD_DELEGATION` dispatch mode:
+ *
+ * - it extends the abstract class (or `Object`) and implements `ProxyStateAccessor` (and `SerializableProxy`) and
+ *   the interface of the contract in the same order
+ * - it keeps `ByteBuddyDispatcherInvocationHandler` in the private final field `dispatcherInvocationHandler`
+ * - it keeps all intercepted methods in the static field `proxyMethods` indexed by their ordinals
+ * - each constructor accepts the invocation handler, the instantiation callback and the proxy state followed by
+ *   the arguments of the super constructor
+ * - all overridable methods except the finalizer delegate to the static `interceptMethodCall` method of the handler
+ *   with the accessor methods of the super / default implementations
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class ProxySourceWriter {
+	private static final String HANDLER_CLASS = "one.edee.oss.proxycian.bytebuddy.ByteBuddyDispatcherInvocationHandler";
+	private static final String SUPPORT_CLASS = "one.edee.oss.proxycian.bytebuddy.PrecompiledProxySupport";
+	private static final String CALLBACK_CLASS = "one.edee.oss.proxycian.OnInstantiationCallback";
+	private static final String STATE_ACCESSOR_CLASS = "one.edee.oss.proxycian.trait.ProxyStateAccessor";
+	private static final String SERIALIZABLE_PROXY_CLASS = "one.edee.oss.proxycian.trait.SerializableProxy";
+	private static final String METHOD_CLASS = "java.lang.reflect.Method";
+	/**
+	 * Names of the fields must match `ByteBuddyProxyGenerator.INVOCATION_HANDLER_FIELD` and `PROXY_METHODS_FIELD`.
+	 */
+	private static final String HANDLER_FIELD = "dispatcherInvocationHandler";
+	private static final String METHODS_FIELD = "proxyMethods";
+	private static final String SUPER_METHODS_FIELD = "proxycian$superMethods";
+	private static final String DEFAULT_METHODS_FIELD = "proxycian$defaultMethods";
+	private static final String DISPATCH_METHOD = "proxycian$dispatch";
+	private static final String ACCESSOR_INFIX = "$proxycianSuper";
+
+	private final Types types;
+	private final Elements elements;
+	private final TypeElement contract;
+	private final boolean serializable;
+	private final String packageName;
+	private final String className;
+	private final StringBuilder source = new StringBuilder(4096);
+
+	ProxySourceWriter(ProcessingEnvironment processingEnv, TypeElement contract, String classNameSuffix, boolean serializable) {
+		this.types = processingEnv.getTypeUtils();
+		this.elements = processingEnv.getElementUtils();
+		this.contract = contract;
+		this.serializable = serializable;
+		final PackageElement packageElement = this.elements.getPackageOf(contract);
+		this.packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		final String binaryName = this.elements.getBinaryName(contract).toString();
+		// NESTED TYPES ARE GENERATED AS TOP LEVEL CLASSES, THE BINARY NAME IS THE SAME
+		this.className = (this.packageName.isEmpty() ? binaryName : binaryName.substring(this.packageName.length() + 1)) + classNameSuffix;
+	}
+
+	/**
+	 * Returns fully qualified name of the generated class.
+	 */
+	String getClassName() {
+		return this.packageName.isEmpty() ? this.className : this.packageName + "." + this.className;
+	}
+
+	/**
+	 * Returns complete source code of the generated class.
+	 */
+	String write() {
+		final boolean interfaceContract = this.contract.getKind() == ElementKind.INTERFACE;
+		final TypeElement superClass = interfaceContract ? getType(Object.class.getName()) : this.contract;
+		final List<TypeElement> interfaces = new ArrayList<>(3);
+		interfaces.add(getType(STATE_ACCESSOR_CLASS));
+		if (this.serializable) {
+			interfaces.add(getType(SERIALIZABLE_PROXY_CLASS));
+		}
+		if (interfaceContract) {
+			interfaces.add(this.contract);
+		}
+		final List<ProxyMethod> methods = collectMethods(superClass, interfaces);
+
+		if (!this.packageName.isEmpty()) {
+			line(0, "package " + this.packageName + ";");
+			line(0, "");
+		}
+		line(0, "/**");
+		line(0, " * Proxy class of {@link " + this.contract.getQualifiedName() + "} generated by Proxycian annotation processor.");
+		line(0, " */");
+		line(0, "@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\", \"serial\"})");
+		final StringBuilder declaration = new StringBuilder("public class " + this.className + " extends " + superClass.getQualifiedName() + " implements ");
+		for (int i = 0; i < interfaces.size(); i++) {
+			declaration.append(i == 0 ? "" : ", ").append(interfaces.get(i).getQualifiedName());
+		}
+		line(0, declaration + " {");
+		line(1, "private static final " + METHOD_CLASS + "[] " + METHODS_FIELD + ";");
+		line(1, "private static final " + METHOD_CLASS + "[] " + SUPER_METHODS_FIELD + ";");
+		line(1, "private static final " + METHOD_CLASS + "[] " + DEFAULT_METHODS_FIELD + ";");
+		line(1, "private final " + HANDLER_CLASS + "<?> " + HANDLER_FIELD + ";");
+		line(0, "");
+		writeStaticInitializer(methods);
+		writeConstructors(superClass);
+		for (int i = 0; i < methods.size(); i++) {
+			writeMethod(methods.get(i), i);
+		}
+		writeDispatchMethod();
+		line(0, "}");
+		return this.source.toString();
+	}
+
+	/**
+	 * Collects all methods the runtime generated class would intercept - all overridable methods of the super class
+	 * and the interfaces except the finalizer. The most specific declaration of each signature wins.
+	 */
+	private List<ProxyMethod> collectMethods(TypeElement superClass, List<TypeElement> interfaces) {
+		final Map<String, ProxyMethod> methods = new LinkedHashMap<>();
+		final Set<TypeElement> visited = new HashSet<>();
+		final TypeElement objectType = getType(Object.class.getName());
+		if (superClass != objectType) {
+			collectMethods((DeclaredType) superClass.asType(), superClass, methods, visited);
+		}
+		for (TypeElement anInterface : interfaces) {
+			collectMethods((DeclaredType) anInterface.asType(), anInterface, methods, visited);
+		}
+		// METHODS OF OBJECT ARE COLLECTED LAST, SO THAT THEIR REDECLARATIONS IN THE INTERFACES (USUALLY PUBLIC CLONE) WIN
+		collectMethods((DeclaredType) objectType.asType(), objectType, methods, visited);
+
+		final List<ProxyMethod> result = new ArrayList<>(methods.size());
+		for (Map.Entry<String, ProxyMethod> entry : methods.entrySet()) {
+			final ProxyMethod method = entry.getValue();
+			if (isOverridable(method.element)) {
+				// RUNTIME GENERATED CLASS REPORTS THE METHOD OF THE SUPER CLASS EVEN IF SOME INTERFACE REDECLARES IT
+				final ExecutableElement superClassMethod = findSuperClassMethod(superClass, entry.getKey());
+				if (superClassMethod != null) {
+					method.origin = superClassMethod;
+					method.superImplemented = !superClassMethod.getModifiers().contains(Modifier.ABSTRACT);
+				}
+				result.add(method);
+			}
+		}
+		return result;
+	}
+
+	private void collectMethods(DeclaredType root, TypeElement type, Map<String, ProxyMethod> methods, Set<TypeElement> visited) {
+		if (!visited.add(type)) {
+			return;
+		}
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			final Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+				continue;
+			}
+			final ExecutableType methodType = (ExecutableType) this.types.asMemberOf(root, method);
+			final String signature = getSignature(method, methodType);
+			final ProxyMethod existing = methods.get(signature);
+			if (existing == null || isMoreSpecific(type, (TypeElement) existing.element.getEnclosingElement())) {
+				methods.put(signature, new ProxyMethod(method, methodType));
+			}
+		}
+		if (type.getSuperclass().getKind() == TypeKind.DECLARED) {
+			collectMethods(root, (TypeElement) this.types.asElement(type.getSuperclass()), methods, visited);
+		}
+		for (TypeMirror anInterface : type.getInterfaces()) {
+			collectMethods(root, (TypeElement) this.types.asElement(anInterface), methods, visited);
+		}
+	}
+
+	/**
+	 * Returns method of the passed signature declared by the first class of the super class chain or NULL if no class
+	 * declares it. Implementation of such method is available as the super method.
+	 */
+	private ExecutableElement findSuperClassMethod(TypeElement superClass, String signature) {
+		for (TypeElement type = superClass; type != null; type = getSuperClass(type)) {
+			for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+				if (!method.getModifiers().contains(Modifier.STATIC) && !method.getModifiers().contains(Modifier.PRIVATE) &&
+					signature.equals(getSignature(method, (ExecutableType) this.types.asMemberOf((DeclaredType) superClass.asType(), method)))) {
+					return method;
+				}
+			}
+		}
+		return null;
+	}
+
+	private TypeElement getSuperClass(TypeElement type) {
+		return type.getSuperclass().getKind() == TypeKind.DECLARED ?
+			(TypeElement) this.types.asElement(type.getSuperclass()) : null;
+	}
+
+	/**
+	 * Returns true if method declared on `candidate` overrides the method of the same signature declared on `existing`.
+	 * Methods of the classes always win over methods of the interfaces.
+	 */
+	private boolean isMoreSpecific(TypeElement candidate, TypeElement existing) {
+		if (existing.getKind() != ElementKind.INTERFACE && candidate.getKind() == ElementKind.INTERFACE) {
+			return false;
+		}
+		return !candidate.equals(existing) &&
+			this.types.isSubtype(this.types.erasure(candidate.asType()), this.types.erasure(existing.asType()));
+	}
+
+	private boolean isOverridable(ExecutableElement method) {
+		final Set<Modifier> modifiers = method.getModifiers();
+		if (modifiers.contains(Modifier.FINAL)) {
+			return false;
+		}
+		if (method.getSimpleName().contentEquals("finalize") && method.getParameters().isEmpty()) {
+			return false;
+		}
+		if (!modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.PROTECTED) &&
+			method.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+			// PACKAGE PRIVATE METHODS CAN BE OVERRIDDEN ONLY IN THE SAME PACKAGE
+			return this.elements.getPackageOf(method).equals(this.elements.getPackageOf(this.contract));
+		}
+		return true;
+	}
+
+	private void writeStaticInitializer(List<ProxyMethod> methods) {
+		line(1, "static {");
+		line(2, METHODS_FIELD + " = new " + METHOD_CLASS + "[]{");
+		for (int i = 0; i < methods.size(); i++) {
+			final ProxyMethod method = methods.get(i);
+			final TypeElement owner = (TypeElement) method.origin.getEnclosingElement();
+			final List<TypeMirror> parameterTypes = new ArrayList<>();
+			method.origin.getParameters().forEach(it -> parameterTypes.add(it.asType()));
+			line(3, findMethod(owner.getQualifiedName().toString(), method.origin.getSimpleName().toString(), parameterTypes) + separator(i, methods.size()));
+		}
+		line(2, "};");
+		line(2, SUPER_METHODS_FIELD + " = new " + METHOD_CLASS + "[]{");
+		for (int i = 0; i < methods.size(); i++) {
+			final ProxyMethod method = methods.get(i);
+			line(3, (method.superImplemented ? findAccessor(method, i) : "null") + separator(i, methods.size()));
+		}
+		line(2, "};");
+		line(2, DEFAULT_METHODS_FIELD + " = new " + METHOD_CLASS + "[]{");
+		for (int i = 0; i < methods.size(); i++) {
+			final ProxyMethod method = methods.get(i);
+			line(3, (!method.superImplemented && method.isDefault() ? findAccessor(method, i) : "null") + separator(i, methods.size()));
+		}
+		line(2, "};");
+		line(1, "}");
+		line(0, "");
+	}
+
+	private String findAccessor(ProxyMethod method, int ordinal) {
+		return findMethod(this.className, getAccessorName(method, ordinal), method.type.getParameterTypes());
+	}
+
+	private String findMethod(String owner, String name, List<? extends TypeMirror> parameterTypes) {
+		final StringBuilder lookup = new StringBuilder(SUPPORT_CLASS + ".findMethod(" + owner + ".class, \"" + name + "\"");
+		for (TypeMirror parameterType : parameterTypes) {
+			lookup.append(", ").append(this.types.erasure(parameterType)).append(".class");
+		}
+		return lookup.append(")").toString();
+	}
+
+	private void writeConstructors(TypeElement superClass) {
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(superClass.getEnclosedElements())) {
+			final Set<Modifier> modifiers = constructor.getModifiers();
+			if (!modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.PROTECTED)) {
+				continue;
+			}
+			final ExecutableType constructorType = (ExecutableType) constructor.asType();
+			final StringBuilder signature = new StringBuilder(modifiers.contains(Modifier.PUBLIC) ? "public " : "protected ");
+			signature.append(writeTypeVariables(constructorType.getTypeVariables()))
+				.append(this.className).append("(")
+				.append(HANDLER_CLASS).append("<?> ").append(HANDLER_FIELD).append(", ")
+				.append(CALLBACK_CLASS).append(" onInstantiationCallback, Object proxyState")
+				.append(writeParameters(constructorType.getParameterTypes(), constructor.isVarArgs(), true))
+				.append(")")
+				.append(writeThrows(constructorType.getThrownTypes()))
+				.append(" {");
+			line(1, signature.toString());
+			line(2, "super(" + writeArguments(constructorType.getParameterTypes().size()) + ");");
+			line(2, "onInstantiationCallback.proxyCreated(this, proxyState);");
+			line(2, "this." + HANDLER_FIELD + " = " + HANDLER_FIELD + ";");
+			line(1, "}");
+			line(0, "");
+		}
+	}
+
+	private void writeMethod(ProxyMethod method, int ordinal) {
+		final ExecutableElement element = method.element;
+		final ExecutableType type = method.type;
+		final String name = element.getSimpleName().toString();
+		final String typeVariables = writeTypeVariables(type.getTypeVariables());
+		final String parameters = writeParameters(type.getParameterTypes(), element.isVarArgs(), false);
+		final String arguments = writeArguments(type.getParameterTypes().size());
+		final TypeMirror returnType = type.getReturnType();
+		final boolean returnsValue = returnType.getKind() != TypeKind.VOID;
+
+		line(1, "@Override");
+		line(1, getVisibility(element) + typeVariables + returnType + " " + name + "(" + parameters + ")" + writeThrows(type.getThrownTypes()) + " {");
+		final String dispatch = DISPATCH_METHOD + "(" + ordinal + ", new Object[]{" + arguments + "})";
+		line(2, returnsValue ? "return (" + getBoxedType(returnType) + ") " + dispatch + ";" : dispatch + ";");
+		line(1, "}");
+		line(0, "");
+
+		if (method.superImplemented || method.isDefault()) {
+			// ACCESSOR OF THE SUPER / DEFAULT IMPLEMENTATION, THE HANDLER CALLS IT VIA METHOD HANDLE
+			final String target = method.superImplemented || this.contract.getKind() != ElementKind.INTERFACE ?
+				"super" : this.contract.getQualifiedName() + ".super";
+			// ACCESSOR MUST NOT BE VARARGS METHOD, OTHERWISE ITS HANDLE WOULD COLLECT THE SPREAD ARGUMENTS AGAIN
+			final String accessorParameters = writeParameters(type.getParameterTypes(), false, false);
+			line(1, "private " + typeVariables + returnType + " " + getAccessorName(method, ordinal) + "(" + accessorParameters + ") throws Throwable {");
+			line(2, (returnsValue ? "return (" + returnType + ") " : "") + target + "." + name + "(" + arguments + ");");
+			line(1, "}");
+			line(0, "");
+		}
+	}
+
+	private void writeDispatchMethod() {
+		line(1, "private Object " + DISPATCH_METHOD + "(int methodOrdinal, Object[] args) {");
+		line(2, "try {");
+		line(3, "return " + HANDLER_CLASS + ".interceptMethodCall(");
+		line(4, "this, " + METHODS_FIELD + "[methodOrdinal], methodOrdinal, this." + HANDLER_FIELD + ",");
+		line(4, SUPER_METHODS_FIELD + "[methodOrdinal], " + DEFAULT_METHODS_FIELD + "[methodOrdinal], args");
+		line(3, ");");
+		line(2, "} catch (Throwable ex) {");
+		line(3, "throw " + SUPPORT_CLASS + ".rethrow(ex);");
+		line(2, "}");
+		line(1, "}");
+	}
+
+	private String getVisibility(ExecutableElement method) {
+		final Set<Modifier> modifiers = method.getModifiers();
+		if (modifiers.contains(Modifier.PUBLIC) || method.getEnclosingElement().getKind() == ElementKind.INTERFACE) {
+			return "public ";
+		} else if (modifiers.contains(Modifier.PROTECTED)) {
+			return "protected ";
+		} else {
+			return "";
+		}
+	}
+
+	private String getAccessorName(ProxyMethod method, int ordinal) {
+		return method.element.getSimpleName() + ACCESSOR_INFIX + ordinal;
+	}
+
+	private String getBoxedType(TypeMirror type) {
+		return type.getKind().isPrimitive() ?
+			this.types.boxedClass(this.types.getPrimitiveType(type.getKind())).getQualifiedName().toString() :
+			type.toString();
+	}
+
+	private String getSignature(ExecutableElement method, ExecutableType methodType) {
+		final StringBuilder signature = new StringBuilder(method.getSimpleName()).append("(");
+		for (TypeMirror parameterType : methodType.getParameterTypes()) {
+			signature.append(this.types.erasure(parameterType)).append(";");
+		}
+		return signature.append(")").toString();
+	}
+
+	private String writeTypeVariables(List<? extends TypeVariable> typeVariables) {
+		if (typeVariables.isEmpty()) {
+			return "";
+		}
+		final StringBuilder result = new StringBuilder("<");
+		for (int i = 0; i < typeVariables.size(); i++) {
+			final TypeVariable typeVariable = typeVariables.get(i);
+			result.append(i == 0 ? "" : ", ").append(typeVariable);
+			final TypeMirror upperBound = typeVariable.getUpperBound();
+			if (upperBound instanceof IntersectionType) {
+				final List<? extends TypeMirror> bounds = ((IntersectionType) upperBound).getBounds();
+				for (int j = 0; j < bounds.size(); j++) {
+					result.append(j == 0 ? " extends " : " & ").append(bounds.get(j));
+				}
+			} else if (!upperBound.toString().equals(Object.class.getName())) {
+				result.append(" extends ").append(upperBound);
+			}
+		}
+		return result.append("> ").toString();
+	}
+
+	private static String writeParameters(List<? extends TypeMirror> parameterTypes, boolean varArgs, boolean leadingComma) {
+		final StringBuilder result = new StringBuilder();
+		for (int i = 0; i < parameterTypes.size(); i++) {
+			String parameterType = parameterTypes.get(i).toString();
+			if (varArgs && i == parameterTypes.size() - 1 && parameterType.endsWith("[]")) {
+				parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+			}
+			result.append(i == 0 && !leadingComma ? "" : ", ").append(parameterType).append(" arg").append(i);
+		}
+		return result.toString();
+	}
+
+	private static String writeArguments(int count) {
+		final StringBuilder result = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			result.append(i == 0 ? "" : ", ").append("arg").append(i);
+		}
+		return result.toString();
+	}
+
+	private static String writeThrows(List<? extends TypeMirror> thrownTypes) {
+		if (thrownTypes.isEmpty()) {
+			return "";
+		}
+		final StringBuilder result = new StringBuilder(" throws ");
+		for (int i = 0; i < thrownTypes.size(); i++) {
+			result.append(i == 0 ? "" : ", ").append(thrownTypes.get(i));
+		}
+		return result.toString();
+	}
+
+	private static String separator(int index, int size) {
+		return index < size - 1 ? "," : "";
+	}
+
+	private TypeElement getType(String name) {
+		final TypeElement type = this.elements.getTypeElement(name);
+		if (type == null) {
+			throw new IllegalStateException("Class `" + name + "` is not on the class path of the compiler!");
+		}
+		return type;
+	}
+
+	private void line(int indentation, String line) {
+		for (int i = 0; i < indentation; i++) {
+			this.source.append('\t');
+		}
+		this.source.append(line).append('\n');
+	}
+
+	/**
+	 * Intercepted method with its type resolved against the contract and the method reported to the handler.
+	 */
+	private static class ProxyMethod {
+		private final ExecutableElement element;
+		private final ExecutableType type;
+		private ExecutableElement origin;
+		private boolean superImplemented;
+
+		ProxyMethod(ExecutableElement element, ExecutableType type) {
+			this.element = element;
+			this.type = type;
+			this.origin = element;
+		}
+
+		boolean isDefault() {
+			return this.element.getModifiers().contains(Modifier.DEFAULT);
+		}
+	}
+
+}
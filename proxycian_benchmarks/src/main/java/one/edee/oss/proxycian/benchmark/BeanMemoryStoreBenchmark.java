@@ -0,0 +1,75 @@
+package one.edee.oss.proxycian.benchmark;
+
+import one.edee.oss.proxycian.benchmark.model.Person;
+import one.edee.oss.proxycian.benchmark.model.PersonImplementation;
+import one.edee.oss.proxycian.benchmark.model.PropertyBucket;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator;
+import one.edee.oss.proxycian.javassist.JavassistProxyGenerator;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures getter / setter dispatch of the proxy backed by
+ * {@link one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang.invoke=ALL-UNNAMED")
+@State(Scope.Thread)
+public class BeanMemoryStoreBenchmark {
+	private static final String NAME = "Jan";
+	private Person byteBuddyProxy;
+	private Person javassistProxy;
+	private Person jdkProxy;
+	private Person handWritten;
+
+	@Setup
+	public void setUp() {
+		final ProxyRecipe recipe = BenchmarkProxies.beanMemoryStoreRecipe();
+		this.byteBuddyProxy = ByteBuddyProxyGenerator.instantiate(recipe, new PropertyBucket());
+		this.javassistProxy = JavassistProxyGenerator.instantiate(recipe, new PropertyBucket());
+		this.jdkProxy = BenchmarkProxies.beanMemoryStoreJdkProxy(new PropertyBucket());
+		this.handWritten = new PersonImplementation();
+	}
+
+	@Benchmark
+	public String byteBuddy() {
+		return setAndGet(this.byteBuddyProxy);
+	}
+
+	@Benchmark
+	public String javassist() {
+		return setAndGet(this.javassistProxy);
+	}
+
+	@Benchmark
+	public String jdkProxy() {
+		return setAndGet(this.jdkProxy);
+	}
+
+	@Benchmark
+	public String handWritten() {
+		return setAndGet(this.handWritten);
+	}
+
+	private static String setAndGet(Person person) {
+		person.setName(NAME);
+		return person.getName();
+	}
+
+}
@@ -0,0 +1,193 @@
+package one.edee.oss.proxycian.benchmark;
+
+import one.edee.oss.proxycian.benchmark.model.CountingAdvice;
+import one.edee.oss.proxycian.benchmark.model.Person;
+import one.edee.oss.proxycian.benchmark.model.PropertyBucket;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.util.ReflectionUtils;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Recipes of the benchmarked Proxycian proxies and the equivalent {@link Proxy JDK proxies}. The JDK proxies implement
+ * the same behaviour by hand-written {@link InvocationHandler invocation handlers} so that the overhead of Proxycian
+ * could be compared with the plain reflection.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class BenchmarkProxies {
+	private static final Class<?>[] PERSON_CONTRACT = {Person.class};
+	private static final Object[] EMPTY_ARGS = new Object[0];
+	private static final Map<Method, String> GETTERS = new HashMap<>(8);
+	private static final Map<Method, String> SETTERS = new HashMap<>(8);
+	private static final Method CLONE;
+	private static final Method GREET;
+	private static final MethodHandle GREET_HANDLE;
+
+	static {
+		try {
+			GETTERS.put(Person.class.getMethod("getName"), "name");
+			GETTERS.put(Person.class.getMethod("getAge"), "age");
+			SETTERS.put(Person.class.getMethod("setName", String.class), "name");
+			SETTERS.put(Person.class.getMethod("setAge", int.class), "age");
+			CLONE = Person.class.getMethod("clone");
+			GREET = Person.class.getMethod("greet");
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+		GREET_HANDLE = ReflectionUtils.findMethodHandle(GREET);
+	}
+
+	private BenchmarkProxies() {
+	}
+
+	/**
+	 * Recipe of the proxy storing its properties in {@link PropertyBucket} using {@link BeanMemoryStoreAdvice}.
+	 */
+	@Nonnull
+	public static ProxyRecipe beanMemoryStoreRecipe() {
+		return new ProxyRecipe(PERSON_CONTRACT, new Advice[]{BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE});
+	}
+
+	/**
+	 * Recipe of the proxy delegating all calls to the {@link Person} in its state using {@link DelegateCallsAdvice}.
+	 */
+	@Nonnull
+	public static ProxyRecipe delegateCallsRecipe() {
+		return new ProxyRecipe(DelegateCallsAdvice.getInstance(Person.class));
+	}
+
+	/**
+	 * Recipe of the proxy storing its properties in {@link PropertyBucket}, where each call passes through three
+	 * transparent {@link CountingAdvice counting advices} first.
+	 */
+	@Nonnull
+	public static ProxyRecipe transparentChainRecipe() {
+		return new ProxyRecipe(
+			PERSON_CONTRACT,
+			new Advice[]{
+				new CountingAdvice("metrics"), new CountingAdvice("logging"), new CountingAdvice("caching"),
+				BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE
+			}
+		);
+	}
+
+	/**
+	 * Creates JDK proxy equivalent to the proxy of {@link #beanMemoryStoreRecipe()}.
+	 */
+	@Nonnull
+	public static Person beanMemoryStoreJdkProxy(@Nonnull PropertyBucket state) {
+		return newJdkProxy(new BeanMemoryStoreHandler(state));
+	}
+
+	/**
+	 * Creates JDK proxy equivalent to the proxy of {@link #delegateCallsRecipe()}.
+	 */
+	@Nonnull
+	public static Person delegateCallsJdkProxy(@Nonnull Person delegate) {
+		return newJdkProxy(new DelegateCallsHandler(delegate));
+	}
+
+	/**
+	 * Creates JDK proxy equivalent to the proxy of {@link #transparentChainRecipe()}.
+	 */
+	@Nonnull
+	public static Person transparentChainJdkProxy(@Nonnull PropertyBucket state) {
+		return newJdkProxy(
+			new CountingHandler(new CountingHandler(new CountingHandler(new BeanMemoryStoreHandler(state))))
+		);
+	}
+
+	@Nonnull
+	private static Person newJdkProxy(@Nonnull InvocationHandler invocationHandler) {
+		return (Person) Proxy.newProxyInstance(BenchmarkProxies.class.getClassLoader(), PERSON_CONTRACT, invocationHandler);
+	}
+
+	/**
+	 * Handler storing the properties in {@link PropertyBucket} - equivalent of {@link BeanMemoryStoreAdvice}.
+	 */
+	private static class BeanMemoryStoreHandler implements InvocationHandler {
+		private final PropertyBucket state;
+
+		BeanMemoryStoreHandler(@Nonnull PropertyBucket state) {
+			this.state = state;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final String getterProperty = GETTERS.get(method);
+			if (getterProperty != null) {
+				final Object value = this.state.getValueFromMemoryStore(getterProperty);
+				return value == null && method.getReturnType().isPrimitive() ? 0 : value;
+			}
+			final String setterProperty = SETTERS.get(method);
+			if (setterProperty != null) {
+				this.state.putValueToMemoryStore(setterProperty, (Serializable) args[0]);
+				return null;
+			}
+			if (GREET.equals(method)) {
+				return GREET_HANDLE.invoke((Person) proxy);
+			}
+			if (CLONE.equals(method)) {
+				return newJdkProxy(new BeanMemoryStoreHandler(this.state.clone()));
+			}
+			return method.invoke(this.state, args == null ? EMPTY_ARGS : args);
+		}
+	}
+
+	/**
+	 * Handler delegating all calls to the {@link Person} - equivalent of {@link DelegateCallsAdvice}.
+	 */
+	private static class DelegateCallsHandler implements InvocationHandler {
+		private final Person delegate;
+
+		DelegateCallsHandler(@Nonnull Person delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (CLONE.equals(method)) {
+				return newJdkProxy(new DelegateCallsHandler((Person) this.delegate.clone()));
+			}
+			try {
+				return method.invoke(this.delegate, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	/**
+	 * Handler counting the calls of all abstract methods of {@link Person} before it passes them to the next handler -
+	 * equivalent of {@link CountingAdvice}.
+	 */
+	private static class CountingHandler implements InvocationHandler {
+		private final InvocationHandler next;
+		private long counter;
+
+		CountingHandler(@Nonnull InvocationHandler next) {
+			this.next = next;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (Person.class.equals(method.getDeclaringClass()) && !method.isDefault()) {
+				this.counter++;
+			}
+			return this.next.invoke(proxy, method, args);
+		}
+	}
+
+}
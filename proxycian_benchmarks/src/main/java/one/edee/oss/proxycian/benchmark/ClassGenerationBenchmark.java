@@ -0,0 +1,250 @@
+package one.edee.oss.proxycian.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator;
+import one.edee.oss.proxycian.javassist.JavassistProxyGenerator;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.metrics.ProxycianMetricsListener;
+
+import javax.annotation.Nonnull;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Measures how fast the generators create proxy classes and how much byte-code and Metaspace each class takes.
+ * The benchmark synthesizes distinct interfaces using {@link SyntheticInterfaces} and asks the generator for the proxy
+ * class of each combination of the interfaces, first from single thread and then from multiple parallel callers.
+ * Each combination is requested in three rounds:
+ *
+ * - `cold` - the proxy classes are generated
+ * - `cached` - the proxy classes are taken from the class cache of the generator
+ * - `cleared` - the proxy classes are generated again after {@link ByteBuddyProxyGenerator#clearClassCache()}, while
+ *   the classes of the first round are still trapped in the class loader of the interfaces
+ *
+ * The benchmark is not JMH benchmark, because the generation of the class can be measured only once - repeated calls
+ * only hit the cache. Run it in fresh JVM:
+ *
+ * ```
+ * java --add-opens=java.base/java.lang.invoke=ALL-UNNAMED -cp proxycian_benchmarks/target/benchmarks.jar \
+ *     one.edee.oss.proxycian.benchmark.ClassGenerationBenchmark interfaces=2000 methods=10 combination=2 threads=8
+ * ```
+ *
+ * The byte-code size is known only for ByteBuddy - Javassist doesn't expose the byte-code of the generated classes.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ClassGenerationBenchmark {
+	private static final int WARMUP_INTERFACES = 200;
+	private static final String ROW_FORMAT = "%-10s %8s %-8s %10s %10s %12s %14s %12s %14s%n";
+
+	public static void main(String[] args) throws Exception {
+		final Settings settings = Settings.parse(args);
+		final ProxycianMetricsListener previousListener = ProxycianMetrics.getListener();
+		final GenerationListener listener = new GenerationListener();
+		ProxycianMetrics.setListener(listener);
+		try {
+			System.out.printf(
+				"%d interfaces with %d methods, %d interfaces per proxy class, %d parallel callers%n%n",
+				settings.interfaces, settings.methods, settings.combination, settings.threads
+			);
+			System.out.printf(
+				ROW_FORMAT, "generator", "callers", "round", "generated", "time [ms]", "calls/s",
+				"bytecode [B]", "Metaspace [KB]", "Metaspace [B]"
+			);
+			System.out.printf(
+				ROW_FORMAT, "", "", "", "", "", "", "per class", "total", "per class"
+			);
+			for (Generator generator : Generator.values()) {
+				// GENERATE SOME CLASSES FIRST SO THAT THE CLASSES OF THE GENERATOR ITSELF ARE LOADED AND COMPILED
+				measure(generator, new SyntheticInterfaces(WARMUP_INTERFACES, settings.methods), settings.combination, 1, listener);
+				generator.clearClassCache.run();
+
+				final int[] callerCounts = settings.threads > 1 ? new int[]{1, settings.threads} : new int[]{1};
+				for (int callers : callerCounts) {
+					final SyntheticInterfaces interfaces = new SyntheticInterfaces(settings.interfaces, settings.methods);
+					print(generator, callers, "cold", measure(generator, interfaces, settings.combination, callers, listener));
+					print(generator, callers, "cached", measure(generator, interfaces, settings.combination, callers, listener));
+					generator.clearClassCache.run();
+					print(generator, callers, "cleared", measure(generator, interfaces, settings.combination, callers, listener));
+					generator.clearClassCache.run();
+				}
+			}
+		} finally {
+			ProxycianMetrics.setListener(previousListener);
+		}
+	}
+
+	/**
+	 * Requests proxy class for each combination of the interfaces from passed count of parallel callers.
+	 */
+	@Nonnull
+	private static Result measure(
+		@Nonnull Generator generator, @Nonnull SyntheticInterfaces interfaces, int combination, int callers,
+		@Nonnull GenerationListener listener
+	) throws InterruptedException {
+		final int count = interfaces.getInterfaces().length;
+		final AtomicInteger next = new AtomicInteger();
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final CountDownLatch startGate = new CountDownLatch(1);
+		final Runnable caller = () -> {
+			try {
+				startGate.await();
+				for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+					generator.proxyClassFactory.apply(interfaces.getCombination(i, combination), interfaces);
+				}
+			} catch (Throwable ex) {
+				failure.compareAndSet(null, ex);
+			}
+		};
+		final Thread[] threads = new Thread[callers];
+		for (int i = 0; i < callers; i++) {
+			threads[i] = new Thread(caller, "class-generation-" + i);
+			threads[i].start();
+		}
+
+		// CLASSES OF THE PREVIOUS ROUNDS MAY BE UNLOADED ONLY BEFORE THE MEASUREMENT STARTS
+		System.gc();
+		listener.reset();
+		final long metaspaceBefore = getMetaspaceUsed();
+		final long start = System.nanoTime();
+		startGate.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		final long duration = System.nanoTime() - start;
+		final long metaspaceAfter = getMetaspaceUsed();
+
+		if (failure.get() != null) {
+			throw new IllegalStateException("Proxy class generation failed!", failure.get());
+		}
+		return new Result(
+			count, listener.generatedClasses.sum(), duration,
+			listener.unknownBytecodeSize.sum() > 0 ? -1L : listener.bytecodeSize.sum(),
+			metaspaceBefore < 0 ? -1L : metaspaceAfter - metaspaceBefore
+		);
+	}
+
+	private static void print(@Nonnull Generator generator, int callers, @Nonnull String round, @Nonnull Result result) {
+		final double seconds = result.durationNanos / 1_000_000_000.0;
+		System.out.printf(
+			ROW_FORMAT,
+			generator.displayName, callers, round, result.generatedClasses,
+			String.format("%.1f", result.durationNanos / 1_000_000.0),
+			String.format("%.0f", result.requestedClasses / seconds),
+			result.bytecodeSize < 0 ? "n/a" : perClass(result.bytecodeSize, result.generatedClasses),
+			result.metaspaceDelta < 0 ? "n/a" : String.valueOf(result.metaspaceDelta / 1024),
+			result.metaspaceDelta < 0 ? "n/a" : perClass(result.metaspaceDelta, result.generatedClasses)
+		);
+	}
+
+	@Nonnull
+	private static String perClass(long bytes, long classes) {
+		return classes == 0 ? "-" : String.valueOf(bytes / classes);
+	}
+
+	/**
+	 * Returns used Metaspace in bytes or -1 when the VM doesn't report it.
+	 */
+	private static long getMetaspaceUsed() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			// COMPRESSED CLASS SPACE IS PART OF THE METASPACE POOL
+			if ("Metaspace".equals(pool.getName())) {
+				return pool.getUsage().getUsed();
+			}
+		}
+		return -1L;
+	}
+
+	/**
+	 * Measured generators.
+	 */
+	@RequiredArgsConstructor
+	private enum Generator {
+		BYTE_BUDDY("ByteBuddy", ByteBuddyProxyGenerator::getProxyClass, ByteBuddyProxyGenerator::clearClassCache),
+		JAVASSIST("Javassist", JavassistProxyGenerator::getProxyClass, JavassistProxyGenerator::clearClassCache);
+
+		private final String displayName;
+		private final BiFunction<Class<?>[], ClassLoader, Class<?>> proxyClassFactory;
+		private final Runnable clearClassCache;
+	}
+
+	/**
+	 * Listener summing the generated classes and their byte-code sizes.
+	 */
+	private static class GenerationListener implements ProxycianMetricsListener {
+		private final LongAdder generatedClasses = new LongAdder();
+		private final LongAdder bytecodeSize = new LongAdder();
+		private final LongAdder unknownBytecodeSize = new LongAdder();
+
+		@Override
+		public void proxyClassGenerated(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, int bytecodeSize, long durationNanos) {
+			this.generatedClasses.increment();
+			if (bytecodeSize < 0) {
+				this.unknownBytecodeSize.increment();
+			} else {
+				this.bytecodeSize.add(bytecodeSize);
+			}
+		}
+
+		void reset() {
+			this.generatedClasses.reset();
+			this.bytecodeSize.reset();
+			this.unknownBytecodeSize.reset();
+		}
+	}
+
+	/**
+	 * Result of single measured round.
+	 */
+	@RequiredArgsConstructor
+	private static class Result {
+		private final int requestedClasses;
+		private final long generatedClasses;
+		private final long durationNanos;
+		private final long bytecodeSize;
+		private final long metaspaceDelta;
+	}
+
+	/**
+	 * Settings of the benchmark parsed from `key=value` arguments.
+	 */
+	private static class Settings {
+		private int interfaces = 1000;
+		private int methods = 10;
+		private int combination = 2;
+		private int threads = Runtime.getRuntime().availableProcessors();
+
+		@Nonnull
+		static Settings parse(@Nonnull String[] args) {
+			final Settings settings = new Settings();
+			for (String arg : args) {
+				final int separator = arg.indexOf('=');
+				final String key = separator < 0 ? arg : arg.substring(0, separator);
+				final int value = separator < 0 ? -1 : Integer.parseInt(arg.substring(separator + 1));
+				if (value < 1) {
+					throw new IllegalArgumentException("Argument `" + arg + "` must have form `key=positive number`!");
+				}
+				switch (key) {
+					case "interfaces": settings.interfaces = value; break;
+					case "methods": settings.methods = value; break;
+					case "combination": settings.combination = value; break;
+					case "threads": settings.threads = value; break;
+					default:
+						throw new IllegalArgumentException(
+							"Unknown argument `" + key + "`, supported are: interfaces, methods, combination, threads!"
+						);
+				}
+			}
+			if (settings.combination >= settings.interfaces) {
+				throw new IllegalArgumentException("Combination must be smaller than count of the interfaces!");
+			}
+			return settings;
+		}
+	}
+
+}
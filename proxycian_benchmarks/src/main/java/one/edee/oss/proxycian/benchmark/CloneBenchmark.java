@@ -0,0 +1,74 @@
+package one.edee.oss.proxycian.benchmark;
+
+import one.edee.oss.proxycian.benchmark.model.Person;
+import one.edee.oss.proxycian.benchmark.model.PersonImplementation;
+import one.edee.oss.proxycian.benchmark.model.PropertyBucket;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator;
+import one.edee.oss.proxycian.javassist.JavassistProxyGenerator;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `clone()` of the proxy backed by {@link one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice} -
+ * i.e. cloning of the proxy state and creating new proxy instance around it.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang.invoke=ALL-UNNAMED")
+@State(Scope.Thread)
+public class CloneBenchmark {
+	private static final String NAME = "Jan";
+	private Person byteBuddyProxy;
+	private Person javassistProxy;
+	private Person jdkProxy;
+	private Person handWritten;
+
+	@Setup
+	public void setUp() {
+		final ProxyRecipe recipe = BenchmarkProxies.beanMemoryStoreRecipe();
+		this.byteBuddyProxy = ByteBuddyProxyGenerator.instantiate(recipe, new PropertyBucket());
+		this.javassistProxy = JavassistProxyGenerator.instantiate(recipe, new PropertyBucket());
+		this.jdkProxy = BenchmarkProxies.beanMemoryStoreJdkProxy(new PropertyBucket());
+		this.handWritten = new PersonImplementation();
+		for (Person person : new Person[]{this.byteBuddyProxy, this.javassistProxy, this.jdkProxy, this.handWritten}) {
+			person.setName(NAME);
+			person.setAge(42);
+		}
+	}
+
+	@Benchmark
+	public Object byteBuddy() {
+		return this.byteBuddyProxy.clone();
+	}
+
+	@Benchmark
+	public Object javassist() {
+		return this.javassistProxy.clone();
+	}
+
+	@Benchmark
+	public Object jdkProxy() {
+		return this.jdkProxy.clone();
+	}
+
+	@Benchmark
+	public Object handWritten() {
+		return this.handWritten.clone();
+	}
+
+}
@@ -0,0 +1,273 @@
+package one.edee.oss.proxycian.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+import one.edee.oss.proxycian.benchmark.model.Employee;
+import one.edee.oss.proxycian.benchmark.model.Person;
+import one.edee.oss.proxycian.benchmark.model.PropertyBucket;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator;
+import one.edee.oss.proxycian.javassist.JavassistProxyGenerator;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.metrics.ProxycianMetricsListener;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Stress harness simulating cold start of the application - many threads hit brand-new proxy classes at the same
+ * moment. All threads are released at once and each of them creates proxies of the {@link Person} interface and
+ * the {@link Employee} abstract class and calls all their methods. The harness measures:
+ *
+ * - time to steady state - time until all threads have passed through their first (cold) pass
+ * - median time of the second (warm) pass of single thread, when all classes and handlers are resolved
+ * - redundant work - proxy classes generated, classification cache misses and methods classified more times than
+ *   there are distinct proxy classes / methods, because multiple threads raced for them
+ *
+ * All caches of the generator are cleared before each round, so each round starts cold. The measurement is repeated
+ * for growing count of threads from 1 to the `maxThreads` argument. Run it in fresh JVM:
+ *
+ * ```
+ * java --add-opens=java.base/java.lang.invoke=ALL-UNNAMED -cp proxycian_benchmarks/target/benchmarks.jar \
+ *     one.edee.oss.proxycian.benchmark.ColdStartStressBenchmark maxThreads=256 rounds=5
+ * ```
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ColdStartStressBenchmark {
+	private static final int WARMUP_ROUNDS = 20;
+	private static final int RECIPE_COUNT = 2;
+	private static final String ROW_FORMAT = "%-10s %8s %12s %12s %12s %10s %12s %12s%n";
+	private static final ProxyRecipe PERSON_RECIPE = BenchmarkProxies.beanMemoryStoreRecipe();
+	private static final ProxyRecipe EMPLOYEE_RECIPE = new ProxyRecipe(
+		new Class<?>[]{Employee.class}, new Advice[]{BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}
+	);
+
+	public static void main(String[] args) throws Exception {
+		int maxThreads = 256;
+		int rounds = 5;
+		for (String arg : args) {
+			if (arg.startsWith("maxThreads=")) {
+				maxThreads = Integer.parseInt(arg.substring("maxThreads=".length()));
+			} else if (arg.startsWith("rounds=")) {
+				rounds = Integer.parseInt(arg.substring("rounds=".length()));
+			} else {
+				throw new IllegalArgumentException("Unknown argument `" + arg + "`, supported are: maxThreads, rounds!");
+			}
+		}
+
+		final ProxycianMetricsListener previousListener = ProxycianMetrics.getListener();
+		final StressListener listener = new StressListener();
+		ProxycianMetrics.setListener(listener);
+		try {
+			System.out.printf("Median of %d rounds, redundant work is the maximum of all rounds%n%n", rounds);
+			System.out.printf(
+				ROW_FORMAT, "generator", "threads", "steady [ms]", "warm [us]", "steady/warm",
+				"classes", "cache misses", "classified"
+			);
+			System.out.printf(
+				ROW_FORMAT, "", "", "", "", "", "redundant", "redundant", "redundant"
+			);
+			for (Generator generator : Generator.values()) {
+				// LOAD AND COMPILE THE CODE OF THE GENERATOR FIRST
+				for (int i = 0; i < WARMUP_ROUNDS; i++) {
+					measure(generator, 4, listener);
+				}
+				for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+					final Result[] results = new Result[rounds];
+					for (int i = 0; i < rounds; i++) {
+						results[i] = measure(generator, threads, listener);
+					}
+					print(generator, threads, results);
+				}
+			}
+		} finally {
+			ProxycianMetrics.setListener(previousListener);
+		}
+	}
+
+	/**
+	 * Releases passed count of threads at once against cold caches of the generator and measures both their cold and
+	 * warm pass.
+	 */
+	@Nonnull
+	private static Result measure(@Nonnull Generator generator, int threadCount, @Nonnull StressListener listener) throws InterruptedException {
+		generator.clearCaches.run();
+		final CountDownLatch coldGate = new CountDownLatch(1);
+		final CountDownLatch coldDone = new CountDownLatch(threadCount);
+		final CountDownLatch warmGate = new CountDownLatch(1);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final long[] coldPassEnds = new long[threadCount];
+		final long[] warmPassDurations = new long[threadCount];
+		final Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			final int threadIndex = i;
+			threads[i] = new Thread(
+				() -> {
+					try {
+						coldGate.await();
+						exercise(generator);
+						coldPassEnds[threadIndex] = System.nanoTime();
+						coldDone.countDown();
+						warmGate.await();
+						final long warmPassStart = System.nanoTime();
+						exercise(generator);
+						warmPassDurations[threadIndex] = System.nanoTime() - warmPassStart;
+					} catch (Throwable ex) {
+						failure.compareAndSet(null, ex);
+						coldDone.countDown();
+					}
+				},
+				"cold-start-" + i
+			);
+			threads[i].start();
+		}
+
+		listener.reset();
+		final long coldStart = System.nanoTime();
+		coldGate.countDown();
+		coldDone.await();
+		final long redundantClasses = listener.generatedClasses.sum() - RECIPE_COUNT;
+		final long redundantCacheMisses = listener.classificationCacheMisses.sum() - RECIPE_COUNT;
+		final long redundantClassifications = listener.classifiedMethods.sum() - listener.distinctClassifiedMethods.size();
+
+		warmGate.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		if (failure.get() != null) {
+			throw new IllegalStateException("Proxy creation failed!", failure.get());
+		}
+		// THE JOIN ABOVE MAKES THE VALUES WRITTEN BY THE THREADS VISIBLE
+		return new Result(
+			Arrays.stream(coldPassEnds).max().orElse(coldStart) - coldStart,
+			median(warmPassDurations),
+			redundantClasses, redundantCacheMisses, redundantClassifications
+		);
+	}
+
+	/**
+	 * Creates proxy of each recipe and calls all its methods.
+	 */
+	private static void exercise(@Nonnull Generator generator) {
+		final Person person = (Person) generator.proxyFactory.apply(PERSON_RECIPE, new PropertyBucket());
+		person.setName("Jan");
+		person.setAge(42);
+		if (person.getAge() != 42 || !"Hello Jan".equals(person.greet())) {
+			throw new IllegalStateException("Person proxy returned unexpected value!");
+		}
+		final Employee employee = (Employee) generator.proxyFactory.apply(EMPLOYEE_RECIPE, new PropertyBucket());
+		employee.setName("Jan");
+		employee.setAge(42);
+		employee.setDepartment("R&D");
+		employee.setLevel(3);
+		if (!"Jan".equals(employee.getName()) || employee.getAge() != 42 || employee.getLevel() != 3) {
+			throw new IllegalStateException("Employee proxy returned unexpected value!");
+		}
+	}
+
+	private static void print(@Nonnull Generator generator, int threads, @Nonnull Result[] results) {
+		final long coldDuration = median(Arrays.stream(results).mapToLong(it -> it.coldDurationNanos).toArray());
+		final long warmDuration = median(Arrays.stream(results).mapToLong(it -> it.warmDurationNanos).toArray());
+		System.out.printf(
+			ROW_FORMAT,
+			generator.displayName, threads,
+			String.format("%.2f", coldDuration / 1_000_000.0),
+			String.format("%.1f", warmDuration / 1_000.0),
+			String.format("%.1f", (double) coldDuration / Math.max(1L, warmDuration)),
+			Arrays.stream(results).mapToLong(it -> it.redundantClasses).max().orElse(0L),
+			Arrays.stream(results).mapToLong(it -> it.redundantCacheMisses).max().orElse(0L),
+			Arrays.stream(results).mapToLong(it -> it.redundantClassifications).max().orElse(0L)
+		);
+	}
+
+	private static long median(@Nonnull long[] values) {
+		Arrays.sort(values);
+		return values[values.length / 2];
+	}
+
+	/**
+	 * Measured generators.
+	 */
+	@RequiredArgsConstructor
+	private enum Generator {
+		BYTE_BUDDY(
+			"ByteBuddy",
+			ByteBuddyProxyGenerator::instantiate,
+			() -> {
+				ByteBuddyProxyGenerator.clearClassCache();
+				ByteBuddyProxyGenerator.clearMethodClassificationCache();
+			}
+		),
+		JAVASSIST(
+			"Javassist",
+			JavassistProxyGenerator::instantiate,
+			() -> {
+				JavassistProxyGenerator.clearClassCache();
+				JavassistProxyGenerator.clearMethodClassificationCache();
+			}
+		);
+
+		private final String displayName;
+		private final BiFunction<ProxyRecipe, PropertyBucket, Object> proxyFactory;
+		private final Runnable clearCaches;
+	}
+
+	/**
+	 * Listener counting the work done by the generators.
+	 */
+	private static class StressListener implements ProxycianMetricsListener {
+		private final LongAdder generatedClasses = new LongAdder();
+		private final LongAdder classificationCacheMisses = new LongAdder();
+		private final LongAdder classifiedMethods = new LongAdder();
+		private final Set<Object> distinctClassifiedMethods = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public void proxyClassGenerated(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, long durationNanos) {
+			this.generatedClasses.increment();
+		}
+
+		@Override
+		public void classificationCacheLookup(@Nonnull Class<?> proxyClass, boolean hit) {
+			if (!hit) {
+				this.classificationCacheMisses.increment();
+			}
+		}
+
+		@Override
+		public void methodClassified(@Nonnull Class<?> proxyClass, @Nonnull Method method, @Nonnull CurriedMethodContextInvocationHandler<?, ?> invocationHandler, long durationNanos) {
+			this.classifiedMethods.increment();
+			this.distinctClassifiedMethods.add(Arrays.asList(proxyClass, method));
+		}
+
+		void reset() {
+			this.generatedClasses.reset();
+			this.classificationCacheMisses.reset();
+			this.classifiedMethods.reset();
+			this.distinctClassifiedMethods.clear();
+		}
+	}
+
+	/**
+	 * Result of single measured round.
+	 */
+	@RequiredArgsConstructor
+	private static class Result {
+		private final long coldDurationNanos;
+		private final long warmDurationNanos;
+		private final long redundantClasses;
+		private final long redundantCacheMisses;
+		private final long redundantClassifications;
+	}
+
+}
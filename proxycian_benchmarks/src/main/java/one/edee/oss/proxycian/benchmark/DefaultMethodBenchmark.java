@@ -0,0 +1,73 @@
+package one.edee.oss.proxycian.benchmark;
+
+import one.edee.oss.proxycian.benchmark.model.Person;
+import one.edee.oss.proxycian.benchmark.model.PersonImplementation;
+import one.edee.oss.proxycian.benchmark.model.PropertyBucket;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator;
+import one.edee.oss.proxycian.javassist.JavassistProxyGenerator;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures call of the default method of the proxy contract that is not handled by any advice, so it's passed to its
+ * default implementation (the super call), which calls the abstract getter of the proxy in turn.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang.invoke=ALL-UNNAMED")
+@State(Scope.Thread)
+public class DefaultMethodBenchmark {
+	private static final String NAME = "Jan";
+	private Person byteBuddyProxy;
+	private Person javassistProxy;
+	private Person jdkProxy;
+	private Person handWritten;
+
+	@Setup
+	public void setUp() {
+		final ProxyRecipe recipe = BenchmarkProxies.beanMemoryStoreRecipe();
+		this.byteBuddyProxy = ByteBuddyProxyGenerator.instantiate(recipe, new PropertyBucket());
+		this.javassistProxy = JavassistProxyGenerator.instantiate(recipe, new PropertyBucket());
+		this.jdkProxy = BenchmarkProxies.beanMemoryStoreJdkProxy(new PropertyBucket());
+		this.handWritten = new PersonImplementation();
+		for (Person person : new Person[]{this.byteBuddyProxy, this.javassistProxy, this.jdkProxy, this.handWritten}) {
+			person.setName(NAME);
+		}
+	}
+
+	@Benchmark
+	public String byteBuddy() {
+		return this.byteBuddyProxy.greet();
+	}
+
+	@Benchmark
+	public String javassist() {
+		return this.javassistProxy.greet();
+	}
+
+	@Benchmark
+	public String jdkProxy() {
+		return this.jdkProxy.greet();
+	}
+
+	@Benchmark
+	public String handWritten() {
+		return this.handWritten.greet();
+	}
+
+}
@@ -0,0 +1,61 @@
+package one.edee.oss.proxycian.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of the Java deserialization of the serializable proxies of each {@link SerializedProxyKind kind}.
+ * The descriptor of the proxy creates new proxy by `instantiateSerializable` method of the generator and writes
+ * the field values of the proxied class to it. The proxy class is already generated, so only the lookup of the cached
+ * class is measured. Deserialization of the plain proxy state is the baseline.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang.invoke=ALL-UNNAMED")
+@State(Scope.Thread)
+public class DeserializationBenchmark {
+	@Param({"INTERFACE", "ABSTRACT_CLASS", "CONSTRUCTOR_ARGS"})
+	private SerializedProxyKind kind;
+	private byte[] byteBuddyProxy;
+	private byte[] javassistProxy;
+	private byte[] plainState;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.byteBuddyProxy = SerializedProxyKind.serialize(this.kind.createByteBuddyProxy());
+		this.javassistProxy = SerializedProxyKind.serialize(this.kind.createJavassistProxy());
+		this.plainState = SerializedProxyKind.serialize(this.kind.createPlainState());
+	}
+
+	@Benchmark
+	public Object byteBuddy() throws IOException, ClassNotFoundException {
+		return SerializedProxyKind.deserialize(this.byteBuddyProxy);
+	}
+
+	@Benchmark
+	public Object javassist() throws IOException, ClassNotFoundException {
+		return SerializedProxyKind.deserialize(this.javassistProxy);
+	}
+
+	@Benchmark
+	public Object plainState() throws IOException, ClassNotFoundException {
+		return SerializedProxyKind.deserialize(this.plainState);
+	}
+
+}
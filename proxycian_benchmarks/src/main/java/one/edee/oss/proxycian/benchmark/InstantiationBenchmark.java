@@ -0,0 +1,64 @@
+package one.edee.oss.proxycian.benchmark;
+
+import one.edee.oss.proxycian.benchmark.model.Person;
+import one.edee.oss.proxycian.benchmark.model.PersonImplementation;
+import one.edee.oss.proxycian.benchmark.model.PropertyBucket;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator;
+import one.edee.oss.proxycian.javassist.JavassistProxyGenerator;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of creating new proxy instances from the {@link ProxyRecipe} and fresh proxy state. The proxy
+ * class is generated in the setup, so only the lookup of the cached class and the instantiation is measured.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang.invoke=ALL-UNNAMED")
+@State(Scope.Thread)
+public class InstantiationBenchmark {
+	private ProxyRecipe recipe;
+
+	@Setup
+	public void setUp() {
+		this.recipe = BenchmarkProxies.beanMemoryStoreRecipe();
+		ByteBuddyProxyGenerator.instantiate(this.recipe, new PropertyBucket());
+		JavassistProxyGenerator.instantiate(this.recipe, new PropertyBucket());
+	}
+
+	@Benchmark
+	public Person byteBuddy() {
+		return ByteBuddyProxyGenerator.instantiate(this.recipe, new PropertyBucket());
+	}
+
+	@Benchmark
+	public Person javassist() {
+		return JavassistProxyGenerator.instantiate(this.recipe, new PropertyBucket());
+	}
+
+	@Benchmark
+	public Person jdkProxy() {
+		return BenchmarkProxies.beanMemoryStoreJdkProxy(new PropertyBucket());
+	}
+
+	@Benchmark
+	public Person handWritten() {
+		return new PersonImplementation();
+	}
+
+}
@@ -0,0 +1,61 @@
+package one.edee.oss.proxycian.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of the Java serialization of the serializable proxies of each {@link SerializedProxyKind kind}.
+ * The proxy is replaced by its descriptor with the proxy state, the contract, the recipe and the field values of
+ * the proxied class. Serialization of the plain proxy state is the baseline.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-opens=java.base/java.lang.invoke=ALL-UNNAMED")
+@State(Scope.Thread)
+public class SerializationBenchmark {
+	@Param({"INTERFACE", "ABSTRACT_CLASS", "CONSTRUCTOR_ARGS"})
+	private SerializedProxyKind kind;
+	private Object byteBuddyProxy;
+	private Object javassistProxy;
+	private Serializable plainState;
+
+	@Setup
+	public void setUp() {
+		this.byteBuddyProxy = this.kind.createByteBuddyProxy();
+		this.javassistProxy = this.kind.createJavassistProxy();
+		this.plainState = this.kind.createPlainState();
+	}
+
+	@Benchmark
+	public byte[] byteBuddy() throws IOException {
+		return SerializedProxyKind.serialize(this.byteBuddyProxy);
+	}
+
+	@Benchmark
+	public byte[] javassist() throws IOException {
+		return SerializedProxyKind.serialize(this.javassistProxy);
+	}
+
+	@Benchmark
+	public byte[] plainState() throws IOException {
+		return SerializedProxyKind.serialize(this.plainState);
+	}
+
+}
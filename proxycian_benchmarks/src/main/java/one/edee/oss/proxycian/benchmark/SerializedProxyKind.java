@@ -0,0 +1,195 @@
+package one.edee.oss.proxycian.benchmark;
+
+import one.edee.oss.proxycian.benchmark.model.Contractor;
+import one.edee.oss.proxycian.benchmark.model.ContractorBucket;
+import one.edee.oss.proxycian.benchmark.model.Employee;
+import one.edee.oss.proxycian.benchmark.model.Person;
+import one.edee.oss.proxycian.benchmark.model.PropertyBucket;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator;
+import one.edee.oss.proxycian.javassist.JavassistProxyGenerator;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Kinds of the serializable proxies measured by the serialization benchmarks. All of them store their properties in
+ * {@link PropertyBucket} using {@link BeanMemoryStoreAdvice} and are created by `instantiateSerializable` method
+ * of the generator, so that they're serialized as {@link one.edee.oss.proxycian.trait.SerializableProxy.SerializableProxyDescriptor}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public enum SerializedProxyKind {
+
+	/**
+	 * Proxy of the {@link Person} interface.
+	 */
+	INTERFACE {
+		private final ProxyRecipe recipe = createRecipe(Person.class);
+
+		@Nonnull
+		@Override
+		public Object createByteBuddyProxy() {
+			return initPerson(ByteBuddyProxyGenerator.instantiateSerializable(this.recipe, createState()));
+		}
+
+		@Nonnull
+		@Override
+		public Object createJavassistProxy() {
+			return initPerson(JavassistProxyGenerator.instantiateSerializable(this.recipe, createState()));
+		}
+
+		@Nonnull
+		@Override
+		public PropertyBucket createState() {
+			return new PropertyBucket();
+		}
+
+		@Nonnull
+		private Person initPerson(@Nonnull Person person) {
+			person.setName(NAME);
+			person.setAge(AGE);
+			return person;
+		}
+	},
+
+	/**
+	 * Proxy of the {@link Employee} abstract class, whose fields are serialized along with the proxy state.
+	 */
+	ABSTRACT_CLASS {
+		private final ProxyRecipe recipe = createRecipe(Employee.class);
+
+		@Nonnull
+		@Override
+		public Object createByteBuddyProxy() {
+			return initEmployee(ByteBuddyProxyGenerator.instantiateSerializable(this.recipe, createState()));
+		}
+
+		@Nonnull
+		@Override
+		public Object createJavassistProxy() {
+			return initEmployee(JavassistProxyGenerator.instantiateSerializable(this.recipe, createState()));
+		}
+
+		@Nonnull
+		@Override
+		public PropertyBucket createState() {
+			return new PropertyBucket();
+		}
+
+		@Nonnull
+		private Employee initEmployee(@Nonnull Employee employee) {
+			employee.setName(NAME);
+			employee.setAge(AGE);
+			employee.setDepartment("R&D");
+			employee.setLevel(3);
+			return employee;
+		}
+	},
+
+	/**
+	 * Proxy of the {@link Contractor} abstract class, that is created with constructor arguments provided by its
+	 * {@link ContractorBucket state}.
+	 */
+	CONSTRUCTOR_ARGS {
+		private final ProxyRecipe recipe = createRecipe(Contractor.class);
+
+		@Nonnull
+		@Override
+		public Object createByteBuddyProxy() {
+			final ContractorBucket state = createState();
+			return initContractor(
+				ByteBuddyProxyGenerator.instantiateSerializable(this.recipe, state, state.getConstructorTypes(), state.getConstructorArgs())
+			);
+		}
+
+		@Nonnull
+		@Override
+		public Object createJavassistProxy() {
+			final ContractorBucket state = createState();
+			return initContractor(
+				JavassistProxyGenerator.instantiateSerializable(this.recipe, state, state.getConstructorTypes(), state.getConstructorArgs())
+			);
+		}
+
+		@Nonnull
+		@Override
+		public ContractorBucket createState() {
+			return new ContractorBucket("FG Forrest");
+		}
+
+		@Nonnull
+		private Contractor initContractor(@Nonnull Contractor contractor) {
+			contractor.setName(NAME);
+			contractor.setAge(AGE);
+			return contractor;
+		}
+	};
+
+	private static final String NAME = "Jan";
+	private static final int AGE = 42;
+
+	/**
+	 * Creates new ByteBuddy proxy with all properties set.
+	 */
+	@Nonnull
+	public abstract Object createByteBuddyProxy();
+
+	/**
+	 * Creates new Javassist proxy with all properties set.
+	 */
+	@Nonnull
+	public abstract Object createJavassistProxy();
+
+	/**
+	 * Creates new empty proxy state.
+	 */
+	@Nonnull
+	public abstract PropertyBucket createState();
+
+	/**
+	 * Returns the state of the plain serialized baseline with the same properties as the proxies have.
+	 */
+	@Nonnull
+	public Serializable createPlainState() {
+		final PropertyBucket state = createState();
+		state.putValueToMemoryStore("name", NAME);
+		state.putValueToMemoryStore("age", AGE);
+		return state;
+	}
+
+	/**
+	 * Serializes passed object by Java serialization.
+	 */
+	@Nonnull
+	public static byte[] serialize(@Nonnull Object object) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Deserializes object serialized by {@link #serialize(Object)}.
+	 */
+	@Nonnull
+	public static Object deserialize(@Nonnull byte[] bytes) throws IOException, ClassNotFoundException {
+		try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		}
+	}
+
+	@Nonnull
+	private static ProxyRecipe createRecipe(@Nonnull Class<?> contract) {
+		return new ProxyRecipe(new Class<?>[]{contract}, new Advice[]{BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE});
+	}
+
+}
@@ -0,0 +1,45 @@
+package one.edee.oss.proxycian.benchmark;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Prints count of bytes the serializable proxy of each {@link SerializedProxyKind kind} takes when it's serialized by
+ * Java serialization - i.e. the payload size of the proxy replicated through a distributed cache. The size of the plain
+ * serialized proxy state is printed as the baseline. Each serialized proxy is deserialized back to verify the payload
+ * is complete. Run it by:
+ *
+ * ```
+ * java --add-opens=java.base/java.lang.invoke=ALL-UNNAMED -cp proxycian_benchmarks/target/benchmarks.jar \
+ *     one.edee.oss.proxycian.benchmark.SerializedSizeReport
+ * ```
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class SerializedSizeReport {
+	private static final String ROW_FORMAT = "%-18s %14s %14s %16s%n";
+
+	public static void main(String[] args) throws Exception {
+		System.out.printf(ROW_FORMAT, "kind", "ByteBuddy [B]", "Javassist [B]", "plain state [B]");
+		for (SerializedProxyKind kind : SerializedProxyKind.values()) {
+			System.out.printf(
+				ROW_FORMAT,
+				kind,
+				measure(kind.createByteBuddyProxy()),
+				measure(kind.createJavassistProxy()),
+				measure(kind.createPlainState())
+			);
+		}
+	}
+
+	private static int measure(@Nonnull Object object) throws Exception {
+		final byte[] bytes = SerializedProxyKind.serialize(object);
+		final Object deserialized = SerializedProxyKind.deserialize(bytes);
+		if (!object.getClass().getSuperclass().isAssignableFrom(deserialized.getClass())) {
+			throw new IllegalStateException(
+				"Deserialized " + deserialized.getClass().getName() + " doesn't match serialized " + object.getClass().getName() + "!"
+			);
+		}
+		return bytes.length;
+	}
+
+}
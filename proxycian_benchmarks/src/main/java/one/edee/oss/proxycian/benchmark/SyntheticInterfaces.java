@@ -0,0 +1,124 @@
+package one.edee.oss.proxycian.benchmark;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class loader defining given count of public interfaces, each with given count of abstract methods. The byte-code of
+ * the interfaces is written by hand, so that any count of distinct interfaces could be generated without the help of
+ * the byte-code library and without affecting the proxy generator being measured.
+ *
+ * Each instance of the loader defines its own interfaces, so that the proxy classes generated for them are never found
+ * in the cache of the proxy generator and the interfaces (with all the proxy classes) can be garbage collected together
+ * with the loader.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class SyntheticInterfaces extends ClassLoader {
+	private static final String PACKAGE = "one.edee.oss.proxycian.benchmark.synthetic.";
+	private static final int MAGIC = 0xCAFEBABE;
+	private static final int JAVA_8_VERSION = 52;
+	private static final int ACC_PUBLIC_ABSTRACT_INTERFACE = 0x0601;
+	private static final int ACC_PUBLIC_ABSTRACT = 0x0401;
+	private static final byte CONSTANT_UTF8 = 1;
+	private static final byte CONSTANT_CLASS = 7;
+	private static final String[] DESCRIPTORS = {
+		"()Ljava/lang/String;",
+		"(I)V",
+		"(Ljava/lang/String;J)Z",
+		"()Ljava/util/List;"
+	};
+	private final Class<?>[] interfaces;
+
+	public SyntheticInterfaces(int interfaceCount, int methodCount) {
+		super(SyntheticInterfaces.class.getClassLoader());
+		this.interfaces = new Class<?>[interfaceCount];
+		for (int i = 0; i < interfaceCount; i++) {
+			final String name = PACKAGE + "SyntheticContract" + i;
+			final byte[] bytecode = writeInterface(name, methodCount);
+			this.interfaces[i] = defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+
+	/**
+	 * Returns all defined interfaces.
+	 */
+	@Nonnull
+	public Class<?>[] getInterfaces() {
+		return this.interfaces;
+	}
+
+	/**
+	 * Returns combination of `size` interfaces starting with the interface of passed index. Combinations of different
+	 * start indexes are all distinct as long as the size is lower than count of the interfaces.
+	 */
+	@Nonnull
+	public Class<?>[] getCombination(int index, int size) {
+		final Class<?>[] combination = new Class<?>[size];
+		for (int i = 0; i < size; i++) {
+			combination[i] = this.interfaces[(index + i) % this.interfaces.length];
+		}
+		return combination;
+	}
+
+	/**
+	 * Writes class file of the public interface with passed count of abstract methods. The constant pool contains
+	 * the class names, the method descriptors and the method names in this order.
+	 */
+	@Nonnull
+	private static byte[] writeInterface(@Nonnull String name, int methodCount) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + methodCount * 16);
+		try (final DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeShort(0);
+			out.writeShort(JAVA_8_VERSION);
+			// CONSTANT POOL IS INDEXED FROM ONE
+			out.writeShort(1 + 4 + DESCRIPTORS.length + methodCount);
+			writeUtf8(out, name.replace('.', '/'));
+			writeClass(out, 1);
+			writeUtf8(out, "java/lang/Object");
+			writeClass(out, 3);
+			for (String descriptor : DESCRIPTORS) {
+				writeUtf8(out, descriptor);
+			}
+			final int firstMethodName = 5 + DESCRIPTORS.length;
+			for (int i = 0; i < methodCount; i++) {
+				writeUtf8(out, "method" + i);
+			}
+			out.writeShort(ACC_PUBLIC_ABSTRACT_INTERFACE);
+			out.writeShort(2);
+			out.writeShort(4);
+			// NO SUPER INTERFACES, NO FIELDS
+			out.writeShort(0);
+			out.writeShort(0);
+			out.writeShort(methodCount);
+			for (int i = 0; i < methodCount; i++) {
+				out.writeShort(ACC_PUBLIC_ABSTRACT);
+				out.writeShort(firstMethodName + i);
+				out.writeShort(5 + i % DESCRIPTORS.length);
+				out.writeShort(0);
+			}
+			// NO CLASS ATTRIBUTES
+			out.writeShort(0);
+		} catch (IOException e) {
+			throw new IllegalStateException("Unexpected exception when writing to memory!", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeUtf8(@Nonnull DataOutputStream out, @Nonnull String value) throws IOException {
+		final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeByte(CONSTANT_UTF8);
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeClass(@Nonnull DataOutputStream out, int nameIndex) throws IOException {
+		out.writeByte(CONSTANT_CLASS);
+		out.writeShort(nameIndex);
+	}
+
+}
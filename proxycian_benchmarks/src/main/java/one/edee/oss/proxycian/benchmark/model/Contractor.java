@@ -0,0 +1,26 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import lombok.Getter;
+
+/**
+ * Abstract class without default constructor - its proxies are created with constructor arguments provided by
+ * the {@link ContractorBucket} proxy state.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public abstract class Contractor {
+	@Getter private final String company;
+
+	protected Contractor(String company) {
+		this.company = company;
+	}
+
+	public abstract String getName();
+
+	public abstract void setName(String name);
+
+	public abstract int getAge();
+
+	public abstract void setAge(int age);
+
+}
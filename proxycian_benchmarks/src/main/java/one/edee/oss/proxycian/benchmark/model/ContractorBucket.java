@@ -0,0 +1,30 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import lombok.Getter;
+import one.edee.oss.proxycian.ProxyStateWithConstructorArgs;
+
+/**
+ * Proxy state of the {@link Contractor} proxies that provides the arguments of its constructor.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ContractorBucket extends PropertyBucket implements ProxyStateWithConstructorArgs {
+	private static final long serialVersionUID = 1946384027561290375L;
+	private static final Class<?>[] CONSTRUCTOR_TYPES = {String.class};
+	@Getter private final String company;
+
+	public ContractorBucket(String company) {
+		this.company = company;
+	}
+
+	@Override
+	public Class<?>[] getConstructorTypes() {
+		return CONSTRUCTOR_TYPES;
+	}
+
+	@Override
+	public Object[] getConstructorArgs() {
+		return new Object[]{this.company};
+	}
+
+}
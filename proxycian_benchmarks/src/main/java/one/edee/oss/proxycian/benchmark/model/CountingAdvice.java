@@ -0,0 +1,54 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.TransparentPredicateMethodClassification;
+import one.edee.oss.proxycian.recipe.Advice;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
+
+import static one.edee.oss.proxycian.MethodClassification.noContext;
+
+/**
+ * Transparent advice that counts calls of all abstract methods of {@link Person} and continues with the next
+ * classification in the chain. Several instances of the advice form the transparent chain of the benchmark.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@RequiredArgsConstructor
+public class CountingAdvice implements Advice<Object> {
+	private static final long serialVersionUID = 2861930481275512763L;
+	@Nonnull private final String name;
+	@Getter private long counter;
+
+	@Override
+	public Class<Object> getRequestedStateContract() {
+		return null;
+	}
+
+	@Override
+	public List<MethodClassification<?, Object>> getMethodClassification() {
+		return Collections.singletonList(
+			new TransparentPredicateMethodClassification<>(
+				/* description */   this.name,
+				/* matcher */       (method, proxyState) -> Person.class.equals(method.getDeclaringClass()) && !method.isDefault(),
+				/* methodContext */ noContext(),
+				/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+					this.counter++;
+					try {
+						return invokeSuper.call();
+					} catch (InvocationTargetException e) {
+						throw e;
+					} catch (Exception e) {
+						throw new InvocationTargetException(e);
+					}
+				}
+			)
+		);
+	}
+
+}
@@ -0,0 +1,47 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import lombok.Getter;
+
+/**
+ * Hand-written equivalent of the proxy with three {@link CountingAdvice counting advices} in front of the property
+ * storage - the baseline of the transparent chain benchmark.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class CountingPerson extends PersonImplementation {
+	private static final long serialVersionUID = -8204415993561034725L;
+	@Getter private long metricsCounter;
+	@Getter private long loggingCounter;
+	@Getter private long cachingCounter;
+
+	@Override
+	public String getName() {
+		count();
+		return super.getName();
+	}
+
+	@Override
+	public void setName(String name) {
+		count();
+		super.setName(name);
+	}
+
+	@Override
+	public int getAge() {
+		count();
+		return super.getAge();
+	}
+
+	@Override
+	public void setAge(int age) {
+		count();
+		super.setAge(age);
+	}
+
+	private void count() {
+		this.metricsCounter++;
+		this.loggingCounter++;
+		this.cachingCounter++;
+	}
+
+}
@@ -0,0 +1,24 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Abstract class proxied with its own fields. The abstract properties are kept in the proxy state, while the values
+ * of the fields are gathered by reflection when the proxy is serialized.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public abstract class Employee {
+	@Getter @Setter private String department;
+	@Getter @Setter private int level;
+
+	public abstract String getName();
+
+	public abstract void setName(String name);
+
+	public abstract int getAge();
+
+	public abstract void setAge(int age);
+
+}
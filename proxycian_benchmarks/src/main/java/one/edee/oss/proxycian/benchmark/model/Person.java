@@ -0,0 +1,25 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+/**
+ * Contract shared by all benchmarked implementations - Java bean properties, default method calling the abstract
+ * getter and the clone method.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public interface Person {
+
+	String getName();
+
+	void setName(String name);
+
+	int getAge();
+
+	void setAge(int age);
+
+	Object clone();
+
+	default String greet() {
+		return "Hello " + getName();
+	}
+
+}
@@ -0,0 +1,41 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Hand-written delegating implementation of the {@link Person} - the baseline of the delegating proxies.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@RequiredArgsConstructor
+public class PersonDelegate implements Person {
+	@Nonnull private final Person delegate;
+
+	@Override
+	public String getName() {
+		return this.delegate.getName();
+	}
+
+	@Override
+	public void setName(String name) {
+		this.delegate.setName(name);
+	}
+
+	@Override
+	public int getAge() {
+		return this.delegate.getAge();
+	}
+
+	@Override
+	public void setAge(int age) {
+		this.delegate.setAge(age);
+	}
+
+	@Override
+	public Object clone() {
+		return new PersonDelegate((Person) this.delegate.clone());
+	}
+
+}
@@ -0,0 +1,28 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Hand-written implementation of the {@link Person} - the baseline all the proxies are compared to. It also serves as
+ * the delegate of the delegating proxies.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Data
+public class PersonImplementation implements Person, Serializable, Cloneable {
+	private static final long serialVersionUID = -3452187618832412098L;
+	private String name;
+	private int age;
+
+	@Override
+	public PersonImplementation clone() {
+		try {
+			return (PersonImplementation) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
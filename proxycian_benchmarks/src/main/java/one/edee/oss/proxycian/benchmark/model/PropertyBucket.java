@@ -0,0 +1,70 @@
+package one.edee.oss.proxycian.benchmark.model;
+
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStore;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Proxy state of the proxies backed by {@link one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class PropertyBucket implements BeanMemoryStore, Serializable, Cloneable {
+	private static final long serialVersionUID = 6214935738264517930L;
+	private HashMap<String, Serializable> data = new HashMap<>(8);
+
+	@Override
+	public <T extends Serializable> void putValueToMemoryStore(String name, T value) {
+		this.data.put(name, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends Serializable> T getValueFromMemoryStore(String name) {
+		return (T) this.data.get(name);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends Serializable> boolean addValueToCollectionInMemoryStore(String name, T value) {
+		return ((List<T>) this.data.computeIfAbsent(name, key -> new ArrayList<>())).add(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends Serializable> boolean removeValueFromCollectionInMemoryStore(String name, T value) {
+		final List<T> collection = (List<T>) this.data.get(name);
+		return collection != null && collection.remove(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public PropertyBucket clone() {
+		try {
+			final PropertyBucket clone = (PropertyBucket) super.clone();
+			clone.data = (HashMap<String, Serializable>) this.data.clone();
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return this.data.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof PropertyBucket && this.data.equals(((PropertyBucket) o).data);
+	}
+
+	@Override
+	public String toString() {
+		return this.data.toString();
+	}
+
+}
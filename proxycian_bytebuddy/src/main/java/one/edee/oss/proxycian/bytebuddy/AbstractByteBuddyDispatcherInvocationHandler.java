@@ -1,7 +1,15 @@
 package one.edee.oss.proxycian.bytebuddy;
 
 import one.edee.oss.proxycian.AbstractDispatcherInvocationHandler;
+import one.edee.oss.proxycian.BooleanCurriedMethodContextInvocationHandler;
+import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+import one.edee.oss.proxycian.DoubleCurriedMethodContextInvocationHandler;
+import one.edee.oss.proxycian.IntCurriedMethodContextInvocationHandler;
+import one.edee.oss.proxycian.LongCurriedMethodContextInvocationHandler;
 import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.MethodClassificationIndex;
+import one.edee.oss.proxycian.cache.DispatchTableCache;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
 import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 import one.edee.oss.proxycian.trait.StandardJavaMethods;
 
@@ -21,6 +29,10 @@ import static one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator.INVOCATIO
  */
 public abstract class AbstractByteBuddyDispatcherInvocationHandler<T, S extends AbstractByteBuddyDispatcherInvocationHandler<T, S>> extends AbstractDispatcherInvocationHandler<T> {
     protected static final Class<?>[] EMPTY_CLASS_ARRAY = new Class[0];
+    /**
+     * Arity passed to {@link #dispatch} when the arguments are passed as an array.
+     */
+    private static final int ARGUMENTS_ARRAY = -1;
 
     public AbstractByteBuddyDispatcherInvocationHandler(T proxyState, Collection<MethodClassification<?, ?>> methodClassifications) {
         super(proxyState, methodClassifications);
@@ -30,6 +42,162 @@ public abstract class AbstractByteBuddyDispatcherInvocationHandler<T, S extends
         super(proxyState, methodClassifications);
     }
 
+    public AbstractByteBuddyDispatcherInvocationHandler(T proxyState, MethodClassificationIndex methodClassificationIndex, MethodClassification<?, ?>... additionalMethodClassifications) {
+        super(proxyState, methodClassificationIndex, additionalMethodClassifications);
+    }
+
+    protected AbstractByteBuddyDispatcherInvocationHandler(T proxyState, S originalDispatcher) {
+        super(proxyState, originalDispatcher);
+    }
+
+    /**
+     * Entry point for methods without arguments of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static Object dispatch0(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler) throws Throwable {
+        if (handler == null) {
+            return slot.invokeSuper(proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        } else {
+            return handler.dispatch(slot, proxy, 0, null, null, null, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        }
+    }
+
+    /**
+     * Entry point for methods with single argument of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static Object dispatch1(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object arg0) throws Throwable {
+        if (handler == null) {
+            return slot.invokeSuper(proxy, new Object[] {arg0});
+        } else {
+            return handler.dispatch(slot, proxy, 1, arg0, null, null, null);
+        }
+    }
+
+    /**
+     * Entry point for methods with two arguments of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static Object dispatch2(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object arg0, Object arg1) throws Throwable {
+        if (handler == null) {
+            return slot.invokeSuper(proxy, new Object[] {arg0, arg1});
+        } else {
+            return handler.dispatch(slot, proxy, 2, arg0, arg1, null, null);
+        }
+    }
+
+    /**
+     * Entry point for methods with three arguments of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static Object dispatch3(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object arg0, Object arg1, Object arg2) throws Throwable {
+        if (handler == null) {
+            return slot.invokeSuper(proxy, new Object[] {arg0, arg1, arg2});
+        } else {
+            return handler.dispatch(slot, proxy, 3, arg0, arg1, arg2, null);
+        }
+    }
+
+    /**
+     * Entry point for methods with more than three arguments of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static Object dispatchN(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object[] args) throws Throwable {
+        if (handler == null) {
+            return slot.invokeSuper(proxy, args);
+        } else {
+            return handler.dispatch(slot, proxy, ARGUMENTS_ARRAY, null, null, null, args);
+        }
+    }
+
+    /**
+     * Entry point for methods without arguments returning `int` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static int dispatchInt0(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler) throws Throwable {
+        if (handler == null) {
+            return (Integer) slot.invokeSuper(proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        } else {
+            return handler.dispatchInt(slot, proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        }
+    }
+
+    /**
+     * Entry point for methods with arguments returning `int` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static int dispatchIntN(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object[] args) throws Throwable {
+        if (handler == null) {
+            return (Integer) slot.invokeSuper(proxy, args);
+        } else {
+            return handler.dispatchInt(slot, proxy, args);
+        }
+    }
+
+    /**
+     * Entry point for methods without arguments returning `long` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static long dispatchLong0(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler) throws Throwable {
+        if (handler == null) {
+            return (Long) slot.invokeSuper(proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        } else {
+            return handler.dispatchLong(slot, proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        }
+    }
+
+    /**
+     * Entry point for methods with arguments returning `long` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static long dispatchLongN(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object[] args) throws Throwable {
+        if (handler == null) {
+            return (Long) slot.invokeSuper(proxy, args);
+        } else {
+            return handler.dispatchLong(slot, proxy, args);
+        }
+    }
+
+    /**
+     * Entry point for methods without arguments returning `double` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static double dispatchDouble0(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler) throws Throwable {
+        if (handler == null) {
+            return (Double) slot.invokeSuper(proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        } else {
+            return handler.dispatchDouble(slot, proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        }
+    }
+
+    /**
+     * Entry point for methods with arguments returning `double` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static double dispatchDoubleN(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object[] args) throws Throwable {
+        if (handler == null) {
+            return (Double) slot.invokeSuper(proxy, args);
+        } else {
+            return handler.dispatchDouble(slot, proxy, args);
+        }
+    }
+
+    /**
+     * Entry point for methods without arguments returning `boolean` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static boolean dispatchBoolean0(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler) throws Throwable {
+        if (handler == null) {
+            return (Boolean) slot.invokeSuper(proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        } else {
+            return handler.dispatchBoolean(slot, proxy, CurriedMethodContextInvocationHandler.EMPTY_ARGS);
+        }
+    }
+
+    /**
+     * Entry point for methods with arguments returning `boolean` of proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+     */
+    public static boolean dispatchBooleanN(MethodDispatchSlot slot, Object proxy, AbstractByteBuddyDispatcherInvocationHandler<?, ?> handler, Object[] args) throws Throwable {
+        if (handler == null) {
+            return (Boolean) slot.invokeSuper(proxy, args);
+        } else {
+            return handler.dispatchBoolean(slot, proxy, args);
+        }
+    }
+
+    @Override
+    protected DispatchTableCache getClassificationCache() {
+        return ByteBuddyProxyGenerator.CLASSIFICATION_CACHE;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     protected void addImplementationSpecificInvokers(List<MethodClassification<?, ?>> methodClassifications) {
@@ -62,6 +230,131 @@ public abstract class AbstractByteBuddyDispatcherInvocationHandler<T, S extends
         }));
     }
 
+    /**
+     * Dispatches the call of the slot method with passed arguments - up to three arguments are passed one by one,
+     * more arguments are passed in the array (arity is {@link #ARGUMENTS_ARRAY} then).
+     */
+    @SuppressWarnings("rawtypes")
+    private Object dispatch(MethodDispatchSlot slot, Object proxy, int arity, Object arg0, Object arg1, Object arg2, Object[] args) throws Throwable {
+        // GET HANDLER FROM THE DISPATCH TABLE BY METHOD ORDINAL, IF MISSING -> CLASSIFY AND STORE IT
+        final CurriedMethodContextInvocationHandler invocationHandler = getCurriedMethodContextInvocationHandler(
+            proxy.getClass(), slot.getOrdinal(), slot.getMethod()
+        );
+        return dispatch(invocationHandler, slot, proxy, arity, arg0, arg1, arg2, args);
+    }
+
+    /**
+     * Dispatches the call to passed handler and records it to the invocation trace if there is any.
+     */
+    @SuppressWarnings("rawtypes")
+    private Object dispatch(CurriedMethodContextInvocationHandler invocationHandler, MethodDispatchSlot slot, Object proxy, int arity, Object arg0, Object arg1, Object arg2, Object[] args) throws Throwable {
+        final InvocationTrace trace = ByteBuddyProxyGenerator.INVOCATION_TRACE;
+        if (trace == null) {
+            return invoke(invocationHandler, slot, proxy, arity, arg0, arg1, arg2, args);
+        }
+        final long start = System.nanoTime();
+        try {
+            return invoke(invocationHandler, slot, proxy, arity, arg0, arg1, arg2, args);
+        } finally {
+            trace.record(proxy.getClass(), slot.getMethod(), slot.getOrdinal(), invocationHandler, System.nanoTime() - start);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Object invoke(CurriedMethodContextInvocationHandler invocationHandler, MethodDispatchSlot slot, Object proxy, int arity, Object arg0, Object arg1, Object arg2, Object[] args) throws Throwable {
+        final Method method = slot.getMethod();
+        try {
+            // ARITY IS CONSTANT IN EACH ENTRY POINT, SO THE SWITCH IS FOLDED ONCE THE DISPATCH IS INLINED
+            switch (arity) {
+                case 0:
+                    return invocationHandler.invoke0(proxy, method, proxyState, slot.createSuperCallable0(proxy));
+                case 1:
+                    return invocationHandler.invoke1(proxy, method, arg0, proxyState, slot.createSuperCallable1(proxy, arg0));
+                case 2:
+                    return invocationHandler.invoke2(proxy, method, arg0, arg1, proxyState, slot.createSuperCallable2(proxy, arg0, arg1));
+                case 3:
+                    return invocationHandler.invoke3(proxy, method, arg0, arg1, arg2, proxyState, slot.createSuperCallable3(proxy, arg0, arg1, arg2));
+                default:
+                    return invocationHandler.invoke(proxy, method, args, proxyState, slot.createSuperCallableN(proxy, args));
+            }
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /**
+     * Dispatches the call of the method returning `int` to the primitive variant of the handler. Traced calls and
+     * handlers without the primitive variant share the generic {@link #dispatch} path.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private int dispatchInt(MethodDispatchSlot slot, Object proxy, Object[] args) throws Throwable {
+        final CurriedMethodContextInvocationHandler invocationHandler = getCurriedMethodContextInvocationHandler(proxy.getClass(), slot.getOrdinal(), slot.getMethod());
+        if (invocationHandler instanceof IntCurriedMethodContextInvocationHandler && ByteBuddyProxyGenerator.INVOCATION_TRACE == null) {
+            try {
+                return ((IntCurriedMethodContextInvocationHandler) invocationHandler).invokeInt(
+                    proxy, slot.getMethod(), args, proxyState, slot.createSuperCallableN(proxy, args)
+                );
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+        return (Integer) dispatch(invocationHandler, slot, proxy, ARGUMENTS_ARRAY, null, null, null, args);
+    }
+
+    /**
+     * Dispatches the call of the method returning `long`. See {@link #dispatchInt}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private long dispatchLong(MethodDispatchSlot slot, Object proxy, Object[] args) throws Throwable {
+        final CurriedMethodContextInvocationHandler invocationHandler = getCurriedMethodContextInvocationHandler(proxy.getClass(), slot.getOrdinal(), slot.getMethod());
+        if (invocationHandler instanceof LongCurriedMethodContextInvocationHandler && ByteBuddyProxyGenerator.INVOCATION_TRACE == null) {
+            try {
+                return ((LongCurriedMethodContextInvocationHandler) invocationHandler).invokeLong(
+                    proxy, slot.getMethod(), args, proxyState, slot.createSuperCallableN(proxy, args)
+                );
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+        return (Long) dispatch(invocationHandler, slot, proxy, ARGUMENTS_ARRAY, null, null, null, args);
+    }
+
+    /**
+     * Dispatches the call of the method returning `double`. See {@link #dispatchInt}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private double dispatchDouble(MethodDispatchSlot slot, Object proxy, Object[] args) throws Throwable {
+        final CurriedMethodContextInvocationHandler invocationHandler = getCurriedMethodContextInvocationHandler(proxy.getClass(), slot.getOrdinal(), slot.getMethod());
+        if (invocationHandler instanceof DoubleCurriedMethodContextInvocationHandler && ByteBuddyProxyGenerator.INVOCATION_TRACE == null) {
+            try {
+                return ((DoubleCurriedMethodContextInvocationHandler) invocationHandler).invokeDouble(
+                    proxy, slot.getMethod(), args, proxyState, slot.createSuperCallableN(proxy, args)
+                );
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+        return (Double) dispatch(invocationHandler, slot, proxy, ARGUMENTS_ARRAY, null, null, null, args);
+    }
+
+    /**
+     * Dispatches the call of the method returning `boolean`. See {@link #dispatchInt}.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private boolean dispatchBoolean(MethodDispatchSlot slot, Object proxy, Object[] args) throws Throwable {
+        final CurriedMethodContextInvocationHandler invocationHandler = getCurriedMethodContextInvocationHandler(proxy.getClass(), slot.getOrdinal(), slot.getMethod());
+        if (invocationHandler instanceof BooleanCurriedMethodContextInvocationHandler && ByteBuddyProxyGenerator.INVOCATION_TRACE == null) {
+            try {
+                return ((BooleanCurriedMethodContextInvocationHandler) invocationHandler).invokeBoolean(
+                    proxy, slot.getMethod(), args, proxyState, slot.createSuperCallableN(proxy, args)
+                );
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+        return (Boolean) dispatch(invocationHandler, slot, proxy, ARGUMENTS_ARRAY, null, null, null, args);
+    }
+
     protected abstract ProxyStateAccessor makeClone(
             S originalDispatcher,
             T clonedState,
@@ -0,0 +1,26 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+/**
+ * Defines how the generated ByteBuddy proxy classes are defined in the JVM and thus whether they can be unloaded when
+ * they're no longer used.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public enum ByteBuddyClassDefinitionMode {
+
+	/**
+	 * Classes are injected directly into the class loader of the proxied class (or defined via its lookup on newer
+	 * JDKs). Such classes live as long as the class loader itself and can never be unloaded on their own.
+	 */
+	INJECTED,
+
+	/**
+	 * Classes are defined so that they become eligible for garbage collection as soon as there is no instance of them
+	 * left (the caches of the {@link ByteBuddyProxyGenerator} reference them only weakly). On JDK 15+ the classes
+	 * are defined as hidden classes of the proxied class package, on older JDKs (or when the hidden class can't be
+	 * defined) each class gets its own child class loader of the passed class loader. Classes in the child class loader
+	 * can't access package-private types and members of the proxied class.
+	 */
+	UNLOADABLE
+
+}
@@ -0,0 +1,26 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+/**
+ * Defines how the methods of generated ByteBuddy proxy classes hand over the call to the
+ * {@link ByteBuddyDispatcherInvocationHandler}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public enum ByteBuddyDispatchMode {
+
+	/**
+	 * Methods are delegated using ByteBuddy `MethodDelegation` to
+	 * {@link ByteBuddyDispatcherInvocationHandler#interceptMethodCall}, which binds reflective {@link java.lang.reflect.Method},
+	 * all arguments array and super / default method callables on each call.
+	 */
+	METHOD_DELEGATION,
+
+	/**
+	 * Methods load their {@link MethodDispatchSlot} from static array on the proxy class and pass their arguments
+	 * to the arity specialized entry points (0, 1, 2, 3 and N arguments) of
+	 * {@link AbstractByteBuddyDispatcherInvocationHandler}. Methods with up to three arguments don't allocate
+	 * arguments array on the dispatch path and super method accessor is resolved only when it's really called.
+	 */
+	DIRECT
+
+}
@@ -4,13 +4,18 @@ package one.edee.oss.proxycian.bytebuddy;
 import net.bytebuddy.implementation.bind.annotation.*;
 import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
 import one.edee.oss.proxycian.MethodClassification;
-import one.edee.oss.proxycian.cache.ClassMethodCacheKey;
+import one.edee.oss.proxycian.MethodClassificationIndex;
+import one.edee.oss.proxycian.exception.InvalidSuperMethodCallException;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
 import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -23,66 +28,105 @@ public class ByteBuddyDispatcherInvocationHandler<T> extends AbstractByteBuddyDi
 		super(proxyState, methodClassifications);
 	}
 
-	private ByteBuddyDispatcherInvocationHandler(T proxyState, Collection<MethodClassification<?, ?>> methodClassifications) {
-		super(proxyState, methodClassifications);
+	public ByteBuddyDispatcherInvocationHandler(T proxyState, MethodClassificationIndex methodClassificationIndex, MethodClassification<?, ?>... additionalMethodClassifications) {
+		super(proxyState, methodClassificationIndex, additionalMethodClassifications);
+	}
+
+	private ByteBuddyDispatcherInvocationHandler(T proxyState, ByteBuddyDispatcherInvocationHandler<T> originalDispatcher) {
+		super(proxyState, originalDispatcher);
 	}
 
 	/**
-	 * This method gets bound and invoked by the ByteBuddy.
+	 * This method gets bound and invoked by the ByteBuddy. Super and default methods are bound as references to
+	 * the accessor methods cached in the proxy class, so that no callable needs to be created unless there is some
+	 * super method to call.
 	 */
 	@RuntimeType
 	public static Object interceptMethodCall(
 		@This Object proxy,
 		@Origin Method method,
+		@MethodOrdinal int methodOrdinal,
 		@FieldValue(INVOCATION_HANDLER_FIELD) ByteBuddyDispatcherInvocationHandler<?> handler,
-		@SuperCall(nullIfImpossible = true, serializableProxy = true, fallbackToDefault = false) Callable<Object> superMethod,
-		@DefaultCall(nullIfImpossible = true, serializableProxy = true) Callable<Object> defaultMethod,
+		@SuperMethod(nullIfImpossible = true, fallbackToDefault = false) Method superMethod,
+		@DefaultMethod(nullIfImpossible = true) Method defaultMethod,
 		@AllArguments Object[] args
 	) throws Throwable {
 		if (handler == null) {
-			return superMethod.call();
+			return new SuperMethodCall(proxy, method, superMethod, null, args).call();
 		} else {
-			return handler.interceptMethodCall(proxy, method, superMethod, defaultMethod, args);
+			return handler.interceptMethodCall(proxy, method, methodOrdinal, superMethod, defaultMethod, args);
+		}
+	}
+
+	/**
+	 * Creates handle to the super / default method implementation with type `(Object, Object[])Object`. Passed method
+	 * is either the accessor generated by ByteBuddy in the proxy class, or the default method declared on
+	 * the interface that is not accessible via accessor. Passed lookup is not used on this JVM - the default method is
+	 * found by {@link one.edee.oss.proxycian.util.ReflectionUtils#findMethodHandle(Method)}. See {@link SuperMethodCall}.
+	 */
+	@Nonnull
+	static MethodHandle createSuperMethodHandle(@Nonnull Method method, @Nullable MethodHandles.Lookup lookup) {
+		try {
+			final MethodHandle methodHandle;
+			if (method.getDeclaringClass().isInterface()) {
+				// issue https://github.com/raphw/byte-buddy/issues/1177
+				methodHandle = findMethodHandle(method);
+			} else {
+				method.setAccessible(true);
+				methodHandle = MethodHandles.lookup().unreflect(method);
+			}
+			final int parameterCount = method.getParameterCount();
+			return methodHandle
+				.asType(MethodType.genericMethodType(parameterCount + 1))
+				.asSpreader(Object[].class, parameterCount);
+		} catch (IllegalAccessException | RuntimeException e) {
+			throw new InvalidSuperMethodCallException(e);
 		}
 	}
 
 	public Object interceptMethodCall(
 		Object proxy,
 		Method method,
-		Callable<Object> superMethod,
-		Callable<Object> defaultMethod,
+		int methodOrdinal,
+		Method superMethod,
+		Method defaultMethod,
 		Object[] args
 	) throws Throwable {
 		try {
-			final ClassMethodCacheKey cacheKey = this.createCacheKey(proxy.getClass(), proxyState, method);
-			// issue https://github.com/raphw/byte-buddy/issues/1177
+			// SUPER CALLABLE IS JUST A LAZY TOKEN - THE SUPER METHOD IS RESOLVED ONLY WHEN THE HANDLER CALLS IT
 			final Callable<Object> superCallable;
-			if (defaultMethod == null && method.isDefault()) {
-				final MethodHandle methodHandle = ByteBuddyProxyGenerator.DEFAULT_METHOD_CACHE.computeIfAbsent(cacheKey, ck -> findMethodHandle(ck.getMethod()));
-				superCallable = () -> {
-					try {
-						return methodHandle.bindTo(proxy).invokeWithArguments(args);
-					} catch (InvocationTargetException | RuntimeException e) {
-						throw e;
-					} catch (Throwable e) {
-						throw new InvocationTargetException(e);
-					}
-				};
+			if (superMethod != null) {
+				superCallable = new SuperMethodCall(proxy, method, superMethod, null, args);
+			} else if (defaultMethod != null) {
+				superCallable = new SuperMethodCall(proxy, method, defaultMethod, null, args);
+			} else if (method.isDefault()) {
+				// issue https://github.com/raphw/byte-buddy/issues/1177
+				superCallable = new SuperMethodCall(proxy, method, null, null, args);
 			} else {
-				superCallable = superMethod == null ? defaultMethod : superMethod;
+				superCallable = null;
 			}
 
-			// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING OR INVALID -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
-			@SuppressWarnings("rawtypes") CurriedMethodContextInvocationHandler invocationHandler = ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.get(cacheKey);
-			if (invocationHandler == null) {
-				invocationHandler = this.getCurriedMethodContextInvocationHandler(method);
-				ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.put(cacheKey, invocationHandler);
-			}
-			// INVOKE CURRIED LAMBDA
-			//noinspection unchecked
-			return invocationHandler.invoke(
-					proxy, method, args, proxyState, superCallable
+			// GET HANDLER FROM THE DISPATCH TABLE BY METHOD ORDINAL, IF MISSING -> CLASSIFY AND STORE IT
+			@SuppressWarnings("rawtypes") final CurriedMethodContextInvocationHandler invocationHandler = this.getCurriedMethodContextInvocationHandler(
+				proxy.getClass(), methodOrdinal, method
 			);
+			final InvocationTrace trace = ByteBuddyProxyGenerator.INVOCATION_TRACE;
+			if (trace == null) {
+				// INVOKE CURRIED LAMBDA
+				//noinspection unchecked
+				return invocationHandler.invoke(
+						proxy, method, args, proxyState, superCallable
+				);
+			}
+			final long start = System.nanoTime();
+			try {
+				//noinspection unchecked
+				return invocationHandler.invoke(
+						proxy, method, args, proxyState, superCallable
+				);
+			} finally {
+				trace.record(proxy.getClass(), method, methodOrdinal, invocationHandler, System.nanoTime() - start);
+			}
 		} catch (InvocationTargetException ex) {
 			throw ex.getTargetException();
 		}
@@ -91,10 +135,7 @@ public class ByteBuddyDispatcherInvocationHandler<T> extends AbstractByteBuddyDi
 	@Override
 	protected ProxyStateAccessor makeClone(ByteBuddyDispatcherInvocationHandler<T> originalDispatcher, T clonedState, List<Class<?>> interfaces) {
 		return ByteBuddyProxyGenerator.instantiate(
-				new ByteBuddyDispatcherInvocationHandler<>(
-						clonedState,
-						originalDispatcher.methodClassifications
-				),
+				new ByteBuddyDispatcherInvocationHandler<>(clonedState, originalDispatcher),
 				interfaces.toArray(EMPTY_CLASS_ARRAY)
 		);
 	}
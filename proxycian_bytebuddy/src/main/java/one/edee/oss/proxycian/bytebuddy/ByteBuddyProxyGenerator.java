@@ -1,11 +1,12 @@
 package one.edee.oss.proxycian.bytebuddy;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
-import net.bytebuddy.dynamic.DynamicType.Builder.FieldDefinition.Optional.Valuable;
 import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ParameterDefinition.Simple.Annotatable;
 import net.bytebuddy.dynamic.DynamicType.Builder.MethodDefinition.ReceiverTypeDefinition;
 import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.MethodDelegation;
 import net.bytebuddy.implementation.attribute.MethodAttributeAppender.ForInstrumentedMethod;
@@ -13,43 +14,70 @@ import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.implementation.bytecode.assign.Assigner.Typing;
 import net.bytebuddy.matcher.ElementMatchers;
 import one.edee.oss.proxycian.*;
-import one.edee.oss.proxycian.cache.ClassMethodCacheKey;
+import one.edee.oss.proxycian.cache.BytecodeCache;
+import one.edee.oss.proxycian.cache.CacheStatistics;
+import one.edee.oss.proxycian.cache.ClassLoaderScopedCache;
+import one.edee.oss.proxycian.cache.ClassScopedCache;
 import one.edee.oss.proxycian.cache.ConstructorCacheKey;
+import one.edee.oss.proxycian.cache.DispatchTableCache;
+import one.edee.oss.proxycian.cache.EvictionPolicy;
+import one.edee.oss.proxycian.cache.ProxyClassCacheKey;
+import one.edee.oss.proxycian.cache.SegmentedLruEvictionPolicy;
+import one.edee.oss.proxycian.cache.WindowTinyLfuEvictionPolicy;
 import one.edee.oss.proxycian.exception.ProxyInstantiationException;
 import one.edee.oss.proxycian.exception.SuperConstructorNotFoundException;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
+import one.edee.oss.proxycian.metrics.ProxycianFlightRecorder;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.metrics.ProxycianMetricsListener;
 import one.edee.oss.proxycian.recipe.ProxyRecipe;
 import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 import one.edee.oss.proxycian.trait.SerializableProxy;
 import one.edee.oss.proxycian.trait.SerializableProxy.DeserializationProxyFactory;
+import one.edee.oss.proxycian.trait.StandardMethodFastPath;
 import one.edee.oss.proxycian.utils.ArrayUtils;
 import one.edee.oss.proxycian.utils.ClassUtils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class ByteBuddyProxyGenerator {
-	static final Map<ClassMethodCacheKey, CurriedMethodContextInvocationHandler<?,?>> CLASSIFICATION_CACHE = new ConcurrentHashMap<>(32);
-	static final Map<ClassMethodCacheKey, MethodHandle> DEFAULT_METHOD_CACHE = new ConcurrentHashMap<>(32);
+	static final DispatchTableCache CLASSIFICATION_CACHE = new DispatchTableCache();
+	static final ClassScopedCache<Method, MethodHandle> SUPER_METHOD_CACHE = new ClassScopedCache<>();
+	static volatile InvocationTrace INVOCATION_TRACE;
 	public static final String INVOCATION_HANDLER_FIELD = "dispatcherInvocationHandler";
+	public static final String PROXY_METHODS_FIELD = "proxyMethods";
+	public static final String PROXY_STATE_FIELD = "proxyState";
+	public static final String PROXY_METHOD_SIGNATURES_FIELD = "proxyMethodSignatures";
+	public static final String GENERATOR_NAME = "ByteBuddy";
 	// LIST OF "SYSTEM" INTERFACES THAT ARE ADDED TO OUR PROXIES AUTOMATICALLY EITHER BY US OR BY THE BYTECODE LIBRARY
 	public static final Set<Class<?>> EXCLUDED_CLASSES = new HashSet<>(
 		Collections.singletonList(
 			ProxyStateAccessor.class
 		)
 	);
-	private static final Map<List<Class<?>>, Class<?>> CACHED_PROXY_CLASSES = new ConcurrentHashMap<>(64);
-	private static final Map<ConstructorCacheKey, Constructor<?>> CACHED_PROXY_CONSTRUCTORS = new ConcurrentHashMap<>(64);
+	private static final ClassLoaderScopedCache<ProxyClassCacheKey, Class<?>> CACHED_PROXY_CLASSES = new ClassLoaderScopedCache<>();
+	private static final ClassScopedCache<ConstructorCacheKey, Constructor<?>> CACHED_PROXY_CONSTRUCTORS = new ClassScopedCache<>();
 	private static final AtomicInteger CLASS_COUNTER = new AtomicInteger(0);
 	private static final Method PROXY_CREATED_METHOD;
+	private static final Method PROXY_EQUALS_METHOD;
 	private static final StrategyProvider STRATEGY_PROVIDER = new StrategyProvider();
+	private static volatile ByteBuddyDispatchMode DISPATCH_MODE = ByteBuddyDispatchMode.METHOD_DELEGATION;
+	private static volatile ByteBuddyClassDefinitionMode CLASS_DEFINITION_MODE = ByteBuddyClassDefinitionMode.INJECTED;
+	private static volatile BytecodeCache BYTECODE_CACHE;
 
 	static {
 		try {
@@ -57,6 +85,11 @@ public class ByteBuddyProxyGenerator {
 		} catch (NoSuchMethodException e) {
 			throw new IllegalStateException("Method `proxyCreated` not found on OnInstantiationCallback!");
 		}
+		try {
+			PROXY_EQUALS_METHOD = StandardMethodFastPath.class.getDeclaredMethod("proxyEquals", Object.class, Object.class, Object.class);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Method `proxyEquals` not found on StandardMethodFastPath!");
+		}
 	}
 
 	/**
@@ -65,19 +98,120 @@ public class ByteBuddyProxyGenerator {
 	 * speeds up method execution heavily.
 	 */
 	public static void clearMethodClassificationCache() {
+		// PROXIES KEEP REFERENCES TO THEIR DISPATCH TABLES - THE CACHE CLEARS THEM TOO
 		CLASSIFICATION_CACHE.clear();
 	}
 
 	/**
-	 * Method clears cached classes. Please keep in mind, that classes are probably trapped in the {@link ClassLoader}
-	 * and old JVMs were not able to purge non-used classes from the {@link ClassLoader} -
+	 * Sets the policy that bounds the size of the method classification cache. The cache is unbounded by default, which
+	 * is fine unless the proxies are created with new {@link CacheKeyProvider} keys over and over again (for example
+	 * {@link one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice} with new lambda for each proxy). Passing null
+	 * makes the cache unbounded again. The cache is cleared and its statistics reset when the policy is changed, the policy
+	 * instance must not be shared with other caches. See {@link WindowTinyLfuEvictionPolicy} and {@link SegmentedLruEvictionPolicy}.
+	 */
+	public static void setClassificationCacheEvictionPolicy(@Nullable EvictionPolicy evictionPolicy) {
+		CLASSIFICATION_CACHE.setEvictionPolicy(evictionPolicy);
+	}
+
+	/**
+	 * Returns hit, miss and eviction counts of the method classification cache.
+	 */
+	@Nonnull
+	public static CacheStatistics getClassificationCacheStatistics() {
+		return CLASSIFICATION_CACHE.getStatistics();
+	}
+
+	/**
+	 * Registers the trace that records the last invocations of the proxy methods dispatched by this generator, or
+	 * disables the tracing when null is passed. The tracing is disabled by default and costs only a field read then.
+	 * Methods implemented without the dispatcher (see {@link StandardMethodFastPath}) are not traced.
+	 * The trace references the traced proxy classes strongly - unregister it or clear it before the class loader of
+	 * the proxies is expected to be unloaded.
+	 */
+	public static void setInvocationTrace(@Nullable InvocationTrace invocationTrace) {
+		INVOCATION_TRACE = invocationTrace;
+	}
+
+	/**
+	 * Returns the trace that records the last invocations of the proxy methods or null if tracing is disabled.
+	 */
+	@Nullable
+	public static InvocationTrace getInvocationTrace() {
+		return INVOCATION_TRACE;
+	}
+
+	/**
+	 * Sets the mode in which the methods of newly generated proxy classes dispatch calls to the invocation handler.
+	 * Classes generated in different modes are cached separately, already created proxies are not affected.
+	 * See {@link ByteBuddyDispatchMode} for details.
+	 */
+	public static void setDispatchMode(@Nonnull ByteBuddyDispatchMode dispatchMode) {
+		DISPATCH_MODE = dispatchMode;
+	}
+
+	/**
+	 * Returns the mode in which the methods of newly generated proxy classes dispatch calls to the invocation handler.
+	 */
+	@Nonnull
+	public static ByteBuddyDispatchMode getDispatchMode() {
+		return DISPATCH_MODE;
+	}
+
+	/**
+	 * Sets the way newly generated proxy classes are defined in the JVM. Classes generated in different modes are
+	 * cached separately, already created classes are not affected. See {@link ByteBuddyClassDefinitionMode} for details.
+	 */
+	public static void setClassDefinitionMode(@Nonnull ByteBuddyClassDefinitionMode classDefinitionMode) {
+		CLASS_DEFINITION_MODE = classDefinitionMode;
+	}
+
+	/**
+	 * Returns the way newly generated proxy classes are defined in the JVM.
+	 */
+	@Nonnull
+	public static ByteBuddyClassDefinitionMode getClassDefinitionMode() {
+		return CLASS_DEFINITION_MODE;
+	}
+
+	/**
+	 * Sets the directory where the byte-code of the generated proxy classes is stored and loaded from on the next start
+	 * of the JVM instead of generating the classes again. The cache is used only for classes generated in
+	 * {@link ByteBuddyDispatchMode#METHOD_DELEGATION} and {@link ByteBuddyClassDefinitionMode#INJECTED} modes.
+	 * Pass NULL to disable the cache. See {@link BytecodeCache} for details.
+	 */
+	public static void setBytecodeCacheDirectory(@Nullable Path directory) {
+		BYTECODE_CACHE = directory == null ? null : new BytecodeCache(directory);
+	}
+
+	/**
+	 * Returns the directory of the byte-code cache or NULL if the cache is disabled.
+	 */
+	@Nullable
+	public static Path getBytecodeCacheDirectory() {
+		final BytecodeCache bytecodeCache = BYTECODE_CACHE;
+		return bytecodeCache == null ? null : bytecodeCache.getDirectory();
+	}
+
+	/**
+	 * Method clears cached classes. Please keep in mind, that classes injected to the {@link ClassLoader} stay
+	 * trapped in it and cannot be purged until the whole {@link ClassLoader} is garbage collected -
 	 * <a href="https://stackoverflow.com/questions/2433261/when-and-how-are-classes-garbage-collected-in-java">see this answer</>.
+	 * Classes generated in {@link ByteBuddyClassDefinitionMode#UNLOADABLE} mode are referenced only weakly by this
+	 * cache and can be unloaded as soon as there is no instance of them left.
 	 * This cache allows reusing already generated classes for same combination of input interfaces / combination of
-	 * {@link CacheKeyProvider} classifiers.
+	 * {@link CacheKeyProvider} classifiers. The cache is kept separately for each {@link ClassLoader} and doesn't
+	 * prevent the class loader from being garbage collected, so it doesn't need to be cleared on application redeploy.
+	 * Records of the registered {@link InvocationTrace} are dropped as well.
 	 */
 	public static void clearClassCache() {
 		CACHED_PROXY_CLASSES.clear();
 		CACHED_PROXY_CONSTRUCTORS.clear();
+		SUPER_METHOD_CACHE.clear();
+		final InvocationTrace trace = INVOCATION_TRACE;
+		if (trace != null) {
+			// THE TRACE WOULD OTHERWISE KEEP THE CLEARED CLASSES REACHABLE
+			trace.clear();
+		}
 	}
 
 	/**
@@ -140,14 +274,18 @@ public class ByteBuddyProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiate(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Object proxyState, @Nonnull ClassLoader classLoader) {
 		proxyRecipe.verifyProxyState(proxyState);
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfaces(), classLoader, proxyRecipe.getFastPathMask(proxyState)
+		);
 		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfaces(), classLoader
-			),
+			proxyClass,
 			proxyState,
-			new ByteBuddyDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith()
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new ByteBuddyDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getMethodClassificationIndex()
+				)
 			),
 			proxyRecipe.getInstantiationCallback()
 		);
@@ -168,15 +306,20 @@ public class ByteBuddyProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiate(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Object proxyState, @Nonnull Class<?>[] constructorTypes, @Nonnull Object[] constructorArgs, @Nonnull ClassLoader classLoader) {
 		proxyRecipe.verifyProxyState(proxyState);
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfaces(),
+			classLoader,
+			proxyRecipe.getFastPathMask(proxyState)
+		);
 		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfaces(),
-				classLoader
-			),
+			proxyClass,
 			proxyState,
-			new ByteBuddyDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith()
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new ByteBuddyDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getMethodClassificationIndex()
+				)
 			),
 			proxyRecipe.getInstantiationCallback(),
 			constructorTypes,
@@ -199,17 +342,21 @@ public class ByteBuddyProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiateSerializable(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Serializable proxyState, @Nonnull ClassLoader classLoader) {
 		proxyRecipe.verifyProxyState(proxyState);
-		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfacesWith(
-					SerializableProxy.class
-				),
-				classLoader
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfacesWith(
+				SerializableProxy.class
 			),
+			classLoader,
+			proxyRecipe.getFastPathMask(proxyState)
+		);
+		return instantiateProxy(
+			proxyClass,
 			proxyState,
-			new ByteBuddyDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith(
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new ByteBuddyDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getMethodClassificationIndex(),
 					SerializableProxy.getWriteReplaceMethodInvoker(
 						new ProxyRecipeDeserializationProxyFactory(proxyRecipe)
 					)
@@ -234,17 +381,21 @@ public class ByteBuddyProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiateSerializable(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Serializable proxyState, @Nonnull Class<?>[] constructorTypes, @Nonnull Object[] constructorArgs, @Nonnull ClassLoader classLoader) {
 		proxyRecipe.verifyProxyState(proxyState);
-		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfacesWith(
-					SerializableProxy.class
-				),
-				classLoader
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfacesWith(
+				SerializableProxy.class
 			),
+			classLoader,
+			proxyRecipe.getFastPathMask(proxyState)
+		);
+		return instantiateProxy(
+			proxyClass,
 			proxyState,
-			new ByteBuddyDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith(
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new ByteBuddyDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getMethodClassificationIndex(),
 					SerializableProxy.getWriteReplaceMethodInvoker(
 						new ProxyRecipeDeserializationProxyFactory(proxyRecipe)
 					)
@@ -256,6 +407,54 @@ public class ByteBuddyProxyGenerator {
 		);
 	}
 
+	/**
+	 * Returns {@link DispatchPlan} describing how the methods of the proxy created from passed {@link ProxyRecipe} and
+	 * proxy state would be dispatched. The proxy class is generated (or taken from the cache), but no proxy is created
+	 * and the dispatch table is not changed.
+	 */
+	@Nonnull
+	public static DispatchPlan explain(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Object proxyState) {
+		proxyRecipe.verifyProxyState(proxyState);
+		final Class<?> proxyClass = getProxyClass(
+			proxyRecipe.getInterfaces(),
+			ByteBuddyProxyGenerator.class.getClassLoader(),
+			proxyRecipe.getFastPathMask(proxyState)
+		);
+		return new ByteBuddyDispatcherInvocationHandler<>(proxyState, proxyRecipe.getMethodClassificationIndex())
+			.explain(proxyClass, getProxyMethods(proxyClass));
+	}
+
+	/**
+	 * Returns {@link DispatchPlan} describing how the methods of passed proxy are dispatched. The dispatch table is not
+	 * changed.
+	 */
+	@Nonnull
+	public static DispatchPlan explain(@Nonnull Object proxy) {
+		final Class<?> proxyClass = proxy.getClass();
+		return getInvocationHandler(proxy).explain(proxyClass, getProxyMethods(proxyClass));
+	}
+
+	/**
+	 * Returns {@link ProxyFootprint} of the proxy created from passed {@link ProxyRecipe}. Two proxies are created
+	 * using the states from passed factory - the second one serves as a sibling, whose objects are considered shared
+	 * by all proxies of the recipe.
+	 */
+	@Nonnull
+	public static ProxyFootprint measureFootprint(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Supplier<?> proxyStateFactory) {
+		final Object proxy = instantiate(proxyRecipe, proxyStateFactory.get());
+		final Object siblingProxy = instantiate(proxyRecipe, proxyStateFactory.get());
+		return measureFootprint(proxy, siblingProxy);
+	}
+
+	/**
+	 * Returns {@link ProxyFootprint} of passed proxy. The sibling proxy must be created from the same recipe - its
+	 * objects are considered shared by all proxies of the recipe and are not part of the retained sizes.
+	 */
+	@Nonnull
+	public static ProxyFootprint measureFootprint(@Nonnull Object proxy, @Nonnull Object siblingProxy) {
+		return ProxyFootprint.measure(proxy, getInvocationHandler(proxy), siblingProxy, getInvocationHandler(siblingProxy));
+	}
+
 	/**
 	 * Returns previously created class or construct new from the passed interfaces. First class of the passed class
 	 * array might be abstract class. In such situation the created class will extend this proxy class. All passed
@@ -271,12 +470,138 @@ public class ByteBuddyProxyGenerator {
 	 * interfaces will be "implemented" by the returned proxy class.
 	 */
 	public static Class<?> getProxyClass(@Nonnull Class<?>[] interfaces, @Nonnull ClassLoader classLoader) {
+		return getProxyClass(interfaces, classLoader, 0);
+	}
+
+	/**
+	 * Generates proxy classes for all passed recipes in parallel using passed executor, so that the first proxies
+	 * created by {@link #instantiate(ProxyRecipe, Object)} don't pay for the class generation. The class depends on
+	 * the type of the proxy state, so each recipe comes with the proxy state it will be used with. The proxy state is
+	 * verified the same way as when the proxy is created. Returns the future of the proxy class for each recipe.
+	 *
+	 * Classes defined in {@link ByteBuddyClassDefinitionMode#UNLOADABLE} mode are referenced by the caches only weakly,
+	 * so they may be unloaded before the first proxy is created unless something else references them - keep
+	 * the returned futures as long as the warmed up classes should stay ready.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUp(@Nonnull Map<ProxyRecipe, ?> proxyStates, @Nonnull Executor executor) {
+		return warmUp(proxyStates, ByteBuddyProxyGenerator.class.getClassLoader(), executor);
+	}
+
+	/**
+	 * Generates proxy classes for all passed recipes in parallel in passed class loader using passed executor.
+	 * See {@link #warmUp(Map, Executor)}.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUp(@Nonnull Map<ProxyRecipe, ?> proxyStates, @Nonnull ClassLoader classLoader, @Nonnull Executor executor) {
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> result = new LinkedHashMap<>(proxyStates.size() * 2);
+		proxyStates.forEach(
+			(proxyRecipe, proxyState) -> result.put(
+				proxyRecipe,
+				CompletableFuture.supplyAsync(
+					() -> {
+						proxyRecipe.verifyProxyState(proxyState);
+						return getProxyClass(proxyRecipe.getInterfaces(), classLoader, proxyRecipe.getFastPathMask(proxyState));
+					},
+					executor
+				)
+			)
+		);
+		return result;
+	}
+
+	/**
+	 * Generates serializable proxy classes for all passed recipes in parallel using passed executor, so that the first
+	 * proxies created by {@link #instantiateSerializable(ProxyRecipe, Serializable)} don't pay for the class generation.
+	 * See {@link #warmUp(Map, Executor)}.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUpSerializable(@Nonnull Map<ProxyRecipe, ? extends Serializable> proxyStates, @Nonnull Executor executor) {
+		return warmUpSerializable(proxyStates, ByteBuddyProxyGenerator.class.getClassLoader(), executor);
+	}
+
+	/**
+	 * Generates serializable proxy classes for all passed recipes in parallel in passed class loader using passed
+	 * executor. See {@link #warmUp(Map, Executor)}.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUpSerializable(@Nonnull Map<ProxyRecipe, ? extends Serializable> proxyStates, @Nonnull ClassLoader classLoader, @Nonnull Executor executor) {
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> result = new LinkedHashMap<>(proxyStates.size() * 2);
+		proxyStates.forEach(
+			(proxyRecipe, proxyState) -> result.put(
+				proxyRecipe,
+				CompletableFuture.supplyAsync(
+					() -> {
+						proxyRecipe.verifyProxyState(proxyState);
+						return getProxyClass(
+							proxyRecipe.getInterfacesWith(SerializableProxy.class), classLoader, proxyRecipe.getFastPathMask(proxyState)
+						);
+					},
+					executor
+				)
+			)
+		);
+		return result;
+	}
+
+	/**
+	 * Generates proxy classes for all passed sets of interfaces in parallel using passed executor - the same classes
+	 * {@link #getProxyClass(Class[])} returns. Returns the future of the proxy class for each set in the same order.
+	 */
+	@Nonnull
+	public static List<CompletableFuture<Class<?>>> warmUp(@Nonnull Collection<Class<?>[]> contracts, @Nonnull Executor executor) {
+		return warmUp(contracts, ByteBuddyProxyGenerator.class.getClassLoader(), executor);
+	}
+
+	/**
+	 * Generates proxy classes for all passed sets of interfaces in parallel in passed class loader using passed
+	 * executor. See {@link #warmUp(Collection, Executor)}.
+	 */
+	@Nonnull
+	public static List<CompletableFuture<Class<?>>> warmUp(@Nonnull Collection<Class<?>[]> contracts, @Nonnull ClassLoader classLoader, @Nonnull Executor executor) {
+		final List<CompletableFuture<Class<?>>> result = new ArrayList<>(contracts.size());
+		for (Class<?>[] interfaces : contracts) {
+			result.add(CompletableFuture.supplyAsync(() -> getProxyClass(interfaces, classLoader), executor));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns previously created class or construct new from the passed interfaces. Methods of passed
+	 * {@link StandardMethodFastPath fast path mask} are implemented directly in the byte-code of the class and don't
+	 * go through the invocation handler at all.
+	 *
+	 * In {@link ByteBuddyDispatchMode#METHOD_DELEGATION} mode the class precompiled for the
+	 * {@link one.edee.oss.proxycian.recipe.PrecompiledProxy} annotated contract is returned instead of generating one.
+	 * When the {@link #setBytecodeCacheDirectory(Path) byte-code cache} is enabled, the class is loaded from it if
+	 * present and stored into it after it has been generated.
+	 */
+	static Class<?> getProxyClass(@Nonnull Class<?>[] interfaces, @Nonnull ClassLoader classLoader, int fastPathMask) {
+		final ByteBuddyDispatchMode dispatchMode = DISPATCH_MODE;
+		final ByteBuddyClassDefinitionMode classDefinitionMode = CLASS_DEFINITION_MODE;
 		// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
 		return CACHED_PROXY_CLASSES.computeIfAbsent(
-			// CACHE KEY
-			Arrays.asList(interfaces),
+			// CLASS LOADER SECTION OF THE CACHE
+			classLoader,
+			// CACHE KEY - GENERATION MODE COMBINES BOTH DISPATCH AND CLASS DEFINITION MODES
+			new ProxyClassCacheKey(interfaces, Arrays.asList(dispatchMode, classDefinitionMode), fastPathMask),
 			// LAMBDA THAT CREATES OUR PROXY CLASS
 			classes -> {
+				if (dispatchMode == ByteBuddyDispatchMode.METHOD_DELEGATION) {
+					// CLASS GENERATED BY THE ANNOTATION PROCESSOR FOLLOWS THE SAME CONTRACT AS THE CLASS GENERATED BELOW
+					// FAST PATHS ARE NOT PART OF IT - THESE METHODS SIMPLY GO THROUGH THE INVOCATION HANDLER
+					final Class<?> precompiledClass = PrecompiledProxySupport.findPrecompiledClass(interfaces, classLoader);
+					if (precompiledClass != null) {
+						return precompiledClass;
+					}
+				}
+
+				// BYTE-CODE OF THE CLASSES BOUND TO LIVE OBJECTS (DIRECT DISPATCH SLOTS, CLASS LOADER PER CLASS) CANNOT BE CACHED
+				final BytecodeCache bytecodeCache = dispatchMode == ByteBuddyDispatchMode.METHOD_DELEGATION &&
+					classDefinitionMode == ByteBuddyClassDefinitionMode.INJECTED ? BYTECODE_CACHE : null;
+				final ProxycianMetricsListener listener = ProxycianMetrics.getListener();
+				final boolean recorded = ProxycianFlightRecorder.isEnabled();
+				final long start = listener == null && !recorded ? 0L : System.nanoTime();
 
 				DynamicType.Builder<?> builder;
 
@@ -310,11 +635,29 @@ public class ByteBuddyProxyGenerator {
 					builder = new ByteBuddy().subclass(superClass).implement(finalContract);
 				}
 
-				final Valuable<?> theBuilder = builder
+				final String proxyClassName;
+				if (bytecodeCache == null) {
+					proxyClassName = className + "$Proxycian_" + CLASS_COUNTER.incrementAndGet();
+				} else {
+					// CACHED CLASSES MUST HAVE THE SAME NAME IN EACH JVM - THE NAME IS DERIVED FROM THE CONTRACT
+					proxyClassName = className + "$Proxycian_" + BytecodeCache.fingerprint(
+						ByteBuddyProxyGenerator.class, interfaces, dispatchMode, fastPathMask
+					);
+					final Class<?> cachedProxyClass = loadCachedProxyClass(bytecodeCache, proxyClassName, interfaces, contextClass, classLoader);
+					if (cachedProxyClass != null) {
+						return cachedProxyClass;
+					}
+				}
+
+				DynamicType.Builder<?> theBuilder = builder
 					// WE CAN DEFINE OUR OWN PACKAGE AND NAME FOR THE CLASS
-					.name(className + "$Proxycian_" + CLASS_COUNTER.incrementAndGet())
+					.name(proxyClassName)
 					// WE'LL CREATE PRIVATE FINAL FIELD FOR STORING OUR INVOCATION HANDLER ON INSTANCE
 					.defineField(INVOCATION_HANDLER_FIELD, ByteBuddyDispatcherInvocationHandler.class, Modifier.PRIVATE + Modifier.FINAL);
+				if (fastPathMask != 0) {
+					// FAST PATHS READ THE PROXY STATE DIRECTLY FROM THE PRIVATE FINAL FIELD OF THE INSTANCE
+					theBuilder = theBuilder.defineField(PROXY_STATE_FIELD, Object.class, Modifier.PRIVATE + Modifier.FINAL);
+				}
 
 				// OVERRIDE ALL PUBLIC/PROTECTED CONSTRUCTOR FOUND ON SUPERCLASS WITH CUSTOM BEHAVIOUR
 				final Constructor<?>[] superClassConstructors = superClass.getDeclaredConstructors();
@@ -339,12 +682,19 @@ public class ByteBuddyProxyGenerator {
 						}
 
 						// AND THIS CONSTRUCTOR WILL
+						Implementation.Composable constructorImplementation = MethodCall
+							// CALL DEFAULT (NON-ARG) CONSTRUCTOR ON SUPERCLASS
+							.invoke(superClassConstructor)
+							.onSuper()
+							.withArgument(indexes);
+						if (fastPathMask != 0) {
+							// THEN FILL PRIVATE FIELD WITH PASSED PROXY STATE
+							constructorImplementation = constructorImplementation.andThen(
+								FieldAccessor.ofField(PROXY_STATE_FIELD).setsArgumentAt(2)
+							);
+						}
 						ongoingDefinition = baseConstructorBuilder.intercept(
-							MethodCall
-								// CALL DEFAULT (NON-ARG) CONSTRUCTOR ON SUPERCLASS
-								.invoke(superClassConstructor)
-								.onSuper()
-								.withArgument(indexes)
+							constructorImplementation
 								// AND THEN CALL ON INSTANTIATION CALLBACK PASSED IN ARGUMENT
 								.andThen(
 									MethodCall.invoke(PROXY_CREATED_METHOD)
@@ -361,7 +711,8 @@ public class ByteBuddyProxyGenerator {
 					}
 				}
 
-				return Objects.requireNonNull(ongoingDefinition)
+				final MethodOrdinalBinder ordinalBinder = new MethodOrdinalBinder();
+				DynamicType.Builder<?> proxyBuilder = Objects.requireNonNull(ongoingDefinition)
 					// AND TRAP ALL METHODS EXCEPT CONSTRUCTORS AND FINALIZER
 					.method(
 						ElementMatchers.noneOf(
@@ -369,28 +720,207 @@ public class ByteBuddyProxyGenerator {
 						)
 					)
 					// AND DELEGATE CALL TO OUR INVOCATION HANDLER STORED IN PRIVATE FIELD OF THE CLASS
-					.intercept(MethodDelegation.to(ByteBuddyDispatcherInvocationHandler.class))
+					.intercept(createDispatchImplementation(dispatchMode, ordinalBinder))
 					// COPY ALL METHOD / PARAMETER ANNOTATIONS TO THE OVERRIDEN METHODS
-					.attribute(ForInstrumentedMethod.EXCLUDING_RECEIVER)
-					// NOW CREATE THE BYTE-CODE
-					.make()
+					.attribute(ForInstrumentedMethod.EXCLUDING_RECEIVER);
+
+				if (dispatchMode == ByteBuddyDispatchMode.METHOD_DELEGATION) {
+					// KEEP INTERCEPTED METHODS IN STATIC FIELD SO THAT THEY COULD BE CLASSIFIED EAGERLY
+					// (DIRECT MODE KEEPS THEM IN ITS DISPATCH SLOTS)
+					proxyBuilder = proxyBuilder
+						.defineField(PROXY_METHODS_FIELD, Method[].class, Modifier.PRIVATE | Modifier.STATIC)
+						.initializer(ordinalBinder.createMethodsInitializer(PROXY_METHODS_FIELD));
+				}
+
+				// FAST PATHS ARE REGISTERED LAST SO THAT THEY TAKE PRECEDENCE OVER THE GENERAL INTERCEPTION
+				proxyBuilder = defineFastPaths(proxyBuilder, fastPathMask);
+				if (bytecodeCache != null) {
+					// CACHED CLASS CANNOT RELY ON THE LOADED TYPE INITIALIZER - IT DESCRIBES ITS METHODS ITSELF
+					proxyBuilder = proxyBuilder.visit(ordinalBinder.createMethodsDescriptor(PROXY_METHOD_SIGNATURES_FIELD));
+				}
+
+				// NOW CREATE THE BYTE-CODE
+				final DynamicType.Unloaded<?> unloadedProxyClass = proxyBuilder.make();
+				final Class<?> proxyClass = unloadedProxyClass
 					// AND LOAD IT IN CURRENT CLASSLOADER
 					/* see https://github.com/raphw/byte-buddy/issues/513 and http://mydailyjava.blogspot.com/2018/04/jdk-11-and-proxies-in-world-past.html */
 					/* this needs to be changed with upgrade to JDK 11 */
-					.load(classLoader, STRATEGY_PROVIDER.getStrategy(contextClass))
+					.load(
+						classLoader,
+						classDefinitionMode == ByteBuddyClassDefinitionMode.UNLOADABLE ?
+							STRATEGY_PROVIDER.getUnloadableStrategy(contextClass) :
+							STRATEGY_PROVIDER.getStrategy(contextClass)
+					)
 					// RETURN
 					.getLoaded();
+
+				if (bytecodeCache != null) {
+					BytecodeCache.registerClass(proxyClass);
+					if (ordinalBinder.isMethodsDescribed() && unloadedProxyClass.getAuxiliaryTypes().isEmpty()) {
+						bytecodeCache.write(proxyClassName, unloadedProxyClass.getBytes());
+					}
+				}
+
+				if (listener != null || recorded) {
+					final long duration = System.nanoTime() - start;
+					final int bytecodeSize = unloadedProxyClass.getBytes().length;
+					if (listener != null) {
+						listener.proxyClassGenerated(GENERATOR_NAME, interfaces, proxyClass, bytecodeSize, duration);
+					}
+					if (recorded) {
+						ProxycianFlightRecorder.proxyClassDefined(GENERATOR_NAME, interfaces, proxyClass, bytecodeSize, duration);
+					}
+				}
+				return proxyClass;
 			});
 	}
 
+	/**
+	 * Returns the proxy class of passed name from the byte-code cache or NULL if it's not cached. The class might be
+	 * already defined in the class loader (when the class cache was cleared) or present on the class path (or in
+	 * the CDS archive) - in such case it's used directly.
+	 */
+	@Nullable
+	private static Class<?> loadCachedProxyClass(@Nonnull BytecodeCache bytecodeCache, @Nonnull String proxyClassName, @Nonnull Class<?>[] interfaces, @Nonnull Class<?> contextClass, @Nonnull ClassLoader classLoader) {
+		Class<?> proxyClass = BytecodeCache.findClass(proxyClassName, interfaces, contextClass.getClassLoader(), classLoader);
+		if (proxyClass == null) {
+			final byte[] bytecode = bytecodeCache.read(proxyClassName);
+			if (bytecode == null) {
+				return null;
+			}
+			// DEFINE THE CLASS THE SAME WAY AS THE GENERATED ONE
+			proxyClass = STRATEGY_PROVIDER.getStrategy(contextClass)
+				.load(
+					classLoader,
+					Collections.singletonMap(
+						new TypeDescription.Latent(proxyClassName, Modifier.PUBLIC, TypeDescription.Generic.OBJECT), bytecode
+					)
+				)
+				.values()
+				.iterator()
+				.next();
+			BytecodeCache.registerClass(proxyClass);
+		}
+		MethodOrdinalBinder.initializeMethods(proxyClass, PROXY_METHODS_FIELD, PROXY_METHOD_SIGNATURES_FIELD);
+		return proxyClass;
+	}
+
+	/**
+	 * Implements methods of the passed {@link StandardMethodFastPath fast path mask} directly using the proxy state
+	 * stored in {@link #PROXY_STATE_FIELD}.
+	 */
+	@Nonnull
+	private static DynamicType.Builder<?> defineFastPaths(@Nonnull DynamicType.Builder<?> proxyBuilder, int fastPathMask) {
+		DynamicType.Builder<?> result = proxyBuilder;
+		for (StandardMethodFastPath fastPath : StandardMethodFastPath.values()) {
+			if (fastPath.isIn(fastPathMask)) {
+				final Method method = fastPath.getMethod();
+				final Implementation implementation;
+				switch (fastPath) {
+					case GET_PROXY_STATE:
+						// SIMPLE FIELD READ
+						implementation = FieldAccessor.ofField(PROXY_STATE_FIELD);
+						break;
+					case HASH_CODE:
+					case TO_STRING:
+						// DELEGATE STRAIGHT TO THE PROXY STATE
+						implementation = MethodCall.invoke(method).onField(PROXY_STATE_FIELD);
+						break;
+					case EQUALS:
+						// COMPARE PROXY STATES OF THE PROXIES OF THE SAME CLASS
+						implementation = MethodCall.invoke(PROXY_EQUALS_METHOD)
+							.withThis()
+							.withField(PROXY_STATE_FIELD)
+							.withArgument(0);
+						break;
+					default:
+						throw new IllegalStateException("Unsupported fast path: " + fastPath);
+				}
+				result = result
+					.method(
+						ElementMatchers.named(method.getName())
+							.and(ElementMatchers.takesArguments(method.getParameterTypes()))
+					)
+					.intercept(implementation);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the dispatcher handler of passed proxy or throws exception if the object is not a proxy of this generator.
+	 */
+	@Nonnull
+	private static AbstractDispatcherInvocationHandler<?> getInvocationHandler(@Nonnull Object proxy) {
+		final Class<?> proxyClass = proxy.getClass();
+		final AbstractDispatcherInvocationHandler<?> invocationHandler;
+		try {
+			final Field handlerField = proxyClass.getDeclaredField(INVOCATION_HANDLER_FIELD);
+			handlerField.setAccessible(true);
+			invocationHandler = (AbstractDispatcherInvocationHandler<?>) handlerField.get(proxy);
+		} catch (NoSuchFieldException | IllegalAccessException e) {
+			throw new IllegalArgumentException("Object " + proxy + " is not a proxy created by " + GENERATOR_NAME + " generator!", e);
+		}
+		if (invocationHandler == null) {
+			throw new IllegalArgumentException("Proxy of " + proxyClass.getName() + " has no invocation handler!");
+		}
+		return invocationHandler;
+	}
+
+	/**
+	 * Classifies all methods of the proxy class if the recipe requests it. Classification is performed only once for
+	 * each dispatch table, so only the first proxy of the class pays for it.
+	 */
+	@Nonnull
+	private static <T extends AbstractDispatcherInvocationHandler<?>> T classifyEagerlyIfRequested(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Class<?> proxyClass, @Nonnull T invocationHandler) {
+		if (proxyRecipe.isEagerClassification()) {
+			invocationHandler.classifyEagerly(proxyClass, getProxyMethods(proxyClass));
+		}
+		return invocationHandler;
+	}
+
+	/**
+	 * Returns all intercepted methods of the proxy class indexed by their ordinals.
+	 */
+	@Nonnull
+	static Method[] getProxyMethods(@Nonnull Class<?> proxyClass) {
+		try {
+			final Field methodsField = proxyClass.getDeclaredField(PROXY_METHODS_FIELD);
+			methodsField.setAccessible(true);
+			return (Method[]) methodsField.get(null);
+		} catch (NoSuchFieldException e) {
+			// CLASS GENERATED IN DIRECT MODE
+			return DirectDispatchImplementation.getProxyMethods(proxyClass);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Cannot read methods of " + proxyClass.getName() + "!", e);
+		}
+	}
+
+	private static Implementation createDispatchImplementation(@Nonnull ByteBuddyDispatchMode dispatchMode, @Nonnull MethodOrdinalBinder ordinalBinder) {
+		switch (dispatchMode) {
+			case DIRECT:
+				// EACH METHOD LOADS ITS SLOT FROM STATIC ARRAY AND CALLS ARITY SPECIALIZED ENTRY POINT
+				return new DirectDispatchImplementation();
+			case METHOD_DELEGATION:
+				// EACH METHOD RECEIVES ITS ORDINAL AS CONSTANT SO THAT IT COULD BE DISPATCHED BY THE INDEX
+				return MethodDelegation.withDefaultConfiguration()
+					.withBinders(ordinalBinder)
+					.to(ByteBuddyDispatcherInvocationHandler.class);
+			default:
+				throw new IllegalStateException("Unsupported dispatch mode: " + dispatchMode);
+		}
+	}
+
 	private static <T> T instantiateProxy(Class<T> proxyClass, Object proxyState, DispatcherInvocationHandler invocationHandler, OnInstantiationCallback instantiationCallback) {
 		try {
 			final Constructor<T> constructor = getConstructor(proxyClass, new Class[] {ByteBuddyDispatcherInvocationHandler.class, OnInstantiationCallback.class, Object.class});
-			return constructor.newInstance(
+			final T proxy = constructor.newInstance(
 				invocationHandler,
-				instantiationCallback == null ? OnInstantiationCallback.DEFAULT : instantiationCallback,
+				getInstantiationCallback(instantiationCallback),
 				proxyState
 			);
+			reportInstantiation(proxyClass);
+			return proxy;
 		} catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
 			throw new ProxyInstantiationException("What the heck? Can't create proxy: " + e.getMessage(), e);
 		}
@@ -402,25 +932,51 @@ public class ByteBuddyProxyGenerator {
 				proxyClass,
 				ArrayUtils.mergeArrays(new Class<?>[] {ByteBuddyDispatcherInvocationHandler.class, OnInstantiationCallback.class, Object.class}, constructorTypes)
 			);
-			return constructor.newInstance(
+			final T proxy = constructor.newInstance(
 				ArrayUtils.mergeArrays(
 					new Object[] {
 						invocationHandler,
-						instantiationCallback == null ? OnInstantiationCallback.DEFAULT : instantiationCallback,
+						getInstantiationCallback(instantiationCallback),
 						proxyState
 					},
 					constructorArgs
 				)
 			);
+			reportInstantiation(proxyClass);
+			return proxy;
 		} catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
 			throw new ProxyInstantiationException("What the heck? Can't create proxy: " + e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * Returns passed callback monitored by the {@link ProxycianFlightRecorder} if it is enabled, or the default callback
+	 * if none is passed.
+	 */
+	@Nonnull
+	private static OnInstantiationCallback getInstantiationCallback(@Nullable OnInstantiationCallback instantiationCallback) {
+		if (instantiationCallback == null) {
+			return OnInstantiationCallback.DEFAULT;
+		}
+		return ProxycianFlightRecorder.isEnabled() ? ProxycianFlightRecorder.monitor(instantiationCallback) : instantiationCallback;
+	}
+
+	/**
+	 * Reports creation of the proxy to the {@link ProxycianMetricsListener} if there is any.
+	 */
+	private static void reportInstantiation(@Nonnull Class<?> proxyClass) {
+		final ProxycianMetricsListener listener = ProxycianMetrics.getListener();
+		if (listener != null) {
+			listener.proxyInstantiated(GENERATOR_NAME, proxyClass);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> Constructor<T> getDefaultConstructor(Class<T> clazz) {
 		// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
 		return (Constructor<T>) CACHED_PROXY_CONSTRUCTORS.computeIfAbsent(
+			// CONSTRUCTORS ARE ATTACHED TO THE PROXY CLASS
+			clazz,
 			// CACHE KEY
 			new ConstructorCacheKey(clazz),
 			// LAMBDA THAT FINDS OUT MISSING CONSTRUCTOR
@@ -445,6 +1001,8 @@ public class ByteBuddyProxyGenerator {
 	private static <T> Constructor<T> getConstructor(Class<T> clazz, Class<?>[] constructorArgs) {
 		// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
 		return (Constructor<T>) CACHED_PROXY_CONSTRUCTORS.computeIfAbsent(
+			// CONSTRUCTORS ARE ATTACHED TO THE PROXY CLASS
+			clazz,
 			// CACHE KEY
 			new ConstructorCacheKey(clazz, constructorArgs),
 			// LAMBDA THAT FINDS OUT MISSING CONSTRUCTOR
@@ -0,0 +1,292 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.scaffold.InstrumentedType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.MethodAccessorFactory.AccessType;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.Removal;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.Assigner.Typing;
+import net.bytebuddy.implementation.bytecode.collection.ArrayAccess;
+import net.bytebuddy.implementation.bytecode.collection.ArrayFactory;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator.INVOCATION_HANDLER_FIELD;
+
+/**
+ * Implementation used for proxy classes generated in {@link ByteBuddyDispatchMode#DIRECT} mode. Each intercepted
+ * method gets its own {@link MethodDispatchSlot} stored in the static array of the proxy class and its body is
+ * equivalent to:
+ *
+ * ```
+ * return (R) AbstractByteBuddyDispatcherInvocationHandler.dispatchN(SLOTS[ordinal], this, this.dispatcherInvocationHandler, arg0, ...);
+ * ```
+ *
+ * Methods returning `int`, `long`, `double` or `boolean` call primitive returning entry points instead, so that
+ * the value produced by primitive specialized handlers (see {@link one.edee.oss.proxycian.IntMethodInvocationHandler}
+ * and its siblings) is never boxed.
+ *
+ * New instance of the implementation must be used for each generated class.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class DirectDispatchImplementation implements Implementation {
+	public static final String DISPATCH_SLOTS_FIELD = "dispatchSlots";
+	private static final int MAX_SPECIALIZED_ARITY = 3;
+	private static final MethodDescription[] DISPATCH_METHODS;
+	private static final MethodDescription DISPATCH_N_METHOD;
+	/**
+	 * Entry points returning primitive value without boxing, first item is for methods without arguments, second for
+	 * methods with any arguments.
+	 */
+	private static final Map<Class<?>, MethodDescription[]> PRIMITIVE_DISPATCH_METHODS;
+
+	static {
+		try {
+			DISPATCH_METHODS = new MethodDescription[] {
+				new MethodDescription.ForLoadedMethod(
+					AbstractByteBuddyDispatcherInvocationHandler.class.getMethod("dispatch0", MethodDispatchSlot.class, Object.class, AbstractByteBuddyDispatcherInvocationHandler.class)
+				),
+				new MethodDescription.ForLoadedMethod(
+					AbstractByteBuddyDispatcherInvocationHandler.class.getMethod("dispatch1", MethodDispatchSlot.class, Object.class, AbstractByteBuddyDispatcherInvocationHandler.class, Object.class)
+				),
+				new MethodDescription.ForLoadedMethod(
+					AbstractByteBuddyDispatcherInvocationHandler.class.getMethod("dispatch2", MethodDispatchSlot.class, Object.class, AbstractByteBuddyDispatcherInvocationHandler.class, Object.class, Object.class)
+				),
+				new MethodDescription.ForLoadedMethod(
+					AbstractByteBuddyDispatcherInvocationHandler.class.getMethod("dispatch3", MethodDispatchSlot.class, Object.class, AbstractByteBuddyDispatcherInvocationHandler.class, Object.class, Object.class, Object.class)
+				)
+			};
+			DISPATCH_N_METHOD = new MethodDescription.ForLoadedMethod(
+				AbstractByteBuddyDispatcherInvocationHandler.class.getMethod("dispatchN", MethodDispatchSlot.class, Object.class, AbstractByteBuddyDispatcherInvocationHandler.class, Object[].class)
+			);
+			PRIMITIVE_DISPATCH_METHODS = new HashMap<>(8);
+			PRIMITIVE_DISPATCH_METHODS.put(int.class, getPrimitiveDispatchMethods("Int"));
+			PRIMITIVE_DISPATCH_METHODS.put(long.class, getPrimitiveDispatchMethods("Long"));
+			PRIMITIVE_DISPATCH_METHODS.put(double.class, getPrimitiveDispatchMethods("Double"));
+			PRIMITIVE_DISPATCH_METHODS.put(boolean.class, getPrimitiveDispatchMethods("Boolean"));
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Dispatch methods not found on AbstractByteBuddyDispatcherInvocationHandler!", e);
+		}
+	}
+
+	@Nonnull
+	private static MethodDescription[] getPrimitiveDispatchMethods(@Nonnull String typeName) throws NoSuchMethodException {
+		return new MethodDescription[] {
+			new MethodDescription.ForLoadedMethod(
+				AbstractByteBuddyDispatcherInvocationHandler.class.getMethod("dispatch" + typeName + "0", MethodDispatchSlot.class, Object.class, AbstractByteBuddyDispatcherInvocationHandler.class)
+			),
+			new MethodDescription.ForLoadedMethod(
+				AbstractByteBuddyDispatcherInvocationHandler.class.getMethod("dispatch" + typeName + "N", MethodDispatchSlot.class, Object.class, AbstractByteBuddyDispatcherInvocationHandler.class, Object[].class)
+			)
+		};
+	}
+
+	/**
+	 * Returns methods of all dispatch slots of the proxy class generated in {@link ByteBuddyDispatchMode#DIRECT} mode
+	 * indexed by their ordinals.
+	 */
+	@Nonnull
+	static Method[] getProxyMethods(@Nonnull Class<?> proxyClass) {
+		try {
+			final Field field = proxyClass.getDeclaredField(DISPATCH_SLOTS_FIELD);
+			field.setAccessible(true);
+			final MethodDispatchSlot[] dispatchSlots = (MethodDispatchSlot[]) field.get(null);
+			final Method[] methods = new Method[dispatchSlots.length];
+			for (MethodDispatchSlot dispatchSlot : dispatchSlots) {
+				methods[dispatchSlot.getOrdinal()] = dispatchSlot.getMethod();
+			}
+			return methods;
+		} catch (NoSuchFieldException | IllegalAccessException e) {
+			throw new IllegalStateException("Cannot read dispatch slots of " + proxyClass.getName() + "!", e);
+		}
+	}
+
+	/**
+	 * Slots of all intercepted methods in the order of their ordinals.
+	 */
+	private final List<MethodDispatchSlot> slots = new ArrayList<>(32);
+
+	@Nonnull
+	@Override
+	public InstrumentedType prepare(@Nonnull InstrumentedType instrumentedType) {
+		return instrumentedType
+			// DEFINE STATIC FIELD FOR THE SLOTS
+			.withField(
+				new FieldDescription.Token(
+					DISPATCH_SLOTS_FIELD,
+					Modifier.PRIVATE | Modifier.STATIC | Opcodes.ACC_SYNTHETIC,
+					TypeDescription.Generic.OfNonGenericType.ForLoadedType.of(MethodDispatchSlot[].class)
+				)
+			)
+			// AND FILL IT WHEN THE CLASS IS LOADED
+			.withInitializer(new DispatchSlotsInitializer(this.slots));
+	}
+
+	@Nonnull
+	@Override
+	public ByteCodeAppender appender(@Nonnull Target implementationTarget) {
+		return new DirectDispatchAppender(implementationTarget, this.slots);
+	}
+
+	/**
+	 * Appender generates body of the intercepted method.
+	 */
+	private static class DirectDispatchAppender implements ByteCodeAppender {
+		private final Target implementationTarget;
+		private final List<MethodDispatchSlot> slots;
+
+		DirectDispatchAppender(@Nonnull Target implementationTarget, @Nonnull List<MethodDispatchSlot> slots) {
+			this.implementationTarget = implementationTarget;
+			this.slots = slots;
+		}
+
+		@Nonnull
+		@Override
+		public Size apply(@Nonnull MethodVisitor methodVisitor, @Nonnull Context implementationContext, @Nonnull MethodDescription instrumentedMethod) {
+			final int ordinal = this.slots.size();
+			// REGISTER ACCESSOR FOR SUPER / DEFAULT METHOD IF THERE IS ANY
+			final SpecialMethodInvocation superMethodInvocation = this.implementationTarget.invokeDominant(instrumentedMethod.asSignatureToken());
+			final String superAccessorName = superMethodInvocation.isValid() ?
+				implementationContext.registerAccessorFor(superMethodInvocation, AccessType.PUBLIC).getName() : null;
+			final MethodDescription.InDefinedShape definedMethod = instrumentedMethod.asDefined();
+			this.slots.add(
+				new MethodDispatchSlot(
+					ordinal,
+					definedMethod instanceof MethodDescription.ForLoadedMethod ? ((MethodDescription.ForLoadedMethod) definedMethod).getLoadedMethod() : null,
+					instrumentedMethod.getInternalName(),
+					instrumentedMethod.getDescriptor(),
+					superAccessorName
+				)
+			);
+
+			final TypeDescription instrumentedType = implementationContext.getInstrumentedType();
+			final List<StackManipulation> arguments = new ArrayList<>(instrumentedMethod.getParameters().size());
+			for (ParameterDescription parameter : instrumentedMethod.getParameters()) {
+				arguments.add(
+					new StackManipulation.Compound(
+						MethodVariableAccess.load(parameter),
+						Assigner.DEFAULT.assign(parameter.getType(), TypeDescription.Generic.OBJECT, Typing.STATIC)
+					)
+				);
+			}
+
+			final StackManipulation dispatch = new StackManipulation.Compound(
+				// LOAD THE SLOT
+				FieldAccess.forField(instrumentedType.getDeclaredFields().filter(ElementMatchers.named(DISPATCH_SLOTS_FIELD)).getOnly()).read(),
+				IntegerConstant.forValue(ordinal),
+				ArrayAccess.REFERENCE.load(),
+				// LOAD THIS
+				MethodVariableAccess.loadThis(),
+				// LOAD INVOCATION HANDLER
+				MethodVariableAccess.loadThis(),
+				FieldAccess.forField(instrumentedType.getDeclaredFields().filter(ElementMatchers.named(INVOCATION_HANDLER_FIELD)).getOnly()).read(),
+				// LOAD ARGUMENTS, CALL THE ENTRY POINT AND RETURN THE RESULT
+				createInvocationAndReturn(instrumentedMethod, arguments)
+			);
+			if (!dispatch.isValid()) {
+				throw new IllegalStateException("Cannot generate direct dispatch for method " + instrumentedMethod + "!");
+			}
+			return new Size(dispatch.apply(methodVisitor, implementationContext).getMaximalSize(), instrumentedMethod.getStackSize());
+		}
+
+		/**
+		 * Creates call of the entry point that fits the arity and return type of the method and returns its result.
+		 * Methods returning `int`, `long`, `double` or `boolean` call entry points returning the primitive value
+		 * directly, so that the result is not boxed when the handler implements one of primitive specialized
+		 * handler interfaces.
+		 */
+		@Nonnull
+		private static StackManipulation createInvocationAndReturn(@Nonnull MethodDescription instrumentedMethod, @Nonnull List<StackManipulation> arguments) {
+			final TypeDescription.Generic returnType = instrumentedMethod.getReturnType();
+			for (Map.Entry<Class<?>, MethodDescription[]> entry : PRIMITIVE_DISPATCH_METHODS.entrySet()) {
+				if (!returnType.represents(entry.getKey())) {
+					continue;
+				}
+				final MethodDescription[] primitiveDispatchMethods = entry.getValue();
+				return new StackManipulation.Compound(
+					arguments.isEmpty() ?
+						MethodInvocation.invoke(primitiveDispatchMethods[0]) :
+						new StackManipulation.Compound(
+							ArrayFactory.forType(TypeDescription.Generic.OBJECT).withValues(arguments),
+							MethodInvocation.invoke(primitiveDispatchMethods[1])
+						),
+					MethodReturn.of(returnType)
+				);
+			}
+			return new StackManipulation.Compound(
+				// CALL ARITY SPECIALIZED ENTRY POINT
+				arguments.size() <= MAX_SPECIALIZED_ARITY ?
+					new StackManipulation.Compound(
+						new StackManipulation.Compound(arguments),
+						MethodInvocation.invoke(DISPATCH_METHODS[arguments.size()])
+					) :
+					new StackManipulation.Compound(
+						ArrayFactory.forType(TypeDescription.Generic.OBJECT).withValues(arguments),
+						MethodInvocation.invoke(DISPATCH_N_METHOD)
+					),
+				// AND RETURN THE RESULT
+				returnType.represents(void.class) ?
+					new StackManipulation.Compound(Removal.SINGLE, MethodReturn.VOID) :
+					new StackManipulation.Compound(
+						Assigner.DEFAULT.assign(TypeDescription.Generic.OBJECT, returnType, Typing.DYNAMIC),
+						MethodReturn.of(returnType)
+					)
+			);
+		}
+	}
+
+	/**
+	 * Initializer binds the slots to the loaded proxy class and stores them in its static field.
+	 */
+	private static class DispatchSlotsInitializer implements LoadedTypeInitializer {
+		private final List<MethodDispatchSlot> slots;
+
+		DispatchSlotsInitializer(@Nonnull List<MethodDispatchSlot> slots) {
+			this.slots = slots;
+		}
+
+		@Override
+		public void onLoad(@Nonnull Class<?> type) {
+			final MethodDispatchSlot[] dispatchSlots = this.slots.toArray(new MethodDispatchSlot[0]);
+			for (MethodDispatchSlot dispatchSlot : dispatchSlots) {
+				dispatchSlot.initialize(type);
+			}
+			try {
+				final Field field = type.getDeclaredField(DISPATCH_SLOTS_FIELD);
+				field.setAccessible(true);
+				field.set(null, dispatchSlots);
+			} catch (NoSuchFieldException | IllegalAccessException e) {
+				throw new IllegalStateException("Cannot initialize dispatch slots of " + type.getName() + "!", e);
+			}
+		}
+
+		@Override
+		public boolean isAlive() {
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,305 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Getter;
+import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+import one.edee.oss.proxycian.exception.InvalidSuperMethodCallException;
+import one.edee.oss.proxycian.util.ReflectionUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+/**
+ * Slot keeps all static information about single method of the proxy class generated in
+ * {@link ByteBuddyDispatchMode#DIRECT} mode. Slots are stored in static array of the proxy class and the generated
+ * method passes its slot to the entry point in {@link AbstractByteBuddyDispatcherInvocationHandler}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MethodDispatchSlot {
+	/**
+	 * Ordinal of the method in the proxy class - index to the {@link one.edee.oss.proxycian.cache.MethodDispatchTable}.
+	 */
+	@Getter private final int ordinal;
+	/**
+	 * Name of the method in the proxy class.
+	 */
+	private final String methodName;
+	/**
+	 * JVM descriptor of the method in the proxy class.
+	 */
+	private final String methodDescriptor;
+	/**
+	 * Name of the generated accessor method that invokes super / default method implementation or NULL if there is none.
+	 */
+	@Nullable private final String superAccessorName;
+	/**
+	 * Method as declared in the proxied class / interface.
+	 */
+	@Getter private Method method;
+	/**
+	 * Proxy class this slot belongs to.
+	 */
+	private Class<?> proxyClass;
+	/**
+	 * True if the method has super / default implementation that may be called.
+	 */
+	private boolean superMethodAvailable;
+	/**
+	 * Handle to the super method with type `(Object, Object[])Object`, resolved on the first super method call.
+	 */
+	private volatile MethodHandle superMethodHandle;
+
+	MethodDispatchSlot(int ordinal, @Nullable Method method, @Nonnull String methodName, @Nonnull String methodDescriptor, @Nullable String superAccessorName) {
+		this.ordinal = ordinal;
+		this.method = method;
+		this.methodName = methodName;
+		this.methodDescriptor = methodDescriptor;
+		this.superAccessorName = superAccessorName;
+	}
+
+	/**
+	 * Returns true if the method has super / default implementation that may be called.
+	 */
+	public boolean hasSuperMethod() {
+		return this.superMethodAvailable;
+	}
+
+	/**
+	 * Returns callable that invokes super / default method implementation without arguments or NULL if the method
+	 * has no super / default implementation - the same way as in {@link ByteBuddyDispatchMode#METHOD_DELEGATION} mode.
+	 */
+	@Nullable
+	public Callable<Object> createSuperCallable0(@Nonnull Object proxy) {
+		return hasSuperMethod() ? new SuperCall(this, proxy) : null;
+	}
+
+	/**
+	 * Returns callable that invokes super / default method implementation with passed argument. Arguments array is
+	 * created only when the super method is really called.
+	 */
+	@Nullable
+	public Callable<Object> createSuperCallable1(@Nonnull Object proxy, Object arg0) {
+		return hasSuperMethod() ? new SuperCall1(this, proxy, arg0) : null;
+	}
+
+	/**
+	 * Returns callable that invokes super / default method implementation with passed arguments. Arguments array is
+	 * created only when the super method is really called.
+	 */
+	@Nullable
+	public Callable<Object> createSuperCallable2(@Nonnull Object proxy, Object arg0, Object arg1) {
+		return hasSuperMethod() ? new SuperCall2(this, proxy, arg0, arg1) : null;
+	}
+
+	/**
+	 * Returns callable that invokes super / default method implementation with passed arguments. Arguments array is
+	 * created only when the super method is really called.
+	 */
+	@Nullable
+	public Callable<Object> createSuperCallable3(@Nonnull Object proxy, Object arg0, Object arg1, Object arg2) {
+		return hasSuperMethod() ? new SuperCall3(this, proxy, arg0, arg1, arg2) : null;
+	}
+
+	/**
+	 * Returns callable that invokes super / default method implementation with passed arguments.
+	 */
+	@Nullable
+	public Callable<Object> createSuperCallableN(@Nonnull Object proxy, @Nonnull Object[] args) {
+		return hasSuperMethod() ? new SuperCallN(this, proxy, args) : null;
+	}
+
+	/**
+	 * Invokes super / default method implementation with passed arguments. Exceptions thrown by the super method
+	 * are propagated as they are.
+	 */
+	public Object invokeSuper(@Nonnull Object proxy, @Nonnull Object[] args) throws Throwable {
+		if (!hasSuperMethod()) {
+			throw new UnsupportedOperationException("Calling super method is not allowed!");
+		}
+		MethodHandle theSuperMethodHandle = this.superMethodHandle;
+		if (theSuperMethodHandle == null) {
+			theSuperMethodHandle = resolveSuperMethodHandle();
+			this.superMethodHandle = theSuperMethodHandle;
+		}
+		return (Object) theSuperMethodHandle.invokeExact(proxy, args);
+	}
+
+	@Override
+	public String toString() {
+		return this.ordinal + ": " + (this.method == null ? this.methodName + this.methodDescriptor : this.method.toGenericString());
+	}
+
+	/**
+	 * Binds the slot to the loaded proxy class. Method is resolved from the proxy class if it was not available
+	 * at the moment of the class generation.
+	 */
+	void initialize(@Nonnull Class<?> proxyClass) {
+		this.proxyClass = proxyClass;
+		if (this.method == null) {
+			for (Method declaredMethod : proxyClass.getDeclaredMethods()) {
+				if (this.methodName.equals(declaredMethod.getName()) &&
+					this.methodDescriptor.equals(MethodType.methodType(declaredMethod.getReturnType(), declaredMethod.getParameterTypes()).toMethodDescriptorString())) {
+					this.method = declaredMethod;
+					break;
+				}
+			}
+			if (this.method == null) {
+				throw new IllegalStateException("Method " + this.methodName + this.methodDescriptor + " not found on " + proxyClass.getName() + "!");
+			}
+		}
+		this.superMethodAvailable = this.superAccessorName != null || this.method.isDefault();
+	}
+
+	@Nonnull
+	private MethodHandle resolveSuperMethodHandle() {
+		try {
+			final MethodHandle methodHandle;
+			if (this.superAccessorName == null) {
+				// DEFAULT METHOD THAT IS NOT ACCESSIBLE VIA ACCESSOR - EG. IN DIAMOND INHERITANCE
+				methodHandle = ReflectionUtils.findMethodHandle(this.method);
+			} else {
+				final Method accessor = findAccessor();
+				accessor.setAccessible(true);
+				methodHandle = MethodHandles.lookup().unreflect(accessor);
+			}
+			final int parameterCount = this.method.getParameterCount();
+			return methodHandle
+				.asType(MethodType.genericMethodType(parameterCount + 1))
+				.asSpreader(Object[].class, parameterCount);
+		} catch (IllegalAccessException | RuntimeException e) {
+			throw new InvalidSuperMethodCallException(e);
+		}
+	}
+
+	@Nonnull
+	private Method findAccessor() {
+		for (Method declaredMethod : this.proxyClass.getDeclaredMethods()) {
+			if (this.superAccessorName.equals(declaredMethod.getName())) {
+				return declaredMethod;
+			}
+		}
+		throw new IllegalStateException("Super method accessor " + this.superAccessorName + " not found on " + this.proxyClass.getName() + "!");
+	}
+
+	/**
+	 * Lazy token passed as `invokeSuper` callable to the invocation handler. The token keeps only the slot and
+	 * the objects already available at the moment of the call - it captures no lambda state and the arguments array is
+	 * created only when the handler really calls the token. The token doesn't escape the dispatch method of the handlers
+	 * that never call super method, so JIT can eliminate its allocation once the handler is inlined.
+	 */
+	private static class SuperCall implements Callable<Object> {
+		protected final MethodDispatchSlot slot;
+		protected final Object proxy;
+
+		SuperCall(@Nonnull MethodDispatchSlot slot, @Nonnull Object proxy) {
+			this.slot = slot;
+			this.proxy = proxy;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			try {
+				return this.slot.invokeSuper(this.proxy, getArgs());
+			} catch (Exception | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "super call of " + this.slot;
+		}
+
+		@Nonnull
+		protected Object[] getArgs() {
+			return CurriedMethodContextInvocationHandler.EMPTY_ARGS;
+		}
+	}
+
+	/**
+	 * Lazy token for methods with single argument.
+	 */
+	private static class SuperCall1 extends SuperCall {
+		private final Object arg0;
+
+		SuperCall1(@Nonnull MethodDispatchSlot slot, @Nonnull Object proxy, Object arg0) {
+			super(slot, proxy);
+			this.arg0 = arg0;
+		}
+
+		@Nonnull
+		@Override
+		protected Object[] getArgs() {
+			return new Object[] {this.arg0};
+		}
+	}
+
+	/**
+	 * Lazy token for methods with two arguments.
+	 */
+	private static class SuperCall2 extends SuperCall {
+		private final Object arg0;
+		private final Object arg1;
+
+		SuperCall2(@Nonnull MethodDispatchSlot slot, @Nonnull Object proxy, Object arg0, Object arg1) {
+			super(slot, proxy);
+			this.arg0 = arg0;
+			this.arg1 = arg1;
+		}
+
+		@Nonnull
+		@Override
+		protected Object[] getArgs() {
+			return new Object[] {this.arg0, this.arg1};
+		}
+	}
+
+	/**
+	 * Lazy token for methods with three arguments.
+	 */
+	private static class SuperCall3 extends SuperCall {
+		private final Object arg0;
+		private final Object arg1;
+		private final Object arg2;
+
+		SuperCall3(@Nonnull MethodDispatchSlot slot, @Nonnull Object proxy, Object arg0, Object arg1, Object arg2) {
+			super(slot, proxy);
+			this.arg0 = arg0;
+			this.arg1 = arg1;
+			this.arg2 = arg2;
+		}
+
+		@Nonnull
+		@Override
+		protected Object[] getArgs() {
+			return new Object[] {this.arg0, this.arg1, this.arg2};
+		}
+	}
+
+	/**
+	 * Lazy token for methods with the arguments array already created.
+	 */
+	private static class SuperCallN extends SuperCall {
+		private final Object[] args;
+
+		SuperCallN(@Nonnull MethodDispatchSlot slot, @Nonnull Object proxy, @Nonnull Object[] args) {
+			super(slot, proxy);
+			this.args = args;
+		}
+
+		@Nonnull
+		@Override
+		protected Object[] getArgs() {
+			return this.args;
+		}
+	}
+
+}
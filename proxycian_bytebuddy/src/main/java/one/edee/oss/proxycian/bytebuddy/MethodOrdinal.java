@@ -0,0 +1,20 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Parameter annotated by this annotation receives ordinal of the intercepted method within the proxy class. The ordinal
+ * is baked into the generated method body as a constant by {@link MethodOrdinalBinder} and is used as index to
+ * the {@link one.edee.oss.proxycian.cache.MethodDispatchTable}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface MethodOrdinal {
+}
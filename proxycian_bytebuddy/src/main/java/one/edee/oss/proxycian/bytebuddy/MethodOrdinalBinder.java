@@ -0,0 +1,210 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.annotation.AnnotationDescription.Loadable;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.field.FieldList;
+import net.bytebuddy.description.method.MethodList;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodDescription.SignatureToken;
+import net.bytebuddy.description.method.ParameterDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.LoadedTypeInitializer;
+import net.bytebuddy.implementation.Implementation.Target;
+import net.bytebuddy.implementation.bind.MethodDelegationBinder.ParameterBinding;
+import net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder.ParameterBinder;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.Assigner.Typing;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.pool.TypePool;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binder assigns consecutive ordinals to all methods intercepted in single generated proxy class and binds them
+ * to the parameters annotated with {@link MethodOrdinal} as integer constants. New instance of the binder must be
+ * used for each generated class.
+ *
+ * Binder also remembers the intercepted methods in the order of their ordinals and its
+ * {@link #createMethodsInitializer(String) initializer} stores them into the static field of the loaded proxy class,
+ * so that all methods of the class can be classified eagerly. Classes stored in the bytecode cache cannot rely on
+ * the initializer - their {@link #createMethodsDescriptor(String) descriptor} keeps the signatures of the methods in
+ * the constant field of the class, which is {@link #initializeMethods(Class, String, String) resolved} when the class
+ * is loaded again.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MethodOrdinalBinder implements ParameterBinder<MethodOrdinal> {
+	private final Map<SignatureToken, Integer> ordinals = new HashMap<>(32);
+	private final List<Method> methods = new ArrayList<>(32);
+	private boolean methodsDescribed;
+
+	@Override
+	public Class<MethodOrdinal> getHandledType() {
+		return MethodOrdinal.class;
+	}
+
+	@Override
+	public ParameterBinding<?> bind(Loadable<MethodOrdinal> annotation, MethodDescription source, ParameterDescription target, Target implementationTarget, Assigner assigner, Typing typing) {
+		if (!target.getType().represents(int.class)) {
+			throw new IllegalStateException("Parameter annotated with @MethodOrdinal must be of type int: " + target);
+		}
+		final int ordinal = this.ordinals.computeIfAbsent(
+			source.asSignatureToken(),
+			signatureToken -> {
+				// THE SAME METHOD IS PASSED TO THE HANDLER AS @Origin, UNKNOWN METHODS ARE CLASSIFIED LAZILY
+				final MethodDescription.InDefinedShape definedMethod = source.asDefined();
+				this.methods.add(
+					definedMethod instanceof MethodDescription.ForLoadedMethod ?
+						((MethodDescription.ForLoadedMethod) definedMethod).getLoadedMethod() : null
+				);
+				return this.ordinals.size();
+			}
+		);
+		return new ParameterBinding.Anonymous(IntegerConstant.forValue(ordinal));
+	}
+
+	/**
+	 * Creates initializer that stores all intercepted methods indexed by their ordinals into the static field
+	 * of the loaded proxy class.
+	 */
+	@Nonnull
+	public LoadedTypeInitializer createMethodsInitializer(@Nonnull String fieldName) {
+		return new MethodsInitializer(this.methods, fieldName);
+	}
+
+	/**
+	 * Creates visitor wrapper that stores signatures of all intercepted methods indexed by their ordinals into
+	 * the constant static field of the generated proxy class.
+	 */
+	@Nonnull
+	public AsmVisitorWrapper createMethodsDescriptor(@Nonnull String fieldName) {
+		return new MethodsDescriptor(fieldName);
+	}
+
+	/**
+	 * Returns true if the signatures of the intercepted methods were stored into the generated proxy class.
+	 */
+	public boolean isMethodsDescribed() {
+		return this.methodsDescribed;
+	}
+
+	/**
+	 * Resolves the methods described in the constant field of the passed proxy class and stores them indexed by their
+	 * ordinals into its static field.
+	 */
+	public static void initializeMethods(@Nonnull Class<?> proxyClass, @Nonnull String fieldName, @Nonnull String descriptorFieldName) {
+		try {
+			final Field descriptorField = proxyClass.getDeclaredField(descriptorFieldName);
+			descriptorField.setAccessible(true);
+			final String description = (String) descriptorField.get(null);
+			final List<Method> methods = new ArrayList<>(32);
+			if (!description.isEmpty()) {
+				for (String signature : description.split("\n", -1)) {
+					methods.add(signature.isEmpty() ? null : resolveMethod(proxyClass, signature));
+				}
+			}
+			new MethodsInitializer(methods, fieldName).onLoad(proxyClass);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Cannot initialize methods of " + proxyClass.getName() + "!", e);
+		}
+	}
+
+	@Nonnull
+	private static String describeMethod(@Nonnull Method method) {
+		return method.getDeclaringClass().getName() + " " + method.getName() + " " + Type.getMethodDescriptor(method);
+	}
+
+	@Nonnull
+	private static Method resolveMethod(@Nonnull Class<?> proxyClass, @Nonnull String signature) throws ClassNotFoundException, NoSuchMethodException {
+		final String[] parts = signature.split(" ");
+		final Class<?> declaringClass = Class.forName(parts[0], false, proxyClass.getClassLoader());
+		for (Method method : declaringClass.getDeclaredMethods()) {
+			if (method.getName().equals(parts[1]) && Type.getMethodDescriptor(method).equals(parts[2])) {
+				return method;
+			}
+		}
+		throw new NoSuchMethodException("Method `" + signature + "` no longer exists!");
+	}
+
+	/**
+	 * Descriptor writes the constant field at the very end of the class - all methods are already bound at that time.
+	 */
+	private class MethodsDescriptor extends AsmVisitorWrapper.AbstractBase {
+		// CONSTANT POOL LIMITS LENGTH OF THE STRING
+		private static final int MAX_LENGTH = 65_535 / 3;
+		private final String fieldName;
+
+		MethodsDescriptor(@Nonnull String fieldName) {
+			this.fieldName = fieldName;
+		}
+
+		@Override
+		public ClassVisitor wrap(TypeDescription instrumentedType, ClassVisitor classVisitor, Implementation.Context implementationContext, TypePool typePool, FieldList<FieldDescription.InDefinedShape> fields, MethodList<?> methods, int writerFlags, int readerFlags) {
+			return new ClassVisitor(Opcodes.ASM9, classVisitor) {
+				@Override
+				public void visitEnd() {
+					final StringBuilder description = new StringBuilder(MethodOrdinalBinder.this.methods.size() * 64);
+					for (int i = 0; i < MethodOrdinalBinder.this.methods.size(); i++) {
+						final Method method = MethodOrdinalBinder.this.methods.get(i);
+						if (i > 0) {
+							description.append('\n');
+						}
+						if (method != null) {
+							description.append(describeMethod(method));
+						}
+					}
+					if (description.length() <= MAX_LENGTH) {
+						super.visitField(
+							Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL, MethodsDescriptor.this.fieldName,
+							Type.getDescriptor(String.class), null, description.toString()
+						).visitEnd();
+						MethodOrdinalBinder.this.methodsDescribed = true;
+					}
+					super.visitEnd();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Initializer stores the intercepted methods to the static field of the loaded proxy class.
+	 */
+	private static class MethodsInitializer implements LoadedTypeInitializer {
+		private final List<Method> methods;
+		private final String fieldName;
+
+		MethodsInitializer(@Nonnull List<Method> methods, @Nonnull String fieldName) {
+			this.methods = methods;
+			this.fieldName = fieldName;
+		}
+
+		@Override
+		public void onLoad(@Nonnull Class<?> type) {
+			try {
+				final Field field = type.getDeclaredField(this.fieldName);
+				field.setAccessible(true);
+				field.set(null, this.methods.toArray(new Method[0]));
+			} catch (NoSuchFieldException | IllegalAccessException e) {
+				throw new IllegalStateException("Cannot initialize methods of " + type.getName() + "!", e);
+			}
+		}
+
+		@Override
+		public boolean isAlive() {
+			return true;
+		}
+	}
+
+}
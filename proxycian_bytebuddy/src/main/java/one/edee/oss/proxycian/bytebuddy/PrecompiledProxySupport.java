@@ -0,0 +1,97 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.recipe.PrecompiledProxy;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.SerializableProxy;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+
+/**
+ * Runtime counterpart of the classes generated by the `proxycian_apt` annotation processor for types annotated with
+ * {@link PrecompiledProxy}. The generator uses it to find the precompiled class for the requested contract and
+ * the precompiled classes use it to resolve their methods and to rethrow exceptions of the invocation handler.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class PrecompiledProxySupport {
+
+	private PrecompiledProxySupport() {
+	}
+
+	/**
+	 * Returns class precompiled for the passed contract or NULL if the contract consists of other types than single
+	 * {@link PrecompiledProxy} annotated type (optionally accompanied by {@link SerializableProxy}) or the class was
+	 * not generated or is not visible to the passed class loader.
+	 */
+	@Nullable
+	public static Class<?> findPrecompiledClass(@Nonnull Class<?>[] interfaces, @Nonnull ClassLoader classLoader) {
+		final Class<?> contract;
+		final String suffix;
+		if (interfaces.length == 1) {
+			contract = interfaces[0];
+			suffix = PrecompiledProxy.CLASS_NAME_SUFFIX;
+		} else if (interfaces.length == 2 && interfaces[0] == SerializableProxy.class) {
+			// INTERFACE CONTRACT - SEE ProxyRecipe#getInterfacesWith
+			contract = interfaces[1];
+			suffix = PrecompiledProxy.SERIALIZABLE_CLASS_NAME_SUFFIX;
+		} else if (interfaces.length == 2 && interfaces[1] == SerializableProxy.class && !interfaces[0].isInterface()) {
+			// ABSTRACT CLASS CONTRACT IS ALWAYS FIRST
+			contract = interfaces[0];
+			suffix = PrecompiledProxy.SERIALIZABLE_CLASS_NAME_SUFFIX;
+		} else {
+			return null;
+		}
+		if (contract.getClassLoader() == null || contract == SerializableProxy.class) {
+			// JDK CLASSES ARE NEVER PRECOMPILED
+			return null;
+		}
+		final String className = contract.getName() + suffix;
+		// MOST CONTRACTS ARE NOT PRECOMPILED - AVOID THROWING CLASS NOT FOUND EXCEPTION ON EACH LOOKUP
+		if (classLoader.getResource(className.replace('.', '/') + ".class") == null) {
+			return null;
+		}
+		try {
+			final Class<?> precompiledClass = Class.forName(className, true, classLoader);
+			if (contract.isAssignableFrom(precompiledClass) && ProxyStateAccessor.class.isAssignableFrom(precompiledClass)) {
+				return precompiledClass;
+			} else {
+				throw new IllegalStateException(
+					"Class `" + precompiledClass.getName() + "` is not a precompiled proxy of `" + contract.getName() + "`!"
+				);
+			}
+		} catch (ClassNotFoundException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns method declared on the passed type. Used by static initializers of the precompiled classes.
+	 */
+	@Nonnull
+	public static Method findMethod(@Nonnull Class<?> type, @Nonnull String name, @Nonnull Class<?>... parameterTypes) {
+		try {
+			return type.getDeclaredMethod(name, parameterTypes);
+		} catch (NoSuchMethodException ex) {
+			throw new IllegalStateException(
+				"Method `" + name + "` not found on `" + type.getName() + "` - the precompiled proxy is out of date!", ex
+			);
+		}
+	}
+
+	/**
+	 * Rethrows passed exception without wrapping it. Precompiled methods propagate any exception of the invocation
+	 * handler in the same way as the byte-code generated at runtime, which is not checked by the compiler.
+	 */
+	@Nonnull
+	public static RuntimeException rethrow(@Nonnull Throwable exception) {
+		throw PrecompiledProxySupport.<RuntimeException>throwUnchecked(exception);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends Throwable> E throwUnchecked(@Nonnull Throwable exception) throws E {
+		throw (E) exception;
+	}
+
+}
@@ -13,4 +13,12 @@ public class StrategyProvider {
     public ClassLoadingStrategy<ClassLoader> getStrategy(Class<?> targetClass) {
         return ClassLoadingStrategy.Default.INJECTION;
     }
+
+    /**
+     * Returns strategy that defines each class in its own child class loader so that the class could be unloaded
+     * when it's no longer used - see {@link ByteBuddyClassDefinitionMode#UNLOADABLE}.
+     */
+    public ClassLoadingStrategy<ClassLoader> getUnloadableStrategy(Class<?> targetClass) {
+        return ClassLoadingStrategy.Default.WRAPPER;
+    }
 }
@@ -0,0 +1,79 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+/**
+ * Lazy token passed as `invokeSuper` callable to the invocation handlers of proxies generated in
+ * {@link ByteBuddyDispatchMode#METHOD_DELEGATION} mode. The token only keeps references to the objects already
+ * available at the moment of the interception - the handle to the super / default method implementation is resolved
+ * (and cached) only when the handler really calls the token. Handlers that never delegate to the super method
+ * therefore pay nothing for it.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class SuperMethodCall implements Callable<Object> {
+	/**
+	 * Reference to the proxy instance.
+	 */
+	private final Object proxy;
+	/**
+	 * Intercepted method as declared in the proxied class / interface.
+	 */
+	private final Method method;
+	/**
+	 * Accessor method generated by ByteBuddy that invokes super / default method implementation or NULL if
+	 * the default method is not accessible via accessor (eg. in diamond inheritance) and needs to be looked up directly.
+	 */
+	@Nullable private final Method superMethod;
+	/**
+	 * Lookup of the proxy class used to resolve the default method that is not accessible via accessor or NULL if
+	 * the default method is resolved otherwise.
+	 */
+	@Nullable private final MethodHandles.Lookup lookup;
+	/**
+	 * Arguments of the intercepted method call.
+	 */
+	private final Object[] args;
+
+	public SuperMethodCall(@Nonnull Object proxy, @Nonnull Method method, @Nullable Method superMethod, @Nullable MethodHandles.Lookup lookup, @Nonnull Object[] args) {
+		this.proxy = proxy;
+		this.method = method;
+		this.superMethod = superMethod;
+		this.lookup = lookup;
+		this.args = args;
+	}
+
+	@Override
+	public Object call() throws Exception {
+		final Method cachedMethod = this.superMethod == null ? this.method : this.superMethod;
+		// THE FACTORY IS CREATED ONLY WHEN THE HANDLE IS MISSING - THE CALL OF ALREADY CACHED HANDLE ALLOCATES NOTHING
+		final MethodHandle cachedHandle = ByteBuddyProxyGenerator.SUPER_METHOD_CACHE.getIfPresent(
+			cachedMethod.getDeclaringClass(), cachedMethod
+		);
+		final MethodHandle methodHandle = cachedHandle == null ?
+			ByteBuddyProxyGenerator.SUPER_METHOD_CACHE.computeIfAbsent(
+				cachedMethod.getDeclaringClass(),
+				cachedMethod,
+				theMethod -> ByteBuddyDispatcherInvocationHandler.createSuperMethodHandle(theMethod, this.lookup)
+			) : cachedHandle;
+		try {
+			return (Object) methodHandle.invokeExact(this.proxy, this.args);
+		} catch (Exception | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvocationTargetException(e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "super call of " + this.method.toGenericString();
+	}
+
+}
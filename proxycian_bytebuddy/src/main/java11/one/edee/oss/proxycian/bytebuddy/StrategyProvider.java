@@ -17,4 +17,13 @@ public class StrategyProvider {
         MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(contextClass, MethodHandles.lookup());
         return ClassLoadingStrategy.UsingLookup.of(lookup);
     }
+
+    /**
+     * Returns strategy that defines each class in its own child class loader so that the class could be unloaded
+     * when it's no longer used - see {@link ByteBuddyClassDefinitionMode#UNLOADABLE}. Hidden classes are not
+     * available on JDK11.
+     */
+    public ClassLoadingStrategy<ClassLoader> getUnloadableStrategy(Class<?> contextClass) {
+        return ClassLoadingStrategy.Default.WRAPPER;
+    }
 }
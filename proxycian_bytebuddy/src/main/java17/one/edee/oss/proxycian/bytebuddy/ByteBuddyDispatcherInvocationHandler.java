@@ -4,15 +4,20 @@ package one.edee.oss.proxycian.bytebuddy;
 import net.bytebuddy.implementation.bind.annotation.*;
 import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
 import one.edee.oss.proxycian.MethodClassification;
-import one.edee.oss.proxycian.cache.ClassMethodCacheKey;
+import one.edee.oss.proxycian.MethodClassificationIndex;
+import one.edee.oss.proxycian.exception.InvalidSuperMethodCallException;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
 import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
 import static one.edee.oss.proxycian.bytebuddy.ByteBuddyProxyGenerator.INVOCATION_HANDLER_FIELD;
@@ -23,27 +28,67 @@ public class ByteBuddyDispatcherInvocationHandler<T> extends AbstractByteBuddyDi
 		super(proxyState, methodClassifications);
 	}
 
-	private ByteBuddyDispatcherInvocationHandler(T proxyState, Collection<MethodClassification<?, ?>> methodClassifications) {
-		super(proxyState, methodClassifications);
+	public ByteBuddyDispatcherInvocationHandler(T proxyState, MethodClassificationIndex methodClassificationIndex, MethodClassification<?, ?>... additionalMethodClassifications) {
+		super(proxyState, methodClassificationIndex, additionalMethodClassifications);
+	}
+
+	private ByteBuddyDispatcherInvocationHandler(T proxyState, ByteBuddyDispatcherInvocationHandler<T> originalDispatcher) {
+		super(proxyState, originalDispatcher);
 	}
 
 	/**
-	 * This method gets bound and invoked by the ByteBuddy.
+	 * This method gets bound and invoked by the ByteBuddy. Super and default methods are bound as references to
+	 * the accessor methods cached in the proxy class, so that no callable needs to be created unless there is some
+	 * super method to call.
 	 */
 	@RuntimeType
 	public static Object interceptMethodCall(
 		@This Object proxy,
 		@Origin Method method,
 		@Origin MethodHandles.Lookup lookup,
+		@MethodOrdinal int methodOrdinal,
 		@FieldValue(INVOCATION_HANDLER_FIELD) ByteBuddyDispatcherInvocationHandler<?> handler,
-		@SuperCall(nullIfImpossible = true, serializableProxy = true, fallbackToDefault = false) Callable<Object> superMethod,
-		@DefaultCall(nullIfImpossible = true, serializableProxy = true) Callable<Object> defaultMethod,
+		@SuperMethod(nullIfImpossible = true, fallbackToDefault = false) Method superMethod,
+		@DefaultMethod(nullIfImpossible = true) Method defaultMethod,
 		@AllArguments Object[] args
 	) throws Throwable {
 		if (handler == null) {
-			return superMethod.call();
+			return new SuperMethodCall(proxy, method, superMethod, lookup, args).call();
 		} else {
-			return handler.interceptMethodCall(proxy, method, lookup, superMethod, defaultMethod, args);
+			return handler.interceptMethodCall(proxy, method, lookup, methodOrdinal, superMethod, defaultMethod, args);
+		}
+	}
+
+	/**
+	 * Creates handle to the super / default method implementation with type `(Object, Object[])Object`. Passed method
+	 * is either the accessor generated by ByteBuddy in the proxy class, or the default method declared on
+	 * the interface that is not accessible via accessor - this one is resolved via passed lookup of the proxy class.
+	 * See {@link SuperMethodCall}.
+	 */
+	@Nonnull
+	static MethodHandle createSuperMethodHandle(@Nonnull Method method, @Nullable MethodHandles.Lookup lookup) {
+		try {
+			final MethodHandle methodHandle;
+			if (method.getDeclaringClass().isInterface()) {
+				// DEFAULT METHOD THAT IS NOT ACCESSIBLE VIA ACCESSOR - EG. IN DIAMOND INHERITANCE
+				// LOOKUP OF THE PROXY CLASS IS USED, SO THAT THE PACKAGE OF THE INTERFACE DOESN'T NEED TO BE OPEN TO US
+				methodHandle = MethodHandles.privateLookupIn(method.getDeclaringClass(), Objects.requireNonNull(lookup))
+					.findSpecial(
+						method.getDeclaringClass(),
+						method.getName(),
+						MethodType.methodType(method.getReturnType(), method.getParameterTypes()),
+						method.getDeclaringClass()
+					);
+			} else {
+				method.setAccessible(true);
+				methodHandle = MethodHandles.lookup().unreflect(method);
+			}
+			final int parameterCount = method.getParameterCount();
+			return methodHandle
+				.asType(MethodType.genericMethodType(parameterCount + 1))
+				.asSpreader(Object[].class, parameterCount);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			throw new InvalidSuperMethodCallException(e);
 		}
 	}
 
@@ -51,49 +96,43 @@ public class ByteBuddyDispatcherInvocationHandler<T> extends AbstractByteBuddyDi
 		Object proxy,
 		Method method,
 		MethodHandles.Lookup lookup,
-		Callable<Object> superMethod,
-		Callable<Object> defaultMethod,
+		int methodOrdinal,
+		Method superMethod,
+		Method defaultMethod,
 		Object[] args
 	) throws Throwable {
 		try {
-			final ClassMethodCacheKey cacheKey = this.createCacheKey(proxy.getClass(), proxyState, method);
-
+			// SUPER CALLABLE IS JUST A LAZY TOKEN - THE SUPER METHOD IS RESOLVED ONLY WHEN THE HANDLER CALLS IT
 			final Callable<Object> superCallable;
 			if (method.isDefault()) {
-				if (defaultMethod == null) {
-					superCallable = () -> {
-						try {
-							return MethodHandles.privateLookupIn(method.getDeclaringClass(), lookup)
-								.findSpecial(
-									method.getDeclaringClass(),
-									method.getName(),
-									MethodType.methodType(method.getReturnType(), method.getParameterTypes()),
-									method.getDeclaringClass()
-								)
-								.bindTo(proxy)
-								.invokeWithArguments(args);
-						} catch (Throwable e) {
-							throw new InvocationTargetException(e);
-						}
-					};
-				} else {
-					superCallable = defaultMethod;
-				}
+				superCallable = new SuperMethodCall(proxy, method, defaultMethod, lookup, args);
+			} else if (superMethod != null) {
+				superCallable = new SuperMethodCall(proxy, method, superMethod, null, args);
 			} else {
-				superCallable = superMethod;
+				superCallable = null;
 			}
 
-			// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING OR INVALID -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
-			@SuppressWarnings("rawtypes") CurriedMethodContextInvocationHandler invocationHandler = ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.get(cacheKey);
-			if (invocationHandler == null) {
-				invocationHandler = this.getCurriedMethodContextInvocationHandler(method);
-				ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.put(cacheKey, invocationHandler);
-			}
-			// INVOKE CURRIED LAMBDA
-			//noinspection unchecked
-			return invocationHandler.invoke(
-				proxy, method, args, proxyState, superCallable
+			// GET HANDLER FROM THE DISPATCH TABLE BY METHOD ORDINAL, IF MISSING -> CLASSIFY AND STORE IT
+			@SuppressWarnings("rawtypes") final CurriedMethodContextInvocationHandler invocationHandler = this.getCurriedMethodContextInvocationHandler(
+				proxy.getClass(), methodOrdinal, method
 			);
+			final InvocationTrace trace = ByteBuddyProxyGenerator.INVOCATION_TRACE;
+			if (trace == null) {
+				// INVOKE CURRIED LAMBDA
+				//noinspection unchecked
+				return invocationHandler.invoke(
+					proxy, method, args, proxyState, superCallable
+				);
+			}
+			final long start = System.nanoTime();
+			try {
+				//noinspection unchecked
+				return invocationHandler.invoke(
+					proxy, method, args, proxyState, superCallable
+				);
+			} finally {
+				trace.record(proxy.getClass(), method, methodOrdinal, invocationHandler, System.nanoTime() - start);
+			}
 		} catch (InvocationTargetException ex) {
 			throw ex.getTargetException();
 		}
@@ -102,10 +141,7 @@ public class ByteBuddyDispatcherInvocationHandler<T> extends AbstractByteBuddyDi
 	@Override
 	protected ProxyStateAccessor makeClone(ByteBuddyDispatcherInvocationHandler<T> originalDispatcher, T clonedState, List<Class<?>> interfaces) {
 		return ByteBuddyProxyGenerator.instantiate(
-				new ByteBuddyDispatcherInvocationHandler<>(
-						clonedState,
-						originalDispatcher.methodClassifications
-				),
+				new ByteBuddyDispatcherInvocationHandler<>(clonedState, originalDispatcher),
 				interfaces.toArray(EMPTY_CLASS_ARRAY)
 		);
 	}
@@ -1,9 +1,13 @@
 package one.edee.oss.proxycian.bytebuddy;
 
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * ClassLoadingStrategy is va MethodHandles::lookup with fallback as JVM is running on JDK17, this is a behaviour called via MultiReleaseBuild. Other strategies are evaluated when running JDK8 / JDK11 with MultiRelease Build
@@ -17,4 +21,43 @@ public class StrategyProvider {
         MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(contextClass, MethodHandles.lookup());
         return ClassLoadingStrategy.UsingLookup.of(lookup);
     }
+
+    /**
+     * Returns strategy that defines the class as hidden class in the package of the context class so that the class
+     * could be unloaded when it's no longer used - see {@link ByteBuddyClassDefinitionMode#UNLOADABLE}. When
+     * the hidden class can't be defined via lookup of the context class, the class gets its own child class loader.
+     */
+    public ClassLoadingStrategy<ClassLoader> getUnloadableStrategy(Class<?> contextClass) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(contextClass, MethodHandles.lookup());
+            if (lookup.hasFullPrivilegeAccess()) {
+                return new HiddenClassLoadingStrategy(lookup);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            // CONTEXT CLASS IS NOT OPEN TO US - FALL BACK TO THE CHILD CLASS LOADER
+        }
+        return ClassLoadingStrategy.Default.WRAPPER;
+    }
+
+    /**
+     * Strategy defines the single proxy class as the hidden class. Hidden classes can't refer to each other by name,
+     * so when ByteBuddy produces also auxiliary types, all of them are defined in the child class loader instead.
+     */
+    @RequiredArgsConstructor
+    private static class HiddenClassLoadingStrategy implements ClassLoadingStrategy<ClassLoader> {
+        private final MethodHandles.Lookup lookup;
+
+        @Override
+        public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+            if (types.size() != 1) {
+                return ClassLoadingStrategy.Default.WRAPPER.load(classLoader, types);
+            }
+            final Entry<TypeDescription, byte[]> type = types.entrySet().iterator().next();
+            try {
+                return Map.of(type.getKey(), lookup.defineHiddenClass(type.getValue(), false).lookupClass());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot define hidden class " + type.getKey().getName() + "!", e);
+            }
+        }
+    }
 }
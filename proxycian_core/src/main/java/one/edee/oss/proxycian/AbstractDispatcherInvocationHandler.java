@@ -1,13 +1,22 @@
 package one.edee.oss.proxycian;
 
 import lombok.RequiredArgsConstructor;
-import one.edee.oss.proxycian.cache.ClassMethodCacheKey;
+import one.edee.oss.proxycian.cache.DispatchTableCache;
+import one.edee.oss.proxycian.cache.DispatchTableCacheKey;
+import one.edee.oss.proxycian.cache.MethodDispatchTable;
+import one.edee.oss.proxycian.exception.MissingMethodImplementationException;
+import one.edee.oss.proxycian.metrics.ProxycianFlightRecorder;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.metrics.ProxycianMetricsListener;
 import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 import one.edee.oss.proxycian.trait.StandardJavaMethods;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -22,13 +31,31 @@ public abstract class AbstractDispatcherInvocationHandler<T> implements Dispatch
 	protected final Object[] cacheKey;
 	/* ordered list of method classifications - ie atomic features of the proxy */
 	protected final List<MethodClassification<?, ?>> methodClassifications = new LinkedList<>();
+	/* dispatch table shared by all proxies of the same class and cache keys, resolved on first method call */
+	private volatile MethodDispatchTable dispatchTable;
+	/* index of the developer classifications narrowing the candidates for classified method, usually shared by the recipe */
+	private final MethodClassificationIndex methodClassificationIndex;
+	/* position of the first classification of the methodClassificationIndex in the methodClassifications list */
+	private final int methodClassificationIndexOffset;
 
     protected AbstractDispatcherInvocationHandler(T proxyState, MethodClassification<?, ?>... methodClassifications) {
+		this(proxyState, new MethodClassificationIndex(Arrays.asList(methodClassifications)));
+    }
+
+	/**
+	 * Creates handler with classifications of passed index, which is usually shared by all handlers created from
+	 * the same {@link one.edee.oss.proxycian.recipe.ProxyRecipe}. Additional classifications are tested right after
+	 * the indexed ones.
+	 */
+	protected AbstractDispatcherInvocationHandler(T proxyState, MethodClassificationIndex methodClassificationIndex, MethodClassification<?, ?>... additionalMethodClassifications) {
 		this.proxyState = proxyState;
 	    // first add infrastructural ProxyStateAccessor handling
 	    this.methodClassifications.add(ProxyStateAccessor.getProxyStateMethodInvoker());
 	    // then add all method classifications developer wants
-	    Collections.addAll(this.methodClassifications, methodClassifications);
+		this.methodClassificationIndex = methodClassificationIndex;
+		this.methodClassificationIndexOffset = this.methodClassifications.size();
+	    Collections.addAll(this.methodClassifications, methodClassificationIndex.getMethodClassifications());
+	    Collections.addAll(this.methodClassifications, additionalMethodClassifications);
 		// then add all standard Java Object features
 		this.methodClassifications.add(StandardJavaMethods.hashCodeMethodInvoker());
 		this.methodClassifications.add(StandardJavaMethods.equalsMethodInvoker());
@@ -44,11 +71,13 @@ public abstract class AbstractDispatcherInvocationHandler<T> implements Dispatch
 		    .map(it -> ((CacheKeyProvider)it).getCacheKey())
 		    .filter(Objects::nonNull)
 		    .toArray(Object[]::new);
-    }
+	}
 
 	protected AbstractDispatcherInvocationHandler(T proxyState, Collection<MethodClassification<?, ?>> methodClassifications) {
 		this.proxyState = proxyState;
 		this.methodClassifications.addAll(methodClassifications);
+		this.methodClassificationIndex = new MethodClassificationIndex(methodClassifications);
+		this.methodClassificationIndexOffset = 0;
 		// now compute the cache key
 		this.cacheKey = this.methodClassifications
 			.stream()
@@ -58,12 +87,183 @@ public abstract class AbstractDispatcherInvocationHandler<T> implements Dispatch
 			.toArray(Object[]::new);
 	}
 
+	/**
+	 * Creates handler of the cloned proxy state that shares the classifications, their index and the cache key with
+	 * the original handler.
+	 */
+	protected AbstractDispatcherInvocationHandler(T proxyState, AbstractDispatcherInvocationHandler<T> originalDispatcher) {
+		this.proxyState = proxyState;
+		this.methodClassifications.addAll(originalDispatcher.methodClassifications);
+		this.methodClassificationIndex = originalDispatcher.methodClassificationIndex;
+		this.methodClassificationIndexOffset = originalDispatcher.methodClassificationIndexOffset;
+		this.cacheKey = originalDispatcher.cacheKey;
+	}
+
 	protected abstract void addImplementationSpecificInvokers(List<MethodClassification<?, ?>> methodClassifications);
 
+	/**
+	 * Returns the generator wide cache of {@link MethodDispatchTable dispatch tables} the handler should resolve its
+	 * dispatch table from.
+	 */
+	protected abstract DispatchTableCache getClassificationCache();
+
+	/**
+	 * Returns curried invocation handler for the method with passed ordinal. The handler is looked up in the dispatch
+	 * table of the proxy class and only when the method is called for the first time, it gets classified by
+	 * {@link #getCurriedMethodContextInvocationHandler(Class, Method)} and stored into the table.
+	 *
+	 * @param proxyClass    class of the proxy the method was called on
+	 * @param methodOrdinal ordinal of the method assigned in the proxy class
+	 * @param method        method that was called
+	 */
 	@SuppressWarnings("unchecked")
-	protected <U> CurriedMethodContextInvocationHandler<U, T> getCurriedMethodContextInvocationHandler(Method method) {
+	protected <U> CurriedMethodContextInvocationHandler<U, T> getCurriedMethodContextInvocationHandler(@Nonnull Class<?> proxyClass, int methodOrdinal, @Nonnull Method method) {
+		final MethodDispatchTable theDispatchTable = getDispatchTable(proxyClass);
+		final CurriedMethodContextInvocationHandler<?, ?> invocationHandler = theDispatchTable.get(methodOrdinal);
+		if (invocationHandler == null) {
+			return (CurriedMethodContextInvocationHandler<U, T>) theDispatchTable.computeIfAbsent(
+				methodOrdinal, () -> getCurriedMethodContextInvocationHandler(proxyClass, method)
+			);
+		} else {
+			return (CurriedMethodContextInvocationHandler<U, T>) invocationHandler;
+		}
+	}
+
+	/**
+	 * Returns dispatch table for passed proxy class. The table is resolved from the {@link #getClassificationCache()}
+	 * on the first call and then kept in this handler (unless the handler is shared among proxies of different classes).
+	 */
+	@Nonnull
+	protected MethodDispatchTable getDispatchTable(@Nonnull Class<?> proxyClass) {
+		MethodDispatchTable theDispatchTable = this.dispatchTable;
+		if (theDispatchTable == null || theDispatchTable.getProxyClass() != proxyClass) {
+			final ProxycianMetricsListener listener = ProxycianMetrics.getListener();
+			final boolean[] created = new boolean[1];
+			theDispatchTable = getClassificationCache().computeIfAbsent(
+				createDispatchTableCacheKey(proxyClass, proxyState),
+				cacheKey -> {
+					created[0] = true;
+					return new MethodDispatchTable(cacheKey.getClazz());
+				}
+			);
+			this.dispatchTable = theDispatchTable;
+			if (listener != null) {
+				listener.classificationCacheLookup(proxyClass, !created[0]);
+			}
+		}
+		return theDispatchTable;
+	}
+
+	/**
+	 * Classifies all passed methods of the proxy class upfront and stores their handlers into the dispatch table, so
+	 * that the first call of any method doesn't pay the classification cost. All methods are classified only once for
+	 * each dispatch table - subsequent calls return immediately.
+	 *
+	 * @param proxyClass   class of the proxy
+	 * @param proxyMethods intercepted methods of the proxy class indexed by their ordinals, NULL elements are skipped
+	 * @throws MissingMethodImplementationException when any of the methods is not matched by any classification
+	 */
+	public void classifyEagerly(@Nonnull Class<?> proxyClass, @Nonnull Method[] proxyMethods) {
+		final MethodDispatchTable theDispatchTable = getDispatchTable(proxyClass);
+		if (theDispatchTable.isFullyClassified()) {
+			return;
+		}
+		final List<Method> unhandledMethods = new LinkedList<>();
+		for (int ordinal = 0; ordinal < proxyMethods.length; ordinal++) {
+			final Method method = proxyMethods[ordinal];
+			if (method == null || theDispatchTable.get(ordinal) != null) {
+				continue;
+			}
+			final CurriedMethodContextInvocationHandler<?, T> invocationHandler = classifyMethod(proxyClass, method);
+			if (invocationHandler == null) {
+				// SLOT IS LEFT EMPTY SO THAT THE METHOD IS REPORTED AGAIN ON NEXT ATTEMPT
+				unhandledMethods.add(method);
+			} else {
+				theDispatchTable.computeIfAbsent(ordinal, () -> invocationHandler);
+			}
+		}
+		if (!unhandledMethods.isEmpty()) {
+			throw new MissingMethodImplementationException(proxyClass, unhandledMethods);
+		}
+		theDispatchTable.markFullyClassified();
+	}
+
+	/**
+	 * Returns {@link DispatchPlan} describing how passed methods of the proxy class are dispatched by this handler. All
+	 * candidate classifications of each method are matched again and timed, the dispatch table is not changed.
+	 *
+	 * @param proxyClass   class of the proxy
+	 * @param proxyMethods intercepted methods of the proxy class indexed by their ordinals, NULL elements are skipped
+	 */
+	@Nonnull
+	public DispatchPlan explain(@Nonnull Class<?> proxyClass, @Nonnull Method[] proxyMethods) {
+		final MethodDispatchTable theDispatchTable = getClassificationCache().getIfPresent(
+			createDispatchTableCacheKey(proxyClass, proxyState)
+		);
+		final List<MethodDispatchPlan> methodPlans = new ArrayList<>(proxyMethods.length);
+		for (int ordinal = 0; ordinal < proxyMethods.length; ordinal++) {
+			final Method method = proxyMethods[ordinal];
+			if (method != null) {
+				methodPlans.add(
+					explain(method, ordinal, theDispatchTable != null && theDispatchTable.get(ordinal) != null)
+				);
+			}
+		}
+		return new DispatchPlan(proxyClass, methodPlans);
+	}
+
+	/**
+	 * Classifies passed method and returns its curried invocation handler. The result is not stored into the dispatch
+	 * table, so the method is classified again on each call.
+	 *
+	 * @deprecated use {@link #getCurriedMethodContextInvocationHandler(Class, int, Method)} that classifies the method
+	 * only once for all proxies of the same class
+	 */
+	@Deprecated
+	protected <U> CurriedMethodContextInvocationHandler<U, T> getCurriedMethodContextInvocationHandler(@Nonnull Method method) {
+		final CurriedMethodContextInvocationHandler<U, T> invocationHandler = classifyMethod(method);
+		return invocationHandler == null ? StandardJavaMethods.missingImplementationInvoker() : invocationHandler;
+	}
+
+	protected <U> CurriedMethodContextInvocationHandler<U, T> getCurriedMethodContextInvocationHandler(@Nonnull Class<?> proxyClass, @Nonnull Method method) {
+		final CurriedMethodContextInvocationHandler<U, T> invocationHandler = classifyMethod(proxyClass, method);
+		//return missing invocation handler throwing exception when no classification matches
+		return invocationHandler == null ? StandardJavaMethods.missingImplementationInvoker() : invocationHandler;
+	}
+
+	/**
+	 * Classifies passed method and reports the classification to the {@link ProxycianMetricsListener} if there is any
+	 * and to the {@link ProxycianFlightRecorder} if it is enabled.
+	 */
+	@Nullable
+	private <U> CurriedMethodContextInvocationHandler<U, T> classifyMethod(@Nonnull Class<?> proxyClass, @Nonnull Method method) {
+		final ProxycianMetricsListener listener = ProxycianMetrics.getListener();
+		final boolean recorded = ProxycianFlightRecorder.isEnabled();
+		if (listener == null && !recorded) {
+			return classifyMethod(method);
+		}
+		final long start = System.nanoTime();
+		final CurriedMethodContextInvocationHandler<U, T> invocationHandler = classifyMethod(method);
+		if (invocationHandler != null) {
+			final long duration = System.nanoTime() - start;
+			if (listener != null) {
+				listener.methodClassified(proxyClass, method, invocationHandler, duration);
+			}
+			if (recorded) {
+				ProxycianFlightRecorder.methodClassified(proxyClass, method, invocationHandler, duration);
+			}
+		}
+		return invocationHandler;
+	}
+
+	/**
+	 * Finds all classifications matching passed method and returns handler combining them or NULL if there is none.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <U> CurriedMethodContextInvocationHandler<U, T> classifyMethod(@Nonnull Method method) {
 		final List<CurriedMethodContextInvocationHandler<U, T>> matchingHandlers = new LinkedList<>();
-		for (MethodClassification<?, ?> methodClassification : methodClassifications) {
+		for (MethodClassification<?, ?> methodClassification : getCandidates(method)) {
 			//create curried invocation handler (invocation handler curried with method state)
 			final CurriedMethodContextInvocationHandler<U, T> curriedMethodInvocationHandler = ((MethodClassification<U, T>) methodClassification).createCurriedMethodContextInvocationHandler(method, proxyState);
 			//filter out empty results - NULL results means no match
@@ -78,8 +278,7 @@ public abstract class AbstractDispatcherInvocationHandler<T> implements Dispatch
 		}
 
 		if (matchingHandlers.isEmpty()) {
-			//return missing invocation handler throwing exception
-			return StandardJavaMethods.missingImplementationInvoker();
+			return null;
 		} else if (matchingHandlers.size() == 1) {
 			return matchingHandlers.get(0);
 		} else {
@@ -87,50 +286,216 @@ public abstract class AbstractDispatcherInvocationHandler<T> implements Dispatch
 		}
     }
 
-	protected ClassMethodCacheKey createCacheKey(@Nonnull Class<?> aClass, @Nonnull Object proxyState, @Nonnull Method method) {
+	/**
+	 * Matches passed method the same way {@link #classifyMethod(Method)} does, but records each tested classification.
+	 */
+	@Nonnull
+	@SuppressWarnings("unchecked")
+	private <U> MethodDispatchPlan explain(@Nonnull Method method, int methodOrdinal, boolean cached) {
+		final List<MethodDispatchPlan.MatchAttempt> matchAttempts = new LinkedList<>();
+		boolean realMethodFallThrough = false;
+		long matchingNanos = 0L;
+		for (MethodClassification<?, ?> methodClassification : getCandidates(method)) {
+			final boolean transparent = methodClassification instanceof TransparentMethodClassification;
+			final long start = System.nanoTime();
+			final CurriedMethodContextInvocationHandler<U, T> curriedMethodInvocationHandler = ((MethodClassification<U, T>) methodClassification).createCurriedMethodContextInvocationHandler(method, proxyState);
+			final long duration = System.nanoTime() - start;
+			matchingNanos += duration;
+			matchAttempts.add(
+				new MethodDispatchPlan.MatchAttempt(
+					String.valueOf(methodClassification),
+					curriedMethodInvocationHandler == null ? null : String.valueOf(curriedMethodInvocationHandler),
+					transparent,
+					duration
+				)
+			);
+			if (curriedMethodInvocationHandler != null && !transparent) {
+				realMethodFallThrough = methodClassification == StandardJavaMethods.realMethodInvoker();
+				break;
+			}
+		}
+		return new MethodDispatchPlan(method, methodOrdinal, matchAttempts, cached, realMethodFallThrough, matchingNanos);
+	}
+
+	/**
+	 * Returns ordered list of {@link #methodClassifications} that can possibly match passed method - the classifications
+	 * of the {@link #methodClassificationIndex} that cannot match it are left out.
+	 */
+	@Nonnull
+	private List<MethodClassification<?, ?>> getCandidates(@Nonnull Method method) {
+		final int indexedCount = this.methodClassificationIndex.getMethodClassifications().length;
+		final List<MethodClassification<?, ?>> candidates = new ArrayList<>(this.methodClassifications.size());
+		candidates.addAll(this.methodClassifications.subList(0, this.methodClassificationIndexOffset));
+		Collections.addAll(candidates, this.methodClassificationIndex.getCandidates(method));
+		candidates.addAll(
+			this.methodClassifications.subList(this.methodClassificationIndexOffset + indexedCount, this.methodClassifications.size())
+		);
+		return candidates;
+	}
+
+	protected DispatchTableCacheKey createDispatchTableCacheKey(@Nonnull Class<?> aClass, @Nonnull Object proxyState) {
 		final Object proxyStateCacheKey = proxyState instanceof CacheKeyProvider ? ((CacheKeyProvider)proxyState).getCacheKey() : proxyState.getClass();
-		return new ClassMethodCacheKey(aClass, proxyStateCacheKey, method, cacheKey);
+		return new DispatchTableCacheKey(aClass, proxyStateCacheKey, cacheKey);
 	}
 
+	/**
+	 * Composes multiple handlers matching the same method into single handler. Each handler receives the next
+	 * handler in the chain as its `invokeSuper` callable, the last handler receives the original `invokeSuper`.
+	 */
 	public <PROXY, PROXY_STATE> CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> fabricateComposedMethodInvocationHandler(List<CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE>> nestedClassifications) {
-		CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> translatedInvoker = new TailMethodInvocationHandler<>(
-			nestedClassifications.get(nestedClassifications.size() - 1)
-		);
-		for (int i = nestedClassifications.size() - 2; i >= 0; i--) {
-			final CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> methodHandler = nestedClassifications.get(i);
-			translatedInvoker = new DelegatingMethodInvocationHandler<>(methodHandler, translatedInvoker);
-		}
-		return translatedInvoker;
+		return new PrelinkedMethodInvocationHandler<>(nestedClassifications);
 	}
 
-	@RequiredArgsConstructor
-	private static class TailMethodInvocationHandler<PROXY, PROXY_STATE> implements CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> {
-		private final CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> delegate;
+	/**
+	 * Handler that keeps the composed handlers pre-linked in an array. Each handler in the chain receives
+	 * {@link Continuation} invoking the next handler as its `invokeSuper` callable, the last handler receives
+	 * the original `invokeSuper` callable.
+	 *
+	 * Continuations of the first positions in the chain are represented by separate classes, so that each position has
+	 * its own call site of the next handler and the continuation is never merged with the original `invokeSuper`
+	 * reference. This allows JIT to inline whole chain and eliminate the continuations by the escape analysis, so that
+	 * the chain invocation doesn't allocate anything unless some handler keeps the `invokeSuper` reference.
+	 */
+	private static class PrelinkedMethodInvocationHandler<PROXY, PROXY_STATE> implements CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> {
+		private final CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE>[] links;
+
+		@SuppressWarnings("unchecked")
+		PrelinkedMethodInvocationHandler(@Nonnull List<CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE>> links) {
+			this.links = links.toArray(new CurriedMethodContextInvocationHandler[0]);
+		}
 
 		@Override
 		public Object invoke(PROXY proxy, Method method, Object[] args, PROXY_STATE proxy_state, Callable<Object> invokeSuper) throws InvocationTargetException {
-			return delegate.invoke(proxy, method, args, proxy_state, invokeSuper);
+			// COMPOSED CHAIN HAS ALWAYS AT LEAST TWO HANDLERS
+			return links[0].invoke(
+				proxy, method, args, proxy_state,
+				new Continuation1<>(this, proxy, method, args, proxy_state, invokeSuper)
+			);
 		}
 
 		@Override
 		public String toString() {
-			return delegate.toString();
+			return links[0].toString();
+		}
+
+		/**
+		 * Returns true if handler at passed position is the last one in the chain.
+		 */
+		boolean isLast(int position) {
+			return position == links.length - 1;
 		}
 	}
 
+	/**
+	 * Continuation of single invocation of {@link PrelinkedMethodInvocationHandler} - calling it invokes the handler
+	 * at particular position in the chain. Continuation may be called repeatedly.
+	 */
 	@RequiredArgsConstructor
-	private static class DelegatingMethodInvocationHandler<PROXY, PROXY_STATE> implements CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> {
-		private final CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> delegate;
-		private final CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> continuation;
+	private abstract static class Continuation<PROXY, PROXY_STATE> implements Callable<Object> {
+		protected final PrelinkedMethodInvocationHandler<PROXY, PROXY_STATE> chain;
+		protected final PROXY proxy;
+		protected final Method method;
+		protected final Object[] args;
+		protected final PROXY_STATE proxyState;
+		protected final Callable<Object> invokeSuper;
+
+		/**
+		 * Returns position of the handler this continuation invokes.
+		 */
+		protected abstract int getPosition();
 
 		@Override
-		public Object invoke(PROXY proxy, Method method, Object[] args, PROXY_STATE proxy_state, Callable<Object> invokeSuper) throws InvocationTargetException {
-			return delegate.invoke(proxy, method, args, proxy_state, () -> continuation.invoke(proxy, method, args, proxy_state, invokeSuper));
+		public String toString() {
+			return "continuation of " + chain.links[getPosition()];
+		}
+	}
+
+	private static class Continuation1<PROXY, PROXY_STATE> extends Continuation<PROXY, PROXY_STATE> {
+
+		Continuation1(PrelinkedMethodInvocationHandler<PROXY, PROXY_STATE> chain, PROXY proxy, Method method, Object[] args, PROXY_STATE proxyState, Callable<Object> invokeSuper) {
+			super(chain, proxy, method, args, proxyState, invokeSuper);
 		}
 
 		@Override
-		public String toString() {
-			return delegate.toString();
+		public Object call() throws InvocationTargetException {
+			if (chain.isLast(1)) {
+				return chain.links[1].invoke(proxy, method, args, proxyState, invokeSuper);
+			} else {
+				return chain.links[1].invoke(proxy, method, args, proxyState, new Continuation2<>(chain, proxy, method, args, proxyState, invokeSuper));
+			}
+		}
+
+		@Override
+		protected int getPosition() {
+			return 1;
+		}
+	}
+
+	private static class Continuation2<PROXY, PROXY_STATE> extends Continuation<PROXY, PROXY_STATE> {
+
+		Continuation2(PrelinkedMethodInvocationHandler<PROXY, PROXY_STATE> chain, PROXY proxy, Method method, Object[] args, PROXY_STATE proxyState, Callable<Object> invokeSuper) {
+			super(chain, proxy, method, args, proxyState, invokeSuper);
+		}
+
+		@Override
+		public Object call() throws InvocationTargetException {
+			if (chain.isLast(2)) {
+				return chain.links[2].invoke(proxy, method, args, proxyState, invokeSuper);
+			} else {
+				return chain.links[2].invoke(proxy, method, args, proxyState, new Continuation3<>(chain, proxy, method, args, proxyState, invokeSuper));
+			}
+		}
+
+		@Override
+		protected int getPosition() {
+			return 2;
+		}
+	}
+
+	private static class Continuation3<PROXY, PROXY_STATE> extends Continuation<PROXY, PROXY_STATE> {
+
+		Continuation3(PrelinkedMethodInvocationHandler<PROXY, PROXY_STATE> chain, PROXY proxy, Method method, Object[] args, PROXY_STATE proxyState, Callable<Object> invokeSuper) {
+			super(chain, proxy, method, args, proxyState, invokeSuper);
+		}
+
+		@Override
+		public Object call() throws InvocationTargetException {
+			if (chain.isLast(3)) {
+				return chain.links[3].invoke(proxy, method, args, proxyState, invokeSuper);
+			} else {
+				return chain.links[3].invoke(proxy, method, args, proxyState, new ContinuationN<>(chain, 4, proxy, method, args, proxyState, invokeSuper));
+			}
+		}
+
+		@Override
+		protected int getPosition() {
+			return 3;
+		}
+	}
+
+	/**
+	 * Generic continuation for long chains, the position is not known to the JIT upfront here.
+	 */
+	private static class ContinuationN<PROXY, PROXY_STATE> extends Continuation<PROXY, PROXY_STATE> {
+		private final int position;
+
+		ContinuationN(PrelinkedMethodInvocationHandler<PROXY, PROXY_STATE> chain, int position, PROXY proxy, Method method, Object[] args, PROXY_STATE proxyState, Callable<Object> invokeSuper) {
+			super(chain, proxy, method, args, proxyState, invokeSuper);
+			this.position = position;
+		}
+
+		@Override
+		public Object call() throws InvocationTargetException {
+			if (chain.isLast(position)) {
+				return chain.links[position].invoke(proxy, method, args, proxyState, invokeSuper);
+			} else {
+				return chain.links[position].invoke(proxy, method, args, proxyState, new ContinuationN<>(chain, position + 1, proxy, method, args, proxyState, invokeSuper));
+			}
+		}
+
+		@Override
+		protected int getPosition() {
+			return position;
 		}
 	}
 
@@ -6,6 +6,10 @@ import java.util.concurrent.Callable;
 
 @FunctionalInterface
 public interface CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> {
+	/**
+	 * Shared arguments array for methods without arguments.
+	 */
+	Object[] EMPTY_ARGS = new Object[0];
 
 	/**
 	 * This method is variant of {@link MethodInvocationHandler#invoke(Object, Method, Object[], Object, Object, Callable)}  method,
@@ -21,4 +25,37 @@ public interface CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> {
 	 */
 	Object invoke(PROXY proxy, Method method, Object[] args, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException;
 
+	/**
+	 * Arity specialized variant of {@link #invoke(Object, Method, Object[], Object, Callable)} for methods without
+	 * arguments. Generated proxies that dispatch by method arity call this method directly, implementations may
+	 * override it to avoid working with arguments array.
+	 */
+	default Object invoke0(PROXY proxy, Method method, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+		return invoke(proxy, method, EMPTY_ARGS, proxyState, invokeSuper);
+	}
+
+	/**
+	 * Arity specialized variant of {@link #invoke(Object, Method, Object[], Object, Callable)} for methods with single
+	 * argument. See {@link #invoke0(Object, Method, Object, Callable)}.
+	 */
+	default Object invoke1(PROXY proxy, Method method, Object arg0, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+		return invoke(proxy, method, new Object[] {arg0}, proxyState, invokeSuper);
+	}
+
+	/**
+	 * Arity specialized variant of {@link #invoke(Object, Method, Object[], Object, Callable)} for methods with two
+	 * arguments. See {@link #invoke0(Object, Method, Object, Callable)}.
+	 */
+	default Object invoke2(PROXY proxy, Method method, Object arg0, Object arg1, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+		return invoke(proxy, method, new Object[] {arg0, arg1}, proxyState, invokeSuper);
+	}
+
+	/**
+	 * Arity specialized variant of {@link #invoke(Object, Method, Object[], Object, Callable)} for methods with three
+	 * arguments. See {@link #invoke0(Object, Method, Object, Callable)}.
+	 */
+	default Object invoke3(PROXY proxy, Method method, Object arg0, Object arg1, Object arg2, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+		return invoke(proxy, method, new Object[] {arg0, arg1, arg2}, proxyState, invokeSuper);
+	}
+
 }
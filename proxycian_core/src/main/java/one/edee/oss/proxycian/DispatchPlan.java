@@ -0,0 +1,85 @@
+package one.edee.oss.proxycian;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Dispatch plan describes how the methods of the proxy class are (or would be) dispatched by the particular
+ * {@link AbstractDispatcherInvocationHandler} - which {@link MethodClassification method classifications} were tested,
+ * which of them matched, whether the result is already cached in the dispatch table and how long the matching took.
+ * The plan is meant for finding slow matchers and methods that accidentally fall through to the default / super
+ * implementation before they reach the hot path. Creating the plan doesn't change the dispatch table.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Getter
+@RequiredArgsConstructor
+public class DispatchPlan {
+	/**
+	 * Class of the proxy the plan belongs to.
+	 */
+	@Nonnull private final Class<?> proxyClass;
+	/**
+	 * Plans of all intercepted methods of the proxy class ordered by their ordinals.
+	 */
+	@Nonnull private final List<MethodDispatchPlan> methodPlans;
+
+	/**
+	 * Returns plan of the method with passed name and parameter count or throws exception if there is no such method.
+	 */
+	@Nonnull
+	public MethodDispatchPlan getMethodPlan(@Nonnull String methodName, int parameterCount) {
+		return this.methodPlans.stream()
+			.filter(it -> it.getMethod().getName().equals(methodName) && it.getMethod().getParameterCount() == parameterCount)
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException(
+				"Method " + methodName + " with " + parameterCount + " parameters is not intercepted by " + this.proxyClass.getName() + "!"
+			));
+	}
+
+	/**
+	 * Returns plans of the methods whose handling chain ends with the default / super implementation of the method.
+	 */
+	@Nonnull
+	public List<MethodDispatchPlan> getRealMethodFallThroughs() {
+		return this.methodPlans.stream()
+			.filter(MethodDispatchPlan::isRealMethodFallThrough)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns plans of the methods that are not handled by any method classification.
+	 */
+	@Nonnull
+	public List<MethodDispatchPlan> getUnhandledMethods() {
+		return this.methodPlans.stream()
+			.filter(it -> !it.isHandled())
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns plans of all methods ordered from the slowest matching to the fastest one.
+	 */
+	@Nonnull
+	public List<MethodDispatchPlan> getSlowestMethods() {
+		return this.methodPlans.stream()
+			.sorted(Comparator.comparingLong(MethodDispatchPlan::getMatchingNanos).reversed())
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(512);
+		sb.append("Dispatch plan of ").append(this.proxyClass.getName()).append(":\n");
+		for (MethodDispatchPlan methodPlan : this.methodPlans) {
+			sb.append(methodPlan);
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,36 @@
+package one.edee.oss.proxycian;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+/**
+ * Primitive specialization of {@link MethodInvocationHandler} for methods returning `int`. When carried by
+ * {@link PredicateMethodClassification} the bytecode backends that support it call {@link #invokeInt} directly
+ * and the result is never boxed. Backends that don't support it call {@link #invoke} that boxes the result.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@FunctionalInterface
+public interface IntMethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE> extends MethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE> {
+
+	/**
+	 * Helper method allowing to pass lambda where the {@link MethodInvocationHandler} is expected, with the generic
+	 * types inferred from the context.
+	 */
+	static <PROXY, METHOD_CONTEXT, PROXY_STATE> IntMethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE> returningInt(IntMethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE> handler) {
+		return handler;
+	}
+
+	/**
+	 * Same as {@link MethodInvocationHandler#invoke(Object, Method, Object[], Object, Object, Callable)} but returns
+	 * primitive `int` value.
+	 */
+	int invokeInt(PROXY proxy, Method method, Object[] args, METHOD_CONTEXT methodContext, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException;
+
+	@Override
+	default Object invoke(PROXY proxy, Method method, Object[] args, METHOD_CONTEXT methodContext, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+		return invokeInt(proxy, method, args, methodContext, proxyState, invokeSuper);
+	}
+
+}
@@ -0,0 +1,27 @@
+package one.edee.oss.proxycian;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+/**
+ * Primitive specialization of {@link CurriedMethodContextInvocationHandler} for methods returning `long`. See
+ * {@link LongMethodInvocationHandler}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@FunctionalInterface
+public interface LongCurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> extends CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> {
+
+	/**
+	 * Same as {@link CurriedMethodContextInvocationHandler#invoke(Object, Method, Object[], Object, Callable)} but
+	 * returns primitive `long` value.
+	 */
+	long invokeLong(PROXY proxy, Method method, Object[] args, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException;
+
+	@Override
+	default Object invoke(PROXY proxy, Method method, Object[] args, PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+		return invokeLong(proxy, method, args, proxyState, invokeSuper);
+	}
+
+}
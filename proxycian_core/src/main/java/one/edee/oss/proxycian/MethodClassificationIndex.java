@@ -0,0 +1,84 @@
+package one.edee.oss.proxycian;
+
+import one.edee.oss.proxycian.cache.MethodNameArityKey;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Index of method classifications that allows to skip testing of the {@link ScopedMethodClassification scoped
+ * classifications} that cannot match the classified method. Classifications without the scope are candidates for
+ * all methods. Candidates are always returned in the original order of the classifications so that the first-match
+ * semantics of the classification chain is kept intact.
+ *
+ * Index is immutable and is built once for each {@link one.edee.oss.proxycian.recipe.ProxyRecipe} - all dispatchers
+ * created from the recipe share it.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MethodClassificationIndex {
+	private static final MethodClassification<?, ?>[] EMPTY_CLASSIFICATIONS = new MethodClassification[0];
+	/**
+	 * All indexed classifications in their original order.
+	 */
+	private final MethodClassification<?, ?>[] methodClassifications;
+	/**
+	 * Candidates for the methods not covered by any scoped classification.
+	 */
+	private final MethodClassification<?, ?>[] unscopedCandidates;
+	/**
+	 * Candidates for the methods covered by at least one scoped classification.
+	 */
+	private final Map<MethodNameArityKey, MethodClassification<?, ?>[]> scopedCandidates;
+
+	public MethodClassificationIndex(@Nonnull Collection<MethodClassification<?, ?>> methodClassifications) {
+		this.methodClassifications = methodClassifications.toArray(EMPTY_CLASSIFICATIONS);
+		final List<MethodClassification<?, ?>> unscoped = new ArrayList<>(methodClassifications.size());
+		final Map<MethodNameArityKey, List<MethodClassification<?, ?>>> scoped = new HashMap<>();
+		for (MethodClassification<?, ?> methodClassification : methodClassifications) {
+			if (methodClassification instanceof ScopedMethodClassification) {
+				for (MethodNameArityKey key : ((ScopedMethodClassification<?, ?>) methodClassification).getScope()) {
+					// THE KEY INHERITS ALL UNSCOPED CLASSIFICATIONS THAT PRECEDE IT
+					scoped.computeIfAbsent(key, theKey -> new ArrayList<>(unscoped)).add(methodClassification);
+				}
+			} else {
+				unscoped.add(methodClassification);
+				for (List<MethodClassification<?, ?>> candidates : scoped.values()) {
+					candidates.add(methodClassification);
+				}
+			}
+		}
+		this.unscopedCandidates = unscoped.toArray(EMPTY_CLASSIFICATIONS);
+		this.scopedCandidates = new HashMap<>(scoped.size());
+		for (Entry<MethodNameArityKey, List<MethodClassification<?, ?>>> entry : scoped.entrySet()) {
+			this.scopedCandidates.put(entry.getKey(), entry.getValue().toArray(EMPTY_CLASSIFICATIONS));
+		}
+	}
+
+	/**
+	 * Returns all indexed classifications in their original order. The returned array must not be modified.
+	 */
+	@Nonnull
+	public MethodClassification<?, ?>[] getMethodClassifications() {
+		return methodClassifications;
+	}
+
+	/**
+	 * Returns ordered array of classifications that may possibly match passed method.
+	 */
+	@Nonnull
+	MethodClassification<?, ?>[] getCandidates(@Nonnull Method method) {
+		if (scopedCandidates.isEmpty()) {
+			return unscopedCandidates;
+		}
+		final MethodClassification<?, ?>[] candidates = scopedCandidates.get(new MethodNameArityKey(method));
+		return candidates == null ? unscopedCandidates : candidates;
+	}
+
+}
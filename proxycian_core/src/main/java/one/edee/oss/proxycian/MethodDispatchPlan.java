@@ -0,0 +1,118 @@
+package one.edee.oss.proxycian;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Part of the {@link DispatchPlan} describing the dispatch of single method of the proxy class.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Getter
+@RequiredArgsConstructor
+public class MethodDispatchPlan {
+	/**
+	 * Intercepted method.
+	 */
+	@Nonnull private final Method method;
+	/**
+	 * Ordinal of the method in the dispatch table of the proxy class.
+	 */
+	private final int methodOrdinal;
+	/**
+	 * All method classifications tested for the method in the order they were tested.
+	 */
+	@Nonnull private final List<MatchAttempt> matchAttempts;
+	/**
+	 * True if the handler of the method is already resolved in the dispatch table.
+	 */
+	private final boolean cached;
+	/**
+	 * True if the chain handling the method ends with the default / super implementation of the method (see
+	 * {@link one.edee.oss.proxycian.trait.StandardJavaMethods#realMethodInvoker()}).
+	 */
+	private final boolean realMethodFallThrough;
+	/**
+	 * Time spent by matching all tested method classifications in nanoseconds.
+	 */
+	private final long matchingNanos;
+
+	/**
+	 * Returns the attempts that matched - i.e. the chain of method classifications that handles the method
+	 * (transparent classifications first).
+	 */
+	@Nonnull
+	public List<MatchAttempt> getMatchedChain() {
+		return this.matchAttempts.stream().filter(MatchAttempt::isMatched).collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns true if any method classification matched the method.
+	 */
+	public boolean isHandled() {
+		return this.matchAttempts.stream().anyMatch(MatchAttempt::isMatched);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(128);
+		sb.append("[").append(this.methodOrdinal).append("] ").append(this.method.toGenericString())
+			.append(this.cached ? " (cached" : " (not cached")
+			.append(", matched in ").append(this.matchingNanos).append(" ns)");
+		if (!isHandled()) {
+			sb.append(" NOT HANDLED");
+		} else if (this.realMethodFallThrough) {
+			sb.append(" FALLS THROUGH TO DEFAULT / SUPER IMPLEMENTATION");
+		}
+		sb.append('\n');
+		for (MatchAttempt matchAttempt : this.matchAttempts) {
+			sb.append("   ").append(matchAttempt).append('\n');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Single test of the method classification against the method.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class MatchAttempt {
+		/**
+		 * Description of the method classification.
+		 */
+		@Nonnull private final String classification;
+		/**
+		 * Description of the curried invocation handler including its method context, or null if the classification
+		 * didn't match.
+		 */
+		@Nullable private final String invocationHandler;
+		/**
+		 * True if the classification is transparent - i.e. the classifications after it are tested as well.
+		 */
+		private final boolean transparent;
+		/**
+		 * Time spent by matching the classification in nanoseconds.
+		 */
+		private final long matchingNanos;
+
+		/**
+		 * Returns true if the classification matched the method.
+		 */
+		public boolean isMatched() {
+			return this.invocationHandler != null;
+		}
+
+		@Override
+		public String toString() {
+			return (isMatched() ? "+ " + this.invocationHandler : "- " + this.classification) +
+				(this.transparent ? " (transparent)" : "") + " in " + this.matchingNanos + " ns";
+		}
+	}
+
+}
@@ -47,14 +47,34 @@ public class PredicateMethodClassification<PROXY, METHOD_CONTEXT, PROXY_STATE> i
 	 */
 	private final MethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE> invocationHandler;
 
+	@SuppressWarnings("unchecked")
 	@Nullable
 	@Override
 	public CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> createCurriedMethodContextInvocationHandler(@Nonnull Method classificationMethod, @Nonnull PROXY_STATE proxyState) {
 		if (methodMatcher.test(classificationMethod, proxyState)) {
 			final METHOD_CONTEXT methodContext = methodContextFactory.apply(classificationMethod, proxyState);
-			return new MethodClassificationCurriedMethodContextInvocationHandler<>(
-				description, methodContext, invocationHandler
-			);
+			// PRIMITIVE SPECIALIZED HANDLERS ARE CURRIED INTO PRIMITIVE SPECIALIZED CURRIED HANDLERS
+			if (invocationHandler instanceof IntMethodInvocationHandler) {
+				return new IntMethodClassificationCurriedMethodContextInvocationHandler<>(
+					description, methodContext, (IntMethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE>) invocationHandler
+				);
+			} else if (invocationHandler instanceof LongMethodInvocationHandler) {
+				return new LongMethodClassificationCurriedMethodContextInvocationHandler<>(
+					description, methodContext, (LongMethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE>) invocationHandler
+				);
+			} else if (invocationHandler instanceof DoubleMethodInvocationHandler) {
+				return new DoubleMethodClassificationCurriedMethodContextInvocationHandler<>(
+					description, methodContext, (DoubleMethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE>) invocationHandler
+				);
+			} else if (invocationHandler instanceof BooleanMethodInvocationHandler) {
+				return new BooleanMethodClassificationCurriedMethodContextInvocationHandler<>(
+					description, methodContext, (BooleanMethodInvocationHandler<PROXY, METHOD_CONTEXT, PROXY_STATE>) invocationHandler
+				);
+			} else {
+				return new MethodClassificationCurriedMethodContextInvocationHandler<>(
+					description, methodContext, invocationHandler
+				);
+			}
 		} else {
 			return null;
 		}
@@ -86,10 +106,110 @@ public class PredicateMethodClassification<PROXY, METHOD_CONTEXT, PROXY_STATE> i
 			);
 		}
 
+		protected THE_METHOD_CONTEXT getMethodContext() {
+			return methodContext;
+		}
+
 		@Override
 		public String toString() {
 			return description + (methodContext == null ? "" : ": " + methodContext);
 		}
 	}
 
+	/**
+	 * Curried {@link IntMethodInvocationHandler} that carries method context and description along.
+	 */
+	protected static class IntMethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> extends MethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> implements IntCurriedMethodContextInvocationHandler<THE_PROXY, THE_PROXY_STATE> {
+		private final IntMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> intInvocationHandler;
+
+		public IntMethodClassificationCurriedMethodContextInvocationHandler(String description, THE_METHOD_CONTEXT methodContext, IntMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> invocationHandler) {
+			super(description, methodContext, invocationHandler);
+			this.intInvocationHandler = invocationHandler;
+		}
+
+		@Override
+		public int invokeInt(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return intInvocationHandler.invokeInt(
+				proxy, executionMethod, args, getMethodContext(), proxyState, invokeSuper
+			);
+		}
+
+		@Override
+		public Object invoke(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return invokeInt(proxy, executionMethod, args, proxyState, invokeSuper);
+		}
+	}
+
+	/**
+	 * Curried {@link LongMethodInvocationHandler} that carries method context and description along.
+	 */
+	protected static class LongMethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> extends MethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> implements LongCurriedMethodContextInvocationHandler<THE_PROXY, THE_PROXY_STATE> {
+		private final LongMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> longInvocationHandler;
+
+		public LongMethodClassificationCurriedMethodContextInvocationHandler(String description, THE_METHOD_CONTEXT methodContext, LongMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> invocationHandler) {
+			super(description, methodContext, invocationHandler);
+			this.longInvocationHandler = invocationHandler;
+		}
+
+		@Override
+		public long invokeLong(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return longInvocationHandler.invokeLong(
+				proxy, executionMethod, args, getMethodContext(), proxyState, invokeSuper
+			);
+		}
+
+		@Override
+		public Object invoke(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return invokeLong(proxy, executionMethod, args, proxyState, invokeSuper);
+		}
+	}
+
+	/**
+	 * Curried {@link DoubleMethodInvocationHandler} that carries method context and description along.
+	 */
+	protected static class DoubleMethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> extends MethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> implements DoubleCurriedMethodContextInvocationHandler<THE_PROXY, THE_PROXY_STATE> {
+		private final DoubleMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> doubleInvocationHandler;
+
+		public DoubleMethodClassificationCurriedMethodContextInvocationHandler(String description, THE_METHOD_CONTEXT methodContext, DoubleMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> invocationHandler) {
+			super(description, methodContext, invocationHandler);
+			this.doubleInvocationHandler = invocationHandler;
+		}
+
+		@Override
+		public double invokeDouble(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return doubleInvocationHandler.invokeDouble(
+				proxy, executionMethod, args, getMethodContext(), proxyState, invokeSuper
+			);
+		}
+
+		@Override
+		public Object invoke(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return invokeDouble(proxy, executionMethod, args, proxyState, invokeSuper);
+		}
+	}
+
+	/**
+	 * Curried {@link BooleanMethodInvocationHandler} that carries method context and description along.
+	 */
+	protected static class BooleanMethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> extends MethodClassificationCurriedMethodContextInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> implements BooleanCurriedMethodContextInvocationHandler<THE_PROXY, THE_PROXY_STATE> {
+		private final BooleanMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> booleanInvocationHandler;
+
+		public BooleanMethodClassificationCurriedMethodContextInvocationHandler(String description, THE_METHOD_CONTEXT methodContext, BooleanMethodInvocationHandler<THE_PROXY, THE_METHOD_CONTEXT, THE_PROXY_STATE> invocationHandler) {
+			super(description, methodContext, invocationHandler);
+			this.booleanInvocationHandler = invocationHandler;
+		}
+
+		@Override
+		public boolean invokeBoolean(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return booleanInvocationHandler.invokeBoolean(
+				proxy, executionMethod, args, getMethodContext(), proxyState, invokeSuper
+			);
+		}
+
+		@Override
+		public Object invoke(THE_PROXY proxy, Method executionMethod, Object[] args, THE_PROXY_STATE proxyState, Callable<Object> invokeSuper) throws InvocationTargetException {
+			return invokeBoolean(proxy, executionMethod, args, proxyState, invokeSuper);
+		}
+	}
+
 }
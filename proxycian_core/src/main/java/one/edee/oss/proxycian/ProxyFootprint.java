@@ -0,0 +1,159 @@
+package one.edee.oss.proxycian;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import one.edee.oss.proxycian.metrics.ObjectSizeCalculator;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Footprint report describes how much heap a single proxy instance occupies. The footprint is split into the parts
+ * owned by each proxy instance - the proxy object, its {@link AbstractDispatcherInvocationHandler dispatcher handler},
+ * the list of method classifications of the handler and the proxy state.
+ *
+ * Each part has the shallow size (size of its root object only) and the retained size (size of all objects reachable
+ * from the part that are not reachable from the sibling proxy - i.e. another proxy created from the same recipe).
+ * Objects shared by all the proxies of the recipe (dispatch tables, advices, classifications created once per recipe)
+ * are therefore not part of the retained size, which approximates the memory released when the proxy is garbage
+ * collected. Objects reachable from multiple parts are counted only in the first of them in the order: state,
+ * handler, classification list, proxy object.
+ *
+ * Sizes are measured by {@link java.lang.instrument.Instrumentation} when it is registered to
+ * {@link ObjectSizeCalculator#setInstrumentation(java.lang.instrument.Instrumentation)}, otherwise they're estimated.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProxyFootprint {
+	/**
+	 * Class of the measured proxy.
+	 */
+	@Nonnull private final Class<?> proxyClass;
+	/**
+	 * True if the sizes were measured by {@link java.lang.instrument.Instrumentation}, false if they're estimated.
+	 */
+	private final boolean instrumented;
+	/**
+	 * The proxy object itself.
+	 */
+	@Nonnull private final Part proxy;
+	/**
+	 * The dispatcher handler of the proxy (except the classification list and the proxy state).
+	 */
+	@Nonnull private final Part handler;
+	/**
+	 * The list of the method classifications held by the dispatcher handler.
+	 */
+	@Nonnull private final Part classifications;
+	/**
+	 * The proxy state.
+	 */
+	@Nonnull private final Part state;
+
+	/**
+	 * Measures footprint of passed proxy and its handler. The sibling proxy (with its handler) must be created from
+	 * the same recipe - objects reachable from it are considered shared and are not part of the retained sizes.
+	 */
+	@Nonnull
+	public static ProxyFootprint measure(
+		@Nonnull Object proxy, @Nonnull AbstractDispatcherInvocationHandler<?> handler,
+		@Nonnull Object siblingProxy, @Nonnull AbstractDispatcherInvocationHandler<?> siblingHandler
+	) {
+		if (proxy == siblingProxy) {
+			throw new IllegalArgumentException("Sibling proxy must be different instance than the measured proxy!");
+		}
+		final Set<Object> shared = ObjectSizeCalculator.createIdentitySet();
+		ObjectSizeCalculator.collectReachable(siblingProxy, shared);
+		ObjectSizeCalculator.collectReachable(siblingHandler, shared);
+
+		// THE PROXY OBJECT AND THE CLASSIFICATION LIST ARE MARKED AS VISITED SO THAT THE OTHER PARTS DON'T WALK THROUGH
+		// THEM - IMPLEMENTATION SPECIFIC CLASSIFICATIONS REFERENCE THE HANDLER AND THE HANDLER REFERENCES THE LIST
+		final Set<Object> visited = ObjectSizeCalculator.createIdentitySet();
+		visited.add(proxy);
+		visited.add(handler.methodClassifications);
+		final long proxyShallowSize = ObjectSizeCalculator.getShallowSize(proxy);
+		final Part state = measure("state", handler.proxyState, visited, shared);
+		final Part handlerPart = measure("handler", handler, visited, shared);
+		visited.remove(handler.methodClassifications);
+		final Part classifications = measure("classifications", handler.methodClassifications, visited, shared);
+		// REST OF THE OBJECTS REFERENCED BY THE PROXY ITSELF
+		visited.remove(proxy);
+		final long proxyRetainedSize = ObjectSizeCalculator.getRetainedSize(proxy, visited, shared);
+		return new ProxyFootprint(
+			proxy.getClass(),
+			ObjectSizeCalculator.isInstrumented(),
+			new Part("proxy", proxyShallowSize, proxyRetainedSize),
+			handlerPart,
+			classifications,
+			state
+		);
+	}
+
+	/**
+	 * Returns sum of the shallow sizes of all parts in bytes.
+	 */
+	public long getShallowSize() {
+		return this.proxy.getShallowSize() + this.handler.getShallowSize() +
+			this.classifications.getShallowSize() + this.state.getShallowSize();
+	}
+
+	/**
+	 * Returns sum of the retained sizes of all parts in bytes - i.e. the heap occupied by single proxy instance.
+	 */
+	public long getRetainedSize() {
+		return this.proxy.getRetainedSize() + this.handler.getRetainedSize() +
+			this.classifications.getRetainedSize() + this.state.getRetainedSize();
+	}
+
+	/**
+	 * Returns retained size of the proxy without its state in bytes - i.e. the overhead of the proxy over the plain
+	 * state object.
+	 */
+	public long getOverheadSize() {
+		return getRetainedSize() - this.state.getRetainedSize();
+	}
+
+	@Override
+	public String toString() {
+		return "Footprint of " + this.proxyClass.getName() + (this.instrumented ? " (measured)" : " (estimated)") + ":\n" +
+			"\t" + this.proxy + "\n" +
+			"\t" + this.handler + "\n" +
+			"\t" + this.classifications + "\n" +
+			"\t" + this.state + "\n" +
+			"\ttotal: " + getShallowSize() + " B shallow, " + getRetainedSize() + " B retained";
+	}
+
+	@Nonnull
+	private static Part measure(@Nonnull String name, @Nonnull Object root, @Nonnull Set<Object> visited, @Nonnull Set<Object> shared) {
+		final long shallowSize = visited.contains(root) || shared.contains(root) ? 0L : ObjectSizeCalculator.getShallowSize(root);
+		return new Part(name, shallowSize, ObjectSizeCalculator.getRetainedSize(root, visited, shared));
+	}
+
+	/**
+	 * Single part of the footprint.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class Part {
+		/**
+		 * Name of the part.
+		 */
+		@Nonnull private final String name;
+		/**
+		 * Size of the root object of the part in bytes, zero when the root object is shared or counted in another part.
+		 */
+		private final long shallowSize;
+		/**
+		 * Size of all objects owned by the part in bytes.
+		 */
+		private final long retainedSize;
+
+		@Override
+		public String toString() {
+			return this.name + ": " + this.shallowSize + " B shallow, " + this.retainedSize + " B retained";
+		}
+	}
+
+}
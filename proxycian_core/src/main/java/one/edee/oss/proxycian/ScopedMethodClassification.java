@@ -0,0 +1,93 @@
+package one.edee.oss.proxycian;
+
+import lombok.Getter;
+import one.edee.oss.proxycian.cache.MethodNameArityKey;
+import one.edee.oss.proxycian.recipe.IntroductionAdvice;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scoped method classification wraps classification of the {@link IntroductionAdvice} that
+ * {@link IntroductionAdvice#isClassifyingOnlyIntroducedMethods() classifies only methods of introduced interfaces}.
+ * The wrapper carries the names and arities of all methods of those interfaces so that the dispatcher doesn't need
+ * to test the wrapped classification for methods that it can't possibly match.
+ *
+ * The wrapper is transparent for the rest of the library - it keeps {@link TransparentMethodClassification} marker
+ * and the {@link CacheKeyProvider#getCacheKey() cache key} of the wrapped classification.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ScopedMethodClassification<PROXY, PROXY_STATE> implements MethodClassification<PROXY, PROXY_STATE>, CacheKeyProvider {
+	@Getter private final MethodClassification<PROXY, PROXY_STATE> delegate;
+	@Getter private final Set<MethodNameArityKey> scope;
+
+	/**
+	 * Wraps passed classification into the scope of all methods of the passed interfaces.
+	 */
+	@Nonnull
+	public static <PROXY, PROXY_STATE> ScopedMethodClassification<PROXY, PROXY_STATE> scopeTo(@Nonnull MethodClassification<PROXY, PROXY_STATE> delegate, @Nonnull Set<MethodNameArityKey> scope) {
+		return delegate instanceof TransparentMethodClassification ?
+			new TransparentScopedMethodClassification<>(delegate, scope) :
+			new ScopedMethodClassification<>(delegate, scope);
+	}
+
+	/**
+	 * Computes the scope (names and arities of all public methods) of passed interfaces.
+	 */
+	@Nonnull
+	public static Set<MethodNameArityKey> computeScope(@Nonnull List<Class<?>> interfaces) {
+		final Set<MethodNameArityKey> scope = new HashSet<>();
+		for (Class<?> anInterface : interfaces) {
+			for (Method method : anInterface.getMethods()) {
+				scope.add(new MethodNameArityKey(method));
+			}
+		}
+		return Collections.unmodifiableSet(scope);
+	}
+
+	protected ScopedMethodClassification(@Nonnull MethodClassification<PROXY, PROXY_STATE> delegate, @Nonnull Set<MethodNameArityKey> scope) {
+		this.delegate = delegate;
+		this.scope = scope;
+	}
+
+	/**
+	 * Returns true if the wrapped classification may possibly match passed method.
+	 */
+	public boolean isInScope(@Nonnull Method method) {
+		return scope.contains(new MethodNameArityKey(method));
+	}
+
+	@Nullable
+	@Override
+	public CurriedMethodContextInvocationHandler<PROXY, PROXY_STATE> createCurriedMethodContextInvocationHandler(@Nonnull Method classificationMethod, @Nonnull PROXY_STATE proxyState) {
+		return delegate.createCurriedMethodContextInvocationHandler(classificationMethod, proxyState);
+	}
+
+	@Override
+	public Object getCacheKey() {
+		return delegate instanceof CacheKeyProvider ? ((CacheKeyProvider) delegate).getCacheKey() : null;
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+
+	/**
+	 * Variant of the scoped classification that wraps {@link TransparentMethodClassification}.
+	 */
+	private static class TransparentScopedMethodClassification<PROXY, PROXY_STATE> extends ScopedMethodClassification<PROXY, PROXY_STATE> implements TransparentMethodClassification {
+
+		TransparentScopedMethodClassification(@Nonnull MethodClassification<PROXY, PROXY_STATE> delegate, @Nonnull Set<MethodNameArityKey> scope) {
+			super(delegate, scope);
+		}
+
+	}
+
+}
@@ -0,0 +1,245 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Persistent cache of the byte-code of the generated proxy classes. The class files are stored in the directory in
+ * the same layout as in the class path (`package/path/ClassName.class`), so that the directory could be also added to
+ * the class path of the application and used as an input of the AppCDS / dynamic CDS archive.
+ *
+ * The generators name the cached classes by the {@link #fingerprint(Class, Class[], Object...) fingerprint} of their
+ * contract, so the class found in the directory (or on the class path) on the next start of the JVM can be loaded
+ * instead of generating it again. The fingerprint covers the structure of the contract and the version of the
+ * generator, so that the changed contract or upgraded library never loads stale class.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class BytecodeCache {
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	private static final int FINGERPRINT_BYTES = 12;
+	private static final ClassLoaderScopedCache<String, Class<?>> DEFINED_CLASSES = new ClassLoaderScopedCache<>();
+	/**
+	 * Class files of the generators - they're read only once.
+	 */
+	private static final ClassValue<byte[]> CLASS_FILES = new ClassValue<byte[]>() {
+		@Override
+		protected byte[] computeValue(Class<?> type) {
+			return readClassFile(type);
+		}
+	};
+	/**
+	 * Directory with the cached class files.
+	 */
+	@Getter private final Path directory;
+
+	public BytecodeCache(@Nonnull Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns stable fingerprint of the proxy class generated by the passed generator for the passed contract.
+	 * The fingerprint covers:
+	 *
+	 * - the byte-code and the implementation version of the generator class and the version of the JVM
+	 * - names and signatures of all methods and constructors of the contract types and all their super types
+	 * - passed variants of the generation (modes of the generator and so on)
+	 */
+	@Nonnull
+	public static String fingerprint(@Nonnull Class<?> generatorClass, @Nonnull Class<?>[] contract, @Nonnull Object... variants) {
+		final MessageDigest digest = createDigest();
+		update(digest, System.getProperty("java.specification.version"));
+		update(digest, generatorClass.getName());
+		update(digest, String.valueOf(generatorClass.getPackage() == null ? null : generatorClass.getPackage().getImplementationVersion()));
+		digest.update(CLASS_FILES.get(generatorClass));
+		for (Object variant : variants) {
+			update(digest, String.valueOf(variant));
+		}
+		for (Class<?> type : contract) {
+			update(digest, type.getName());
+			for (Class<?> superType : getTypeHierarchy(type)) {
+				update(digest, superType.getName());
+				// DECLARED MEMBERS ARE NOT RETURNED IN ANY PARTICULAR ORDER
+				final List<String> members = new ArrayList<>();
+				for (Method method : superType.getDeclaredMethods()) {
+					members.add(method.getModifiers() + " " + method.toGenericString());
+				}
+				for (Constructor<?> constructor : superType.getDeclaredConstructors()) {
+					members.add(constructor.getModifiers() + " " + constructor.toGenericString());
+				}
+				Collections.sort(members);
+				for (String member : members) {
+					update(digest, member);
+				}
+			}
+		}
+		final byte[] hash = digest.digest();
+		final char[] result = new char[FINGERPRINT_BYTES * 2];
+		for (int i = 0; i < FINGERPRINT_BYTES; i++) {
+			result[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+			result[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+		}
+		return new String(result);
+	}
+
+	/**
+	 * Returns the byte-code of the class of passed name or NULL when it's not cached.
+	 */
+	@Nullable
+	public byte[] read(@Nonnull String className) {
+		try {
+			return Files.readAllBytes(getClassFile(className));
+		} catch (NoSuchFileException ex) {
+			return null;
+		} catch (IOException ex) {
+			throw new IllegalStateException("Failed to read cached class `" + className + "` from `" + this.directory + "`!", ex);
+		}
+	}
+
+	/**
+	 * Stores the byte-code of the class of passed name. The file is written at once, so that other JVMs sharing
+	 * the directory never read partially written class.
+	 */
+	public void write(@Nonnull String className, @Nonnull byte[] bytecode) {
+		final Path classFile = getClassFile(className);
+		try {
+			Files.createDirectories(classFile.getParent());
+			final Path temporaryFile = Files.createTempFile(classFile.getParent(), classFile.getFileName().toString(), ".tmp");
+			try {
+				Files.write(temporaryFile, bytecode);
+				try {
+					Files.move(temporaryFile, classFile, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException ex) {
+					Files.move(temporaryFile, classFile, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException ex) {
+			throw new IllegalStateException("Failed to write cached class `" + className + "` to `" + this.directory + "`!", ex);
+		}
+	}
+
+	/**
+	 * Returns path of the class file of the class of passed name.
+	 */
+	@Nonnull
+	public Path getClassFile(@Nonnull String className) {
+		return this.directory.resolve(className.replace('.', '/') + ".class");
+	}
+
+	/**
+	 * Returns the class of passed name if it has been already {@link #registerClass(Class) defined} in, or can be
+	 * loaded from the class path by one of the passed class loaders, or NULL. The class is returned only if it
+	 * implements the passed contract - the class of the same name might be found in the parent class loader for
+	 * the contract of the redeployed application.
+	 */
+	@Nullable
+	public static Class<?> findClass(@Nonnull String className, @Nonnull Class<?>[] contract, @Nonnull ClassLoader... classLoaders) {
+		for (ClassLoader classLoader : classLoaders) {
+			if (classLoader != null) {
+				Class<?> foundClass = DEFINED_CLASSES.get(classLoader, className);
+				// LOADING CLASS THAT DOESN'T EXIST WOULD MAKE THE CLASS LOADER UNABLE TO DEFINE IT LATER
+				if (foundClass == null && classLoader.getResource(className.replace('.', '/') + ".class") != null) {
+					try {
+						foundClass = Class.forName(className, false, classLoader);
+					} catch (ClassNotFoundException | LinkageError ex) {
+						// TRY NEXT CLASS LOADER
+					}
+				}
+				if (foundClass != null && isImplementing(foundClass, contract)) {
+					return foundClass;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Remembers the class defined by the generator so that it's {@link #findClass(String, Class[], ClassLoader...) found}
+	 * and not defined again when the class cache of the generator is cleared. Classes cannot be defined twice in
+	 * the same class loader.
+	 */
+	public static void registerClass(@Nonnull Class<?> definedClass) {
+		DEFINED_CLASSES.computeIfAbsent(definedClass.getClassLoader(), definedClass.getName(), className -> definedClass);
+	}
+
+	private static boolean isImplementing(@Nonnull Class<?> foundClass, @Nonnull Class<?>[] contract) {
+		for (Class<?> type : contract) {
+			if (!type.isAssignableFrom(foundClass)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Nonnull
+	private static Set<Class<?>> getTypeHierarchy(@Nonnull Class<?> type) {
+		final Set<Class<?>> result = new LinkedHashSet<>();
+		final List<Class<?>> queue = new ArrayList<>();
+		queue.add(type);
+		for (int i = 0; i < queue.size(); i++) {
+			final Class<?> examinedType = queue.get(i);
+			if (result.add(examinedType)) {
+				if (examinedType.getSuperclass() != null) {
+					queue.add(examinedType.getSuperclass());
+				}
+				Collections.addAll(queue, examinedType.getInterfaces());
+			}
+		}
+		return result;
+	}
+
+	@Nonnull
+	private static byte[] readClassFile(@Nonnull Class<?> type) {
+		final String resourceName = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+		try (final InputStream is = type.getResourceAsStream(resourceName)) {
+			if (is == null) {
+				return new byte[0];
+			}
+			final ByteArrayOutputStream result = new ByteArrayOutputStream(32_768);
+			final byte[] buffer = new byte[8192];
+			for (int read = is.read(buffer); read >= 0; read = is.read(buffer)) {
+				result.write(buffer, 0, read);
+			}
+			return result.toByteArray();
+		} catch (IOException ex) {
+			throw new IllegalStateException("Failed to read class file of `" + type.getName() + "`!", ex);
+		}
+	}
+
+	private static void update(@Nonnull MessageDigest digest, @Nonnull String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+	@Nonnull
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not supported by the JVM!", ex);
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Snapshot of the statistics of the {@link ClassScopedCache}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CacheStatistics {
+	/**
+	 * Count of the lookups that found the entry in the cache.
+	 */
+	@Getter private final long hitCount;
+	/**
+	 * Count of the lookups that had to compute the entry.
+	 */
+	@Getter private final long missCount;
+	/**
+	 * Count of the entries evicted by the {@link EvictionPolicy}.
+	 */
+	@Getter private final long evictionCount;
+
+	/**
+	 * Returns ratio of the lookups that found the entry in the cache or 1 if there was no lookup yet.
+	 */
+	public double getHitRate() {
+		final long requestCount = this.hitCount + this.missCount;
+		return requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount;
+	}
+
+}
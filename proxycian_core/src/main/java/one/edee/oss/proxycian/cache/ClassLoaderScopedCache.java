@@ -0,0 +1,208 @@
+package one.edee.oss.proxycian.cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache that keeps separate set of entries for each {@link ClassLoader}. Class loaders are referenced weakly, so that
+ * the whole section of the cache is dropped when the class loader is garbage collected (e.g. on web application
+ * redeploy). Values are referenced weakly too - the cache is meant for generated classes, that are held strongly by
+ * their class loader anyway, but that can be unloaded on their own when they're defined in an unloadable way.
+ *
+ * Keys must not reference the classes of the class loader strongly, otherwise they'd prevent the class loader from
+ * being collected - see {@link ProxyClassCacheKey}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ClassLoaderScopedCache<K, V> {
+	private static final Object BOOTSTRAP_CLASS_LOADER = new Object();
+	private final Map<Object, Map<K, ValueReference<K, V>>> caches = new ConcurrentHashMap<>(16);
+	private final ReferenceQueue<Object> staleReferences = new ReferenceQueue<>();
+	private final InFlightComputations inFlightComputations = new InFlightComputations();
+	private final Object publicationLock = new Object();
+
+	/**
+	 * Returns value cached for passed class loader and key or computes new one using passed factory and stores it.
+	 * The factory is called only once for the same class loader and key, even if multiple threads ask for it
+	 * concurrently - the other threads wait for the result of the first one without holding any lock.
+	 */
+	@Nonnull
+	public V computeIfAbsent(@Nullable ClassLoader classLoader, @Nonnull K key, @Nonnull Function<K, V> valueFactory) {
+		expungeStaleEntries();
+		final Map<K, ValueReference<K, V>> cache = getOrCreateCache(classLoader);
+		final ValueReference<K, V> existingReference = cache.get(key);
+		final V existingValue = existingReference == null ? null : existingReference.get();
+		if (existingValue != null) {
+			return existingValue;
+		}
+
+		// THE VALUE IS COMPUTED OUTSIDE THE LOCK OF THE MAP - GENERATING CLASS MAY TAKE A WHILE
+		return this.inFlightComputations.compute(
+			classLoader == null ? BOOTSTRAP_CLASS_LOADER : classLoader,
+			key,
+			() -> get(classLoader, key),
+			() -> {
+				final V newValue = valueFactory.apply(key);
+				// THE CACHE MIGHT HAVE BEEN CLEARED DURING THE COMPUTATION - PUBLISH TO THE CURRENT SECTION OF THE CLASS
+				// LOADER UNDER THE LOCK SO THAT THE CLEARING CANNOT INTERLEAVE
+				synchronized (this.publicationLock) {
+					final Map<K, ValueReference<K, V>> currentCache = getOrCreateCache(classLoader);
+					currentCache.put(key, new ValueReference<>(key, newValue, currentCache, this.staleReferences));
+				}
+				return newValue;
+			}
+		);
+	}
+
+	/**
+	 * Returns value cached for passed class loader and key or NULL if there is none.
+	 */
+	@Nullable
+	public V get(@Nullable ClassLoader classLoader, @Nonnull K key) {
+		expungeStaleEntries();
+		final Map<K, ValueReference<K, V>> cache = this.caches.get(
+			classLoader == null ? BOOTSTRAP_CLASS_LOADER : new ClassLoaderKey(classLoader)
+		);
+		final ValueReference<K, V> reference = cache == null ? null : cache.get(key);
+		return reference == null ? null : reference.get();
+	}
+
+	/**
+	 * Returns count of the live entries in the cache for all class loaders.
+	 */
+	public int size() {
+		expungeStaleEntries();
+		int size = 0;
+		for (Map<K, ValueReference<K, V>> cache : this.caches.values()) {
+			for (ValueReference<K, V> reference : cache.values()) {
+				if (reference.get() != null) {
+					size++;
+				}
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Drops all entries of the cache.
+	 */
+	public void clear() {
+		synchronized (this.publicationLock) {
+			this.caches.clear();
+		}
+		expungeStaleEntries();
+	}
+
+	/**
+	 * Returns section of the cache for passed class loader, the section is created when there is none yet.
+	 */
+	@Nonnull
+	private Map<K, ValueReference<K, V>> getOrCreateCache(@Nullable ClassLoader classLoader) {
+		final Map<K, ValueReference<K, V>> cache = this.caches.get(
+			classLoader == null ? BOOTSTRAP_CLASS_LOADER : new ClassLoaderKey(classLoader)
+		);
+		if (cache == null) {
+			return this.caches.computeIfAbsent(
+				classLoader == null ? BOOTSTRAP_CLASS_LOADER : new ClassLoaderReference(classLoader, this.staleReferences),
+				theLoaderKey -> new ConcurrentHashMap<>(16)
+			);
+		} else {
+			return cache;
+		}
+	}
+
+	private void expungeStaleEntries() {
+		Reference<?> reference;
+		while ((reference = this.staleReferences.poll()) != null) {
+			if (reference instanceof ValueReference) {
+				((ValueReference<?, ?>) reference).expunge();
+			} else {
+				this.caches.remove(reference);
+			}
+		}
+	}
+
+	/**
+	 * Lookup key of the class loader - it's equal to the {@link ClassLoaderReference} of the same class loader.
+	 */
+	private static class ClassLoaderKey {
+		private final ClassLoader classLoader;
+		private final int hash;
+
+		ClassLoaderKey(@Nonnull ClassLoader classLoader) {
+			this.classLoader = classLoader;
+			this.hash = System.identityHashCode(classLoader);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof ClassLoaderReference) {
+				return ((ClassLoaderReference) o).get() == this.classLoader;
+			} else {
+				return o instanceof ClassLoaderKey && ((ClassLoaderKey) o).classLoader == this.classLoader;
+			}
+		}
+	}
+
+	/**
+	 * Weak reference to the class loader stored as the key of the cache section.
+	 */
+	private static class ClassLoaderReference extends WeakReference<ClassLoader> {
+		private final int hash;
+
+		ClassLoaderReference(@Nonnull ClassLoader classLoader, @Nonnull ReferenceQueue<Object> queue) {
+			super(classLoader, queue);
+			this.hash = System.identityHashCode(classLoader);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			final ClassLoader classLoader = get();
+			if (classLoader == null) {
+				return false;
+			} else if (o instanceof ClassLoaderKey) {
+				return ((ClassLoaderKey) o).classLoader == classLoader;
+			} else {
+				return o instanceof ClassLoaderReference && ((ClassLoaderReference) o).get() == classLoader;
+			}
+		}
+	}
+
+	/**
+	 * Weak reference to the cached value that knows how to remove itself from the cache once the value is collected.
+	 */
+	private static class ValueReference<K, V> extends WeakReference<V> {
+		private final K key;
+		private final Map<K, ValueReference<K, V>> cache;
+
+		ValueReference(@Nonnull K key, @Nonnull V value, @Nonnull Map<K, ValueReference<K, V>> cache, @Nonnull ReferenceQueue<Object> queue) {
+			super(value, queue);
+			this.key = key;
+			this.cache = cache;
+		}
+
+		void expunge() {
+			this.cache.remove(this.key, this);
+		}
+	}
+
+}
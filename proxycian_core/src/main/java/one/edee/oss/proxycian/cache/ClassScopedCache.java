@@ -0,0 +1,262 @@
+package one.edee.oss.proxycian.cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Cache that attaches its entries directly to their owner class via {@link ClassValue}. Entries don't prevent their
+ * owner class (and its class loader) from being garbage collected and they're collected together with it, even if
+ * they reference the owner class themselves. The cache keeps weak registry of the owner classes so that all entries
+ * could be listed and cleared at once.
+ *
+ * The cache is unbounded by default. When {@link EvictionPolicy} is set, the cache keeps at most
+ * {@link EvictionPolicy#getMaximumSize()} entries and the policy decides which of them are evicted. Accesses to
+ * the entries are recorded to the policy only when its lock is not contended, so that the lookups never block each
+ * other.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ClassScopedCache<K, V> {
+	private final ClassValue<Map<K, CacheEntry<K, V>>> entriesByClass = new ClassValue<Map<K, CacheEntry<K, V>>>() {
+		@Override
+		protected Map<K, CacheEntry<K, V>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>(4);
+		}
+	};
+	private final Map<Class<?>, Boolean> ownerClasses = Collections.synchronizedMap(new WeakHashMap<>(32));
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final InFlightComputations inFlightComputations = new InFlightComputations();
+	private final ReferenceQueue<Object> collectedEntries = new ReferenceQueue<>();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private volatile EvictionPolicy evictionPolicy;
+
+	/**
+	 * Returns value cached for passed owner class and key or computes new one using passed factory and stores it.
+	 * The factory is called only once for the same owner class and key, even if multiple threads ask for it
+	 * concurrently - the other threads wait for the result of the first one without holding any lock.
+	 */
+	@Nonnull
+	public V computeIfAbsent(@Nonnull Class<?> ownerClass, @Nonnull K key, @Nonnull Function<K, V> valueFactory) {
+		final CacheEntry<K, V> existingEntry = this.entriesByClass.get(ownerClass).get(key);
+		if (existingEntry != null) {
+			recordHit(existingEntry);
+			return existingEntry.value;
+		}
+		final EvictionPolicy policy = this.evictionPolicy;
+		final boolean[] computed = new boolean[1];
+		// THE VALUE IS COMPUTED OUTSIDE THE LOCK OF THE MAP - CONCURRENT REQUESTS FOR THE SAME KEY WAIT FOR ITS RESULT
+		final CacheEntry<K, V> entry = this.inFlightComputations.compute(
+			ownerClass,
+			key,
+			() -> this.entriesByClass.get(ownerClass).get(key),
+			() -> {
+				final V value = valueFactory.apply(key);
+				// THE CACHE MIGHT HAVE BEEN CLEARED DURING THE COMPUTATION - PUBLISH TO THE CURRENT MAP OF THE OWNER CLASS
+				// UNDER THE LOCK OF THE REGISTRY SO THAT THE CLEARING CANNOT INTERLEAVE
+				synchronized (this.ownerClasses) {
+					final Map<K, CacheEntry<K, V>> currentEntries = this.entriesByClass.get(ownerClass);
+					final CacheEntry<K, V> newEntry = new CacheEntry<>(
+						key, value, currentEntries,
+						policy == null ? null : this.collectedEntries
+					);
+					currentEntries.put(key, newEntry);
+					this.ownerClasses.put(ownerClass, Boolean.TRUE);
+					computed[0] = true;
+					return newEntry;
+				}
+			}
+		);
+		if (computed[0]) {
+			this.missCount.increment();
+			if (entry.node != null) {
+				recordInsertion(policy, entry);
+			}
+		} else {
+			recordHit(entry);
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Returns value cached for passed owner class and key or null if there is none. The lookup is not counted in
+	 * the statistics and is not recorded to the eviction policy.
+	 */
+	@Nullable
+	public V getIfPresent(@Nonnull Class<?> ownerClass, @Nonnull K key) {
+		final CacheEntry<K, V> entry = this.entriesByClass.get(ownerClass).get(key);
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * Sets the policy that bounds the size of the cache, or makes the cache unbounded when null is passed. All entries
+	 * of the cache are dropped and the statistics are reset. Single policy instance must not be shared by multiple
+	 * caches.
+	 */
+	public void setEvictionPolicy(@Nullable EvictionPolicy evictionPolicy) {
+		this.evictionLock.lock();
+		try {
+			clear();
+			this.evictionPolicy = evictionPolicy;
+			this.hitCount.reset();
+			this.missCount.reset();
+			this.evictionCount.reset();
+		} finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the policy that bounds the size of the cache or null if the cache is unbounded.
+	 */
+	@Nullable
+	public EvictionPolicy getEvictionPolicy() {
+		return this.evictionPolicy;
+	}
+
+	/**
+	 * Returns snapshot of the hit, miss and eviction counts of the cache.
+	 */
+	@Nonnull
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum());
+	}
+
+	/**
+	 * Returns count of the entries of all live owner classes.
+	 */
+	public int size() {
+		synchronized (this.ownerClasses) {
+			int size = 0;
+			for (Class<?> ownerClass : this.ownerClasses.keySet()) {
+				size += this.entriesByClass.get(ownerClass).size();
+			}
+			return size;
+		}
+	}
+
+	/**
+	 * Returns true if there is no entry in the cache.
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns snapshot of the entries of all live owner classes.
+	 */
+	@Nonnull
+	public Collection<V> values() {
+		synchronized (this.ownerClasses) {
+			final Collection<V> values = new ArrayList<>(this.ownerClasses.size());
+			for (Class<?> ownerClass : this.ownerClasses.keySet()) {
+				for (CacheEntry<K, V> entry : this.entriesByClass.get(ownerClass).values()) {
+					values.add(entry.value);
+				}
+			}
+			return values;
+		}
+	}
+
+	/**
+	 * Drops all entries of the cache.
+	 */
+	public void clear() {
+		this.evictionLock.lock();
+		try {
+			final EvictionPolicy policy = this.evictionPolicy;
+			if (policy != null) {
+				policy.clear();
+			}
+			synchronized (this.ownerClasses) {
+				for (Class<?> ownerClass : this.ownerClasses.keySet()) {
+					this.entriesByClass.remove(ownerClass);
+				}
+				this.ownerClasses.clear();
+			}
+		} finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Counts the hit and records the access to the policy, unless the policy is busy.
+	 */
+	private void recordHit(@Nonnull CacheEntry<K, V> entry) {
+		this.hitCount.increment();
+		if (entry.node != null && this.evictionLock.tryLock()) {
+			try {
+				final EvictionPolicy policy = this.evictionPolicy;
+				if (policy != null && entry.node.get() != null) {
+					policy.recordAccess(entry.node);
+				}
+			} finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Records the insertion to the policy and evicts the entries the policy selects.
+	 */
+	private void recordInsertion(@Nonnull EvictionPolicy policy, @Nonnull CacheEntry<K, V> entry) {
+		this.evictionLock.lock();
+		try {
+			// POLICY MIGHT HAVE BEEN REPLACED IN THE MEANTIME - THE ENTRY WAS DROPPED ALONG WITH THE OLD ONE THEN
+			if (policy != this.evictionPolicy) {
+				return;
+			}
+			// FORGET THE ENTRIES OF THE GARBAGE COLLECTED OWNER CLASSES
+			Reference<?> collectedNode;
+			while ((collectedNode = this.collectedEntries.poll()) != null) {
+				policy.recordRemoval((EvictionNode) collectedNode);
+			}
+			policy.recordInsertion(entry.node, this::evict);
+		} finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Drops the entry represented by the node from the cache.
+	 */
+	@SuppressWarnings("unchecked")
+	private void evict(@Nonnull EvictionNode node) {
+		final CacheEntry<K, V> entry = (CacheEntry<K, V>) node.get();
+		// THE NODE WON'T BE ENQUEUED WHEN THE ENTRY IS GARBAGE COLLECTED LATER
+		node.clear();
+		if (entry != null && entry.entries.remove(entry.key, entry)) {
+			this.evictionCount.increment();
+		}
+	}
+
+	/**
+	 * Entry of the cache. It references the map of its owner class so that it could be evicted.
+	 */
+	private static class CacheEntry<K, V> {
+		private final K key;
+		private final V value;
+		private final Map<K, CacheEntry<K, V>> entries;
+		@Nullable private final EvictionNode node;
+
+		CacheEntry(@Nonnull K key, @Nonnull V value, @Nonnull Map<K, CacheEntry<K, V>> entries, @Nullable ReferenceQueue<Object> referenceQueue) {
+			this.key = key;
+			this.value = value;
+			this.entries = entries;
+			this.node = referenceQueue == null ? null : new EvictionNode(this, key.hashCode(), referenceQueue);
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+package one.edee.oss.proxycian.cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.function.Function;
+
+/**
+ * Cache of the {@link MethodDispatchTable dispatch tables} of the proxy classes. The tables are attached directly to
+ * their proxy class, so they don't prevent the proxy class (and its class loader) from being garbage collected and
+ * they're collected together with it.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class DispatchTableCache extends ClassScopedCache<DispatchTableCacheKey, MethodDispatchTable> {
+
+	/**
+	 * Returns dispatch table for passed key or creates new one using passed factory and stores it.
+	 */
+	@Nonnull
+	public MethodDispatchTable computeIfAbsent(@Nonnull DispatchTableCacheKey key, @Nonnull Function<DispatchTableCacheKey, MethodDispatchTable> tableFactory) {
+		return computeIfAbsent(key.getClazz(), key, tableFactory);
+	}
+
+	/**
+	 * Returns dispatch table for passed key or null if there is none. See {@link #getIfPresent(Class, Object)}.
+	 */
+	@Nullable
+	public MethodDispatchTable getIfPresent(@Nonnull DispatchTableCacheKey key) {
+		return getIfPresent(key.getClazz(), key);
+	}
+
+	/**
+	 * Clears all dispatch tables (proxies keep references to them, so they need to be emptied) and drops them from
+	 * the cache.
+	 */
+	@Override
+	public void clear() {
+		values().forEach(MethodDispatchTable::clear);
+		super.clear();
+	}
+
+}
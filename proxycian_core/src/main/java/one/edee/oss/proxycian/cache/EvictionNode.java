@@ -0,0 +1,33 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Node represents single entry of the size-bounded {@link ClassScopedCache} in the {@link EvictionPolicy}. The node
+ * references its entry only weakly so that the policy doesn't prevent the owner class of the entry from being garbage
+ * collected.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class EvictionNode extends WeakReference<Object> {
+	/**
+	 * Hash code of the key of the entry.
+	 */
+	@Getter private final int keyHash;
+	/**
+	 * Linkage used by the policies of this package.
+	 */
+	EvictionNode previous;
+	EvictionNode next;
+	EvictionNodeDeque deque;
+
+	EvictionNode(@Nonnull Object entry, int keyHash, @Nonnull ReferenceQueue<Object> referenceQueue) {
+		super(entry, referenceQueue);
+		this.keyHash = keyHash;
+	}
+
+}
@@ -0,0 +1,114 @@
+package one.edee.oss.proxycian.cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Intrusive doubly linked list of {@link EvictionNode nodes} ordered from the most recently used (head) to the least
+ * recently used (tail). Node can be part of single deque only.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class EvictionNodeDeque {
+	private EvictionNode head;
+	private EvictionNode tail;
+	private int size;
+
+	/**
+	 * Returns count of the nodes in the deque.
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns true if the node is part of this deque.
+	 */
+	boolean contains(@Nonnull EvictionNode node) {
+		return node.deque == this;
+	}
+
+	/**
+	 * Adds the node as the most recently used one.
+	 */
+	void addFirst(@Nonnull EvictionNode node) {
+		node.deque = this;
+		node.previous = null;
+		node.next = this.head;
+		if (this.head == null) {
+			this.tail = node;
+		} else {
+			this.head.previous = node;
+		}
+		this.head = node;
+		this.size++;
+	}
+
+	/**
+	 * Moves the node that is part of this deque to the most recently used position.
+	 */
+	void moveToFirst(@Nonnull EvictionNode node) {
+		if (this.head != node) {
+			remove(node);
+			addFirst(node);
+		}
+	}
+
+	/**
+	 * Returns the least recently used node or null if the deque is empty.
+	 */
+	@Nullable
+	EvictionNode peekLast() {
+		return this.tail;
+	}
+
+	/**
+	 * Removes and returns the least recently used node or null if the deque is empty.
+	 */
+	@Nullable
+	EvictionNode removeLast() {
+		final EvictionNode node = this.tail;
+		if (node != null) {
+			remove(node);
+		}
+		return node;
+	}
+
+	/**
+	 * Removes the node that is part of this deque.
+	 */
+	void remove(@Nonnull EvictionNode node) {
+		if (node.previous == null) {
+			this.head = node.next;
+		} else {
+			node.previous.next = node.next;
+		}
+		if (node.next == null) {
+			this.tail = node.previous;
+		} else {
+			node.next.previous = node.previous;
+		}
+		node.previous = null;
+		node.next = null;
+		node.deque = null;
+		this.size--;
+	}
+
+	/**
+	 * Removes all nodes from the deque.
+	 */
+	void clear() {
+		EvictionNode node = this.head;
+		while (node != null) {
+			final EvictionNode next = node.next;
+			node.previous = null;
+			node.next = null;
+			node.deque = null;
+			node = next;
+		}
+		this.head = null;
+		this.tail = null;
+		this.size = 0;
+	}
+
+}
@@ -0,0 +1,43 @@
+package one.edee.oss.proxycian.cache;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * Eviction policy decides which entries of the size-bounded {@link ClassScopedCache} should be dropped when the cache
+ * exceeds its maximum size. The policy keeps its own bookkeeping of the {@link EvictionNode nodes} representing
+ * the cache entries. Implementations don't need to be thread safe - the cache calls them under its own lock. Single
+ * policy instance must not be shared by multiple caches.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public interface EvictionPolicy {
+
+	/**
+	 * Returns maximum count of the entries the cache may hold.
+	 */
+	int getMaximumSize();
+
+	/**
+	 * Records insertion of the new entry to the cache and passes all entries that should be evicted to the `evictor`.
+	 * The evicted entry might be the inserted one.
+	 */
+	void recordInsertion(@Nonnull EvictionNode node, @Nonnull Consumer<EvictionNode> evictor);
+
+	/**
+	 * Records access to the existing entry of the cache.
+	 */
+	void recordAccess(@Nonnull EvictionNode node);
+
+	/**
+	 * Records removal of the entry from the cache that was not initiated by the policy (i.e. the owner class of the entry
+	 * was garbage collected). The node might have been already removed from the policy.
+	 */
+	void recordRemoval(@Nonnull EvictionNode node);
+
+	/**
+	 * Forgets all the entries.
+	 */
+	void clear();
+
+}
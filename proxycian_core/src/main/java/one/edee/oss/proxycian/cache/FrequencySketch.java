@@ -0,0 +1,74 @@
+package one.edee.oss.proxycian.cache;
+
+/**
+ * Count-min sketch estimating popularity of the keys within the recent history. Each key is counted in four counters
+ * (capped at 15) and its frequency is the minimum of them. All counters are halved once the count of the recorded
+ * accesses reaches the sample size, so that keys popular long ago age out.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class FrequencySketch {
+	private static final int[] SEEDS = {0x97cb3127, 0xb4b82e8b, 0x7f4a7c15, 0x2545f491};
+	private static final int MAXIMUM_FREQUENCY = 15;
+	private final byte[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(int maximumSize) {
+		// FOUR COUNTERS PER ENTRY ROUNDED UP TO THE POWER OF TWO
+		final int requestedSize = Math.min(maximumSize, 1 << 24) * 4;
+		int tableSize = 16;
+		while (tableSize < requestedSize) {
+			tableSize <<= 1;
+		}
+		this.table = new byte[tableSize];
+		this.tableMask = tableSize - 1;
+		this.sampleSize = Math.max(16, maximumSize * 10);
+	}
+
+	/**
+	 * Returns estimated frequency of the key with passed hash.
+	 */
+	int frequency(int keyHash) {
+		int frequency = MAXIMUM_FREQUENCY;
+		for (int seed : SEEDS) {
+			frequency = Math.min(frequency, this.table[indexOf(keyHash, seed)]);
+		}
+		return frequency;
+	}
+
+	/**
+	 * Records access to the key with passed hash.
+	 */
+	void increment(int keyHash) {
+		boolean incremented = false;
+		for (int seed : SEEDS) {
+			final int index = indexOf(keyHash, seed);
+			if (this.table[index] < MAXIMUM_FREQUENCY) {
+				this.table[index]++;
+				incremented = true;
+			}
+		}
+		if (incremented && ++this.additions >= this.sampleSize) {
+			reset();
+		}
+	}
+
+	/**
+	 * Halves all the counters.
+	 */
+	private void reset() {
+		for (int i = 0; i < this.table.length; i++) {
+			this.table[i] = (byte) (this.table[i] >>> 1);
+		}
+		this.additions >>>= 1;
+	}
+
+	private int indexOf(int keyHash, int seed) {
+		int hash = (keyHash ^ seed) * 0x9e3779b9;
+		hash ^= hash >>> 16;
+		return hash & this.tableMask;
+	}
+
+}
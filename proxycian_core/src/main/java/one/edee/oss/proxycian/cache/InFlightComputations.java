@@ -0,0 +1,109 @@
+package one.edee.oss.proxycian.cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the cached values that are being computed right now. The first thread that misses the value computes it
+ * outside any lock and other threads asking for the same value wait for its result, so that the value is computed only
+ * once. Waiting threads park on the future instead of blocking on a monitor, so that virtual threads are not pinned to
+ * their carriers and threads asking for unrelated values never wait at all.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class InFlightComputations {
+	private final Map<InFlightKey, InFlightComputation> computations = new ConcurrentHashMap<>(16);
+
+	/**
+	 * Returns the value found by passed lookup, or computes it by passed computation, unless other thread is computing
+	 * the value for the same scope and key already - then it waits for its result. The computation is responsible for
+	 * storing the value so that the lookup finds it once the computation is finished.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	<V> V compute(@Nonnull Object scope, @Nonnull Object key, @Nonnull Supplier<V> lookup, @Nonnull Supplier<V> computation) {
+		final InFlightKey inFlightKey = new InFlightKey(scope, key);
+		final InFlightComputation newComputation = new InFlightComputation();
+		final InFlightComputation existingComputation = this.computations.putIfAbsent(inFlightKey, newComputation);
+		if (existingComputation != null) {
+			return (V) existingComputation.await();
+		}
+		try {
+			// THE VALUE MIGHT HAVE BEEN STORED BY THE COMPUTATION THAT FINISHED JUST BEFORE WE REGISTERED OURS
+			final V existingValue = lookup.get();
+			final V value = existingValue == null ? computation.get() : existingValue;
+			newComputation.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			newComputation.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.computations.remove(inFlightKey, newComputation);
+		}
+	}
+
+	/**
+	 * Key of the computation - scope (class loader or class) is compared by identity.
+	 */
+	private static class InFlightKey {
+		private final Object scope;
+		private final Object key;
+		private final int hash;
+
+		InFlightKey(@Nonnull Object scope, @Nonnull Object key) {
+			this.scope = scope;
+			this.key = key;
+			this.hash = 31 * System.identityHashCode(scope) + key.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof InFlightKey)) {
+				return false;
+			}
+			final InFlightKey that = (InFlightKey) o;
+			return this.scope == that.scope && this.key.equals(that.key);
+		}
+	}
+
+	/**
+	 * Result of the computation that remembers the thread computing it.
+	 */
+	private static class InFlightComputation extends CompletableFuture<Object> {
+		private final Thread owner = Thread.currentThread();
+
+		@Nonnull
+		Object await() {
+			if (this.owner == Thread.currentThread()) {
+				throw new IllegalStateException("Value is requested recursively during its own computation!");
+			}
+			try {
+				return join();
+			} catch (CompletionException e) {
+				// RETHROW THE ORIGINAL EXCEPTION - AS IF THE WAITING THREAD COMPUTED THE VALUE ITSELF
+				final Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				} else {
+					throw e;
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,135 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Dispatch table keeps resolved {@link CurriedMethodContextInvocationHandler} instances for all methods of single proxy
+ * class and single combination of proxy state / method classification cache keys (see {@link DispatchTableCacheKey}).
+ * Handlers are indexed by the method ordinal that is assigned to each proxied method when the proxy class is generated,
+ * so that resolving the handler on the hot path is a single array read.
+ *
+ * Table is filled lazily - the slot for particular method gets filled on the first call of the method and is reused
+ * for all subsequent calls on all proxy instances sharing this table. When eager classification is requested, all
+ * slots are filled at once when the first proxy of the class is created.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MethodDispatchTable {
+	private static final int DEFAULT_SIZE = 16;
+	/**
+	 * Proxy class the method ordinals of this table belong to.
+	 */
+	@Getter private final Class<?> proxyClass;
+	/**
+	 * Resolved handlers indexed by method ordinal. The array is replaced when it needs to grow or when the table is
+	 * cleared, the slots are filled only once using CAS operation.
+	 */
+	private volatile AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> handlers;
+	/**
+	 * True if all methods of the proxy class have been classified eagerly and stored into this table.
+	 */
+	@Getter private volatile boolean fullyClassified;
+
+	public MethodDispatchTable(@Nonnull Class<?> proxyClass) {
+		this(proxyClass, DEFAULT_SIZE);
+	}
+
+	public MethodDispatchTable(@Nonnull Class<?> proxyClass, int expectedMethodCount) {
+		this.proxyClass = proxyClass;
+		this.handlers = new AtomicReferenceArray<>(Math.max(1, expectedMethodCount));
+	}
+
+	/**
+	 * Returns previously resolved handler for the method with passed ordinal or NULL if the method hasn't been
+	 * resolved yet.
+	 */
+	@Nullable
+	public CurriedMethodContextInvocationHandler<?, ?> get(int methodOrdinal) {
+		final AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> theHandlers = this.handlers;
+		return methodOrdinal < theHandlers.length() ? theHandlers.get(methodOrdinal) : null;
+	}
+
+	/**
+	 * Returns previously resolved handler for the method with passed ordinal or resolves it using passed factory and
+	 * stores it in the table. If multiple threads resolve the same method concurrently, the first stored handler wins
+	 * and is returned to all of them.
+	 */
+	@Nonnull
+	public CurriedMethodContextInvocationHandler<?, ?> computeIfAbsent(int methodOrdinal, @Nonnull Supplier<CurriedMethodContextInvocationHandler<?, ?>> handlerFactory) {
+		final CurriedMethodContextInvocationHandler<?, ?> existingHandler = get(methodOrdinal);
+		if (existingHandler != null) {
+			return existingHandler;
+		}
+		final CurriedMethodContextInvocationHandler<?, ?> resolvedHandler = handlerFactory.get();
+		final AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> theHandlers = ensureCapacity(methodOrdinal);
+		if (theHandlers.compareAndSet(methodOrdinal, null, resolvedHandler)) {
+			return resolvedHandler;
+		} else {
+			final CurriedMethodContextInvocationHandler<?, ?> concurrentlyResolvedHandler = theHandlers.get(methodOrdinal);
+			return concurrentlyResolvedHandler == null ? resolvedHandler : concurrentlyResolvedHandler;
+		}
+	}
+
+	/**
+	 * Drops all resolved handlers. Proxies that keep reference to this table will resolve their methods again
+	 * on next call.
+	 */
+	public synchronized void clear() {
+		this.handlers = new AtomicReferenceArray<>(this.handlers.length());
+		this.fullyClassified = false;
+	}
+
+	/**
+	 * Marks the table as fully classified - all methods of the proxy class have their handlers resolved.
+	 */
+	public void markFullyClassified() {
+		this.fullyClassified = true;
+	}
+
+	/**
+	 * Returns count of the method slots that are currently resolved.
+	 */
+	public int size() {
+		final AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> theHandlers = this.handlers;
+		int size = 0;
+		for (int i = 0; i < theHandlers.length(); i++) {
+			if (theHandlers.get(i) != null) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Grows the handler array so that it can hold passed method ordinal. Handlers resolved in the meantime by other
+	 * threads are copied to the new array.
+	 */
+	@Nonnull
+	private AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> ensureCapacity(int methodOrdinal) {
+		final AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> theHandlers = this.handlers;
+		if (methodOrdinal < theHandlers.length()) {
+			return theHandlers;
+		}
+		synchronized (this) {
+			final AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> currentHandlers = this.handlers;
+			if (methodOrdinal < currentHandlers.length()) {
+				return currentHandlers;
+			}
+			final AtomicReferenceArray<CurriedMethodContextInvocationHandler<?, ?>> grownHandlers = new AtomicReferenceArray<>(
+				Math.max(methodOrdinal + 1, currentHandlers.length() << 1)
+			);
+			for (int i = 0; i < currentHandlers.length(); i++) {
+				grownHandlers.set(i, currentHandlers.get(i));
+			}
+			this.handlers = grownHandlers;
+			return grownHandlers;
+		}
+	}
+
+}
@@ -0,0 +1,46 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+
+/**
+ * This class is used as a key in the index of method classifications. It represents coarse method signature - the name
+ * and the count of the parameters only - that is cheap to compute and still narrows the candidates a lot.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MethodNameArityKey {
+	@Getter private final String name;
+	@Getter private final int arity;
+	private final int hash;
+
+	public MethodNameArityKey(@Nonnull Method method) {
+		this(method.getName(), method.getParameterCount());
+	}
+
+	public MethodNameArityKey(@Nonnull String name, int arity) {
+		this.name = name;
+		this.arity = arity;
+		this.hash = 31 * name.hashCode() + arity;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		MethodNameArityKey that = (MethodNameArityKey) o;
+		return arity == that.arity && name.equals(that.name);
+	}
+
+	@Override
+	public String toString() {
+		return name + "/" + arity;
+	}
+}
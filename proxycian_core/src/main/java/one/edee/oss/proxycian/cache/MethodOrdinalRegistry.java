@@ -0,0 +1,64 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Registry assigns ordinals to the methods of single proxy class for the bytecode libraries that cannot bake
+ * the ordinal into the generated method body. The library is expected to pass the same {@link Method} instance for
+ * each invocation of the same proxy method, so that the hot path lookup is a single identity probe without any
+ * allocation. Equal {@link Method} instances with different identity share the same ordinal.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MethodOrdinalRegistry {
+	/**
+	 * Proxy class the ordinals of this registry belong to.
+	 */
+	@Getter private final Class<?> proxyClass;
+	/**
+	 * Copy-on-write identity index of the methods, replaced on each registration of a new method instance.
+	 */
+	private volatile Map<Method, Integer> ordinalsByIdentity = new IdentityHashMap<>(16);
+	/**
+	 * Index of the methods by their equality, accessed only when registering the new method instance.
+	 */
+	private final Map<Method, Integer> ordinalsByEquality = new HashMap<>(16);
+
+	public MethodOrdinalRegistry(@Nonnull Class<?> proxyClass) {
+		this.proxyClass = proxyClass;
+	}
+
+	/**
+	 * Returns ordinal of the passed method. New ordinal is assigned if the method hasn't been seen yet.
+	 */
+	public int getOrdinal(@Nonnull Method method) {
+		final Integer ordinal = this.ordinalsByIdentity.get(method);
+		return ordinal == null ? register(method) : ordinal;
+	}
+
+	/**
+	 * Returns count of distinct methods registered in this registry.
+	 */
+	public synchronized int size() {
+		return this.ordinalsByEquality.size();
+	}
+
+	private synchronized int register(@Nonnull Method method) {
+		final Integer existingOrdinal = this.ordinalsByIdentity.get(method);
+		if (existingOrdinal != null) {
+			return existingOrdinal;
+		}
+		final Integer ordinal = this.ordinalsByEquality.computeIfAbsent(method, m -> this.ordinalsByEquality.size());
+		final Map<Method, Integer> newOrdinalsByIdentity = new IdentityHashMap<>(this.ordinalsByIdentity);
+		newOrdinalsByIdentity.put(method, ordinal);
+		this.ordinalsByIdentity = newOrdinalsByIdentity;
+		return ordinal;
+	}
+
+}
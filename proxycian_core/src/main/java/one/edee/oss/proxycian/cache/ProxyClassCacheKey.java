@@ -0,0 +1,82 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class should be used as caching key for generated proxy classes. Proxy class is identified by the set of
+ * the interfaces (or abstract class) it implements, by the generation mode of the generator, that may produce
+ * different class for the same contract, and by the mask of the standard methods implemented directly by the class.
+ *
+ * The interfaces are referenced weakly so that the key doesn't prevent their class loader from being garbage
+ * collected - see {@link ClassLoaderScopedCache}. Key of the collected interface is not equal to any other key.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ProxyClassCacheKey {
+	private final WeakReference<Class<?>>[] interfaces;
+	@Getter private final Object generationMode;
+	@Getter private final int fastPathMask;
+	private final int hash;
+
+	public ProxyClassCacheKey(@Nonnull Class<?>[] interfaces) {
+		this(interfaces, null, 0);
+	}
+
+	public ProxyClassCacheKey(@Nonnull Class<?>[] interfaces, @Nullable Object generationMode) {
+		this(interfaces, generationMode, 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	public ProxyClassCacheKey(@Nonnull Class<?>[] interfaces, @Nullable Object generationMode, int fastPathMask) {
+		this.interfaces = new WeakReference[interfaces.length];
+		for (int i = 0; i < interfaces.length; i++) {
+			this.interfaces[i] = new WeakReference<>(interfaces[i]);
+		}
+		this.generationMode = generationMode;
+		this.fastPathMask = fastPathMask;
+		this.hash = 31 * (31 * Arrays.hashCode(interfaces) + Objects.hashCode(generationMode)) + fastPathMask;
+	}
+
+	/**
+	 * Returns the interfaces (or abstract class) of the proxy class. Items of garbage collected classes are NULL.
+	 */
+	@Nonnull
+	public Class<?>[] getInterfaces() {
+		final Class<?>[] result = new Class[this.interfaces.length];
+		for (int i = 0; i < this.interfaces.length; i++) {
+			result[i] = this.interfaces[i].get();
+		}
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		if (((ProxyClassCacheKey) o).hash != this.hash) return false;
+		ProxyClassCacheKey that = (ProxyClassCacheKey) o;
+		if (fastPathMask != that.fastPathMask ||
+			interfaces.length != that.interfaces.length ||
+			!Objects.equals(generationMode, that.generationMode)) {
+			return false;
+		}
+		for (int i = 0; i < interfaces.length; i++) {
+			final Class<?> anInterface = interfaces[i].get();
+			if (anInterface == null || anInterface != that.interfaces[i].get()) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
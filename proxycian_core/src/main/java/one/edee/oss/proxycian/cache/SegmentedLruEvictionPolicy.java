@@ -0,0 +1,66 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * Segmented LRU eviction policy. New entries enter the probation segment and are promoted to the protected segment
+ * (taking 80% of the cache) when they're accessed again. Entries falling out of the protected segment are demoted back
+ * to probation and the least recently used entry of the probation segment is evicted first. Entries used only once
+ * therefore can't flush out the entries that are used repeatedly.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class SegmentedLruEvictionPolicy implements EvictionPolicy {
+	@Getter private final int maximumSize;
+	private final int maximumProtectedSize;
+	private final EvictionNodeDeque probation = new EvictionNodeDeque();
+	private final EvictionNodeDeque protectedSegment = new EvictionNodeDeque();
+
+	public SegmentedLruEvictionPolicy(int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be positive, but was " + maximumSize + "!");
+		}
+		this.maximumSize = maximumSize;
+		this.maximumProtectedSize = (int) (maximumSize * 0.8);
+	}
+
+	@Override
+	public void recordInsertion(@Nonnull EvictionNode node, @Nonnull Consumer<EvictionNode> evictor) {
+		this.probation.addFirst(node);
+		while (this.probation.size() + this.protectedSegment.size() > this.maximumSize) {
+			final EvictionNode victim = this.probation.size() > 0 ? this.probation.removeLast() : this.protectedSegment.removeLast();
+			evictor.accept(victim);
+		}
+	}
+
+	@Override
+	public void recordAccess(@Nonnull EvictionNode node) {
+		if (this.probation.contains(node)) {
+			this.probation.remove(node);
+			this.protectedSegment.addFirst(node);
+			// DEMOTE THE LEAST RECENTLY USED PROTECTED ENTRIES
+			while (this.protectedSegment.size() > this.maximumProtectedSize) {
+				this.probation.addFirst(this.protectedSegment.removeLast());
+			}
+		} else if (this.protectedSegment.contains(node)) {
+			this.protectedSegment.moveToFirst(node);
+		}
+	}
+
+	@Override
+	public void recordRemoval(@Nonnull EvictionNode node) {
+		if (node.deque != null) {
+			node.deque.remove(node);
+		}
+	}
+
+	@Override
+	public void clear() {
+		this.probation.clear();
+		this.protectedSegment.clear();
+	}
+
+}
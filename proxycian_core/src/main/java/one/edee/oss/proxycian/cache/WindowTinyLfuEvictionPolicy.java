@@ -0,0 +1,102 @@
+package one.edee.oss.proxycian.cache;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * Window TinyLFU eviction policy. New entries enter a small LRU admission window (1% of the cache). Entries leaving
+ * the window compete with the eviction candidate of the main segmented LRU region and the one that was accessed less
+ * frequently in the recent history (as estimated by {@link FrequencySketch}) is evicted. Burst of the one-off entries
+ * therefore can't flush out the popular entries, while new popular entries get the chance to build up their frequency
+ * in the window.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class WindowTinyLfuEvictionPolicy implements EvictionPolicy {
+	@Getter private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumMainSize;
+	private final int maximumProtectedSize;
+	private final FrequencySketch sketch;
+	private final EvictionNodeDeque window = new EvictionNodeDeque();
+	private final EvictionNodeDeque probation = new EvictionNodeDeque();
+	private final EvictionNodeDeque protectedSegment = new EvictionNodeDeque();
+
+	public WindowTinyLfuEvictionPolicy(int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("Maximum size must be positive, but was " + maximumSize + "!");
+		}
+		this.maximumSize = maximumSize;
+		this.maximumWindowSize = Math.max(1, maximumSize / 100);
+		this.maximumMainSize = maximumSize - this.maximumWindowSize;
+		this.maximumProtectedSize = (int) (this.maximumMainSize * 0.8);
+		this.sketch = new FrequencySketch(maximumSize);
+	}
+
+	@Override
+	public void recordInsertion(@Nonnull EvictionNode node, @Nonnull Consumer<EvictionNode> evictor) {
+		this.sketch.increment(node.getKeyHash());
+		this.window.addFirst(node);
+		while (this.window.size() > this.maximumWindowSize) {
+			// ENTRY LEAVING THE WINDOW ENTERS THE MAIN REGION AS A CANDIDATE
+			final EvictionNode candidate = this.window.removeLast();
+			this.probation.addFirst(candidate);
+			if (this.probation.size() + this.protectedSegment.size() > this.maximumMainSize) {
+				evictor.accept(selectVictim(candidate));
+			}
+		}
+	}
+
+	@Override
+	public void recordAccess(@Nonnull EvictionNode node) {
+		this.sketch.increment(node.getKeyHash());
+		if (this.window.contains(node)) {
+			this.window.moveToFirst(node);
+		} else if (this.probation.contains(node)) {
+			this.probation.remove(node);
+			this.protectedSegment.addFirst(node);
+			// DEMOTE THE LEAST RECENTLY USED PROTECTED ENTRIES
+			while (this.protectedSegment.size() > this.maximumProtectedSize) {
+				this.probation.addFirst(this.protectedSegment.removeLast());
+			}
+		} else if (this.protectedSegment.contains(node)) {
+			this.protectedSegment.moveToFirst(node);
+		}
+	}
+
+	@Override
+	public void recordRemoval(@Nonnull EvictionNode node) {
+		if (node.deque != null) {
+			node.deque.remove(node);
+		}
+	}
+
+	@Override
+	public void clear() {
+		this.window.clear();
+		this.probation.clear();
+		this.protectedSegment.clear();
+	}
+
+	/**
+	 * Removes from the main region and returns either the candidate or the least recently used entry of the main region,
+	 * whichever is less frequently used.
+	 */
+	@Nonnull
+	private EvictionNode selectVictim(@Nonnull EvictionNode candidate) {
+		EvictionNode victim = this.probation.peekLast();
+		if (victim == candidate) {
+			victim = this.protectedSegment.peekLast();
+		}
+		if (victim == null || this.sketch.frequency(candidate.getKeyHash()) <= this.sketch.frequency(victim.getKeyHash())) {
+			this.probation.remove(candidate);
+			return candidate;
+		} else {
+			victim.deque.remove(victim);
+			return victim;
+		}
+	}
+
+}
@@ -0,0 +1,29 @@
+package one.edee.oss.proxycian.exception;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * This exception is thrown when eager classification of the proxy class finds methods that are not handled by any
+ * method classification. Such methods would throw {@link UnsupportedOperationException} when called.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MissingMethodImplementationException extends IllegalStateException {
+	private static final long serialVersionUID = -2893471203512784367L;
+	@Getter private final transient List<Method> unhandledMethods;
+
+	public MissingMethodImplementationException(@Nonnull Class<?> proxyClass, @Nonnull List<Method> unhandledMethods) {
+		super(
+			"Proxy class " + proxyClass.getName() + " has no implementation for methods: " +
+				unhandledMethods.stream().map(Method::toGenericString).collect(Collectors.joining(", ")) + "!"
+		);
+		this.unhandledMethods = Collections.unmodifiableList(unhandledMethods);
+	}
+
+}
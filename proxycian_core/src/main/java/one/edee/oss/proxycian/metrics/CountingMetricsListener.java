@@ -0,0 +1,126 @@
+package one.edee.oss.proxycian.metrics;
+
+import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link ProxycianMetricsListener} implementation that only counts the events and sums their durations using
+ * {@link LongAdder} counters, so that it adds no contention even when the proxies are created from many threads.
+ * Counts of the instances are kept per proxy class directly on the class, so the listener doesn't prevent the proxy
+ * classes from being garbage collected.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class CountingMetricsListener implements ProxycianMetricsListener {
+	private final LongAdder generatedClassCount = new LongAdder();
+	private final LongAdder classGenerationNanos = new LongAdder();
+	private final LongAdder classificationCacheHitCount = new LongAdder();
+	private final LongAdder classificationCacheMissCount = new LongAdder();
+	private final LongAdder classifiedMethodCount = new LongAdder();
+	private final LongAdder methodClassificationNanos = new LongAdder();
+	private final LongAdder instantiatedProxyCount = new LongAdder();
+	private final ClassValue<LongAdder> instantiatedProxyCountByClass = new ClassValue<LongAdder>() {
+		@Override
+		protected LongAdder computeValue(Class<?> type) {
+			return new LongAdder();
+		}
+	};
+
+	@Override
+	public void proxyClassGenerated(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, long durationNanos) {
+		this.generatedClassCount.increment();
+		this.classGenerationNanos.add(durationNanos);
+	}
+
+	@Override
+	public void classificationCacheLookup(@Nonnull Class<?> proxyClass, boolean hit) {
+		if (hit) {
+			this.classificationCacheHitCount.increment();
+		} else {
+			this.classificationCacheMissCount.increment();
+		}
+	}
+
+	@Override
+	public void methodClassified(@Nonnull Class<?> proxyClass, @Nonnull Method method, @Nonnull CurriedMethodContextInvocationHandler<?, ?> invocationHandler, long durationNanos) {
+		this.classifiedMethodCount.increment();
+		this.methodClassificationNanos.add(durationNanos);
+	}
+
+	@Override
+	public void proxyInstantiated(@Nonnull String generator, @Nonnull Class<?> proxyClass) {
+		this.instantiatedProxyCount.increment();
+		this.instantiatedProxyCountByClass.get(proxyClass).increment();
+	}
+
+	/**
+	 * Returns count of the generated proxy classes.
+	 */
+	public long getGeneratedClassCount() {
+		return this.generatedClassCount.sum();
+	}
+
+	/**
+	 * Returns total time spent by generating the proxy classes in nanoseconds.
+	 */
+	public long getClassGenerationNanos() {
+		return this.classGenerationNanos.sum();
+	}
+
+	/**
+	 * Returns count of the dispatch table lookups that found the table in the classification cache.
+	 */
+	public long getClassificationCacheHitCount() {
+		return this.classificationCacheHitCount.sum();
+	}
+
+	/**
+	 * Returns count of the dispatch table lookups that had to create new table.
+	 */
+	public long getClassificationCacheMissCount() {
+		return this.classificationCacheMissCount.sum();
+	}
+
+	/**
+	 * Returns ratio of the dispatch table lookups that found the table in the classification cache, or 1 if there was
+	 * no lookup yet.
+	 */
+	public double getClassificationCacheHitRate() {
+		final long hits = getClassificationCacheHitCount();
+		final long lookups = hits + getClassificationCacheMissCount();
+		return lookups == 0 ? 1.0 : (double) hits / lookups;
+	}
+
+	/**
+	 * Returns count of the classified methods.
+	 */
+	public long getClassifiedMethodCount() {
+		return this.classifiedMethodCount.sum();
+	}
+
+	/**
+	 * Returns total time spent by method classification in nanoseconds.
+	 */
+	public long getMethodClassificationNanos() {
+		return this.methodClassificationNanos.sum();
+	}
+
+	/**
+	 * Returns count of all created proxies.
+	 */
+	public long getInstantiatedProxyCount() {
+		return this.instantiatedProxyCount.sum();
+	}
+
+	/**
+	 * Returns count of the created proxies of passed proxy class. Proxies created from the same
+	 * {@link one.edee.oss.proxycian.recipe.ProxyRecipe} usually share the same proxy class.
+	 */
+	public long getInstantiatedProxyCount(@Nonnull Class<?> proxyClass) {
+		return this.instantiatedProxyCountByClass.get(proxyClass).sum();
+	}
+
+}
@@ -0,0 +1,176 @@
+package one.edee.oss.proxycian.metrics;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring buffer keeping the last invocations of the proxy methods dispatched by the generator the trace is
+ * registered to (see `setInvocationTrace` of the proxy generators). Each record keeps the proxy class, the method and its
+ * ordinal, the invocation handler that handled the call and the duration of the call. The records can be read at any
+ * time by {@link #getEntries()} or {@link #dump()}.
+ *
+ * Recording is lock-free and allocates nothing - the slots of the buffer are pre-allocated and the description of
+ * the invocation handler is computed only when the entries are read. When the slot is being written by another thread
+ * (which happens only when the buffer wraps around during single write), the record is dropped and counted in
+ * {@link #getDroppedCount()} instead of waiting.
+ *
+ * The records keep strong references to the proxy classes, methods and invocation handlers, so the trace registered
+ * to the generator prevents them (and their class loaders) from being unloaded until the records are overwritten.
+ * The records are dropped by {@link #clear()}, which is also called when the class cache of the generator is cleared.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class InvocationTrace {
+	/**
+	 * Sequence marking the slot that is being written.
+	 */
+	private static final long WRITING = -1L;
+	/**
+	 * Sequence marking the slot that has never been written.
+	 */
+	private static final long EMPTY = -2L;
+	private final int mask;
+	private final AtomicLong cursor = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLongArray sequences;
+	private final AtomicReferenceArray<Class<?>> proxyClasses;
+	private final AtomicReferenceArray<Method> methods;
+	private final AtomicIntegerArray methodOrdinals;
+	private final AtomicReferenceArray<Object> invocationHandlers;
+	private final AtomicLongArray durations;
+
+	/**
+	 * Creates trace keeping at least passed count of the last invocations (the capacity is rounded up to the power
+	 * of two).
+	 */
+	public InvocationTrace(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be between 1 and 2^30, but was " + capacity + "!");
+		}
+		final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = size - 1;
+		this.sequences = new AtomicLongArray(size);
+		this.proxyClasses = new AtomicReferenceArray<>(size);
+		this.methods = new AtomicReferenceArray<>(size);
+		this.methodOrdinals = new AtomicIntegerArray(size);
+		this.invocationHandlers = new AtomicReferenceArray<>(size);
+		this.durations = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			this.sequences.set(i, EMPTY);
+		}
+	}
+
+	/**
+	 * Returns count of the invocations the trace keeps.
+	 */
+	public int getCapacity() {
+		return this.mask + 1;
+	}
+
+	/**
+	 * Returns count of all recorded invocations including the ones that were already overwritten.
+	 */
+	public long getRecordedCount() {
+		return this.cursor.get();
+	}
+
+	/**
+	 * Returns count of the invocations that were not recorded because their slot was being written by another thread.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+	/**
+	 * Records the invocation of the proxy method.
+	 *
+	 * @param proxyClass         class of the proxy
+	 * @param method             invoked method
+	 * @param methodOrdinal      ordinal of the method in the dispatch table of the proxy class
+	 * @param invocationHandler  handler that handled the invocation
+	 * @param durationNanos      duration of the invocation
+	 */
+	public void record(@Nonnull Class<?> proxyClass, @Nonnull Method method, int methodOrdinal, @Nonnull Object invocationHandler, long durationNanos) {
+		final long sequence = this.cursor.getAndIncrement();
+		final int index = (int) (sequence & this.mask);
+		final long previousSequence = this.sequences.get(index);
+		// SLOT IS OWNED BY THE WRITER THAT MARKS IT AS BEING WRITTEN - OTHERS DROP THEIR RECORD RATHER THAN WAIT
+		if (previousSequence == WRITING || !this.sequences.compareAndSet(index, previousSequence, WRITING)) {
+			this.droppedCount.incrementAndGet();
+			return;
+		}
+		this.proxyClasses.lazySet(index, proxyClass);
+		this.methods.lazySet(index, method);
+		this.methodOrdinals.lazySet(index, methodOrdinal);
+		this.invocationHandlers.lazySet(index, invocationHandler);
+		this.durations.lazySet(index, durationNanos);
+		this.sequences.lazySet(index, sequence);
+	}
+
+	/**
+	 * Drops all records, so that the trace no longer references the proxy classes, methods and invocation handlers.
+	 * Slots that are being written at the moment are left to their writers.
+	 */
+	public void clear() {
+		for (int i = 0; i <= this.mask; i++) {
+			final long sequence = this.sequences.get(i);
+			if (sequence >= 0 && this.sequences.compareAndSet(i, sequence, WRITING)) {
+				this.proxyClasses.lazySet(i, null);
+				this.methods.lazySet(i, null);
+				this.invocationHandlers.lazySet(i, null);
+				this.sequences.set(i, EMPTY);
+			}
+		}
+	}
+
+	/**
+	 * Returns snapshot of the recorded invocations from the oldest to the newest. Slots that are being written
+	 * at the moment are skipped.
+	 */
+	@Nonnull
+	public List<InvocationTraceEntry> getEntries() {
+		final List<InvocationTraceEntry> entries = new ArrayList<>(getCapacity());
+		for (int i = 0; i <= this.mask; i++) {
+			final long sequence = this.sequences.get(i);
+			if (sequence < 0) {
+				continue;
+			}
+			final Class<?> proxyClass = this.proxyClasses.get(i);
+			final Method method = this.methods.get(i);
+			final int methodOrdinal = this.methodOrdinals.get(i);
+			final Object invocationHandler = this.invocationHandlers.get(i);
+			final long duration = this.durations.get(i);
+			// SLOT WAS OVERWRITTEN WHILE WE WERE READING IT
+			if (this.sequences.get(i) != sequence) {
+				continue;
+			}
+			entries.add(
+				new InvocationTraceEntry(
+					sequence, proxyClass, method, methodOrdinal, invocationHandler.toString(), duration
+				)
+			);
+		}
+		entries.sort(Comparator.comparingLong(InvocationTraceEntry::getSequence));
+		return entries;
+	}
+
+	/**
+	 * Returns the recorded invocations from the oldest to the newest as a text with one invocation per line.
+	 */
+	@Nonnull
+	public String dump() {
+		final StringBuilder sb = new StringBuilder(256);
+		for (InvocationTraceEntry entry : getEntries()) {
+			sb.append(entry).append('\n');
+		}
+		return sb.toString();
+	}
+
+}
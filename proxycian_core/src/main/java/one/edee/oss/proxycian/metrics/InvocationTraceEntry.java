@@ -0,0 +1,48 @@
+package one.edee.oss.proxycian.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+
+/**
+ * Single invocation of the proxy method recorded in the {@link InvocationTrace}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Getter
+@RequiredArgsConstructor
+public class InvocationTraceEntry {
+	/**
+	 * Order of the invocation in the trace.
+	 */
+	private final long sequence;
+	/**
+	 * Class of the proxy.
+	 */
+	@Nonnull private final Class<?> proxyClass;
+	/**
+	 * Invoked method.
+	 */
+	@Nonnull private final Method method;
+	/**
+	 * Ordinal of the method in the dispatch table of the proxy class.
+	 */
+	private final int methodOrdinal;
+	/**
+	 * Description of the invocation handler (classification) that handled the invocation.
+	 */
+	@Nonnull private final String classification;
+	/**
+	 * Duration of the invocation in nanoseconds.
+	 */
+	private final long durationNanos;
+
+	@Override
+	public String toString() {
+		return "#" + this.sequence + " " + this.proxyClass.getName() + "." + this.method.getName() +
+			" [" + this.methodOrdinal + "] handled by " + this.classification + " in " + this.durationNanos + " ns";
+	}
+
+}
@@ -0,0 +1,241 @@
+package one.edee.oss.proxycian.metrics;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.instrument.Instrumentation;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Calculates heap sizes of the objects and of the object graphs. When {@link Instrumentation} is
+ * {@link #setInstrumentation(Instrumentation) registered} (typically from `premain` / `agentmain` method of the java
+ * agent of the application), the shallow sizes are taken from {@link Instrumentation#getObjectSize(Object)}. Otherwise
+ * they're estimated from the fields of the object class and the HotSpot object layout (object header size, reference
+ * size and object alignment are read from the running VM when possible).
+ *
+ * Object graphs are walked through the instance fields using reflection. Classes and enum constants are never part
+ * of the walked graph - they're shared by the whole application. Fields that can't be made accessible (i.e. fields
+ * of the JDK classes in packages not opened by `--add-opens`) are not followed, so the graph sizes may be lower than
+ * the real ones in such case.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ObjectSizeCalculator {
+	private static final int REFERENCE_SIZE;
+	private static final int OBJECT_HEADER_SIZE;
+	private static final int ARRAY_HEADER_SIZE;
+	private static final int OBJECT_ALIGNMENT;
+	private static final ClassValue<ClassLayout> CLASS_LAYOUTS = new ClassValue<ClassLayout>() {
+		@Override
+		protected ClassLayout computeValue(Class<?> type) {
+			return new ClassLayout(type);
+		}
+	};
+	private static volatile Instrumentation INSTRUMENTATION;
+
+	static {
+		final boolean is32bit = "32".equals(System.getProperty("sun.arch.data.model"));
+		final boolean compressedOops = !is32bit && getBooleanVmOption("UseCompressedOops", true);
+		final boolean compressedClassPointers = !is32bit && getBooleanVmOption("UseCompressedClassPointers", compressedOops);
+		REFERENCE_SIZE = compressedOops || is32bit ? 4 : 8;
+		OBJECT_HEADER_SIZE = is32bit ? 8 : (compressedClassPointers ? 12 : 16);
+		ARRAY_HEADER_SIZE = OBJECT_HEADER_SIZE + 4;
+		OBJECT_ALIGNMENT = getIntVmOption("ObjectAlignmentInBytes", 8);
+	}
+
+	private ObjectSizeCalculator() {
+	}
+
+	/**
+	 * Registers the instrumentation used for measuring the shallow sizes of the objects, or returns to the estimated
+	 * sizes when null is passed.
+	 */
+	public static void setInstrumentation(@Nullable Instrumentation instrumentation) {
+		INSTRUMENTATION = instrumentation;
+	}
+
+	/**
+	 * Returns true if the shallow sizes are measured by the registered {@link Instrumentation} and not estimated.
+	 */
+	public static boolean isInstrumented() {
+		return INSTRUMENTATION != null;
+	}
+
+	/**
+	 * Returns shallow size of the object in bytes - i.e. the size of the object itself without the objects it references.
+	 */
+	public static long getShallowSize(@Nonnull Object object) {
+		final Instrumentation instrumentation = INSTRUMENTATION;
+		if (instrumentation != null) {
+			return instrumentation.getObjectSize(object);
+		}
+		final Class<?> type = object.getClass();
+		if (type.isArray()) {
+			final int length = Array.getLength(object);
+			final Class<?> componentType = type.getComponentType();
+			final int elementSize = componentType.isPrimitive() ? getPrimitiveSize(componentType) : REFERENCE_SIZE;
+			// ELEMENTS OF 8 BYTES ARE ALIGNED TO 8 BYTES EVEN WITH 12 BYTES LONG OBJECT HEADER
+			final long base = elementSize == 8 ? align(ARRAY_HEADER_SIZE, 8) : ARRAY_HEADER_SIZE;
+			return align(base + (long) length * elementSize, OBJECT_ALIGNMENT);
+		} else {
+			return CLASS_LAYOUTS.get(type).shallowSize;
+		}
+	}
+
+	/**
+	 * Walks the object graph starting with passed root and returns sum of the shallow sizes of the objects that were not
+	 * visited yet and are not part of the `excluded` set. The visited objects are added to the `visited` set so that
+	 * multiple graphs could be measured without counting their common objects twice. Objects of the `excluded` set are
+	 * not walked any further.
+	 */
+	public static long getRetainedSize(@Nullable Object root, @Nonnull Set<Object> visited, @Nonnull Set<Object> excluded) {
+		long size = 0L;
+		final Deque<Object> stack = new ArrayDeque<>(64);
+		push(stack, root);
+		while (!stack.isEmpty()) {
+			final Object object = stack.pop();
+			if (excluded.contains(object) || !visited.add(object)) {
+				continue;
+			}
+			size += getShallowSize(object);
+			pushReferences(stack, object);
+		}
+		return size;
+	}
+
+	/**
+	 * Adds all objects reachable from passed root to the passed set.
+	 */
+	public static void collectReachable(@Nullable Object root, @Nonnull Set<Object> reachable) {
+		getRetainedSize(root, reachable, Collections.emptySet());
+	}
+
+	/**
+	 * Creates new set comparing its objects by identity.
+	 */
+	@Nonnull
+	public static Set<Object> createIdentitySet() {
+		return Collections.newSetFromMap(new IdentityHashMap<>(256));
+	}
+
+	/*
+		PRIVATE METHODS
+	 */
+
+	private static void pushReferences(@Nonnull Deque<Object> stack, @Nonnull Object object) {
+		final Class<?> type = object.getClass();
+		if (type.isArray()) {
+			if (!type.getComponentType().isPrimitive()) {
+				for (Object element : (Object[]) object) {
+					push(stack, element);
+				}
+			}
+		} else {
+			for (Field field : CLASS_LAYOUTS.get(type).referenceFields) {
+				try {
+					push(stack, field.get(object));
+				} catch (IllegalAccessException e) {
+					// FIELD WAS ACCESSIBLE WHEN THE LAYOUT WAS CREATED - SKIP IT
+				}
+			}
+		}
+	}
+
+	private static void push(@Nonnull Deque<Object> stack, @Nullable Object object) {
+		if (object != null && !(object instanceof Class) && !(object instanceof Enum)) {
+			stack.push(object);
+		}
+	}
+
+	private static long align(long size, int alignment) {
+		return (size + alignment - 1) / alignment * alignment;
+	}
+
+	private static int getPrimitiveSize(@Nonnull Class<?> type) {
+		if (type == long.class || type == double.class) {
+			return 8;
+		} else if (type == int.class || type == float.class) {
+			return 4;
+		} else if (type == short.class || type == char.class) {
+			return 2;
+		} else {
+			return 1;
+		}
+	}
+
+	private static boolean getBooleanVmOption(@Nonnull String name, boolean defaultValue) {
+		final String value = getVmOption(name);
+		return value == null ? defaultValue : Boolean.parseBoolean(value);
+	}
+
+	private static int getIntVmOption(@Nonnull String name, int defaultValue) {
+		final String value = getVmOption(name);
+		try {
+			return value == null ? defaultValue : Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	@Nullable
+	private static String getVmOption(@Nonnull String name) {
+		try {
+			return ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class)
+				.getVMOption(name)
+				.getValue();
+		} catch (RuntimeException | LinkageError e) {
+			// NOT A HOTSPOT VM OR THE OPTION IS NOT KNOWN - USE THE DEFAULT
+			return null;
+		}
+	}
+
+	/**
+	 * Estimated shallow size of the instances of the class and its instance fields holding references.
+	 */
+	private static class ClassLayout {
+		private final long shallowSize;
+		private final Field[] referenceFields;
+
+		ClassLayout(@Nonnull Class<?> type) {
+			long fieldsSize = 0L;
+			final List<Field> theReferenceFields = new ArrayList<>();
+			for (Class<?> aClass = type; aClass != null; aClass = aClass.getSuperclass()) {
+				for (Field field : aClass.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers())) {
+						continue;
+					}
+					if (field.getType().isPrimitive()) {
+						fieldsSize += getPrimitiveSize(field.getType());
+					} else {
+						fieldsSize += REFERENCE_SIZE;
+						if (makeAccessible(field)) {
+							theReferenceFields.add(field);
+						}
+					}
+				}
+			}
+			this.shallowSize = align(OBJECT_HEADER_SIZE + fieldsSize, OBJECT_ALIGNMENT);
+			this.referenceFields = theReferenceFields.toArray(new Field[0]);
+		}
+
+		private static boolean makeAccessible(@Nonnull Field field) {
+			try {
+				field.setAccessible(true);
+				return true;
+			} catch (RuntimeException e) {
+				// FIELD OF THE PACKAGE THAT IS NOT OPENED TO US (INACCESSIBLE OBJECT EXCEPTION ON JAVA 9+)
+				return false;
+			}
+		}
+	}
+
+}
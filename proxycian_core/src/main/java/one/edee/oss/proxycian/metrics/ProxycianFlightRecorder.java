@@ -0,0 +1,78 @@
+package one.edee.oss.proxycian.metrics;
+
+import one.edee.oss.proxycian.OnInstantiationCallback;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+
+/**
+ * Facade emitting JDK Flight Recorder events about the costly operations of the proxy generators, so that latency
+ * spikes in the recordings could be correlated with Proxycian activity. The events are emitted only when the JVM
+ * supports Flight Recorder (Java 11 and newer - see the `java11` version of this class) and when they're enabled by
+ * {@link #setEnabled(boolean)}. When disabled, the generators pay only for the check of the flag.
+ *
+ * This is the Java 8 version of the class that does nothing.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ProxycianFlightRecorder {
+
+	private ProxycianFlightRecorder() {
+	}
+
+	/**
+	 * Returns true if the events can be emitted on this JVM.
+	 */
+	public static boolean isSupported() {
+		return false;
+	}
+
+	/**
+	 * Enables or disables emitting of the events. Has no effect when Flight Recorder is not supported.
+	 */
+	public static void setEnabled(boolean enabled) {
+		// FLIGHT RECORDER IS NOT SUPPORTED
+	}
+
+	/**
+	 * Returns true if the events are emitted.
+	 */
+	public static boolean isEnabled() {
+		return false;
+	}
+
+	/**
+	 * Emits event about the definition of the new proxy class.
+	 *
+	 * @param generator      name of the generator (backend) that created the class
+	 * @param contract       classes / interfaces the proxy class extends / implements
+	 * @param proxyClass     created proxy class
+	 * @param bytecodeSize   size of the byte-code of the class in bytes or -1 if it is not known
+	 * @param durationNanos  time spent by generating the byte-code and loading the class
+	 */
+	public static void proxyClassDefined(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, int bytecodeSize, long durationNanos) {
+		// FLIGHT RECORDER IS NOT SUPPORTED
+	}
+
+	/**
+	 * Emits event about the classification of the method that was not found in the dispatch table.
+	 *
+	 * @param proxyClass      class of the proxy
+	 * @param method          classified method
+	 * @param classification  classification (chain) that won - it's described only when the event is recorded
+	 * @param durationNanos   time spent by classification
+	 */
+	public static void methodClassified(@Nonnull Class<?> proxyClass, @Nonnull Method method, @Nonnull Object classification, long durationNanos) {
+		// FLIGHT RECORDER IS NOT SUPPORTED
+	}
+
+	/**
+	 * Returns callback that emits event when passed callback takes longer than the threshold of the event
+	 * (1 ms by default).
+	 */
+	@Nonnull
+	public static OnInstantiationCallback monitor(@Nonnull OnInstantiationCallback callback) {
+		return callback;
+	}
+
+}
@@ -0,0 +1,32 @@
+package one.edee.oss.proxycian.metrics;
+
+import javax.annotation.Nullable;
+
+/**
+ * Holder of the single {@link ProxycianMetricsListener} shared by all the proxy generators. No listener is registered
+ * by default - the generators then only check the listener for null.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ProxycianMetrics {
+	private static volatile ProxycianMetricsListener LISTENER;
+
+	private ProxycianMetrics() {
+	}
+
+	/**
+	 * Registers the listener, or disables the metrics when null is passed. Previously registered listener is replaced.
+	 */
+	public static void setListener(@Nullable ProxycianMetricsListener listener) {
+		LISTENER = listener;
+	}
+
+	/**
+	 * Returns registered listener or null if the metrics are disabled.
+	 */
+	@Nullable
+	public static ProxycianMetricsListener getListener() {
+		return LISTENER;
+	}
+
+}
@@ -0,0 +1,82 @@
+package one.edee.oss.proxycian.metrics;
+
+import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+
+/**
+ * Listener receiving notifications about the costly operations of the proxy generators - generation of the proxy
+ * classes, classification of their methods and instantiation of the proxies. The listener is registered via
+ * {@link ProxycianMetrics#setListener(ProxycianMetricsListener)} and is shared by all the generators.
+ *
+ * None of the callbacks is called on the dispatch hot path - i.e. when already classified method of the proxy is
+ * invoked. The callbacks may be called concurrently from multiple threads and should be fast and non-blocking. See
+ * {@link CountingMetricsListener} for the default implementation.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public interface ProxycianMetricsListener {
+
+	/**
+	 * Called when the generator creates new proxy class for passed contract (i.e. the class wasn't found in its cache).
+	 *
+	 * @param generator      name of the generator (backend) that created the class
+	 * @param contract       classes / interfaces the proxy class extends / implements
+	 * @param proxyClass     created proxy class
+	 * @param durationNanos  time spent by generating the byte-code and loading the class
+	 */
+	default void proxyClassGenerated(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, long durationNanos) {
+		// DO NOTHING BY DEFAULT
+	}
+
+	/**
+	 * Called when the generator creates new proxy class for passed contract together with the size of its byte-code.
+	 * The generators call this method, which by default passes the call to
+	 * {@link #proxyClassGenerated(String, Class[], Class, long)} without the size.
+	 *
+	 * @param generator      name of the generator (backend) that created the class
+	 * @param contract       classes / interfaces the proxy class extends / implements
+	 * @param proxyClass     created proxy class
+	 * @param bytecodeSize   size of the class byte-code in bytes or -1 when the generator doesn't expose the byte-code
+	 * @param durationNanos  time spent by generating the byte-code and loading the class
+	 */
+	default void proxyClassGenerated(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, int bytecodeSize, long durationNanos) {
+		proxyClassGenerated(generator, contract, proxyClass, durationNanos);
+	}
+
+	/**
+	 * Called when the invocation handler looks up the dispatch table of the proxy class in the classification cache.
+	 * This happens once per invocation handler (i.e. proxy instance), not on each method call.
+	 *
+	 * @param proxyClass  class of the proxy
+	 * @param hit         true if the dispatch table was found in the cache, false if new one had to be created
+	 */
+	default void classificationCacheLookup(@Nonnull Class<?> proxyClass, boolean hit) {
+		// DO NOTHING BY DEFAULT
+	}
+
+	/**
+	 * Called when the method of the proxy class is classified - i.e. the method classifications are matched against it
+	 * and the resulting handler is stored in the dispatch table.
+	 *
+	 * @param proxyClass         class of the proxy
+	 * @param method             classified method
+	 * @param invocationHandler  the handler the method was resolved to
+	 * @param durationNanos      time spent by classification
+	 */
+	default void methodClassified(@Nonnull Class<?> proxyClass, @Nonnull Method method, @Nonnull CurriedMethodContextInvocationHandler<?, ?> invocationHandler, long durationNanos) {
+		// DO NOTHING BY DEFAULT
+	}
+
+	/**
+	 * Called when new proxy instance is created.
+	 *
+	 * @param generator   name of the generator (backend) that created the proxy
+	 * @param proxyClass  class of the proxy
+	 */
+	default void proxyInstantiated(@Nonnull String generator, @Nonnull Class<?> proxyClass) {
+		// DO NOTHING BY DEFAULT
+	}
+
+}
@@ -18,4 +18,14 @@ public interface IntroductionAdvice<S> extends Advice<S> {
 	 */
 	List<Class<?>> getInterfacesToImplement();
 
+	/**
+	 * Returns true if all {@link #getMethodClassification() method classifications} of this advice match only methods
+	 * with the same name and count of parameters as some method of the {@link #getInterfacesToImplement() introduced
+	 * interfaces}. {@link ProxyRecipe} indexes classifications of such advices and they are not tested at all for
+	 * the other methods of the proxy.
+	 */
+	default boolean isClassifyingOnlyIntroducedMethods() {
+		return false;
+	}
+
 }
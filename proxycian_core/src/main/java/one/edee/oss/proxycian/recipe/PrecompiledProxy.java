@@ -0,0 +1,39 @@
+package one.edee.oss.proxycian.recipe;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks interface or abstract class that is used as the contract of some {@link ProxyRecipe}. The annotation processor
+ * from the `proxycian_apt` module generates source code of the proxy class for the annotated type at compile time
+ * and the ByteBuddy generator then loads this precompiled class instead of generating the byte-code at runtime.
+ *
+ * The precompiled class is used only when the proxy is created for the annotated type alone (with or without
+ * {@link one.edee.oss.proxycian.trait.SerializableProxy}), proxies combining multiple types are still generated at runtime.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface PrecompiledProxy {
+
+	/**
+	 * Suffix appended to the binary name of the annotated type to form the name of the precompiled proxy class.
+	 */
+	String CLASS_NAME_SUFFIX = "$ProxycianPrecompiled";
+	/**
+	 * Suffix appended to the binary name of the annotated type to form the name of the precompiled serializable proxy
+	 * class.
+	 */
+	String SERIALIZABLE_CLASS_NAME_SUFFIX = "$ProxycianPrecompiledSerializable";
+
+	/**
+	 * When true, the processor also generates the class used for proxies created by `instantiateSerializable`.
+	 */
+	boolean serializable() default false;
+
+}
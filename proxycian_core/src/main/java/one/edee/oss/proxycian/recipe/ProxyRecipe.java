@@ -2,16 +2,23 @@ package one.edee.oss.proxycian.recipe;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import one.edee.oss.proxycian.CacheKeyProvider;
 import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.MethodClassificationIndex;
 import one.edee.oss.proxycian.OnInstantiationCallback;
 import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.ScopedMethodClassification;
+import one.edee.oss.proxycian.cache.MethodNameArityKey;
+import one.edee.oss.proxycian.trait.StandardMethodFastPath;
 import one.edee.oss.proxycian.utils.ArrayUtils;
 
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
@@ -36,8 +43,16 @@ public class ProxyRecipe implements Serializable {
 	@Getter private final OnInstantiationCallback instantiationCallback;
 	@Getter private final Class<?>[] interfaces;
 	@Getter private final Advice<?>[] advices;
-	private transient MethodClassification<?,?>[] methodClassifications;
-	private final Set<Class<?>> verifiedStateClasses = ConcurrentHashMap.newKeySet();
+	/**
+	 * When true, generators classify all methods of the proxy class when the first proxy is created and fail fast
+	 * when any of them has no implementation.
+	 */
+	@Getter private final boolean eagerClassification;
+	@ToString.Exclude private transient MethodClassificationIndex methodClassificationIndex;
+	private transient volatile Map<Object, Integer> fastPathMasks;
+	private transient volatile FastPathMask lastFastPathMask;
+	// VERIFIED STATES GROW WITH USAGE - THEY MUST NOT CHANGE HASH CODE OF THE RECIPE USED AS A MAP KEY
+	@EqualsAndHashCode.Exclude private final Set<Class<?>> verifiedStateClasses = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Combines abstract class with interfaces together.
@@ -96,6 +111,7 @@ public class ProxyRecipe implements Serializable {
 	public ProxyRecipe(Class<?>[] interfaces, Advice<?>[] advices, OnInstantiationCallback instantiationCallback) {
 		this.instantiationCallback = instantiationCallback;
 		this.advices = advices;
+		this.eagerClassification = false;
 		List<Class<?>> additionalInterfaces = null;
 		for (Advice<?> advice : advices) {
 			if (advice instanceof IntroductionAdvice) {
@@ -115,6 +131,26 @@ public class ProxyRecipe implements Serializable {
 			ArrayUtils.mergeArrays(interfaces, additionalInterfaces.toArray(EMPTY_CLASSES));
 	}
 
+	/**
+	 * Creates copy of the passed recipe with changed eager classification flag.
+	 */
+	private ProxyRecipe(ProxyRecipe proxyRecipe, boolean eagerClassification) {
+		this.instantiationCallback = proxyRecipe.instantiationCallback;
+		this.interfaces = proxyRecipe.interfaces;
+		this.advices = proxyRecipe.advices;
+		this.eagerClassification = eagerClassification;
+	}
+
+	/**
+	 * Returns copy of this recipe that requests eager classification. All methods of the proxy class are classified
+	 * when the first proxy of the class is created (instead of on their first call) and the creation fails with
+	 * {@link one.edee.oss.proxycian.exception.MissingMethodImplementationException} when any of the methods is not
+	 * handled by any advice.
+	 */
+	public ProxyRecipe withEagerClassification() {
+		return new ProxyRecipe(this, true);
+	}
+
 	/**
 	 * Method verifies whether proxy state is compliant with all advices used in this recipe.
 	 */
@@ -137,6 +173,34 @@ public class ProxyRecipe implements Serializable {
 		}
 	}
 
+	/**
+	 * Returns mask of {@link StandardMethodFastPath fast paths} applicable to the proxies of this recipe with passed
+	 * proxy state - i.e. the methods not overridden by any advice of this recipe nor declared by any of its interfaces.
+	 * The matchers of the advices may depend on the proxy state, so the mask is computed once for each cache key
+	 * of the proxy state - the same way the methods are classified (see {@link CacheKeyProvider}).
+	 */
+	public int getFastPathMask(Object proxyState) {
+		final Object stateCacheKey = proxyState instanceof CacheKeyProvider ?
+			((CacheKeyProvider) proxyState).getCacheKey() : proxyState.getClass();
+		// RECIPES ARE USUALLY USED WITH SINGLE KIND OF STATE - THE LAST MASK IS RETURNED WITHOUT THE MAP LOOKUP
+		final FastPathMask theLastFastPathMask = this.lastFastPathMask;
+		if (theLastFastPathMask != null && theLastFastPathMask.getStateCacheKey().equals(stateCacheKey)) {
+			return theLastFastPathMask.getMask();
+		}
+		Map<Object, Integer> theFastPathMasks = this.fastPathMasks;
+		if (theFastPathMasks == null) {
+			theFastPathMasks = new ConcurrentHashMap<>(4);
+			this.fastPathMasks = theFastPathMasks;
+		}
+		final int mask = theFastPathMasks.computeIfAbsent(
+			stateCacheKey,
+			theStateCacheKey -> StandardMethodFastPath.getNonOverriddenMask(getMethodClassifications(), proxyState) &
+				StandardMethodFastPath.getApplicableMask(getInterfaces())
+		);
+		this.lastFastPathMask = new FastPathMask(stateCacheKey, mask);
+		return mask;
+	}
+
 	/**
 	 * Returns complete list of interfaces defined by this recipe and adds all interfaces from the parameters of the method.
 	 */
@@ -164,16 +228,48 @@ public class ProxyRecipe implements Serializable {
 		return combinedResult;
 	}
 
+	/**
+	 * Returns index of the method classifications defined by this recipe. The index is built only once and dispatchers
+	 * of all proxies created from this recipe share it.
+	 *
+	 * Index collects classifications of all advices. Classifications of the advices that
+	 * {@link IntroductionAdvice#isClassifyingOnlyIntroducedMethods() classify only introduced methods} are wrapped
+	 * into {@link ScopedMethodClassification} so that dispatchers can skip them for unrelated methods.
+	 */
+	public MethodClassificationIndex getMethodClassificationIndex() {
+		if (this.methodClassificationIndex == null) {
+			final MethodClassification<?, ?>[] theMethodClassifications = Arrays.stream(this.advices)
+				.flatMap(advice -> {
+					if (advice instanceof IntroductionAdvice && ((IntroductionAdvice<?>) advice).isClassifyingOnlyIntroducedMethods()) {
+						final Set<MethodNameArityKey> scope = ScopedMethodClassification.computeScope(
+							((IntroductionAdvice<?>) advice).getInterfacesToImplement()
+						);
+						return advice.getMethodClassification().stream().map(it -> ScopedMethodClassification.scopeTo(it, scope));
+					} else {
+						return advice.getMethodClassification().stream();
+					}
+				})
+				.toArray(MethodClassification[]::new);
+			this.methodClassificationIndex = new MethodClassificationIndex(Arrays.asList(theMethodClassifications));
+		}
+		return this.methodClassificationIndex;
+	}
+
 	/*
 		PRIVATE METHODS
 	 */
 
 	private MethodClassification<?, ?>[] getMethodClassifications() {
-		if (this.methodClassifications == null) {
-			this.methodClassifications = Arrays.stream(this.advices)
-				.flatMap(it -> it.getMethodClassification().stream())
-				.toArray(MethodClassification[]::new);
-		}
-		return this.methodClassifications;
+		return getMethodClassificationIndex().getMethodClassifications();
 	}
+
+	/**
+	 * Fast path mask computed for the proxy state with particular cache key.
+	 */
+	@RequiredArgsConstructor
+	private static class FastPathMask {
+		@Getter private final Object stateCacheKey;
+		@Getter private final int mask;
+	}
+
 }
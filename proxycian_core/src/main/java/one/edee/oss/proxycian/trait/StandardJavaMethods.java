@@ -12,10 +12,8 @@ import static one.edee.oss.proxycian.util.ReflectionUtils.isMethodDeclaredOn;
 import static one.edee.oss.proxycian.util.ReflectionUtils.isNonPublicMethodDeclaredOn;
 
 public interface StandardJavaMethods {
-
-	/** METHOD CONTRACT: catch all real (not abstract) methods and delegate calls to them **/
-    static PredicateMethodClassification<ProxyStateAccessor, Void, Object> realMethodInvoker() {
-        return new PredicateMethodClassification<>(
+	/** Shared instance of the {@link #realMethodInvoker()} classification that allows recognizing it by identity. **/
+	PredicateMethodClassification<ProxyStateAccessor, Void, Object> REAL_METHOD_INVOKER = new PredicateMethodClassification<>(
         /* description */   "delegate to default / super implementation",
         /* matcher */       (method, proxyState) -> !Modifier.isAbstract(method.getModifiers()) || method.isDefault(),
         /* methodContext */ noContext(),
@@ -28,7 +26,11 @@ public interface StandardJavaMethods {
 					throw new InvocationTargetException(e);
 				}
 	        }
-        );
+	);
+
+	/** METHOD CONTRACT: catch all real (not abstract) methods and delegate calls to them **/
+    static PredicateMethodClassification<ProxyStateAccessor, Void, Object> realMethodInvoker() {
+        return REAL_METHOD_INVOKER;
     }
 
 	/** METHOD CONTRACT: String toString() **/
@@ -58,9 +60,7 @@ public interface StandardJavaMethods {
         /* matcher */       (method, proxyState) -> isMethodDeclaredOn(method, Object.class, "equals", Object.class),
         /* methodContext */ noContext(),
         /* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) ->
-                                        args[0] != null &&
-                                        proxy.getClass().equals(args[0].getClass()) &&
-                                        proxyState.equals(((ProxyStateAccessor)args[0]).getProxyState())
+                                        StandardMethodFastPath.proxyEquals(proxy, proxyState, args[0])
         );
     }
 
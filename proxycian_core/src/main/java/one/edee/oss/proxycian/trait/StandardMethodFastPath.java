@@ -0,0 +1,127 @@
+package one.edee.oss.proxycian.trait;
+
+import lombok.Getter;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.ScopedMethodClassification;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+
+/**
+ * Fast paths are infrastructure methods that proxy generators may implement directly (without the dispatcher)
+ * when their standard implementation (see {@link ProxyStateAccessor} and {@link StandardJavaMethods}) is not
+ * overridden by any method classification of the proxy. Fast path implementation must behave exactly as the standard
+ * one:
+ *
+ * - `getProxyState()` returns the proxy state
+ * - `hashCode()` returns hash code of the proxy state
+ * - `equals(Object)` compares proxy states of the proxies of the same class
+ * - `toString()` returns string representation of the proxy state
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public enum StandardMethodFastPath {
+
+	GET_PROXY_STATE(ProxyStateAccessor.class, "getProxyState"),
+	HASH_CODE(Object.class, "hashCode"),
+	EQUALS(Object.class, "equals", Object.class),
+	TO_STRING(Object.class, "toString");
+
+	/**
+	 * Method the fast path implements.
+	 */
+	@Getter private final Method method;
+	/**
+	 * Bit of the fast path in the fast path mask.
+	 */
+	@Getter private final int mask;
+
+	StandardMethodFastPath(@Nonnull Class<?> declaringClass, @Nonnull String name, @Nonnull Class<?>... parameterTypes) {
+		try {
+			this.method = declaringClass.getMethod(name, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Method " + name + " not found on " + declaringClass.getName() + "!", e);
+		}
+		this.mask = 1 << ordinal();
+	}
+
+	/**
+	 * Returns true if the fast path is part of the passed mask.
+	 */
+	public boolean isIn(int fastPathMask) {
+		return (fastPathMask & this.mask) != 0;
+	}
+
+	/**
+	 * Returns mask of the fast paths that are not overridden by any of passed method classifications for passed
+	 * proxy state. `getProxyState()` can't be overridden, because its classification always goes first in
+	 * the dispatcher. Scoped classifications are tested only for the methods in their scope.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static int getNonOverriddenMask(@Nonnull MethodClassification<?, ?>[] methodClassifications, @Nonnull Object proxyState) {
+		int fastPathMask = GET_PROXY_STATE.mask;
+		for (StandardMethodFastPath fastPath : values()) {
+			if (fastPath == GET_PROXY_STATE) {
+				continue;
+			}
+			boolean overridden = false;
+			for (MethodClassification methodClassification : methodClassifications) {
+				if (methodClassification instanceof ScopedMethodClassification &&
+					!((ScopedMethodClassification) methodClassification).isInScope(fastPath.method)) {
+					continue;
+				}
+				if (methodClassification.createCurriedMethodContextInvocationHandler(fastPath.method, proxyState) != null) {
+					overridden = true;
+					break;
+				}
+			}
+			if (!overridden) {
+				fastPathMask |= fastPath.mask;
+			}
+		}
+		return fastPathMask;
+	}
+
+	/**
+	 * Returns mask of the fast paths applicable to the proxy class implementing passed classes / interfaces - i.e.
+	 * none of them declares the method of the fast path on its own.
+	 */
+	public static int getApplicableMask(@Nonnull Class<?>[] contract) {
+		int fastPathMask = 0;
+		for (StandardMethodFastPath fastPath : values()) {
+			boolean applicable = true;
+			for (Class<?> aClass : contract) {
+				final Method method = getMethod(aClass, fastPath.method);
+				if (method != null && !method.getDeclaringClass().equals(fastPath.method.getDeclaringClass())) {
+					applicable = false;
+					break;
+				}
+			}
+			if (applicable) {
+				fastPathMask |= fastPath.mask;
+			}
+		}
+		return fastPathMask;
+	}
+
+	/**
+	 * Implementation of the `equals(Object)` method of the proxy - two proxies are equal when they're of the same
+	 * class and their proxy states are equal.
+	 */
+	public static boolean proxyEquals(@Nonnull Object proxy, @Nonnull Object proxyState, @Nullable Object other) {
+		return other != null &&
+			proxy.getClass().equals(other.getClass()) &&
+			proxyState.equals(((ProxyStateAccessor) other).getProxyState());
+	}
+
+	@Nullable
+	private static Method getMethod(@Nonnull Class<?> aClass, @Nonnull Method method) {
+		try {
+			return aClass.getMethod(method.getName(), method.getParameterTypes());
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+}
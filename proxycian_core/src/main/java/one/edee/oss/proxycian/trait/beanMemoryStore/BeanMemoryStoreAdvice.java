@@ -1,5 +1,9 @@
 package one.edee.oss.proxycian.trait.beanMemoryStore;
 
+import one.edee.oss.proxycian.BooleanMethodInvocationHandler;
+import one.edee.oss.proxycian.DoubleMethodInvocationHandler;
+import one.edee.oss.proxycian.IntMethodInvocationHandler;
+import one.edee.oss.proxycian.LongMethodInvocationHandler;
 import one.edee.oss.proxycian.MethodClassification;
 import one.edee.oss.proxycian.PredicateMethodClassification;
 import one.edee.oss.proxycian.recipe.Advice;
@@ -31,11 +35,11 @@ public class BeanMemoryStoreAdvice implements Advice<BeanMemoryStore> {
 	/**
 	 * This instance matches all Java bean methods regardless of being implemented or not.
 	 */
-	public static final BeanMemoryStoreAdvice ALL_METHOD_INSTANCE = new BeanMemoryStoreAdvice(method -> true);
+	public static final BeanMemoryStoreAdvice ALL_METHOD_INSTANCE = new BeanMemoryStoreAdvice((Predicate<Method> & Serializable) method -> true);
 	/**
 	 * This instance matches only abstract - non implemented Java bean methods.
 	 */
-	public static final BeanMemoryStoreAdvice ABSTRACT_METHOD_INSTANCE = new BeanMemoryStoreAdvice(method -> Modifier.isAbstract(method.getModifiers()));
+	public static final BeanMemoryStoreAdvice ABSTRACT_METHOD_INSTANCE = new BeanMemoryStoreAdvice((Predicate<Method> & Serializable) method -> Modifier.isAbstract(method.getModifiers()));
 	private static final String SET = "set";
 	private static final String GET = "get";
 	private static final String IS = "is";
@@ -46,11 +50,15 @@ public class BeanMemoryStoreAdvice implements Advice<BeanMemoryStore> {
 	private final Supplier<Set<?>> emptySetFactory;
 	private final Supplier<Map<?,?>> emptyMapFactory;
 
+	/**
+	 * Creates advice matching Java bean methods accepted by the passed predicate. The advice is serializable (so that
+	 * the serializable proxies created from its recipe are) only when the predicate is serializable.
+	 */
 	public BeanMemoryStoreAdvice(@Nonnull Predicate<Method> basePredicate) {
 		this.basePredicate = basePredicate;
-		this.emptyListFactory = Collections::emptyList;
-		this.emptySetFactory = Collections::emptySet;
-		this.emptyMapFactory = Collections::emptyMap;
+		this.emptyListFactory = (Supplier<List<?>> & Serializable) Collections::emptyList;
+		this.emptySetFactory = (Supplier<Set<?>> & Serializable) Collections::emptySet;
+		this.emptyMapFactory = (Supplier<Map<?, ?>> & Serializable) Collections::emptyMap;
 	}
 
 	public BeanMemoryStoreAdvice(
@@ -100,15 +108,19 @@ public class BeanMemoryStoreAdvice implements Advice<BeanMemoryStore> {
 				/* description */   "JavaBean int getter",
 				/* matcher */       (method, proxyState) -> basePredicate.test(method) && method.getName().startsWith(GET) && int.class.equals(method.getReturnType()) && method.getParameterCount() == 0,
 				/* methodContext */ (method, proxyState) -> StringUtils.uncapitalize(method.getName().substring(GET.length())),
-				/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) ->
-				ofNullable(proxyState.getValueFromMemoryStore(methodContext)).orElse(0)
+				/* invocation */    IntMethodInvocationHandler.returningInt((proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+					final Integer value = proxyState.getValueFromMemoryStore(methodContext);
+					return value == null ? 0 : value;
+				})
 			),
 			new PredicateMethodClassification<>(
 				/* description */   "JavaBean long getter",
 				/* matcher */       (method, proxyState) -> basePredicate.test(method) && method.getName().startsWith(GET) && long.class.equals(method.getReturnType()) && method.getParameterCount() == 0,
 				/* methodContext */ (method, proxyState) -> StringUtils.uncapitalize(method.getName().substring(GET.length())),
-				/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) ->
-				ofNullable(proxyState.getValueFromMemoryStore(methodContext)).orElse((long) 0)
+				/* invocation */    LongMethodInvocationHandler.returningLong((proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+					final Long value = proxyState.getValueFromMemoryStore(methodContext);
+					return value == null ? 0L : value;
+				})
 			),
 			new PredicateMethodClassification<>(
 				/* description */   "JavaBean float getter",
@@ -121,8 +133,10 @@ public class BeanMemoryStoreAdvice implements Advice<BeanMemoryStore> {
 				/* description */   "JavaBean double getter",
 				/* matcher */       (method, proxyState) -> basePredicate.test(method) && method.getName().startsWith(GET) && double.class.equals(method.getReturnType()) && method.getParameterCount() == 0,
 				/* methodContext */ (method, proxyState) -> StringUtils.uncapitalize(method.getName().substring(GET.length())),
-				/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) ->
-				ofNullable(proxyState.getValueFromMemoryStore(methodContext)).orElse((double) 0)
+				/* invocation */    DoubleMethodInvocationHandler.returningDouble((proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+					final Double value = proxyState.getValueFromMemoryStore(methodContext);
+					return value == null ? 0d : value;
+				})
 			),
 			new PredicateMethodClassification<>(
 				/* description */   "JavaBean list getter",
@@ -161,6 +175,15 @@ public class BeanMemoryStoreAdvice implements Advice<BeanMemoryStore> {
 			),
 			new PredicateMethodClassification<>(
 				/* description */   "JavaBean boolean getter",
+				/* matcher */       (method, proxyState) -> basePredicate.test(method) && method.getName().startsWith(IS) && method.getParameterCount() == 0 && (method.getReturnType().equals(boolean.class) || method.getReturnType().equals(Boolean.class)),
+				/* methodContext */ (method, proxyState) -> StringUtils.uncapitalize(method.getName().substring(IS.length())),
+				/* invocation */    BooleanMethodInvocationHandler.returningBoolean((proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+					final Boolean value = proxyState.getValueFromMemoryStore(methodContext);
+					return value == null ? false : value;
+				})
+			),
+			new PredicateMethodClassification<>(
+				/* description */   "JavaBean is getter",
 				/* matcher */       (method, proxyState) -> basePredicate.test(method) && method.getName().startsWith(IS) && method.getParameterCount() == 0,
 				/* methodContext */ (method, proxyState) -> StringUtils.uncapitalize(method.getName().substring(IS.length())),
 				/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) ->
@@ -93,6 +93,12 @@ public class DelegateCallsAdvice<T> implements IntroductionAdvice<T>, SelfVerifi
 		}
 	}
 
+	@Override
+	public boolean isClassifyingOnlyIntroducedMethods() {
+		// CLASS MAY DECLARE METHODS OUTSIDE ITS INTERFACES THAT ARE DELEGATED AS WELL
+		return iface.isInterface();
+	}
+
 	/**
 	 * Special classification that carries {@link #delegateAccessor} around with it. This lambda must be part of the
 	 * caching key so that multiple {@link DelegateCallsAdvice} can be used for different proxies.
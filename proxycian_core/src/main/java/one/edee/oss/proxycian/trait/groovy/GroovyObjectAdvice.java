@@ -35,6 +35,11 @@ public class GroovyObjectAdvice implements IntroductionAdvice<GroovyStateProvide
 		return Collections.singletonList(GroovyStateProvider.class);
 	}
 
+	@Override
+	public boolean isClassifyingOnlyIntroducedMethods() {
+		return true;
+	}
+
 	@Override
 	public List<MethodClassification<?, GroovyStateProvider>> getMethodClassification() {
 		return Collections.singletonList(
@@ -36,6 +36,11 @@ public class LocalDataStoreAdvice implements IntroductionAdvice<LocalDataStorePr
 		);
 	}
 
+	@Override
+	public boolean isClassifyingOnlyIntroducedMethods() {
+		return true;
+	}
+
 	@Override
 	public Class<LocalDataStoreProvider> getRequestedStateContract() {
 		return LocalDataStoreProvider.class;
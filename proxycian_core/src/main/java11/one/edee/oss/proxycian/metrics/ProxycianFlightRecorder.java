@@ -0,0 +1,146 @@
+package one.edee.oss.proxycian.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+import one.edee.oss.proxycian.OnInstantiationCallback;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Facade emitting JDK Flight Recorder events about the costly operations of the proxy generators, so that latency
+ * spikes in the recordings could be correlated with Proxycian activity. The events are emitted only when they're
+ * enabled by {@link #setEnabled(boolean)}. When disabled, the generators pay only for the check of the flag.
+ *
+ * This is the Java 11 version of the class that emits the events.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ProxycianFlightRecorder {
+	private static volatile boolean ENABLED;
+
+	private ProxycianFlightRecorder() {
+	}
+
+	/**
+	 * Returns true if the events can be emitted on this JVM.
+	 */
+	public static boolean isSupported() {
+		return true;
+	}
+
+	/**
+	 * Enables or disables emitting of the events. Has no effect when Flight Recorder is not supported.
+	 */
+	public static void setEnabled(boolean enabled) {
+		ENABLED = enabled;
+	}
+
+	/**
+	 * Returns true if the events are emitted.
+	 */
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * Emits event about the definition of the new proxy class.
+	 *
+	 * @param generator      name of the generator (backend) that created the class
+	 * @param contract       classes / interfaces the proxy class extends / implements
+	 * @param proxyClass     created proxy class
+	 * @param bytecodeSize   size of the byte-code of the class in bytes or -1 if it is not known
+	 * @param durationNanos  time spent by generating the byte-code and loading the class
+	 */
+	public static void proxyClassDefined(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, int bytecodeSize, long durationNanos) {
+		final ProxyClassDefinitionEvent event = new ProxyClassDefinitionEvent();
+		if (event.shouldCommit()) {
+			event.generator = generator;
+			event.contract = Arrays.stream(contract).map(Class::getName).collect(Collectors.joining(", "));
+			event.proxyClass = proxyClass;
+			event.bytecodeSize = bytecodeSize;
+			event.generationTime = durationNanos;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Emits event about the classification of the method that was not found in the dispatch table.
+	 *
+	 * @param proxyClass      class of the proxy
+	 * @param method          classified method
+	 * @param classification  classification (chain) that won - it's described only when the event is recorded
+	 * @param durationNanos   time spent by classification
+	 */
+	public static void methodClassified(@Nonnull Class<?> proxyClass, @Nonnull Method method, @Nonnull Object classification, long durationNanos) {
+		final ClassificationMissEvent event = new ClassificationMissEvent();
+		if (event.shouldCommit()) {
+			event.proxyClass = proxyClass;
+			event.method = method.toGenericString();
+			event.classification = classification.toString();
+			event.classificationTime = durationNanos;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Returns callback that emits event when passed callback takes longer than the threshold of the event
+	 * (1 ms by default).
+	 */
+	@Nonnull
+	public static OnInstantiationCallback monitor(@Nonnull OnInstantiationCallback callback) {
+		return (proxy, proxyState) -> {
+			final SlowInstantiationCallbackEvent event = new SlowInstantiationCallbackEvent();
+			event.begin();
+			callback.proxyCreated(proxy, proxyState);
+			event.end();
+			if (event.shouldCommit()) {
+				event.proxyClass = proxy.getClass();
+				event.callback = callback.getClass().getName();
+				event.commit();
+			}
+		};
+	}
+
+	@Name("one.edee.oss.proxycian.ProxyClassDefinition")
+	@Label("Proxy Class Definition")
+	@Description("New proxy class was generated and loaded.")
+	@Category("Proxycian")
+	static class ProxyClassDefinitionEvent extends Event {
+		@Label("Generator") String generator;
+		@Label("Contract") String contract;
+		@Label("Proxy Class") Class<?> proxyClass;
+		@Label("Byte-code Size") @DataAmount int bytecodeSize;
+		@Label("Generation Time") @Timespan long generationTime;
+	}
+
+	@Name("one.edee.oss.proxycian.ClassificationMiss")
+	@Label("Classification Miss")
+	@Description("Method of the proxy class was not found in the dispatch table and had to be classified.")
+	@Category("Proxycian")
+	static class ClassificationMissEvent extends Event {
+		@Label("Proxy Class") Class<?> proxyClass;
+		@Label("Method") String method;
+		@Label("Classification") String classification;
+		@Label("Classification Time") @Timespan long classificationTime;
+	}
+
+	@Name("one.edee.oss.proxycian.SlowInstantiationCallback")
+	@Label("Slow Instantiation Callback")
+	@Description("OnInstantiationCallback.proxyCreated call took longer than the threshold.")
+	@Category("Proxycian")
+	@Threshold("1 ms")
+	static class SlowInstantiationCallbackEvent extends Event {
+		@Label("Proxy Class") Class<?> proxyClass;
+		@Label("Callback") String callback;
+	}
+
+}
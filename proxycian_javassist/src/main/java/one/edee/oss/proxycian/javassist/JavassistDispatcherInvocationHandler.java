@@ -6,47 +6,130 @@ import lombok.RequiredArgsConstructor;
 import one.edee.oss.proxycian.AbstractDispatcherInvocationHandler;
 import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
 import one.edee.oss.proxycian.MethodClassification;
-import one.edee.oss.proxycian.cache.ClassMethodCacheKey;
+import one.edee.oss.proxycian.MethodClassificationIndex;
+import one.edee.oss.proxycian.cache.DispatchTableCache;
+import one.edee.oss.proxycian.cache.MethodOrdinalRegistry;
 import one.edee.oss.proxycian.exception.InvalidSuperMethodCallException;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
 import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 import one.edee.oss.proxycian.trait.StandardJavaMethods;
+import one.edee.oss.proxycian.trait.StandardMethodFastPath;
 import one.edee.oss.proxycian.util.ReflectionUtils;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
 public class JavassistDispatcherInvocationHandler<T> extends AbstractDispatcherInvocationHandler<T> implements MethodHandler {
     private static final Class<?>[] EMPTY_CLASS_ARRAY = new Class[0];
+    private static final Object NOT_HANDLED = new Object();
+    /**
+     * Mask of the {@link StandardMethodFastPath fast paths} the handler answers before looking into the dispatch table.
+     * Javassist can't implement them in the proxy class directly.
+     */
+    private final int fastPathMask;
+    /**
+     * Method ordinals of the proxy class, resolved on first method call and kept as long as the handler serves proxies
+     * of the same class - see {@link #getMethodOrdinals(Class)}.
+     */
+    private volatile MethodOrdinalRegistry methodOrdinals;
 
     public JavassistDispatcherInvocationHandler(T proxyState, MethodClassification<?, ?>... methodClassifications) {
         super(proxyState, methodClassifications);
+        this.fastPathMask = 0;
     }
 
-    private JavassistDispatcherInvocationHandler(T proxyState, Collection<MethodClassification<?, ?>> methodClassifications) {
-        super(proxyState, methodClassifications);
+    public JavassistDispatcherInvocationHandler(T proxyState, MethodClassificationIndex methodClassificationIndex, MethodClassification<?, ?>... additionalMethodClassifications) {
+        this(proxyState, 0, methodClassificationIndex, additionalMethodClassifications);
+    }
+
+    JavassistDispatcherInvocationHandler(T proxyState, int fastPathMask, MethodClassificationIndex methodClassificationIndex, MethodClassification<?, ?>... additionalMethodClassifications) {
+        super(proxyState, methodClassificationIndex, additionalMethodClassifications);
+        this.fastPathMask = fastPathMask;
+    }
+
+    private JavassistDispatcherInvocationHandler(T proxyState, JavassistDispatcherInvocationHandler<T> originalDispatcher) {
+        super(proxyState, originalDispatcher);
+        this.fastPathMask = 0;
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object invoke(Object self, Method thisMethod, Method proceed, Object[] args) throws Throwable {
-        final ClassMethodCacheKey cacheKey = this.createCacheKey(self.getClass(), proxyState, thisMethod);
-
-        // COMPUTE IF ABSENT = GET FROM MAP, IF MISSING OR INVALID -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
-        @SuppressWarnings("rawtypes") CurriedMethodContextInvocationHandler invocationHandler = JavassistProxyGenerator.CLASSIFICATION_CACHE.get(cacheKey);
-        if (invocationHandler == null) {
-            invocationHandler = this.getCurriedMethodContextInvocationHandler(thisMethod);
-            JavassistProxyGenerator.CLASSIFICATION_CACHE.put(cacheKey, invocationHandler);
+        if (fastPathMask != 0) {
+            final Object result = invokeFastPath(self, thisMethod, args);
+            if (result != NOT_HANDLED) {
+                return result;
+            }
         }
-		// INVOKE CURRIED LAMBDA, PASS REFERENCE TO REAL METHOD IF AVAILABLE
-		return invocationHandler.invoke(
-            self, thisMethod, args, proxyState,
-            new MethodCall(proceed, self, args)
+
+        final Class<?> proxyClass = self.getClass();
+        // JAVASSIST PASSES THE SAME METHOD INSTANCE FOR EACH CALL OF THE SAME PROXY METHOD - LOOKUP IS BY IDENTITY
+        final int methodOrdinal = getMethodOrdinals(proxyClass).getOrdinal(thisMethod);
+
+        // GET HANDLER FROM THE DISPATCH TABLE BY METHOD ORDINAL, IF MISSING -> CLASSIFY AND STORE IT
+        final CurriedMethodContextInvocationHandler invocationHandler = this.getCurriedMethodContextInvocationHandler(
+            proxyClass, methodOrdinal, thisMethod
         );
+        final InvocationTrace trace = JavassistProxyGenerator.INVOCATION_TRACE;
+        if (trace == null) {
+            // INVOKE CURRIED LAMBDA, PASS REFERENCE TO REAL METHOD IF AVAILABLE
+            return invocationHandler.invoke(
+                self, thisMethod, args, proxyState,
+                new MethodCall(proceed, self, args)
+            );
+        }
+        final long start = System.nanoTime();
+        try {
+            return invocationHandler.invoke(
+                self, thisMethod, args, proxyState,
+                new MethodCall(proceed, self, args)
+            );
+        } finally {
+            trace.record(proxyClass, thisMethod, methodOrdinal, invocationHandler, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns method ordinals of passed proxy class. The registry is looked up in the generator only on the first call
+     * and then kept in this handler (unless the handler is shared among proxies of different classes).
+     */
+    private MethodOrdinalRegistry getMethodOrdinals(Class<?> proxyClass) {
+        MethodOrdinalRegistry theMethodOrdinals = this.methodOrdinals;
+        if (theMethodOrdinals == null || theMethodOrdinals.getProxyClass() != proxyClass) {
+            theMethodOrdinals = JavassistProxyGenerator.METHOD_ORDINALS.get(proxyClass);
+            this.methodOrdinals = theMethodOrdinals;
+        }
+        return theMethodOrdinals;
+    }
+
+    private Object invokeFastPath(Object self, Method thisMethod, Object[] args) {
+        final Class<?> declaringClass = thisMethod.getDeclaringClass();
+        if (declaringClass == ProxyStateAccessor.class) {
+            return StandardMethodFastPath.GET_PROXY_STATE.isIn(fastPathMask) ? proxyState : NOT_HANDLED;
+        } else if (declaringClass == Object.class) {
+            switch (thisMethod.getName()) {
+                case "hashCode":
+                    return StandardMethodFastPath.HASH_CODE.isIn(fastPathMask) ? proxyState.hashCode() : NOT_HANDLED;
+                case "equals":
+                    return StandardMethodFastPath.EQUALS.isIn(fastPathMask) ?
+                        StandardMethodFastPath.proxyEquals(self, proxyState, args[0]) : NOT_HANDLED;
+                case "toString":
+                    return StandardMethodFastPath.TO_STRING.isIn(fastPathMask) ? proxyState.toString() : NOT_HANDLED;
+                default:
+                    return NOT_HANDLED;
+            }
+        } else {
+            return NOT_HANDLED;
+        }
+    }
+
+    @Override
+    protected DispatchTableCache getClassificationCache() {
+        return JavassistProxyGenerator.CLASSIFICATION_CACHE;
     }
 
     @SuppressWarnings("unchecked")
@@ -73,10 +156,7 @@ public class JavassistDispatcherInvocationHandler<T> extends AbstractDispatcherI
                 }
 
                 return JavassistProxyGenerator.instantiate(
-                    new JavassistDispatcherInvocationHandler<>(
-                        clonedState,
-                        originalDispatcher.methodClassifications
-                    ),
+                    new JavassistDispatcherInvocationHandler<>(clonedState, originalDispatcher),
                     interfaces.toArray(EMPTY_CLASS_ARRAY)
                 );
             } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
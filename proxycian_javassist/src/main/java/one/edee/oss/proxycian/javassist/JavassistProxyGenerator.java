@@ -1,18 +1,34 @@
 package one.edee.oss.proxycian.javassist;
 
+import javassist.CannotCompileException;
+import javassist.util.proxy.DefineClassHelper;
 import javassist.util.proxy.MethodHandler;
 import javassist.util.proxy.Proxy;
 import javassist.util.proxy.ProxyFactory;
 import javassist.util.proxy.ProxyObject;
 import one.edee.oss.proxycian.CacheKeyProvider;
-import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+import one.edee.oss.proxycian.DispatchPlan;
 import one.edee.oss.proxycian.OnInstantiationCallback;
 import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.ProxyFootprint;
 import one.edee.oss.proxycian.ProxyStateWithConstructorArgs;
-import one.edee.oss.proxycian.cache.ClassMethodCacheKey;
+import one.edee.oss.proxycian.cache.BytecodeCache;
+import one.edee.oss.proxycian.cache.CacheStatistics;
+import one.edee.oss.proxycian.cache.ClassLoaderScopedCache;
+import one.edee.oss.proxycian.cache.ClassScopedCache;
 import one.edee.oss.proxycian.cache.ConstructorCacheKey;
+import one.edee.oss.proxycian.cache.DispatchTableCache;
+import one.edee.oss.proxycian.cache.EvictionPolicy;
+import one.edee.oss.proxycian.cache.MethodOrdinalRegistry;
+import one.edee.oss.proxycian.cache.ProxyClassCacheKey;
+import one.edee.oss.proxycian.cache.SegmentedLruEvictionPolicy;
+import one.edee.oss.proxycian.cache.WindowTinyLfuEvictionPolicy;
 import one.edee.oss.proxycian.exception.ProxyInstantiationException;
 import one.edee.oss.proxycian.exception.SuperConstructorNotFoundException;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
+import one.edee.oss.proxycian.metrics.ProxycianFlightRecorder;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.metrics.ProxycianMetricsListener;
 import one.edee.oss.proxycian.recipe.ProxyRecipe;
 import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 import one.edee.oss.proxycian.trait.SerializableProxy;
@@ -20,19 +36,35 @@ import one.edee.oss.proxycian.trait.SerializableProxy.DeserializationProxyFactor
 import one.edee.oss.proxycian.utils.ClassUtils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class JavassistProxyGenerator {
+	public static final String GENERATOR_NAME = "Javassist";
 	// LIST OF "SYSTEM" INTERFACES THAT ARE ADDED TO OUR PROXIES AUTOMATICALLY EITHER BY US OR BY THE BYTECODE LIBRARY
 	public static final Set<Class<?>> EXCLUDED_CLASSES = new HashSet<>(
 		Arrays.asList(
@@ -40,9 +72,31 @@ public class JavassistProxyGenerator {
 			ProxyStateAccessor.class
 		)
 	);
-	static final Map<ClassMethodCacheKey, CurriedMethodContextInvocationHandler<?,?>> CLASSIFICATION_CACHE = new ConcurrentHashMap<>(32);
-	private static final Map<List<Class<?>>, Class<?>> CACHED_PROXY_CLASSES = new ConcurrentHashMap<>(64);
-	private static final Map<ConstructorCacheKey, Constructor<?>> CACHED_PROXY_CONSTRUCTORS = new ConcurrentHashMap<>(64);
+	static final DispatchTableCache CLASSIFICATION_CACHE = new DispatchTableCache();
+	// JAVASSIST CANNOT BAKE METHOD ORDINALS INTO THE PROXY CLASS, SO WE ASSIGN THEM LAZILY FOR EACH PROXY CLASS
+	static final ClassValue<MethodOrdinalRegistry> METHOD_ORDINALS = new ClassValue<MethodOrdinalRegistry>() {
+		@Override
+		protected MethodOrdinalRegistry computeValue(Class<?> type) {
+			return new MethodOrdinalRegistry(type);
+		}
+	};
+	private static final ClassLoaderScopedCache<ProxyClassCacheKey, Class<?>> CACHED_PROXY_CLASSES = new ClassLoaderScopedCache<>();
+	private static final ClassScopedCache<ConstructorCacheKey, Constructor<?>> CACHED_PROXY_CONSTRUCTORS = new ClassScopedCache<>();
+	static volatile InvocationTrace INVOCATION_TRACE;
+	// NAME OF THE PROXY CLASS JAVASSIST SHOULD USE INSTEAD OF THE GENERATED ONE
+	private static final ThreadLocal<String> PROXY_CLASS_NAME = new ThreadLocal<>();
+	// NAME OF THE STATIC FIELD WHERE JAVASSIST KEEPS THE METHODS INTERCEPTED BY THE PROXY CLASS
+	private static final String METHODS_HOLDER_FIELD = "_methods_";
+	private static volatile BytecodeCache BYTECODE_CACHE;
+
+	static {
+		// JAVASSIST IS SHADED - THE NAME GENERATOR IS USED ONLY BY OUR PROXIES
+		final ProxyFactory.UniqueName defaultNameGenerator = ProxyFactory.nameGenerator;
+		ProxyFactory.nameGenerator = classname -> {
+			final String proxyClassName = PROXY_CLASS_NAME.get();
+			return proxyClassName == null ? defaultNameGenerator.get(classname) : proxyClassName;
+		};
+	}
 
 	/**
 	 * Method clears method classification cache that keeps direct references from proxied class methods to their
@@ -50,19 +104,83 @@ public class JavassistProxyGenerator {
 	 * speeds up method execution heavily.
 	 */
 	public static void clearMethodClassificationCache() {
+		// PROXIES KEEP REFERENCES TO THEIR DISPATCH TABLES - THE CACHE CLEARS THEM TOO
 		CLASSIFICATION_CACHE.clear();
 	}
 
+	/**
+	 * Sets the policy that bounds the size of the method classification cache. The cache is unbounded by default, which
+	 * is fine unless the proxies are created with new {@link CacheKeyProvider} keys over and over again (for example
+	 * {@link one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice} with new lambda for each proxy). Passing null
+	 * makes the cache unbounded again. The cache is cleared and its statistics reset when the policy is changed, the policy
+	 * instance must not be shared with other caches. See {@link WindowTinyLfuEvictionPolicy} and {@link SegmentedLruEvictionPolicy}.
+	 */
+	public static void setClassificationCacheEvictionPolicy(@Nullable EvictionPolicy evictionPolicy) {
+		CLASSIFICATION_CACHE.setEvictionPolicy(evictionPolicy);
+	}
+
+	/**
+	 * Returns hit, miss and eviction counts of the method classification cache.
+	 */
+	@Nonnull
+	public static CacheStatistics getClassificationCacheStatistics() {
+		return CLASSIFICATION_CACHE.getStatistics();
+	}
+
+	/**
+	 * Registers the trace that records the last invocations of the proxy methods dispatched by this generator, or
+	 * disables the tracing when null is passed. The tracing is disabled by default and costs only a field read then.
+	 * Methods implemented without the dispatcher (see {@link one.edee.oss.proxycian.trait.StandardMethodFastPath}) are not traced.
+	 * The trace references the traced proxy classes strongly - unregister it or clear it before the class loader of
+	 * the proxies is expected to be unloaded.
+	 */
+	public static void setInvocationTrace(@Nullable InvocationTrace invocationTrace) {
+		INVOCATION_TRACE = invocationTrace;
+	}
+
+	/**
+	 * Returns the trace that records the last invocations of the proxy methods or null if tracing is disabled.
+	 */
+	@Nullable
+	public static InvocationTrace getInvocationTrace() {
+		return INVOCATION_TRACE;
+	}
+
+	/**
+	 * Sets the directory where the byte-code of the generated proxy classes is stored and loaded from on the next start
+	 * of the JVM instead of generating the classes again. Pass NULL to disable the cache. See {@link BytecodeCache}
+	 * for details.
+	 */
+	public static void setBytecodeCacheDirectory(@Nullable Path directory) {
+		BYTECODE_CACHE = directory == null ? null : new BytecodeCache(directory);
+	}
+
+	/**
+	 * Returns the directory of the byte-code cache or NULL if the cache is disabled.
+	 */
+	@Nullable
+	public static Path getBytecodeCacheDirectory() {
+		final BytecodeCache bytecodeCache = BYTECODE_CACHE;
+		return bytecodeCache == null ? null : bytecodeCache.getDirectory();
+	}
+
 	/**
 	 * Method clears cached classes. Please keep in mind, that classes are probably trapped in the {@link ClassLoader}
 	 * and old JVMs were not able to purge non-used classes from the {@link ClassLoader} -
 	 * <a href="https://stackoverflow.com/questions/2433261/when-and-how-are-classes-garbage-collected-in-java">see this answer</>.
 	 * This cache allows reusing already generated classes for same combination of input interfaces / combination of
-	 * {@link CacheKeyProvider} classifiers.
+	 * {@link CacheKeyProvider} classifiers. The cache is kept separately for each {@link ClassLoader} and doesn't
+	 * prevent the class loader from being garbage collected, so it doesn't need to be cleared on application redeploy.
+	 * Records of the registered {@link InvocationTrace} are dropped as well.
 	 */
 	public static void clearClassCache() {
 		CACHED_PROXY_CLASSES.clear();
 		CACHED_PROXY_CONSTRUCTORS.clear();
+		final InvocationTrace trace = INVOCATION_TRACE;
+		if (trace != null) {
+			// THE TRACE WOULD OTHERWISE KEEP THE CLEARED CLASSES REACHABLE
+			trace.clear();
+		}
 	}
 
 	/**
@@ -78,6 +196,18 @@ public class JavassistProxyGenerator {
 		);
 	}
 
+	/**
+	 * Method creates and instantiates new proxy object with passed set of interfaces and the invocation handler.
+	 * The proxy class is defined in the passed class loader.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T instantiate(@Nonnull MethodHandler methodHandler, @Nonnull Class<?>[] interfaces, @Nonnull ClassLoader classLoader) {
+		return instantiateProxy(
+			(Class<T>) getProxyClass(interfaces, classLoader),
+			null, methodHandler, null
+		);
+	}
+
 	/**
 	 * Method creates and instantiates new proxy object with passed set of interfaces and the invocation handler.
 	 * See {@link com.fg.edee.proxy.model.traits.GenericBucketProxyGenerator#instantiateJavassistProxy(java.lang.Class)}
@@ -99,14 +229,19 @@ public class JavassistProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiate(ProxyRecipe proxyRecipe, Object proxyState, Class<?>[] constructorTypes, Object[] constructorArgs) {
 		proxyRecipe.verifyProxyState(proxyState);
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfaces()
+		);
 		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfaces()
-			),
+			proxyClass,
 			proxyState,
-			new JavassistDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith()
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new JavassistDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getFastPathMask(proxyState),
+					proxyRecipe.getMethodClassificationIndex()
+				)
 			),
 			proxyRecipe.getInstantiationCallback(),
 			constructorTypes,
@@ -121,14 +256,20 @@ public class JavassistProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiate(ProxyRecipe proxyRecipe, Object proxyState) {
 		proxyRecipe.verifyProxyState(proxyState);
+		// PROXY STATE ACCESSOR IS ADDED BY THE GENERATOR ITSELF
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfaces()
+		);
 		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfacesWith(ProxyStateAccessor.class)
-			),
+			proxyClass,
 			proxyState,
-			new JavassistDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith()
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new JavassistDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getFastPathMask(proxyState),
+					proxyRecipe.getMethodClassificationIndex()
+				)
 			),
 			proxyRecipe.getInstantiationCallback()
 		);
@@ -141,16 +282,20 @@ public class JavassistProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiateSerializable(ProxyRecipe proxyRecipe, Serializable proxyState) {
 		proxyRecipe.verifyProxyState(proxyState);
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfacesWith(
+				SerializableProxy.class
+			)
+		);
 		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfacesWith(
-					SerializableProxy.class
-				)
-			),
+			proxyClass,
 			proxyState,
-			new JavassistDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith(
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new JavassistDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getFastPathMask(proxyState),
+					proxyRecipe.getMethodClassificationIndex(),
 					SerializableProxy.getWriteReplaceMethodInvoker(
 						new ProxyRecipeDeserializationProxyFactory(proxyRecipe)
 					)
@@ -167,16 +312,20 @@ public class JavassistProxyGenerator {
 	@SuppressWarnings("unchecked")
 	public static <T> T instantiateSerializable(ProxyRecipe proxyRecipe, ProxyStateWithConstructorArgs proxyState, Class<?>[] constructorTypes, Object[] constructorArgs) {
 		proxyRecipe.verifyProxyState(proxyState);
+		final Class<T> proxyClass = (Class<T>) getProxyClass(
+			proxyRecipe.getInterfacesWith(
+				SerializableProxy.class
+			)
+		);
 		return instantiateProxy(
-			(Class<T>) getProxyClass(
-				proxyRecipe.getInterfacesWith(
-					SerializableProxy.class
-				)
-			),
+			proxyClass,
 			proxyState,
-			new JavassistDispatcherInvocationHandler<>(
-				proxyState,
-				proxyRecipe.getMethodClassificationsWith(
+			classifyEagerlyIfRequested(
+				proxyRecipe, proxyClass,
+				new JavassistDispatcherInvocationHandler<>(
+					proxyState,
+					proxyRecipe.getFastPathMask(proxyState),
+					proxyRecipe.getMethodClassificationIndex(),
 					SerializableProxy.getWriteReplaceMethodInvoker(
 						new ProxyRecipeDeserializationProxyFactory(proxyRecipe)
 					)
@@ -188,23 +337,159 @@ public class JavassistProxyGenerator {
 		);
 	}
 
+	/**
+	 * Returns {@link DispatchPlan} describing how the methods of the proxy created from passed {@link ProxyRecipe} and
+	 * proxy state would be dispatched. The proxy class is generated (or taken from the cache), but no proxy is created
+	 * and the dispatch table is not changed.
+	 */
+	@Nonnull
+	public static DispatchPlan explain(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Object proxyState) {
+		proxyRecipe.verifyProxyState(proxyState);
+		final Class<?> proxyClass = getProxyClass(proxyRecipe.getInterfaces());
+		return new JavassistDispatcherInvocationHandler<>(proxyState, proxyRecipe.getMethodClassificationIndex())
+			.explain(proxyClass, getProxyMethods(proxyClass));
+	}
+
+	/**
+	 * Returns {@link DispatchPlan} describing how the methods of passed proxy are dispatched. The dispatch table is not
+	 * changed.
+	 */
+	@Nonnull
+	public static DispatchPlan explain(@Nonnull Object proxy) {
+		final Class<?> proxyClass = proxy.getClass();
+		return getInvocationHandler(proxy).explain(proxyClass, getProxyMethods(proxyClass));
+	}
+
+	/**
+	 * Returns {@link ProxyFootprint} of the proxy created from passed {@link ProxyRecipe}. Two proxies are created
+	 * using the states from passed factory - the second one serves as a sibling, whose objects are considered shared
+	 * by all proxies of the recipe.
+	 */
+	@Nonnull
+	public static ProxyFootprint measureFootprint(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Supplier<?> proxyStateFactory) {
+		final Object proxy = instantiate(proxyRecipe, proxyStateFactory.get());
+		final Object siblingProxy = instantiate(proxyRecipe, proxyStateFactory.get());
+		return measureFootprint(proxy, siblingProxy);
+	}
+
+	/**
+	 * Returns {@link ProxyFootprint} of passed proxy. The sibling proxy must be created from the same recipe - its
+	 * objects are considered shared by all proxies of the recipe and are not part of the retained sizes.
+	 */
+	@Nonnull
+	public static ProxyFootprint measureFootprint(@Nonnull Object proxy, @Nonnull Object siblingProxy) {
+		return ProxyFootprint.measure(proxy, getInvocationHandler(proxy), siblingProxy, getInvocationHandler(siblingProxy));
+	}
+
 	/**
 	 * Returns previously created class or construct new from the passed interfaces. First class of the passed class
 	 * array might be abstract class. In such situation the created class will extend this proxy class. All passed
 	 * interfaces will be "implemented" by the returned proxy class.
 	 */
 	public static Class<?> getProxyClass(Class<?>... interfaces) {
+		return getProxyClass(interfaces, getDefaultClassLoader(interfaces));
+	}
+
+	/**
+	 * Generates proxy classes for all passed recipes in parallel using passed executor, so that the first proxies
+	 * created by {@link #instantiate(ProxyRecipe, Object)} don't pay for the class generation. Each recipe comes with
+	 * the proxy state it will be used with - the state is verified the same way as when the proxy is created.
+	 * Returns the future of the proxy class for each recipe.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUp(@Nonnull Map<ProxyRecipe, ?> proxyStates, @Nonnull Executor executor) {
+		return warmUpRecipes(proxyStates, null, executor, ProxyRecipe::getInterfaces);
+	}
+
+	/**
+	 * Generates proxy classes for all passed recipes in parallel in passed class loader using passed executor.
+	 * See {@link #warmUp(Map, Executor)}.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUp(@Nonnull Map<ProxyRecipe, ?> proxyStates, @Nonnull ClassLoader classLoader, @Nonnull Executor executor) {
+		return warmUpRecipes(proxyStates, classLoader, executor, ProxyRecipe::getInterfaces);
+	}
+
+	/**
+	 * Generates serializable proxy classes for all passed recipes in parallel using passed executor, so that the first
+	 * proxies created by {@link #instantiateSerializable(ProxyRecipe, Serializable)} don't pay for the class generation.
+	 * See {@link #warmUp(Map, Executor)}.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUpSerializable(@Nonnull Map<ProxyRecipe, ? extends Serializable> proxyStates, @Nonnull Executor executor) {
+		return warmUpRecipes(proxyStates, null, executor, proxyRecipe -> proxyRecipe.getInterfacesWith(SerializableProxy.class));
+	}
+
+	/**
+	 * Generates serializable proxy classes for all passed recipes in parallel in passed class loader using passed
+	 * executor. See {@link #warmUp(Map, Executor)}.
+	 */
+	@Nonnull
+	public static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUpSerializable(@Nonnull Map<ProxyRecipe, ? extends Serializable> proxyStates, @Nonnull ClassLoader classLoader, @Nonnull Executor executor) {
+		return warmUpRecipes(proxyStates, classLoader, executor, proxyRecipe -> proxyRecipe.getInterfacesWith(SerializableProxy.class));
+	}
+
+	/**
+	 * Generates proxy classes for all passed sets of interfaces in parallel using passed executor - the same classes
+	 * {@link #getProxyClass(Class[])} returns. Returns the future of the proxy class for each set in the same order.
+	 */
+	@Nonnull
+	public static List<CompletableFuture<Class<?>>> warmUp(@Nonnull Collection<Class<?>[]> contracts, @Nonnull Executor executor) {
+		final List<CompletableFuture<Class<?>>> result = new ArrayList<>(contracts.size());
+		for (Class<?>[] interfaces : contracts) {
+			result.add(CompletableFuture.supplyAsync(() -> getProxyClass(interfaces), executor));
+		}
+		return result;
+	}
+
+	/**
+	 * Generates proxy classes for all passed sets of interfaces in parallel in passed class loader using passed
+	 * executor. See {@link #warmUp(Collection, Executor)}.
+	 */
+	@Nonnull
+	public static List<CompletableFuture<Class<?>>> warmUp(@Nonnull Collection<Class<?>[]> contracts, @Nonnull ClassLoader classLoader, @Nonnull Executor executor) {
+		final List<CompletableFuture<Class<?>>> result = new ArrayList<>(contracts.size());
+		for (Class<?>[] interfaces : contracts) {
+			result.add(CompletableFuture.supplyAsync(() -> getProxyClass(interfaces, classLoader), executor));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns previously created class or construct new from the passed interfaces in passed class loader. First class
+	 * of the passed class array might be abstract class. In such situation the created class will extend this proxy
+	 * class. All passed interfaces will be "implemented" by the returned proxy class.
+	 *
+	 * The abstract class (or at least one of the interfaces) should be loaded by the passed class loader, because
+	 * Javassist defines the proxy class in the same package as one of them on newer JVMs.
+	 *
+	 * When the {@link #setBytecodeCacheDirectory(Path) byte-code cache} is enabled, the class is loaded from it if
+	 * present and stored into it after it has been generated.
+	 */
+	public static Class<?> getProxyClass(@Nonnull Class<?>[] interfaces, @Nonnull ClassLoader classLoader) {
 		// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
 		return CACHED_PROXY_CLASSES.computeIfAbsent(
+			// CLASS LOADER SECTION OF THE CACHE
+			classLoader,
 			// CACHE KEY
-			Arrays.asList(interfaces),
+			new ProxyClassCacheKey(interfaces),
 			// LAMBDA THAT CREATES OUR PROXY CLASS
 			classes -> {
-				final ProxyFactory fct = new ProxyFactory();
+				final ProxycianMetricsListener listener = ProxycianMetrics.getListener();
+				final boolean recorded = ProxycianFlightRecorder.isEnabled();
+				final long start = listener == null && !recorded ? 0L : System.nanoTime();
+				final ProxyFactory fct = new ProxyFactory() {
+					@Override
+					protected ClassLoader getClassLoader() {
+						return classLoader;
+					}
+				};
 
 				// WE'LL CACHE CLASSES ON OUR OWN
 				fct.setUseCache(false);
 
+				// JAVASSIST DEFINES THE CLASS IN THE PACKAGE OF THIS CLASS
+				final Class<?> neighborClass;
 				// IF WE PROXY ABSTRACT CLASS, WE HAVE A RULE THAT IT HAS TO BE FIRST IN LIST
 				if (interfaces[0].isInterface()) {
 					// FIRST IS INTERFACE
@@ -212,8 +497,19 @@ public class JavassistProxyGenerator {
 					final Class<?>[] finalContract = new Class[interfaces.length + 1];
 					finalContract[0] = ProxyStateAccessor.class;
 					System.arraycopy(interfaces, 0, finalContract, 1, interfaces.length);
+					// JAVASSIST DEFINES THE CLASS NEXT TO THE FIRST INTERFACE ON NEWER JVMS - SO IT MUST COME FROM OUR CLASS LOADER
+					if (classLoader != ProxyStateAccessor.class.getClassLoader()) {
+						for (int i = 1; i < finalContract.length; i++) {
+							if (finalContract[i].getClassLoader() == classLoader) {
+								finalContract[0] = finalContract[i];
+								finalContract[i] = ProxyStateAccessor.class;
+								break;
+							}
+						}
+					}
 					// WE'LL EXTEND OBJECT CLASS AND IMPLEMENT ALL INTERFACES
 					fct.setInterfaces(finalContract);
+					neighborClass = finalContract[0];
 				} else {
 					// FIRST IS ABSTRACT CLASS
 					// AUTOMATICALLY ADD PROXYSTATEACCESSOR CLASS TO EVERY OUR PROXY WE CREATE
@@ -223,6 +519,7 @@ public class JavassistProxyGenerator {
 					// WE'LL EXTEND ABSTRACT CLASS AND IMPLEMENT ALL OTHER INTERFACES
 					fct.setSuperclass(interfaces[0]);
 					fct.setInterfaces(finalContract);
+					neighborClass = interfaces[0];
 				}
 
 				// SKIP FINALIZE METHOD OVERRIDE - STAY AWAY FROM TROUBLE :)
@@ -242,10 +539,196 @@ public class JavassistProxyGenerator {
 				// DON'T USE CACHE - WE CACHE CLASSES OURSELVES
 				fct.setUseCache(false);
 
-				return fct.createClass();
+				final BytecodeCache bytecodeCache = BYTECODE_CACHE;
+				final Class<?> proxyClass;
+				// JAVASSIST MOVES CLASSES NEXT TO JDK TYPES TO ITS OWN PACKAGE - THEIR NAME CANNOT BE PREDICTED
+				if (bytecodeCache == null || neighborClass.getName().startsWith("java.")) {
+					proxyClass = fct.createClass();
+				} else {
+					// CACHED CLASSES MUST HAVE THE SAME NAME IN EACH JVM - THE NAME IS DERIVED FROM THE CONTRACT
+					final String proxyClassName = neighborClass.getName() + "$Proxycian_" +
+						BytecodeCache.fingerprint(JavassistProxyGenerator.class, interfaces);
+					final Class<?> cachedProxyClass = loadCachedProxyClass(bytecodeCache, proxyClassName, interfaces, neighborClass, classLoader);
+					if (cachedProxyClass != null) {
+						return cachedProxyClass;
+					}
+					proxyClass = createCachedProxyClass(fct, bytecodeCache, proxyClassName);
+				}
+				if (listener != null || recorded) {
+					final long duration = System.nanoTime() - start;
+					// JAVASSIST DOESN'T EXPOSE THE BYTE-CODE OF THE CREATED CLASS
+					if (listener != null) {
+						listener.proxyClassGenerated(GENERATOR_NAME, interfaces, proxyClass, -1, duration);
+					}
+					if (recorded) {
+						ProxycianFlightRecorder.proxyClassDefined(GENERATOR_NAME, interfaces, proxyClass, -1, duration);
+					}
+				}
+				return proxyClass;
 			});
 	}
 
+	/**
+	 * Returns the proxy class of passed name from the byte-code cache or NULL if it's not cached. The class might be
+	 * already defined in the class loader (when the class cache was cleared) or present on the class path (or in
+	 * the CDS archive) - in such case it's used directly.
+	 */
+	@Nullable
+	private static Class<?> loadCachedProxyClass(@Nonnull BytecodeCache bytecodeCache, @Nonnull String proxyClassName, @Nonnull Class<?>[] interfaces, @Nonnull Class<?> neighborClass, @Nonnull ClassLoader classLoader) {
+		final Class<?> proxyClass = BytecodeCache.findClass(proxyClassName, interfaces, classLoader, neighborClass.getClassLoader());
+		if (proxyClass != null) {
+			return proxyClass;
+		}
+		final byte[] bytecode = bytecodeCache.read(proxyClassName);
+		if (bytecode == null) {
+			return null;
+		}
+		try {
+			// DEFINE THE CLASS THE SAME WAY AS JAVASSIST DOES, FILTER SIGNATURE IS NOT SET BECAUSE IT'S USED ONLY
+			// BY THE SERIALIZATION OF JAVASSIST, WHICH IS REPLACED BY THE SERIALIZABLE PROXY TRAIT
+			final Class<?> definedClass = DefineClassHelper.toClass(
+				proxyClassName, neighborClass, classLoader, neighborClass.getProtectionDomain(), bytecode
+			);
+			BytecodeCache.registerClass(definedClass);
+			return definedClass;
+		} catch (CannotCompileException ex) {
+			throw new IllegalStateException("Failed to define cached class `" + proxyClassName + "`!", ex);
+		}
+	}
+
+	/**
+	 * Creates the proxy class of passed name and stores its byte-code into the byte-code cache. Javassist doesn't
+	 * expose the byte-code, so it's written to the temporary directory first.
+	 */
+	@Nonnull
+	private static Class<?> createCachedProxyClass(@Nonnull ProxyFactory fct, @Nonnull BytecodeCache bytecodeCache, @Nonnull String proxyClassName) {
+		try {
+			final Path writeDirectory = Files.createTempDirectory("proxycian");
+			try {
+				fct.writeDirectory = writeDirectory.toString();
+				final Class<?> proxyClass;
+				PROXY_CLASS_NAME.set(proxyClassName);
+				try {
+					proxyClass = fct.createClass();
+				} finally {
+					PROXY_CLASS_NAME.remove();
+				}
+				BytecodeCache.registerClass(proxyClass);
+				final byte[] bytecode = new BytecodeCache(writeDirectory).read(proxyClassName);
+				if (bytecode != null) {
+					bytecodeCache.write(proxyClassName, bytecode);
+				}
+				return proxyClass;
+			} finally {
+				try (final Stream<Path> files = Files.walk(writeDirectory)) {
+					files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+				}
+			}
+		} catch (IOException ex) {
+			throw new IllegalStateException("Failed to store class `" + proxyClassName + "` to `" + bytecodeCache.getDirectory() + "`!", ex);
+		}
+	}
+
+	/**
+	 * Generates proxy classes of passed recipes in parallel - the class loader of each class is derived from its
+	 * contract when no class loader is passed.
+	 */
+	@Nonnull
+	private static Map<ProxyRecipe, CompletableFuture<Class<?>>> warmUpRecipes(
+		@Nonnull Map<ProxyRecipe, ?> proxyStates,
+		@Nullable ClassLoader classLoader,
+		@Nonnull Executor executor,
+		@Nonnull Function<ProxyRecipe, Class<?>[]> contractFactory
+	) {
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> result = new LinkedHashMap<>(proxyStates.size() * 2);
+		proxyStates.forEach(
+			(proxyRecipe, proxyState) -> result.put(
+				proxyRecipe,
+				CompletableFuture.supplyAsync(
+					() -> {
+						proxyRecipe.verifyProxyState(proxyState);
+						final Class<?>[] interfaces = contractFactory.apply(proxyRecipe);
+						return getProxyClass(interfaces, classLoader == null ? getDefaultClassLoader(interfaces) : classLoader);
+					},
+					executor
+				)
+			)
+		);
+		return result;
+	}
+
+	/**
+	 * Returns the class loader Javassist would pick for the proxy class on its own - the class loader of the abstract
+	 * class, or the class loader of the {@link ProxyStateAccessor} interface that goes first in the list of interfaces.
+	 */
+	@Nonnull
+	private static ClassLoader getDefaultClassLoader(@Nonnull Class<?>[] interfaces) {
+		final ClassLoader classLoader = interfaces[0].isInterface() ?
+			ProxyStateAccessor.class.getClassLoader() : interfaces[0].getClassLoader();
+		return classLoader == null ? JavassistProxyGenerator.class.getClassLoader() : classLoader;
+	}
+
+	/**
+	 * Returns the dispatcher handler of passed proxy or throws exception if the object is not a proxy of this generator.
+	 */
+	@Nonnull
+	private static JavassistDispatcherInvocationHandler<?> getInvocationHandler(@Nonnull Object proxy) {
+		if (!(proxy instanceof ProxyObject) || !(((ProxyObject) proxy).getHandler() instanceof JavassistDispatcherInvocationHandler)) {
+			throw new IllegalArgumentException("Object " + proxy + " is not a proxy created by " + GENERATOR_NAME + " generator!");
+		}
+		return (JavassistDispatcherInvocationHandler<?>) ((ProxyObject) proxy).getHandler();
+	}
+
+	/**
+	 * Classifies all methods of the proxy class if the recipe requests it. Classification is performed only once for
+	 * each dispatch table, so only the first proxy of the class pays for it.
+	 */
+	@Nonnull
+	private static <T> JavassistDispatcherInvocationHandler<T> classifyEagerlyIfRequested(@Nonnull ProxyRecipe proxyRecipe, @Nonnull Class<?> proxyClass, @Nonnull JavassistDispatcherInvocationHandler<T> invocationHandler) {
+		if (proxyRecipe.isEagerClassification()) {
+			invocationHandler.classifyEagerly(proxyClass, getProxyMethods(proxyClass));
+		}
+		return invocationHandler;
+	}
+
+	/**
+	 * Returns all intercepted methods of the proxy class indexed by their ordinals. The methods are read from the holder
+	 * field of the proxy class, which keeps the very {@link Method} instances Javassist passes to the handler, and their
+	 * ordinals are taken from the same {@link #METHOD_ORDINALS} registry the handler uses.
+	 */
+	@Nonnull
+	static Method[] getProxyMethods(@Nonnull Class<?> proxyClass) {
+		final MethodOrdinalRegistry methodOrdinals = METHOD_ORDINALS.get(proxyClass);
+		final Method[] heldMethods = getHeldMethods(proxyClass);
+		final Map<Integer, Method> methodsByOrdinal = new HashMap<>(heldMethods.length);
+		// HOLDER KEEPS PAIRS OF THE INTERCEPTED METHOD AND THE DELEGATOR TO ITS SUPER METHOD
+		for (int i = 0; i < heldMethods.length; i += 2) {
+			final Method method = heldMethods[i];
+			// JAVASSIST HANDLER ACCESSORS ARE NOT INTERCEPTED
+			if (method != null && !Proxy.class.isAssignableFrom(method.getDeclaringClass())) {
+				methodsByOrdinal.put(methodOrdinals.getOrdinal(method), method);
+			}
+		}
+		final Method[] methods = new Method[methodOrdinals.size()];
+		methodsByOrdinal.forEach((ordinal, method) -> methods[ordinal] = method);
+		return methods;
+	}
+
+	/**
+	 * Returns content of the static field Javassist fills with the intercepted methods when the proxy class is
+	 * initialized.
+	 */
+	@Nonnull
+	private static Method[] getHeldMethods(@Nonnull Class<?> proxyClass) {
+		try {
+			final Field holderField = proxyClass.getDeclaredField(METHODS_HOLDER_FIELD);
+			holderField.setAccessible(true);
+			return (Method[]) holderField.get(null);
+		} catch (NoSuchFieldException | IllegalAccessException e) {
+			throw new IllegalStateException("Cannot read methods of " + proxyClass.getName() + "!", e);
+		}
+	}
+
 	private static <T> T instantiateProxy(Class<T> proxyClass, Object proxyState, MethodHandler methodHandler, OnInstantiationCallback instantiationCallback) {
 		try {
 
@@ -253,10 +736,11 @@ public class JavassistProxyGenerator {
 			T proxy = getDefaultConstructor(proxyClass).newInstance();
 			// CALL ON INSTANTIATION CALLBACK
 			if (instantiationCallback != null) {
-				instantiationCallback.proxyCreated(proxy, proxyState);
+				getMonitoredCallback(instantiationCallback).proxyCreated(proxy, proxyState);
 			}
 			// INJECT OUR METHOD HANDLER INSTANCE TO NEWLY CREATED PROXY INSTANCE
 			((Proxy) proxy).setHandler(methodHandler);
+			reportInstantiation(proxyClass);
 
 			return proxy;
 
@@ -272,10 +756,11 @@ public class JavassistProxyGenerator {
 			T proxy = getConstructor(proxyClass, constructorTypes).newInstance(constructorArgs);
 			// CALL ON INSTANTIATION CALLBACK
 			if (instantiationCallback != null) {
-				instantiationCallback.proxyCreated(proxy, proxyState);
+				getMonitoredCallback(instantiationCallback).proxyCreated(proxy, proxyState);
 			}
 			// INJECT OUR METHOD HANDLER INSTANCE TO NEWLY CREATED PROXY INSTANCE
 			((Proxy) proxy).setHandler(methodHandler);
+			reportInstantiation(proxyClass);
 
 			return proxy;
 
@@ -284,10 +769,30 @@ public class JavassistProxyGenerator {
 		}
 	}
 
+	/**
+	 * Returns passed callback monitored by the {@link ProxycianFlightRecorder} if it is enabled.
+	 */
+	@Nonnull
+	private static OnInstantiationCallback getMonitoredCallback(@Nonnull OnInstantiationCallback instantiationCallback) {
+		return ProxycianFlightRecorder.isEnabled() ? ProxycianFlightRecorder.monitor(instantiationCallback) : instantiationCallback;
+	}
+
+	/**
+	 * Reports creation of the proxy to the {@link ProxycianMetricsListener} if there is any.
+	 */
+	private static void reportInstantiation(@Nonnull Class<?> proxyClass) {
+		final ProxycianMetricsListener listener = ProxycianMetrics.getListener();
+		if (listener != null) {
+			listener.proxyInstantiated(GENERATOR_NAME, proxyClass);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> Constructor<T> getDefaultConstructor(Class<T> clazz) {
 		// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
 		return (Constructor<T>) CACHED_PROXY_CONSTRUCTORS.computeIfAbsent(
+			// CONSTRUCTORS ARE ATTACHED TO THE PROXY CLASS
+			clazz,
 			// CACHE KEY
 			new ConstructorCacheKey(clazz),
 			// LAMBDA THAT FINDS OUT MISSING CONSTRUCTOR
@@ -314,6 +819,8 @@ public class JavassistProxyGenerator {
 	private static <T> Constructor<T> getConstructor(Class<T> clazz, Class<?>[] constructorArgs) {
 		// COMPUTE IF ABSENT = GET FROM MAP, IF MISSING -> COMPUTE, STORE AND RETURN RESULT OF LAMBDA
 		return (Constructor<T>) CACHED_PROXY_CONSTRUCTORS.computeIfAbsent(
+			// CONSTRUCTORS ARE ATTACHED TO THE PROXY CLASS
+			clazz,
 			// CACHE KEY
 			new ConstructorCacheKey(clazz, constructorArgs),
 			// LAMBDA THAT FINDS OUT MISSING CONSTRUCTOR
@@ -0,0 +1,173 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.model.allocation.Customer;
+import one.edee.oss.proxycian.model.allocation.CustomerImplementation;
+import one.edee.oss.proxycian.model.allocation.CustomerState;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static one.edee.oss.proxycian.utils.AllocationMeter.assertAllocatesAtMost;
+import static one.edee.oss.proxycian.utils.AllocationMeter.measureArrayBytes;
+import static one.edee.oss.proxycian.utils.AllocationMeter.measureBytesPerCall;
+
+/**
+ * This test verifies that the standard paths of the proxy don't allocate more than they structurally need. Paths that
+ * don't reach the invocation handler must not allocate at all, calls dispatched to the handler may allocate only
+ * the array of their arguments and the super call may allocate only a few small objects passing the call on top of
+ * what the super method allocates itself. The budgets are composed of the sizes measured on the running VM, so that
+ * they don't depend on its object layout.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyAllocationBudgetTest extends AbstractByteBuddyProxycianTest {
+	private static final long FAST_PATH_BUDGET = 0;
+	/**
+	 * Count of the small objects the super call may allocate - the super call token and its arguments array and
+	 * the objects of the method handle invocation JIT doesn't eliminate in every run.
+	 */
+	private static final int SUPER_CALL_OBJECTS = 4;
+	/**
+	 * Count of references of the largest object passing the super call.
+	 */
+	private static final int SUPER_CALL_OBJECT_REFERENCES = 4;
+
+	@Test
+	public void ByteBuddyProxyGenerator_Getter_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		assertAllocatesAtMost("Getter", measureArrayBytes(0), proxy::getName);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_Setter_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		assertAllocatesAtMost("Setter", measureArrayBytes(1), () -> {
+			proxy.setName("Jan");
+			return null;
+		});
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_GetProxyState_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		assertAllocatesAtMost("getProxyState()", FAST_PATH_BUDGET, ((ProxyStateAccessor) proxy)::getProxyState);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_HashCode_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		// THE HASH CODE OF THE STATE IS SMALL ENOUGH TO BE BOXED TO CACHED INTEGER
+		assertAllocatesAtMost("hashCode()", FAST_PATH_BUDGET, proxy::hashCode);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DelegateCall_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createDelegatingProxy();
+		assertAllocatesAtMost("Delegate call", measureArrayBytes(0), proxy::getName);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_SuperCall_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		// THE SUPER METHOD CALLS THE GETTER OF THE PROXY
+		assertAllocatesAtMost("Super call", getSuperCallBudget(measureArrayBytes(0)), proxy::greet);
+	}
+
+	/**
+	 * Returns the budget of the {@link Customer#greet()} super call - what the super method allocates itself (including
+	 * the passed budget of the proxy getter it calls) and the small objects passing the call.
+	 */
+	private static long getSuperCallBudget(long getterBudget) throws Exception {
+		final CustomerImplementation customer = new CustomerImplementation();
+		customer.setName("Jan");
+		return measureBytesPerCall(customer::greet) + getterBudget +
+			SUPER_CALL_OBJECTS * measureArrayBytes(SUPER_CALL_OBJECT_REFERENCES);
+	}
+
+	private static Customer createBeanProxy() {
+		final Customer proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(new Class[]{Customer.class}, new Advice[]{BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}),
+			new CustomerState(1)
+		);
+		proxy.setName("Jan");
+		return proxy;
+	}
+
+	private static Customer createDelegatingProxy() {
+		final Customer proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(Customer.class)),
+			new CustomerImplementation()
+		);
+		proxy.setName("Jan");
+		return proxy;
+	}
+
+	/**
+	 * Proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode dispatch the calls by arity, so the getters and
+	 * the delegated calls don't allocate at all.
+	 */
+	@Nested
+	public class DirectMode {
+
+		@BeforeEach
+		void setUpDispatchMode() {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		}
+
+		@AfterEach
+		void tearDownDispatchMode() {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_Getter_StaysWithinAllocationBudgetInDirectMode() throws Exception {
+			final Customer proxy = createBeanProxy();
+			assertAllocatesAtMost("Getter", FAST_PATH_BUDGET, proxy::getName);
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_Setter_StaysWithinAllocationBudgetInDirectMode() throws Exception {
+			final Customer proxy = createBeanProxy();
+			// THE BEAN HANDLER HAS NO ARITY SPECIALIZED VARIANT AND WORKS WITH THE ARGUMENTS ARRAY
+			assertAllocatesAtMost("Setter", measureArrayBytes(1), () -> {
+				proxy.setName("Jan");
+				return null;
+			});
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_GetProxyState_StaysWithinAllocationBudgetInDirectMode() throws Exception {
+			final Customer proxy = createBeanProxy();
+			assertAllocatesAtMost("getProxyState()", FAST_PATH_BUDGET, ((ProxyStateAccessor) proxy)::getProxyState);
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_HashCode_StaysWithinAllocationBudgetInDirectMode() throws Exception {
+			final Customer proxy = createBeanProxy();
+			assertAllocatesAtMost("hashCode()", FAST_PATH_BUDGET, proxy::hashCode);
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_DelegateCall_StaysWithinAllocationBudgetInDirectMode() throws Exception {
+			final Customer proxy = createDelegatingProxy();
+			assertAllocatesAtMost("Delegate call", FAST_PATH_BUDGET, proxy::getName);
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_SuperCall_StaysWithinAllocationBudgetInDirectMode() throws Exception {
+			final Customer proxy = createBeanProxy();
+			assertAllocatesAtMost("Super call", getSuperCallBudget(FAST_PATH_BUDGET), proxy::greet);
+		}
+
+	}
+
+}
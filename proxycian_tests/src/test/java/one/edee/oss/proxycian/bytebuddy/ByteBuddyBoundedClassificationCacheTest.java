@@ -0,0 +1,91 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.cache.CacheStatistics;
+import one.edee.oss.proxycian.cache.WindowTinyLfuEvictionPolicy;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that method classification cache bounded by the eviction policy doesn't grow when each proxy
+ * brings its own cache key and that the proxies with evicted dispatch tables keep working.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyBoundedClassificationCacheTest extends AbstractByteBuddyProxycianTest {
+	private static final int MAXIMUM_SIZE = 5;
+
+	@AfterEach
+	void tearDown() {
+		ByteBuddyProxyGenerator.setClassificationCacheEvictionPolicy(null);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_BoundedClassificationCache_SizeBoundedForNewCacheKeys() {
+		ByteBuddyProxyGenerator.setClassificationCacheEvictionPolicy(new WindowTinyLfuEvictionPolicy(MAXIMUM_SIZE));
+
+		final List<NameInterface> proxies = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			final String prefix = "Proxy" + i + ":";
+			// EACH ADVICE CARRIES NEW LAMBDA - AND THUS NEW CACHE KEY
+			final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+				new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class, state -> new NameImplementation(prefix))),
+				new Object()
+			);
+			assertEquals(prefix + "Jan", proxy.getName());
+			proxies.add(proxy);
+		}
+
+		assertTrue(ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.size() <= MAXIMUM_SIZE);
+		final CacheStatistics statistics = ByteBuddyProxyGenerator.getClassificationCacheStatistics();
+		assertEquals(50, statistics.getMissCount());
+		assertEquals(50 - MAXIMUM_SIZE, statistics.getEvictionCount());
+
+		// PROXIES WITH EVICTED DISPATCH TABLES KEEP WORKING
+		for (int i = 0; i < proxies.size(); i++) {
+			assertEquals("Proxy" + i + ":Jan", proxies.get(i).getName());
+		}
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_BoundedClassificationCache_SharedCacheKeyHits() {
+		ByteBuddyProxyGenerator.setClassificationCacheEvictionPolicy(new WindowTinyLfuEvictionPolicy(MAXIMUM_SIZE));
+
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class, state -> new NameImplementation("")));
+		for (int i = 0; i < 10; i++) {
+			final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(recipe, new Object());
+			assertEquals("Jan", proxy.getName());
+		}
+
+		final CacheStatistics statistics = ByteBuddyProxyGenerator.getClassificationCacheStatistics();
+		assertEquals(1, statistics.getMissCount());
+		assertEquals(9, statistics.getHitCount());
+		assertEquals(0, statistics.getEvictionCount());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private final String prefix;
+
+		@Override
+		public String getName() {
+			return prefix + "Jan";
+		}
+
+	}
+
+}
@@ -0,0 +1,148 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.cache.BytecodeCache;
+import one.edee.oss.proxycian.metrics.CountingMetricsListener;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.utils.RedeployableClassLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that the byte-code of generated proxy classes is stored in the cache directory and that the cached
+ * classes are used instead of generating them again.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyBytecodeCacheTest extends AbstractByteBuddyProxycianTest {
+	@TempDir Path cacheDirectory;
+	private CountingMetricsListener listener;
+
+	@BeforeEach
+	void enableCache() {
+		ByteBuddyProxyGenerator.setBytecodeCacheDirectory(this.cacheDirectory);
+		this.listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(this.listener);
+	}
+
+	@AfterEach
+	void disableCache() {
+		ByteBuddyProxyGenerator.setBytecodeCacheDirectory(null);
+		ProxycianMetrics.setListener(null);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_BytecodeCache_GeneratedClassStored() {
+		final StoredGreeter proxy = instantiate(StoredGreeter.class, getClass().getClassLoader(), "Jan");
+
+		assertEquals("Hello Jan", proxy.greet());
+		assertEquals(1, this.listener.getGeneratedClassCount());
+		assertTrue(Files.exists(new BytecodeCache(this.cacheDirectory).getClassFile(proxy.getClass().getName())));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_BytecodeCache_DefinedClassReusedAfterClassCacheClear() {
+		final Class<?> proxyClass = ByteBuddyProxyGenerator.getProxyClass(new Class[]{ReusedGreeter.class});
+		final Method[] proxyMethods = ByteBuddyProxyGenerator.getProxyMethods(proxyClass);
+		ByteBuddyProxyGenerator.clearClassCache();
+
+		assertSame(proxyClass, ByteBuddyProxyGenerator.getProxyClass(new Class[]{ReusedGreeter.class}));
+		assertArrayEquals(proxyMethods, ByteBuddyProxyGenerator.getProxyMethods(proxyClass));
+		assertEquals(1, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_BytecodeCache_ClassLoadedFromCacheDirectory() throws Exception {
+		final Class<?> proxyClass = ByteBuddyProxyGenerator.getProxyClass(new Class[]{Greeter.class});
+
+		// REDEPLOYED APPLICATION SEES THE CACHED CLASS AS IF THE JVM WAS STARTED AGAIN
+		final ClassLoader classLoader = new RedeployableClassLoader(getClass().getClassLoader(), Greeter.class);
+		final Class<?> greeterInterface = classLoader.loadClass(Greeter.class.getName());
+		final Object proxy = instantiate(greeterInterface, classLoader, "Petr");
+
+		assertEquals(proxyClass.getName(), proxy.getClass().getName());
+		assertNotSame(proxyClass, proxy.getClass());
+		assertSame(classLoader, proxy.getClass().getClassLoader());
+		assertEquals("Hello Petr", greeterInterface.getMethod("greet").invoke(proxy));
+		assertEquals(greeterInterface.getMethod("greet"), ByteBuddyProxyGenerator.explain(proxy).getMethodPlan("greet", 0).getMethod());
+		assertEquals(1, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_BytecodeCache_NotUsedInDirectDispatchMode() throws IOException {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		try {
+			final Greeter proxy = instantiate(Greeter.class, getClass().getClassLoader(), "Jan");
+			assertEquals("Hello Jan", proxy.greet());
+			try (final Stream<Path> files = Files.list(this.cacheDirectory)) {
+				assertEquals(0L, files.count());
+			}
+		} finally {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+	}
+
+	private static <T> T instantiate(Class<?> greeterInterface, ClassLoader classLoader, String name) {
+		return ByteBuddyProxyGenerator.instantiate(
+			new ByteBuddyDispatcherInvocationHandler<>(
+				name,
+				new PredicateMethodClassification<Object, Void, String>(
+					"Greeter methods",
+					(method, proxyState) -> method.getDeclaringClass().isInterface() && method.getDeclaringClass().isAssignableFrom(greeterInterface),
+					MethodClassification.noContext(),
+					(proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+						if (!method.isDefault()) {
+							return proxyState;
+						}
+						try {
+							return invokeSuper.call();
+						} catch (Exception e) {
+							throw new InvocationTargetException(e);
+						}
+					}
+				)
+			),
+			new Class[]{greeterInterface},
+			classLoader
+		);
+	}
+
+	public interface Greeter {
+
+		String getName();
+
+		default String greet() {
+			return "Hello " + getName();
+		}
+
+	}
+
+	// EACH TEST NEEDS ITS OWN CONTRACT - CACHED CLASSES STAY DEFINED IN THE CLASS LOADER AFTER THE TEST ENDS
+	public interface StoredGreeter extends Greeter {
+
+	}
+
+	public interface ReusedGreeter extends Greeter {
+
+	}
+
+}
@@ -0,0 +1,97 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.utils.RedeployableClassLoader;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that generator caches are kept separately for each class loader and that they don't prevent
+ * the class loader of the redeployed application from being garbage collected.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyClassLoaderCacheTest extends AbstractByteBuddyProxycianTest {
+	private static final int REDEPLOY_COUNT = 10;
+
+	@Test
+	public void ByteBuddyProxyGenerator_ClassLoaderCache_ProxyClassCachedPerClassLoader() throws Exception {
+		final ClassLoader firstLoader = new RedeployableClassLoader(getClass().getClassLoader(), Greeter.class);
+		final ClassLoader secondLoader = new RedeployableClassLoader(getClass().getClassLoader(), Greeter.class);
+		final Class<?> firstInterface = firstLoader.loadClass(Greeter.class.getName());
+		final Class<?> secondInterface = secondLoader.loadClass(Greeter.class.getName());
+
+		final Class<?> firstProxyClass = ByteBuddyProxyGenerator.getProxyClass(new Class[]{firstInterface}, firstLoader);
+		assertSame(firstProxyClass, ByteBuddyProxyGenerator.getProxyClass(new Class[]{firstInterface}, firstLoader));
+		final Class<?> secondProxyClass = ByteBuddyProxyGenerator.getProxyClass(new Class[]{secondInterface}, secondLoader);
+		assertNotSame(firstProxyClass, secondProxyClass);
+		assertSame(firstLoader, firstProxyClass.getClassLoader());
+		assertSame(secondLoader, secondProxyClass.getClassLoader());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_ClassLoaderCache_RedeployedClassLoaderCollectedWithoutCacheClear() throws Exception {
+		final List<WeakReference<ClassLoader>> classLoaders = new ArrayList<>(REDEPLOY_COUNT);
+		for (int i = 0; i < REDEPLOY_COUNT; i++) {
+			classLoaders.add(deployAndUseProxy("Jan" + i));
+		}
+		assertFalse(ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+		assertFalse(ByteBuddyProxyGenerator.SUPER_METHOD_CACHE.isEmpty());
+
+		assertTrue(RedeployableClassLoader.awaitCollected(classLoaders), "All redeployed class loaders should have been collected!");
+		assertTrue(ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+		assertTrue(ByteBuddyProxyGenerator.SUPER_METHOD_CACHE.isEmpty());
+	}
+
+	private static WeakReference<ClassLoader> deployAndUseProxy(String name) throws Exception {
+		final ClassLoader classLoader = new RedeployableClassLoader(ByteBuddyClassLoaderCacheTest.class.getClassLoader(), Greeter.class);
+		final Class<?> greeterInterface = classLoader.loadClass(Greeter.class.getName());
+		final Object proxy = ByteBuddyProxyGenerator.instantiate(
+			new ByteBuddyDispatcherInvocationHandler<>(
+				name,
+				new PredicateMethodClassification<Object, Void, String>(
+					"Greeter methods",
+					(method, proxyState) -> method.getDeclaringClass().equals(greeterInterface),
+					MethodClassification.noContext(),
+					(proxy1, method, args, methodContext, proxyState, invokeSuper) -> {
+						if (!method.isDefault()) {
+							return proxyState;
+						}
+						try {
+							return invokeSuper.call();
+						} catch (Exception e) {
+							throw new InvocationTargetException(e);
+						}
+					}
+				)
+			),
+			new Class[]{greeterInterface},
+			classLoader
+		);
+		assertEquals("Hello " + name, greeterInterface.getMethod("greet").invoke(proxy));
+		assertSame(classLoader, proxy.getClass().getClassLoader());
+		return new WeakReference<>(classLoader);
+	}
+
+	public interface Greeter {
+
+		String getName();
+
+		default String greet() {
+			return "Hello " + getName();
+		}
+
+	}
+
+}
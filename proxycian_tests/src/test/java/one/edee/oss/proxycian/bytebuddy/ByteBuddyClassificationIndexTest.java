@@ -0,0 +1,187 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.TransparentPredicateMethodClassification;
+import one.edee.oss.proxycian.model.traits.GenericBucket;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.IntroductionAdvice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.util.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static one.edee.oss.proxycian.MethodClassification.noContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * This test verifies that classifications of the advices classifying only introduced methods are not tested for
+ * unrelated methods and that the first-match order of the classifications is kept.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyClassificationIndexTest extends AbstractByteBuddyProxycianTest {
+
+	@Test
+	public void ByteBuddyProxyGenerator_ClassificationIndex_ScopedMatcherNotTestedForUnrelatedMethods() {
+		final LabelAdvice labelAdvice = new LabelAdvice(false);
+		final Service service = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(new Class[]{Service.class}, new Advice[]{labelAdvice, ServiceAdvice.INSTANCE}),
+			new Object()
+		);
+
+		assertEquals("served", service.serve());
+		assertEquals("served", service.serve("Jan"));
+		assertEquals(0, labelAdvice.getMatcherCalls().get());
+
+		assertEquals("label", ((Labeled) service).getLabel());
+		assertEquals(1, labelAdvice.getMatcherCalls().get());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_ClassificationIndex_FirstMatchOrderKept() {
+		final Service service = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(new Class[]{Service.class}, new Advice[]{ServiceAdvice.INSTANCE, new LabelAdvice(false)}),
+			new Object()
+		);
+
+		assertEquals("service label", ((Labeled) service).getLabel());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_ClassificationIndex_TransparentScopedClassificationContinues() {
+		final Service service = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(new Class[]{Service.class}, new Advice[]{new LabelAdvice(true), ServiceAdvice.INSTANCE}),
+			new Object()
+		);
+
+		assertEquals("label of service label", ((Labeled) service).getLabel());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_ClassificationIndex_SharedByAllProxiesOfRecipe() {
+		final LabelAdvice labelAdvice = new LabelAdvice(false);
+		final ProxyRecipe recipe = new ProxyRecipe(new Class[]{Service.class}, new Advice[]{labelAdvice, ServiceAdvice.INSTANCE});
+		final Service first = ByteBuddyProxyGenerator.instantiateSerializable(recipe, new GenericBucket());
+		final Service second = ByteBuddyProxyGenerator.instantiateSerializable(recipe, new GenericBucket());
+
+		assertSame(recipe.getMethodClassificationIndex(), recipe.getMethodClassificationIndex());
+		assertEquals("served", first.serve());
+		assertEquals("served", second.serve("Jan"));
+		assertEquals("label", ((Labeled) second).getLabel());
+		assertEquals(1, labelAdvice.getMatcherCalls().get());
+	}
+
+	public interface Service {
+
+		String serve();
+
+		String serve(String name);
+
+	}
+
+	public interface Labeled {
+
+		String getLabel();
+
+	}
+
+	/**
+	 * Advice that handles all methods of {@link Service} and also methods named `getLabel`.
+	 */
+	public static class ServiceAdvice implements Advice<Object> {
+		private static final long serialVersionUID = -2530862727409318424L;
+		public static final ServiceAdvice INSTANCE = new ServiceAdvice();
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			return Arrays.asList(
+				new PredicateMethodClassification<>(
+					/* description */   "Service.serve",
+					/* matcher */       (method, proxyState) -> method.getDeclaringClass().equals(Service.class),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "served"
+				),
+				new PredicateMethodClassification<>(
+					/* description */   "getLabel",
+					/* matcher */       (method, proxyState) -> method.getName().equals("getLabel"),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "service label"
+				)
+			);
+		}
+	}
+
+	/**
+	 * Advice introducing {@link Labeled} interface that counts the calls of its matcher.
+	 */
+	public static class LabelAdvice implements IntroductionAdvice<Object> {
+		private static final long serialVersionUID = 2986327512286040337L;
+		private final AtomicInteger matcherCalls = new AtomicInteger();
+		private final boolean transparent;
+
+		public LabelAdvice(boolean transparent) {
+			this.transparent = transparent;
+		}
+
+		public AtomicInteger getMatcherCalls() {
+			return matcherCalls;
+		}
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<Class<?>> getInterfacesToImplement() {
+			return Collections.singletonList(Labeled.class);
+		}
+
+		@Override
+		public boolean isClassifyingOnlyIntroducedMethods() {
+			return true;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			if (transparent) {
+				return Collections.singletonList(
+					new TransparentPredicateMethodClassification<>(
+						/* description */   "Labeled.getLabel()",
+						/* matcher */       (method, proxyState) -> matcherCalls.incrementAndGet() > 0 && ReflectionUtils.isMethodDeclaredOn(method, Labeled.class, "getLabel"),
+						/* methodContext */ noContext(),
+						/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+							try {
+								return "label of " + invokeSuper.call();
+							} catch (Exception e) {
+								throw new InvocationTargetException(e);
+							}
+						}
+					)
+				);
+			} else {
+				return Collections.singletonList(
+					new PredicateMethodClassification<>(
+						/* description */   "Labeled.getLabel()",
+						/* matcher */       (method, proxyState) -> matcherCalls.incrementAndGet() > 0 && ReflectionUtils.isMethodDeclaredOn(method, Labeled.class, "getLabel"),
+						/* methodContext */ noContext(),
+						/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "label"
+					)
+				);
+			}
+		}
+	}
+
+}
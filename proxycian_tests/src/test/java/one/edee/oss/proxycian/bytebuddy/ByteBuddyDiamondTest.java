@@ -1,9 +1,16 @@
 package one.edee.oss.proxycian.bytebuddy;
 
 import one.edee.oss.proxycian.model.traits.GenericBucket;
+import one.edee.oss.proxycian.utils.MultiReleaseClassLoader;
 import org.junit.jupiter.api.Test;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Test verifying {@link ByteBuddyProxyGenerator} for diamond interface composition with default methods.
@@ -28,6 +35,40 @@ public class ByteBuddyDiamondTest extends AbstractByteBuddyProxycianTest {
 		((SomeSharedInterface)instance).printValue(45);
 	}
 
+	@Test
+	public void ByteBuddyProxyRecipeGenerator_DiamondProblemResolvedByProxyLookupOnJava17() throws Exception {
+		final String specificationVersion = System.getProperty("java.specification.version");
+		assumeTrue(!specificationVersion.startsWith("1.") && Integer.parseInt(specificationVersion) >= 17);
+		// TESTS RUN AGAINST CLASS DIRECTORIES OF THE REACTOR, WHERE THE JVM PICKS THE JAVA 8 VERSION OF THE HANDLER
+		final ClassLoader classLoader = new MultiReleaseClassLoader(getClass().getClassLoader(), "one.edee.oss.proxycian.");
+		final Class<?> handlerClass = classLoader.loadClass(ByteBuddyDispatcherInvocationHandler.class.getName());
+		assertTrue(
+			Arrays.stream(handlerClass.getMethods())
+				.anyMatch(it -> it.getName().equals("interceptMethodCall") && Arrays.asList(it.getParameterTypes()).contains(MethodHandles.Lookup.class))
+		);
+
+		final Callable<?> scenario = (Callable<?>) classLoader.loadClass(DiamondScenario.class.getName())
+			.getDeclaredConstructor()
+			.newInstance();
+		assertEquals("whatever", scenario.call());
+	}
+
+	/**
+	 * Scenario running in the class loader with Java 17 version of the {@link ByteBuddyDispatcherInvocationHandler}.
+	 */
+	public static class DiamondScenario implements Callable<String> {
+
+		@Override
+		public String call() {
+			final SomeSharedInterface proxy = ByteBuddyProxyGenerator.instantiate(
+				new ByteBuddyDispatcherInvocationHandler<>(new GenericBucket()),
+				Trait1.class, Trait2.class
+			);
+			return proxy.getCode();
+		}
+
+	}
+
 	public interface Trait1 extends SomeSharedInterface {
 	}
 
@@ -0,0 +1,280 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.BooleanMethodInvocationHandler;
+import one.edee.oss.proxycian.DoubleMethodInvocationHandler;
+import one.edee.oss.proxycian.IntMethodInvocationHandler;
+import one.edee.oss.proxycian.LongMethodInvocationHandler;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyDirectDispatchTest extends AbstractByteBuddyProxycianTest {
+
+	@BeforeEach
+	void setUpDispatchMode() {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+	}
+
+	@AfterEach
+	void tearDownDispatchMode() {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DirectDispatch_ClassHasDispatchSlots() throws NoSuchFieldException {
+		final Calculator calculator = createCalculator(new ArrayList<>());
+		assertTrue(Modifier.isStatic(calculator.getClass().getDeclaredField(DirectDispatchImplementation.DISPATCH_SLOTS_FIELD).getModifiers()));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DirectDispatch_AllAritiesDispatched() {
+		final List<String> calls = new ArrayList<>();
+		final Calculator calculator = createCalculator(calls);
+
+		assertEquals(0, calculator.zero());
+		assertEquals(6L, calculator.one(3L));
+		assertEquals(7.5d, calculator.two(5, 2.5d));
+		assertEquals("a:b:true", calculator.three("a", 'b', true));
+		assertEquals("1:2:3.0:4", calculator.four((byte) 1, (short) 2, 3.0f, 4));
+		calculator.doNothing(42);
+
+		assertEquals(Arrays.asList("zero[]", "one[3]", "two[5, 2.5]", "three[a, b, true]", "four[1, 2, 3.0, 4]", "doNothing[42]"), calls);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DirectDispatch_DefaultMethodCallsSuper() {
+		final Calculator calculator = createCalculator(new ArrayList<>());
+		assertEquals("Hello Jan", calculator.greet("Jan"));
+		assertEquals("1+2+3+4", calculator.join("1", "2", "3", "4"));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DirectDispatch_SuperCallPassesArgumentsOfAllArities() {
+		final Echo echo = ByteBuddyProxyGenerator.instantiate(
+			new ByteBuddyDispatcherInvocationHandler<>(
+				new Object(),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"echo",
+					(method, proxyState) -> method.getDeclaringClass().equals(Echo.class),
+					MethodClassification.noContext(),
+					(proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+						try {
+							return "[" + invokeSuper.call() + "]";
+						} catch (Exception e) {
+							throw new InvocationTargetException(e);
+						}
+					}
+				)
+			),
+			Echo.class
+		);
+
+		assertEquals("[]", echo.echo0());
+		assertEquals("[a]", echo.echo1("a"));
+		assertEquals("[a,b]", echo.echo2("a", "b"));
+		assertEquals("[a,b,c]", echo.echo3("a", "b", "c"));
+		assertEquals("[a,b,c,d]", echo.echo4("a", "b", "c", "d"));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DirectDispatch_SuperMethodExceptionPropagated() {
+		final Calculator calculator = createCalculator(new ArrayList<>());
+		final IOException exception = assertThrows(IOException.class, () -> calculator.fail("boom"));
+		assertEquals("boom", exception.getMessage());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DirectDispatch_AbstractClassCallsSuper() {
+		final AbstractGreeter greeter = ByteBuddyProxyGenerator.instantiate(
+			new ByteBuddyDispatcherInvocationHandler<>(
+				new Object(),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"salutation",
+					(method, proxyState) -> "getSalutation".equals(method.getName()),
+					MethodClassification.noContext(),
+					(proxy, method, args, methodContext, proxyState, invokeSuper) -> "Mr. "
+				)
+			),
+			AbstractGreeter.class
+		);
+
+		assertEquals("Hello Mr. Novotný", greeter.greet("Novotný"));
+		assertTrue(greeter instanceof ProxyStateAccessor);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DirectDispatch_PrimitiveHandlersReturnUnboxedValues() {
+		final Measurements measurements = ByteBuddyProxyGenerator.instantiate(
+			new ByteBuddyDispatcherInvocationHandler<>(
+				new Object(),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"count",
+					(method, proxyState) -> "count".equals(method.getName()),
+					MethodClassification.noContext(),
+					IntMethodInvocationHandler.returningInt((proxy, method, args, methodContext, proxyState, invokeSuper) -> 42)
+				),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"sum",
+					(method, proxyState) -> "sum".equals(method.getName()),
+					MethodClassification.noContext(),
+					LongMethodInvocationHandler.returningLong((proxy, method, args, methodContext, proxyState, invokeSuper) -> (long) args[0] + (long) args[1])
+				),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"average",
+					(method, proxyState) -> "average".equals(method.getName()),
+					MethodClassification.noContext(),
+					DoubleMethodInvocationHandler.returningDouble((proxy, method, args, methodContext, proxyState, invokeSuper) -> 2.5d)
+				),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"isEmpty",
+					(method, proxyState) -> "isEmpty".equals(method.getName()),
+					MethodClassification.noContext(),
+					BooleanMethodInvocationHandler.returningBoolean((proxy, method, args, methodContext, proxyState, invokeSuper) -> args.length == 0)
+				),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"boxed",
+					(method, proxyState) -> "boxedCount".equals(method.getName()),
+					MethodClassification.noContext(),
+					(proxy, method, args, methodContext, proxyState, invokeSuper) -> 7
+				)
+			),
+			Measurements.class
+		);
+
+		assertEquals(42, measurements.count());
+		assertEquals(5L, measurements.sum(2L, 3L));
+		assertEquals(2.5d, measurements.average());
+		assertTrue(measurements.isEmpty());
+		assertEquals(7, measurements.boxedCount());
+		assertEquals(44, measurements.countPlus(2));
+	}
+
+	private static Calculator createCalculator(List<String> calls) {
+		return ByteBuddyProxyGenerator.instantiate(
+			new ByteBuddyDispatcherInvocationHandler<>(
+				new Object(),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"calculator",
+					(method, proxyState) -> method.getDeclaringClass().equals(Calculator.class) && !method.isDefault(),
+					MethodClassification.noContext(),
+					(proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+						calls.add(method.getName() + Arrays.toString(args));
+						switch (method.getName()) {
+							case "zero": return 0;
+							case "one": return (long) args[0] * 2;
+							case "two": return (int) args[0] + (double) args[1];
+							case "three": return args[0] + ":" + args[1] + ":" + args[2];
+							case "four": return args[0] + ":" + args[1] + ":" + args[2] + ":" + args[3];
+							case "doNothing": return null;
+							default: throw new InvocationTargetException(new UnsupportedOperationException(method.getName()));
+						}
+					}
+				)
+			),
+			Calculator.class
+		);
+	}
+
+	public interface Calculator {
+
+		int zero();
+
+		long one(long a);
+
+		double two(int a, double b);
+
+		String three(String a, char b, boolean c);
+
+		String four(byte a, short b, float c, Object d);
+
+		void doNothing(int a);
+
+		default String greet(String name) {
+			return "Hello " + name;
+		}
+
+		default String join(String a, String b, String c, String d) {
+			return a + "+" + b + "+" + c + "+" + d;
+		}
+
+		default void fail(String message) throws IOException {
+			throw new IOException(message);
+		}
+
+	}
+
+	public interface Echo {
+
+		default String echo0() {
+			return "";
+		}
+
+		default String echo1(String a) {
+			return a;
+		}
+
+		default String echo2(String a, String b) {
+			return a + "," + b;
+		}
+
+		default String echo3(String a, String b, String c) {
+			return a + "," + b + "," + c;
+		}
+
+		default String echo4(String a, String b, String c, String d) {
+			return a + "," + b + "," + c + "," + d;
+		}
+
+	}
+
+	public interface Measurements {
+
+		int count();
+
+		long sum(long a, long b);
+
+		double average();
+
+		boolean isEmpty();
+
+		int boxedCount();
+
+		default int countPlus(int a) {
+			return count() + a;
+		}
+
+	}
+
+	public static abstract class AbstractGreeter {
+
+		public String greet(String name) {
+			return "Hello " + getSalutation() + name;
+		}
+
+		public abstract String getSalutation();
+
+	}
+
+}
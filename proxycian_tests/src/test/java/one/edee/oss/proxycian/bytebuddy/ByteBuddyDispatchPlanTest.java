@@ -0,0 +1,185 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.DispatchPlan;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.MethodDispatchPlan;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.TransparentPredicateMethodClassification;
+import one.edee.oss.proxycian.cache.MethodDispatchTable;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.StandardJavaMethods;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static one.edee.oss.proxycian.MethodClassification.noContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that dispatch plan describes matched classification chains, real method fall-throughs and
+ * cached methods of the proxy class without changing its dispatch table.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyDispatchPlanTest extends AbstractByteBuddyProxycianTest {
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchPlan_ExplainsRecipe() {
+		final DispatchPlan plan = ByteBuddyProxyGenerator.explain(createRecipe(), new Object());
+
+		final MethodDispatchPlan getName = plan.getMethodPlan("getName", 0);
+		final List<MethodDispatchPlan.MatchAttempt> chain = getName.getMatchedChain();
+		assertEquals(2, chain.size());
+		assertTrue(chain.get(0).isTransparent());
+		assertEquals("log: getName", chain.get(0).getInvocationHandler());
+		assertEquals("name", chain.get(1).getClassification());
+		assertFalse(getName.isRealMethodFallThrough());
+		assertFalse(getName.isCached());
+		assertTrue(getName.getMatchingNanos() >= 0);
+
+		final MethodDispatchPlan greet = plan.getMethodPlan("greet", 0);
+		assertTrue(greet.isRealMethodFallThrough());
+		assertTrue(plan.getRealMethodFallThroughs().contains(greet));
+		assertTrue(plan.getUnhandledMethods().isEmpty());
+		assertEquals(plan.getMethodPlans().size(), plan.getSlowestMethods().size());
+		assertTrue(plan.toString().contains("FALLS THROUGH TO DEFAULT / SUPER IMPLEMENTATION"));
+
+		// EXPLAINING DOESN'T CREATE ANY DISPATCH TABLE
+		assertTrue(ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchPlan_ExplainsProxy() {
+		final Greeting proxy = ByteBuddyProxyGenerator.instantiate(createRecipe(), new Object());
+		assertEquals("Jan", proxy.getName());
+
+		final MethodDispatchTable dispatchTable = ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		final int resolvedMethods = dispatchTable.size();
+		final DispatchPlan plan = ByteBuddyProxyGenerator.explain(proxy);
+
+		assertEquals(proxy.getClass(), plan.getProxyClass());
+		assertTrue(plan.getMethodPlan("getName", 0).isCached());
+		assertFalse(plan.getMethodPlan("greet", 0).isCached());
+		assertEquals(resolvedMethods, dispatchTable.size());
+		assertEquals("Hello Jan", proxy.greet());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchPlan_ReportsUnhandledMethods() {
+		final DispatchPlan plan = ByteBuddyProxyGenerator.explain(
+			new ProxyRecipe(new Class[]{Incomplete.class}, new Advice[]{GreetingAdvice.INSTANCE}),
+			new Object()
+		);
+
+		assertEquals(1, plan.getUnhandledMethods().size());
+		assertEquals("getCode", plan.getUnhandledMethods().get(0).getMethod().getName());
+		assertTrue(plan.toString().contains("NOT HANDLED"));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchPlan_RealMethodFallThroughNotRecognizedByDescription() {
+		final DispatchPlan plan = ByteBuddyProxyGenerator.explain(
+			new ProxyRecipe(new Class[]{Greeting.class}, new Advice[]{GreetingAdvice.INSTANCE, LookalikeAdvice.INSTANCE}),
+			new Object()
+		);
+
+		final MethodDispatchPlan greet = plan.getMethodPlan("greet", 0);
+		assertEquals(StandardJavaMethods.realMethodInvoker().toString(), greet.getMatchedChain().get(0).getClassification());
+		assertFalse(greet.isRealMethodFallThrough());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchPlan_FailsForNonProxy() {
+		assertThrows(IllegalArgumentException.class, () -> ByteBuddyProxyGenerator.explain("not a proxy"));
+	}
+
+	private static ProxyRecipe createRecipe() {
+		return new ProxyRecipe(new Class[]{Greeting.class}, new Advice[]{GreetingAdvice.INSTANCE});
+	}
+
+	public interface Greeting {
+
+		String getName();
+
+		default String greet() {
+			return "Hello " + getName();
+		}
+
+	}
+
+	public interface Incomplete extends Greeting {
+
+		String getCode();
+
+	}
+
+	/**
+	 * Advice that implements `greet` with classification described the same way as the real method invoker.
+	 */
+	public static class LookalikeAdvice implements Advice<Object> {
+		private static final long serialVersionUID = -6372840981574039261L;
+		public static final LookalikeAdvice INSTANCE = new LookalikeAdvice();
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			return Collections.singletonList(
+				new PredicateMethodClassification<>(
+					/* description */   StandardJavaMethods.realMethodInvoker().toString(),
+					/* matcher */       (method, proxyState) -> method.getName().equals("greet"),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "Hi"
+				)
+			);
+		}
+	}
+
+	/**
+	 * Advice that logs the calls of `getName` transparently and implements it then.
+	 */
+	public static class GreetingAdvice implements Advice<Object> {
+		private static final long serialVersionUID = 5017391840571267738L;
+		public static final GreetingAdvice INSTANCE = new GreetingAdvice();
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			return Arrays.asList(
+				new TransparentPredicateMethodClassification<>(
+					/* description */   "log",
+					/* matcher */       (method, proxyState) -> method.getName().equals("getName"),
+					/* methodContext */ (method, proxyState) -> method.getName(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+						try {
+							return invokeSuper.call();
+						} catch (Exception e) {
+							throw new InvocationTargetException(e);
+						}
+					}
+				),
+				new PredicateMethodClassification<>(
+					/* description */   "name",
+					/* matcher */       (method, proxyState) -> method.getName().equals("getName"),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "Jan"
+				)
+			);
+		}
+	}
+
+}
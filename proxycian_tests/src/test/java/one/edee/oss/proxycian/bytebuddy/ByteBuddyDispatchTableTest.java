@@ -0,0 +1,97 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.cache.MethodDispatchTable;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * This test verifies that resolved method handlers are kept in {@link MethodDispatchTable} shared by the proxies
+ * of the same class and the same cache key.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyDispatchTableTest extends AbstractByteBuddyProxycianTest {
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchTable_SharedByProxiesOfSameRecipe() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameInterface first = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+		final NameInterface second = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+		assertSame(first.getClass(), second.getClass());
+
+		first.setName("Jan");
+		second.setName("Petr");
+		assertEquals("Jan", first.getName());
+		assertEquals("Petr", second.getName());
+
+		assertEquals(1, ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.size());
+		final MethodDispatchTable dispatchTable = ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertSame(first.getClass(), dispatchTable.getProxyClass());
+		assertEquals(2, dispatchTable.size());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchTable_ClearedWithClassificationCache() {
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		proxy.setName("Jan");
+		final MethodDispatchTable dispatchTable = ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertEquals(1, dispatchTable.size());
+
+		ByteBuddyProxyGenerator.clearMethodClassificationCache();
+		assertEquals(0, dispatchTable.size());
+		assertEquals(0, ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.size());
+
+		assertEquals("Jan", proxy.getName());
+		assertEquals(1, dispatchTable.size());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_DispatchTable_SeparatedForDifferentCacheKeys() {
+		final NameInterface first = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class, o -> ((CompositionState) o).getFirst())),
+			new CompositionState()
+		);
+		final NameInterface second = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class, o -> ((CompositionState) o).getSecond())),
+			new CompositionState()
+		);
+		assertSame(first.getClass(), second.getClass());
+
+		first.setName("Jan");
+		second.setName("Petr");
+		assertEquals("Jan", first.getName());
+		assertEquals("Petr", second.getName());
+		assertEquals("Jan", ((CompositionState) ((ProxyStateAccessor) first).getProxyState()).getFirst().getName());
+		assertEquals("Petr", ((CompositionState) ((ProxyStateAccessor) second).getProxyState()).getSecond().getName());
+
+		assertEquals(2, ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.size());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private String name;
+	}
+
+	@Data
+	public static class CompositionState {
+		private final NameImplementation first = new NameImplementation();
+		private final NameImplementation second = new NameImplementation();
+	}
+
+}
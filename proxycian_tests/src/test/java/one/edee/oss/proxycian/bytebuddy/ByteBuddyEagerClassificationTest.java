@@ -0,0 +1,118 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.cache.MethodDispatchTable;
+import one.edee.oss.proxycian.exception.MissingMethodImplementationException;
+import one.edee.oss.proxycian.model.traits.GenericBucket;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.trait.localDataStore.LocalDataStore;
+import one.edee.oss.proxycian.trait.localDataStore.LocalDataStoreAdvice;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that recipe with eager classification fills the dispatch table when the proxy is created and fails
+ * fast when some method is not handled.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyEagerClassificationTest extends AbstractByteBuddyProxycianTest {
+
+	@Test
+	public void ByteBuddyProxyGenerator_EagerClassification_FillsDispatchTable() {
+		assertDispatchTableFilled();
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_EagerClassification_FillsDispatchTableInDirectMode() {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		try {
+			assertDispatchTableFilled();
+		} finally {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_LazyClassification_LeavesDispatchTableEmpty() {
+		ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		assertTrue(ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_EagerClassification_FailsOnUnhandledMethod() {
+		final ProxyRecipe recipe = new ProxyRecipe(
+			new Class[]{IncompleteInterface.class}, new Advice[]{LocalDataStoreAdvice.INSTANCE}
+		).withEagerClassification();
+
+		final MissingMethodImplementationException exception = assertThrows(
+			MissingMethodImplementationException.class,
+			() -> ByteBuddyProxyGenerator.instantiate(recipe, new GenericBucket())
+		);
+		assertEquals(1, exception.getUnhandledMethods().size());
+		assertEquals("getCode", exception.getUnhandledMethods().get(0).getName());
+
+		final MethodDispatchTable dispatchTable = ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertFalse(dispatchTable.isFullyClassified());
+		// EACH ATTEMPT FAILS THE SAME WAY
+		assertThrows(
+			MissingMethodImplementationException.class,
+			() -> ByteBuddyProxyGenerator.instantiate(recipe, new GenericBucket())
+		);
+	}
+
+	private static void assertDispatchTableFilled() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)).withEagerClassification();
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+
+		assertEquals(1, ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.size());
+		final MethodDispatchTable dispatchTable = ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertTrue(dispatchTable.isFullyClassified());
+		final int classifiedMethods = dispatchTable.size();
+		assertEquals(ByteBuddyProxyGenerator.getProxyMethods(proxy.getClass()).length, classifiedMethods);
+
+		// NO METHOD IS CLASSIFIED ON ITS CALL
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals(new NameImplementation().toString().replace("null", "Jan"), proxy.toString());
+		assertEquals(classifiedMethods, dispatchTable.size());
+
+		// THE SECOND PROXY REUSES THE TABLE
+		final NameInterface secondProxy = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+		secondProxy.setName("Petr");
+		assertEquals("Petr", secondProxy.getName());
+		assertEquals(1, ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.size());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	public interface IncompleteInterface extends LocalDataStore {
+
+		String getCode();
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private String name;
+	}
+
+}
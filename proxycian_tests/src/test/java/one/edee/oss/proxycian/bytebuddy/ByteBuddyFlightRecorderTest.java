@@ -0,0 +1,146 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Data;
+import one.edee.oss.proxycian.OnInstantiationCallback;
+import one.edee.oss.proxycian.metrics.ProxycianFlightRecorder;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.utils.MultiReleaseClassLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that {@link ProxycianFlightRecorder} emits events about class generation, classification misses
+ * and slow instantiation callbacks when it is enabled. The events are supported only by the Java 11+ version of the
+ * library - the scenario runs in {@link MultiReleaseClassLoader} when the tests don't see the multi-release jar.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyFlightRecorderTest extends AbstractByteBuddyProxycianTest {
+
+	@AfterEach
+	void tearDown() {
+		ProxycianFlightRecorder.setEnabled(false);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_FlightRecorder_DisabledByDefault() {
+		assertFalse(ProxycianFlightRecorder.isEnabled());
+		ProxycianFlightRecorder.setEnabled(true);
+		assertEquals(ProxycianFlightRecorder.isSupported(), ProxycianFlightRecorder.isEnabled());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_FlightRecorder_EmitsEvents() throws Exception {
+		// TESTS RUN AGAINST CLASS DIRECTORIES OF THE REACTOR, WHERE THE JVM PICKS THE JAVA 8 NO-OP VERSION OF THE RECORDER
+		final ClassLoader classLoader = ProxycianFlightRecorder.isSupported() ?
+			getClass().getClassLoader() :
+			new MultiReleaseClassLoader(getClass().getClassLoader(), "one.edee.oss.proxycian.");
+		final Class<?> flightRecorderClass = classLoader.loadClass(ProxycianFlightRecorder.class.getName());
+		assertTrue((Boolean) flightRecorderClass.getMethod("isSupported").invoke(null));
+
+		final Path recordingFile = Files.createTempFile("proxycian", ".jfr");
+		try {
+			try (Recording recording = new Recording()) {
+				recording.enable("one.edee.oss.proxycian.ProxyClassDefinition");
+				recording.enable("one.edee.oss.proxycian.ClassificationMiss");
+				recording.enable("one.edee.oss.proxycian.SlowInstantiationCallback");
+				recording.start();
+
+				final Callable<?> scenario = (Callable<?>) classLoader.loadClass(RecordedScenario.class.getName())
+					.getDeclaredConstructor()
+					.newInstance();
+				assertEquals("Jan", scenario.call());
+
+				recording.stop();
+				recording.dump(recordingFile);
+			}
+
+			final List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile)
+				.stream()
+				.filter(it -> it.getEventType().getName().startsWith("one.edee.oss.proxycian."))
+				.collect(Collectors.toList());
+
+			final List<RecordedEvent> definitions = getEvents(events, "ProxyClassDefinition");
+			assertEquals(1, definitions.size());
+			assertEquals(ByteBuddyProxyGenerator.GENERATOR_NAME, definitions.get(0).getString("generator"));
+			assertTrue(definitions.get(0).getString("contract").contains(NameInterface.class.getName()));
+			assertTrue(definitions.get(0).getInt("bytecodeSize") > 0);
+
+			final List<String> classifiedMethods = getEvents(events, "ClassificationMiss")
+				.stream()
+				.map(it -> it.getString("method"))
+				.collect(Collectors.toList());
+			assertEquals(2, classifiedMethods.size());
+			assertTrue(classifiedMethods.stream().anyMatch(it -> it.contains("setName")));
+			assertTrue(classifiedMethods.stream().anyMatch(it -> it.contains("getName")));
+
+			assertEquals(1, getEvents(events, "SlowInstantiationCallback").size());
+		} finally {
+			Files.deleteIfExists(recordingFile);
+		}
+	}
+
+	private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+		return events.stream()
+			.filter(it -> it.getEventType().getName().equals("one.edee.oss.proxycian." + name))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Scenario running in the class loader with Java 11+ version of the {@link ProxycianFlightRecorder}.
+	 */
+	public static class RecordedScenario implements Callable<String> {
+
+		@Override
+		public String call() {
+			ProxycianFlightRecorder.setEnabled(true);
+			try {
+				final OnInstantiationCallback slowCallback = (proxy, proxyState) -> {
+					try {
+						Thread.sleep(5);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				};
+				final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+					new ProxyRecipe(new Advice[]{DelegateCallsAdvice.getInstance(NameInterface.class)}, slowCallback),
+					new NameImplementation()
+				);
+				proxy.setName("Jan");
+				return proxy.getName();
+			} finally {
+				ProxycianFlightRecorder.setEnabled(false);
+			}
+		}
+
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private String name;
+	}
+
+}
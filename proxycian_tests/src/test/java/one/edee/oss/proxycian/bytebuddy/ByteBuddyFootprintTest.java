@@ -0,0 +1,89 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.ProxyFootprint;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyEagerClassificationTest.NameImplementation;
+import one.edee.oss.proxycian.bytebuddy.ByteBuddyEagerClassificationTest.NameInterface;
+import one.edee.oss.proxycian.metrics.ObjectSizeCalculator;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static one.edee.oss.proxycian.utils.FootprintAssertions.assertOverheadAtMost;
+import static one.edee.oss.proxycian.utils.FootprintAssertions.assertRetainedSizeAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that footprint report splits the heap retained by single proxy into its parts, doesn't count
+ * the objects shared by all proxies of the recipe and that the footprint doesn't grow over the expected limits.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyFootprintTest extends AbstractByteBuddyProxycianTest {
+
+	@Test
+	public void ByteBuddyProxyGenerator_Footprint_SplitsRetainedSizeToParts() {
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(createRecipe(), new NameImplementation());
+		final NameInterface siblingProxy = ByteBuddyProxyGenerator.instantiate(createRecipe(), new NameImplementation());
+		final ProxyFootprint footprint = ByteBuddyProxyGenerator.measureFootprint(proxy, siblingProxy);
+
+		assertEquals(proxy.getClass(), footprint.getProxyClass());
+		assertEquals(ObjectSizeCalculator.getShallowSize(proxy), footprint.getProxy().getShallowSize());
+		assertEquals(ObjectSizeCalculator.getShallowSize(new NameImplementation()), footprint.getState().getRetainedSize());
+		assertTrue(footprint.getHandler().getShallowSize() > 0);
+		assertTrue(footprint.getHandler().getRetainedSize() >= footprint.getHandler().getShallowSize());
+		// THE LIST RETAINS ITS NODES AND THE CLASSIFICATIONS OF THE HANDLER
+		assertTrue(footprint.getClassifications().getRetainedSize() > footprint.getClassifications().getShallowSize());
+		assertEquals(
+			footprint.getProxy().getRetainedSize() + footprint.getHandler().getRetainedSize() +
+				footprint.getClassifications().getRetainedSize() + footprint.getState().getRetainedSize(),
+			footprint.getRetainedSize()
+		);
+		assertEquals(footprint.getRetainedSize() - footprint.getState().getRetainedSize(), footprint.getOverheadSize());
+		assertTrue(footprint.toString().contains("classifications: "));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_Footprint_ExcludesSharedObjects() {
+		final NameImplementation sharedState = new NameImplementation();
+		final ProxyFootprint footprint = ByteBuddyProxyGenerator.measureFootprint(createRecipe(), () -> sharedState);
+
+		assertEquals(0L, footprint.getState().getShallowSize());
+		assertEquals(0L, footprint.getState().getRetainedSize());
+		assertEquals(footprint.getOverheadSize(), footprint.getRetainedSize());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_Footprint_StaysWithinLimits() {
+		final ProxyFootprint footprint = ByteBuddyProxyGenerator.measureFootprint(createRecipe(), NameImplementation::new);
+		assertOverheadAtMost(footprint, 1024);
+		assertRetainedSizeAtMost(footprint, 1024 + footprint.getState().getRetainedSize());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_Footprint_StaysWithinLimitsInDirectMode() {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		try {
+			final ProxyFootprint footprint = ByteBuddyProxyGenerator.measureFootprint(createRecipe(), NameImplementation::new);
+			assertOverheadAtMost(footprint, 1024);
+		} finally {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_Footprint_RejectsInvalidProxies() {
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(createRecipe(), new NameImplementation());
+		assertThrows(IllegalArgumentException.class, () -> ByteBuddyProxyGenerator.measureFootprint(proxy, proxy));
+		assertThrows(IllegalArgumentException.class, () -> ByteBuddyProxyGenerator.measureFootprint(proxy, new NameImplementation()));
+	}
+
+	private static ProxyRecipe createRecipe() {
+		return new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+	}
+
+}
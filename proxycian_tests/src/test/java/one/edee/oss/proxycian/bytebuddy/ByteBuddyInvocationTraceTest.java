@@ -0,0 +1,138 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
+import one.edee.oss.proxycian.metrics.InvocationTraceEntry;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.utils.AllocationMeter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * This test verifies that {@link InvocationTrace} registered to the generator records the invocations of the proxy
+ * methods in both dispatch modes and that recording allocates nothing. The latter is measured by
+ * {@link AllocationMeter}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyInvocationTraceTest extends AbstractByteBuddyProxycianTest {
+
+	@AfterEach
+	void tearDown() {
+		ByteBuddyProxyGenerator.setInvocationTrace(null);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_InvocationTrace_RecordsInvocations() {
+		assertInvocationsRecorded();
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_InvocationTrace_RecordsInvocationsInDirectMode() {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		try {
+			assertInvocationsRecorded();
+		} finally {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_InvocationTrace_NothingRecordedWhenDisabled() {
+		final InvocationTrace trace = new InvocationTrace(16);
+		ByteBuddyProxyGenerator.setInvocationTrace(trace);
+		ByteBuddyProxyGenerator.setInvocationTrace(null);
+
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals(0, trace.getRecordedCount());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_InvocationTrace_RecordsDroppedWithClassCache() {
+		assertInvocationsRecorded();
+
+		ByteBuddyProxyGenerator.clearClassCache();
+		assertTrue(ByteBuddyProxyGenerator.getInvocationTrace().getEntries().isEmpty());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_InvocationTrace_RecordingAllocatesNothing() throws Exception {
+		assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported by the VM.");
+		final NameInterface proxyWithoutTrace = createProxy();
+		final long withoutTrace = AllocationMeter.measureBytesPerCall(proxyWithoutTrace::getName);
+
+		ByteBuddyProxyGenerator.setInvocationTrace(new InvocationTrace(1024));
+		final NameInterface proxyWithTrace = createProxy();
+		final long withTrace = AllocationMeter.measureBytesPerCall(proxyWithTrace::getName);
+
+		assertTrue(
+			withTrace <= withoutTrace,
+			"Dispatch without trace allocates " + withoutTrace + " bytes per invocation, with trace " + withTrace + " bytes!"
+		);
+	}
+
+	@Nonnull
+	private static NameInterface createProxy() {
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		proxy.setName("Jan");
+		return proxy;
+	}
+
+	private static void assertInvocationsRecorded() {
+		final InvocationTrace trace = new InvocationTrace(16);
+		ByteBuddyProxyGenerator.setInvocationTrace(trace);
+
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals("Jan", proxy.getName());
+
+		final List<InvocationTraceEntry> entries = trace.getEntries();
+		assertEquals(3, entries.size());
+		assertEquals("setName", entries.get(0).getMethod().getName());
+		assertEquals("getName", entries.get(1).getMethod().getName());
+		assertEquals("getName", entries.get(2).getMethod().getName());
+		for (InvocationTraceEntry entry : entries) {
+			assertEquals(proxy.getClass(), entry.getProxyClass());
+			assertTrue(entry.getDurationNanos() >= 0);
+		}
+		assertEquals(entries.get(1).getMethodOrdinal(), entries.get(2).getMethodOrdinal());
+		assertEquals(entries.get(1).getClassification(), entries.get(2).getClassification());
+		assertTrue(entries.get(0).getMethodOrdinal() != entries.get(1).getMethodOrdinal());
+		assertTrue(trace.dump().contains(proxy.getClass().getName() + ".getName"));
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private String name;
+	}
+
+}
@@ -0,0 +1,148 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.metrics.CountingMetricsListener;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.utils.AllocationMeter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * This test verifies that {@link CountingMetricsListener} observes class generation, classification and instantiation
+ * of the proxies and that the metrics don't touch the dispatch hot path. The latter is measured by
+ * {@link AllocationMeter}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyMetricsListenerTest extends AbstractByteBuddyProxycianTest {
+
+	@AfterEach
+	void tearDown() {
+		ProxycianMetrics.setListener(null);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_MetricsListener_CountsGenerationClassificationAndInstantiation() {
+		final CountingMetricsListener listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(listener);
+
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameInterface firstProxy = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+		final NameInterface secondProxy = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+
+		assertEquals(1, listener.getGeneratedClassCount());
+		assertTrue(listener.getClassGenerationNanos() > 0);
+		assertEquals(2, listener.getInstantiatedProxyCount());
+		assertEquals(2, listener.getInstantiatedProxyCount(firstProxy.getClass()));
+
+		firstProxy.setName("Jan");
+		assertEquals("Jan", firstProxy.getName());
+		secondProxy.setName("Petr");
+		assertEquals("Petr", secondProxy.getName());
+
+		assertEquals(1, listener.getClassificationCacheMissCount());
+		assertEquals(1, listener.getClassificationCacheHitCount());
+		assertEquals(0.5, listener.getClassificationCacheHitRate(), 0.0001);
+		assertEquals(2, listener.getClassifiedMethodCount());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_MetricsListener_ReceivesBytecodeSizeOfGeneratedClass() {
+		final AtomicInteger bytecodeSize = new AtomicInteger();
+		final CountingMetricsListener listener = new CountingMetricsListener() {
+			@Override
+			public void proxyClassGenerated(@Nonnull String generator, @Nonnull Class<?>[] contract, @Nonnull Class<?> proxyClass, int size, long durationNanos) {
+				bytecodeSize.addAndGet(size);
+				super.proxyClassGenerated(generator, contract, proxyClass, size, durationNanos);
+			}
+		};
+		ProxycianMetrics.setListener(listener);
+
+		ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+
+		assertTrue(bytecodeSize.get() > 0);
+		// THE CALL IS PASSED TO THE METHOD WITHOUT THE SIZE BY DEFAULT
+		assertEquals(1, listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_MetricsListener_NotCalledOnDispatchHotPath() {
+		final CountingMetricsListener listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(listener);
+
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		final Map<String, Long> countersAfterClassification = getCounters(listener);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals("Jan", proxy.getName());
+		}
+		assertEquals(countersAfterClassification, getCounters(listener));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_MetricsListener_DispatchCostsNothingWhenDisabled() throws Exception {
+		assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported by the VM.");
+		final NameInterface proxyWithoutListener = createProxy();
+		final long withoutListener = AllocationMeter.measureBytesPerCall(proxyWithoutListener::getName);
+
+		ProxycianMetrics.setListener(new CountingMetricsListener());
+		final NameInterface proxyWithListener = createProxy();
+		final long withListener = AllocationMeter.measureBytesPerCall(proxyWithListener::getName);
+
+		assertTrue(
+			withoutListener <= withListener,
+			"Dispatch without listener allocates " + withoutListener + " bytes per invocation, with listener " + withListener + " bytes!"
+		);
+	}
+
+	@Nonnull
+	private static NameInterface createProxy() {
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		proxy.setName("Jan");
+		return proxy;
+	}
+
+	private static Map<String, Long> getCounters(CountingMetricsListener listener) {
+		final Map<String, Long> counters = new HashMap<>();
+		counters.put("generatedClasses", listener.getGeneratedClassCount());
+		counters.put("classificationCacheHits", listener.getClassificationCacheHitCount());
+		counters.put("classificationCacheMisses", listener.getClassificationCacheMissCount());
+		counters.put("classifiedMethods", listener.getClassifiedMethodCount());
+		counters.put("instantiatedProxies", listener.getInstantiatedProxyCount());
+		return counters;
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private String name;
+	}
+
+}
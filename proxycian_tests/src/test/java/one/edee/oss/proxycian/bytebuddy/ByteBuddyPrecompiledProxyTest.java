@@ -0,0 +1,167 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.DispatchPlan;
+import one.edee.oss.proxycian.model.precompiled.PrecompiledEmployee;
+import one.edee.oss.proxycian.model.precompiled.PrecompiledPerson;
+import one.edee.oss.proxycian.model.traits.GenericBucket;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.PrecompiledProxy;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that proxy classes generated by the annotation processor for {@link PrecompiledProxy} contracts
+ * are used instead of the classes generated at runtime and behave the same.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyPrecompiledProxyTest extends AbstractByteBuddyProxycianTest {
+	private static final ProxyRecipe PERSON_RECIPE = new ProxyRecipe(
+		new Class<?>[]{PrecompiledPerson.class}, new Advice<?>[]{BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}
+	);
+	private static final ProxyRecipe EMPLOYEE_RECIPE = new ProxyRecipe(
+		new Class<?>[]{PrecompiledEmployee.class}, new Advice<?>[]{BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}
+	);
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_InterfaceProxyUsesPrecompiledClass() {
+		final PrecompiledPerson proxy = ByteBuddyProxyGenerator.instantiate(PERSON_RECIPE, new GenericBucket());
+
+		assertEquals(PrecompiledPerson.class.getName() + PrecompiledProxy.CLASS_NAME_SUFFIX, proxy.getClass().getName());
+		fill(proxy);
+		assertTrue(proxy.isLiving());
+		assertEquals((byte) 43, proxy.getAge());
+		assertEquals(143L, proxy.getIq());
+		assertEquals("Jan (43)", proxy.print());
+		assertEquals("Jan: a, b", proxy.join("a", "b"));
+		assertEquals(Integer.valueOf(7), proxy.max(3, 7));
+		assertTrue(((ProxyStateAccessor) proxy).getProxyState() instanceof GenericBucket);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_CloneUsesPrecompiledClass() {
+		final PrecompiledPerson proxy = ByteBuddyProxyGenerator.instantiate(PERSON_RECIPE, new GenericBucket());
+		fill(proxy);
+
+		final PrecompiledPerson clonedProxy = (PrecompiledPerson) proxy.clone();
+
+		assertNotSame(proxy, clonedProxy);
+		assertEquals(proxy.getClass(), clonedProxy.getClass());
+		assertNotSame(((ProxyStateAccessor) proxy).getProxyState(), ((ProxyStateAccessor) clonedProxy).getProxyState());
+		assertEquals("Jan (43)", clonedProxy.print());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_SerializableProxyUsesPrecompiledClass() throws Exception {
+		final PrecompiledPerson proxy = ByteBuddyProxyGenerator.instantiateSerializable(PERSON_RECIPE, new GenericBucket());
+		assertEquals(PrecompiledPerson.class.getName() + PrecompiledProxy.SERIALIZABLE_CLASS_NAME_SUFFIX, proxy.getClass().getName());
+		fill(proxy);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(proxy);
+		}
+		try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			final PrecompiledPerson deserializedProxy = (PrecompiledPerson) in.readObject();
+			assertEquals(proxy.getClass(), deserializedProxy.getClass());
+			assertEquals("Jan (43)", deserializedProxy.print());
+		}
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_AbstractClassProxyUsesPrecompiledClass() {
+		final PrecompiledEmployee proxy = ByteBuddyProxyGenerator.instantiate(
+			EMPLOYEE_RECIPE, new GenericBucket(), new Class<?>[]{String.class}, new Object[]{"FG Forrest"}
+		);
+
+		assertEquals(PrecompiledEmployee.class.getName() + PrecompiledProxy.CLASS_NAME_SUFFIX, proxy.getClass().getName());
+		proxy.setName("Jan");
+		proxy.setLevel(3);
+		assertEquals("Jan (3) at FG Forrest", proxy.describe());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_SuperMethodExceptionPropagated() throws IOException {
+		final PrecompiledEmployee proxy = ByteBuddyProxyGenerator.instantiate(
+			EMPLOYEE_RECIPE, new GenericBucket(), new Class<?>[]{String.class}, new Object[]{"FG Forrest"}
+		);
+
+		assertEquals("ok", proxy.verify("ok"));
+		final IOException exception = assertThrows(IOException.class, () -> proxy.verify(""));
+		assertEquals("Empty value!", exception.getMessage());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_ExplainsPrecompiledMethods() {
+		final PrecompiledPerson proxy = ByteBuddyProxyGenerator.instantiate(PERSON_RECIPE, new GenericBucket());
+		proxy.setName("Jan");
+
+		final DispatchPlan plan = ByteBuddyProxyGenerator.explain(proxy);
+		assertTrue(plan.getMethodPlan("setName", 1).isCached());
+		assertTrue(plan.getMethodPlan("print", 0).isRealMethodFallThrough());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_NotUsedInDirectDispatchMode() {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		try {
+			final PrecompiledPerson proxy = ByteBuddyProxyGenerator.instantiate(PERSON_RECIPE, new GenericBucket());
+			assertTrue(proxy.getClass().getName().contains("$Proxycian_"));
+			fill(proxy);
+			assertEquals("Jan (43)", proxy.print());
+		} finally {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_PrecompiledProxy_NotUsedWhenInvisibleToClassLoader() {
+		final ClassLoader classLoader = new PrecompiledClassHidingClassLoader(PrecompiledPerson.class.getClassLoader());
+		final PrecompiledPerson proxy = ByteBuddyProxyGenerator.instantiate(PERSON_RECIPE, new GenericBucket(), classLoader);
+
+		assertTrue(proxy.getClass().getName().contains("$Proxycian_"));
+		fill(proxy);
+		assertEquals("Jan (43)", proxy.print());
+	}
+
+	private static void fill(PrecompiledPerson proxy) {
+		proxy.setLiving(true);
+		proxy.setAge((byte) 43);
+		proxy.setIq(143L);
+		proxy.setName("Jan");
+	}
+
+	/**
+	 * Class loader that doesn't expose the class files of the precompiled classes.
+	 */
+	private static class PrecompiledClassHidingClassLoader extends ClassLoader {
+
+		PrecompiledClassHidingClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override
+		public URL getResource(String name) {
+			return name.contains(PrecompiledProxy.CLASS_NAME_SUFFIX) ? null : super.getResource(name);
+		}
+
+	}
+
+}
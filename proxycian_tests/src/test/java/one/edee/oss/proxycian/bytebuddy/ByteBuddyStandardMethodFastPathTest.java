@@ -0,0 +1,190 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.CacheKeyProvider;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.util.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.util.Collections;
+import java.util.List;
+
+import static one.edee.oss.proxycian.MethodClassification.noContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that standard methods not overridden by the recipe are implemented directly in the byte-code
+ * of the proxy class and don't go through the dispatcher.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyStandardMethodFastPathTest extends AbstractByteBuddyProxycianTest {
+
+	@Test
+	public void ByteBuddyProxyGenerator_FastPath_StandardMethodsBypassDispatcher() {
+		assertStandardMethodsBypassDispatcher();
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_FastPath_StandardMethodsBypassDispatcherInDirectMode() {
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		try {
+			assertStandardMethodsBypassDispatcher();
+		} finally {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_FastPath_OverriddenMethodGoesThroughDispatcher() {
+		final ProxyRecipe recipe = new ProxyRecipe(
+			DelegateCallsAdvice.getInstance(NameInterface.class), ToStringAdvice.INSTANCE
+		);
+		final NameImplementation state = new NameImplementation();
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(recipe, state);
+
+		assertEquals("overridden", proxy.toString());
+		assertEquals(state.hashCode(), proxy.hashCode());
+		assertEquals(1, ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.size());
+		assertEquals(1, ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next().size());
+
+		// PROXY CLASS DIFFERS FROM THE CLASS OF THE RECIPE THAT DOESN'T OVERRIDE TO STRING
+		final NameInterface plainProxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+		assertNotSame(proxy.getClass(), plainProxy.getClass());
+		assertEquals(state.toString(), plainProxy.toString());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_FastPath_StateDependentOverrideRespectedForEachState() {
+		final ProxyRecipe recipe = new ProxyRecipe(
+			DelegateCallsAdvice.getInstance(NameInterface.class), LabelAdvice.INSTANCE
+		);
+		final LabeledNameImplementation plainState = new LabeledNameImplementation(false);
+		final NameInterface plainProxy = ByteBuddyProxyGenerator.instantiate(recipe, plainState);
+		final NameInterface labeledProxy = ByteBuddyProxyGenerator.instantiate(recipe, new LabeledNameImplementation(true));
+
+		// STATES OF THE SAME CLASS DIFFER IN THEIR CACHE KEY - ONLY THE LABELED ONE OVERRIDES TO STRING
+		assertEquals(plainState.toString(), plainProxy.toString());
+		assertEquals("labeled", labeledProxy.toString());
+	}
+
+	private static void assertStandardMethodsBypassDispatcher() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameImplementation state = new NameImplementation();
+		state.setName("Jan");
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(recipe, state);
+		final NameImplementation otherState = new NameImplementation();
+		otherState.setName("Jan");
+		final NameInterface otherProxy = ByteBuddyProxyGenerator.instantiate(recipe, otherState);
+
+		assertSame(proxy.getClass(), otherProxy.getClass());
+		assertSame(state, ((ProxyStateAccessor) proxy).getProxyState());
+		assertEquals(state.hashCode(), proxy.hashCode());
+		assertEquals(state.toString(), proxy.toString());
+		assertTrue(proxy.equals(otherProxy));
+		assertFalse(proxy.equals(state));
+		assertFalse(proxy.equals(null));
+
+		// NONE OF THE STANDARD METHODS WAS CLASSIFIED
+		assertTrue(ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+
+		otherProxy.setName("Petr");
+		assertEquals("Petr", otherProxy.getName());
+		assertFalse(proxy.equals(otherProxy));
+		assertNotNull(ByteBuddyProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private String name;
+	}
+
+	/**
+	 * Advice that overrides {@link Object#toString()} method of the proxy.
+	 */
+	public static class ToStringAdvice implements Advice<Object> {
+		private static final long serialVersionUID = 5823417306498251907L;
+		public static final ToStringAdvice INSTANCE = new ToStringAdvice();
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			return Collections.singletonList(
+				new PredicateMethodClassification<>(
+					/* description */   "Object.toString",
+					/* matcher */       (method, proxyState) -> ReflectionUtils.isMethodDeclaredOn(method, Object.class, "toString"),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "overridden"
+				)
+			);
+		}
+	}
+
+	/**
+	 * State whose cache key decides whether the {@link LabelAdvice} overrides {@link Object#toString()} method.
+	 */
+	@Data
+	public static class LabeledNameImplementation implements NameInterface, CacheKeyProvider {
+		private final boolean labeled;
+		private String name;
+
+		@Override
+		public Object getCacheKey() {
+			return this.labeled;
+		}
+	}
+
+	/**
+	 * Advice that overrides {@link Object#toString()} method of the proxy only for the labeled proxy states.
+	 */
+	public static class LabelAdvice implements Advice<Object> {
+		private static final long serialVersionUID = -2084617340275391056L;
+		public static final LabelAdvice INSTANCE = new LabelAdvice();
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			return Collections.singletonList(
+				new PredicateMethodClassification<>(
+					/* description */   "Object.toString of labeled state",
+					/* matcher */       (method, proxyState) -> ReflectionUtils.isMethodDeclaredOn(method, Object.class, "toString") &&
+						((LabeledNameImplementation) proxyState).isLabeled(),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "labeled"
+				)
+			);
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that super / default methods are passed to the handlers as lazy {@link SuperMethodCall} tokens.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddySuperMethodCallTest extends AbstractByteBuddyProxycianTest {
+
+	@Test
+	public void ByteBuddyProxyGenerator_SuperMethodCall_NotResolvedWhenNotCalled() {
+		ByteBuddyProxyGenerator.clearClassCache();
+		final AtomicReference<Callable<Object>> invokeSuperRef = new AtomicReference<>();
+		final Greeter greeter = createGreeter(invokeSuperRef, false);
+
+		assertEquals("intercepted", greeter.greet("Jan"));
+		assertTrue(invokeSuperRef.get() instanceof SuperMethodCall);
+		assertTrue(ByteBuddyProxyGenerator.SUPER_METHOD_CACHE.isEmpty());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_SuperMethodCall_ResolvedWhenCalled() {
+		ByteBuddyProxyGenerator.clearClassCache();
+		final AtomicReference<Callable<Object>> invokeSuperRef = new AtomicReference<>();
+		final Greeter greeter = createGreeter(invokeSuperRef, true);
+
+		assertEquals("Hello Jan", greeter.greet("Jan"));
+		assertFalse(ByteBuddyProxyGenerator.SUPER_METHOD_CACHE.isEmpty());
+		assertEquals("Hello Jan", greeter.greet("Jan"));
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_SuperMethodCall_AbstractMethodGetsNoSuperCall() {
+		final AtomicReference<Callable<Object>> invokeSuperRef = new AtomicReference<>();
+		final Greeter greeter = createGreeter(invokeSuperRef, false);
+
+		assertEquals("intercepted", greeter.getName());
+		assertNull(invokeSuperRef.get());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_SuperMethodCall_ExceptionPropagated() {
+		final Greeter greeter = createGreeter(new AtomicReference<>(), true);
+		final IOException exception = assertThrows(IOException.class, () -> greeter.fail("boom"));
+		assertEquals("boom", exception.getMessage());
+	}
+
+	/**
+	 * Proxies generated in {@link ByteBuddyDispatchMode#DIRECT} mode pass the super calls in the same way.
+	 */
+	@Nested
+	public class DirectMode {
+
+		@BeforeEach
+		void setUpDispatchMode() {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		}
+
+		@AfterEach
+		void tearDownDispatchMode() {
+			ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_SuperMethodCall_AbstractMethodGetsNoSuperCallInDirectMode() {
+			final AtomicReference<Callable<Object>> invokeSuperRef = new AtomicReference<>();
+			final Greeter greeter = createGreeter(invokeSuperRef, true);
+
+			assertEquals("intercepted", greeter.getName());
+			assertNull(invokeSuperRef.get());
+		}
+
+		@Test
+		public void ByteBuddyProxyGenerator_SuperMethodCall_ResolvedWhenCalledInDirectMode() {
+			final AtomicReference<Callable<Object>> invokeSuperRef = new AtomicReference<>();
+			final Greeter greeter = createGreeter(invokeSuperRef, true);
+
+			assertEquals("Hello Jan", greeter.greet("Jan"));
+			assertNotNull(invokeSuperRef.get());
+		}
+
+	}
+
+	private static Greeter createGreeter(AtomicReference<Callable<Object>> invokeSuperRef, boolean callSuper) {
+		return ByteBuddyProxyGenerator.instantiate(
+			new ByteBuddyDispatcherInvocationHandler<>(
+				new Object(),
+				new PredicateMethodClassification<Object, Void, Object>(
+					"all",
+					(method, proxyState) -> method.getDeclaringClass().equals(Greeter.class),
+					MethodClassification.noContext(),
+					(proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+						invokeSuperRef.set(invokeSuper);
+						if (callSuper && invokeSuper != null) {
+							try {
+								return invokeSuper.call();
+							} catch (Exception e) {
+								throw new InvocationTargetException(e);
+							}
+						}
+						return "intercepted";
+					}
+				)
+			),
+			Greeter.class
+		);
+	}
+
+	public interface Greeter {
+
+		String getName();
+
+		default String greet(String name) {
+			return "Hello " + name;
+		}
+
+		default String fail(String message) throws IOException {
+			throw new IOException(message);
+		}
+
+	}
+
+}
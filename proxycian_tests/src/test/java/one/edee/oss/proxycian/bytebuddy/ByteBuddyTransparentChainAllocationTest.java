@@ -0,0 +1,128 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import one.edee.oss.proxycian.CurriedMethodContextInvocationHandler;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import static one.edee.oss.proxycian.utils.AllocationMeter.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This test verifies that composed chain of transparent handlers doesn't allocate anything once the code is optimized
+ * by JIT.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyTransparentChainAllocationTest extends AbstractByteBuddyProxycianTest {
+	private static final String RESULT = "result";
+
+	@Test
+	public void ByteBuddyDispatcherInvocationHandler_ComposedChain_InvokesAllLinks() throws Exception {
+		final ChainState state = new ChainState();
+		assertEquals(RESULT, state.chain.invoke(state.proxy, state.method, CurriedMethodContextInvocationHandler.EMPTY_ARGS, state.proxyState, null));
+		assertEquals(1, state.metricsCounter);
+		assertEquals(1, state.loggingCounter);
+		assertEquals(1, state.cachingCounter);
+	}
+
+	@Test
+	public void ByteBuddyDispatcherInvocationHandler_ComposedChain_AllowsRepeatedContinuation() throws Exception {
+		final ChainState state = new ChainState();
+		final CurriedMethodContextInvocationHandler<Object, Object> retrying = (proxy, method, args, proxyState, invokeSuper) -> {
+			try {
+				invokeSuper.call();
+				return invokeSuper.call();
+			} catch (InvocationTargetException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new InvocationTargetException(e);
+			}
+		};
+		final CurriedMethodContextInvocationHandler<Object, Object> chain = state.dispatcher.fabricateComposedMethodInvocationHandler(
+			Arrays.asList(retrying, state.caching(), state.target())
+		);
+		assertEquals(RESULT, chain.invoke(state.proxy, state.method, CurriedMethodContextInvocationHandler.EMPTY_ARGS, state.proxyState, null));
+		assertEquals(2, state.cachingCounter);
+	}
+
+	@Test
+	public void ByteBuddyDispatcherInvocationHandler_ComposedChain_AllocatesNothing() throws Exception {
+		final ChainState state = new ChainState();
+		assertAllocatesAtMost(
+			"Composed chain", 0,
+			() -> state.chain.invoke(state.proxy, state.method, CurriedMethodContextInvocationHandler.EMPTY_ARGS, state.proxyState, null)
+		);
+	}
+
+	private static class ChainState {
+		final ByteBuddyDispatcherInvocationHandler<Object> dispatcher = new ByteBuddyDispatcherInvocationHandler<>(new Object());
+		final Object proxy = new Object();
+		final Object proxyState = new Object();
+		final Method method;
+		final CurriedMethodContextInvocationHandler<Object, Object> chain;
+		long metricsCounter;
+		long loggingCounter;
+		long cachingCounter;
+
+		public ChainState() {
+			try {
+				this.method = Object.class.getMethod("toString");
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+			final List<CurriedMethodContextInvocationHandler<Object, Object>> links = Arrays.asList(
+				metrics(), logging(), caching(), target()
+			);
+			this.chain = this.dispatcher.fabricateComposedMethodInvocationHandler(links);
+		}
+
+		CurriedMethodContextInvocationHandler<Object, Object> metrics() {
+			return (proxy, method, args, proxyState, invokeSuper) -> {
+				this.metricsCounter++;
+				try {
+					return invokeSuper.call();
+				} catch (InvocationTargetException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new InvocationTargetException(e);
+				}
+			};
+		}
+
+		CurriedMethodContextInvocationHandler<Object, Object> logging() {
+			return (proxy, method, args, proxyState, invokeSuper) -> {
+				this.loggingCounter++;
+				try {
+					return invokeSuper.call();
+				} catch (InvocationTargetException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new InvocationTargetException(e);
+				}
+			};
+		}
+
+		CurriedMethodContextInvocationHandler<Object, Object> caching() {
+			return (proxy, method, args, proxyState, invokeSuper) -> {
+				this.cachingCounter++;
+				try {
+					return invokeSuper.call();
+				} catch (InvocationTargetException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new InvocationTargetException(e);
+				}
+			};
+		}
+
+		CurriedMethodContextInvocationHandler<Object, Object> target() {
+			return (proxy, method, args, proxyState, invokeSuper) -> RESULT;
+		}
+
+	}
+
+}
@@ -0,0 +1,121 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that proxy classes generated in {@link ByteBuddyClassDefinitionMode#UNLOADABLE} mode are unloaded
+ * (and their Metaspace reclaimed) once they're evicted from the generator caches and their instances are gone.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+// THE TEST SWITCHES THE GLOBAL DISPATCH MODE OF THE GENERATOR
+@Isolated
+public class ByteBuddyUnloadableClassTest extends AbstractByteBuddyProxycianTest {
+	private static final int GENERATED_CLASS_COUNT = 20;
+
+	@AfterEach
+	void tearDown() {
+		ByteBuddyProxyGenerator.setClassDefinitionMode(ByteBuddyClassDefinitionMode.INJECTED);
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.METHOD_DELEGATION);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_UnloadableClass_ProxyWorks() {
+		ByteBuddyProxyGenerator.setClassDefinitionMode(ByteBuddyClassDefinitionMode.UNLOADABLE);
+		assertProxyWorks();
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_UnloadableClass_ProxyWorksInDirectMode() {
+		ByteBuddyProxyGenerator.setClassDefinitionMode(ByteBuddyClassDefinitionMode.UNLOADABLE);
+		ByteBuddyProxyGenerator.setDispatchMode(ByteBuddyDispatchMode.DIRECT);
+		assertProxyWorks();
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_UnloadableClass_CachedSeparatelyFromInjectedClass() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameInterface injectedProxy = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+		ByteBuddyProxyGenerator.setClassDefinitionMode(ByteBuddyClassDefinitionMode.UNLOADABLE);
+		final NameInterface unloadableProxy = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+		assertNotSame(injectedProxy.getClass(), unloadableProxy.getClass());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_UnloadableClass_ReclaimedAfterCacheClear() throws InterruptedException {
+		ByteBuddyProxyGenerator.setClassDefinitionMode(ByteBuddyClassDefinitionMode.UNLOADABLE);
+		final ClassLoadingMXBean classLoadingBean = ManagementFactory.getClassLoadingMXBean();
+		final long unloadedBefore = classLoadingBean.getUnloadedClassCount();
+
+		final List<WeakReference<Class<?>>> proxyClasses = new ArrayList<>(GENERATED_CLASS_COUNT);
+		for (int i = 0; i < GENERATED_CLASS_COUNT; i++) {
+			proxyClasses.add(new WeakReference<>(createAndUseProxy("Jan" + i)));
+			// EACH ITERATION GENERATES NEW CLASS
+			ByteBuddyProxyGenerator.clearClassCache();
+			ByteBuddyProxyGenerator.clearMethodClassificationCache();
+		}
+
+		for (int i = 0; i < 50 && proxyClasses.stream().anyMatch(it -> it.get() != null); i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+
+		assertTrue(proxyClasses.stream().allMatch(it -> it.get() == null), "All proxy classes should have been unloaded!");
+		assertTrue(
+			classLoadingBean.getUnloadedClassCount() - unloadedBefore >= GENERATED_CLASS_COUNT,
+			"JVM should report unloading of all proxy classes!"
+		);
+	}
+
+	private static Class<?> createAndUseProxy(String name) {
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		proxy.setName(name);
+		assertEquals(name, proxy.getName());
+		return proxy.getClass();
+	}
+
+	private static void assertProxyWorks() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameImplementation state = new NameImplementation();
+		final NameInterface proxy = ByteBuddyProxyGenerator.instantiate(recipe, state);
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals(state.toString(), proxy.toString());
+		assertEquals(state.hashCode(), proxy.hashCode());
+
+		final NameInterface secondProxy = ByteBuddyProxyGenerator.instantiate(recipe, new NameImplementation());
+		assertEquals(proxy.getClass(), secondProxy.getClass());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface {
+		private String name;
+	}
+
+}
@@ -0,0 +1,131 @@
+package one.edee.oss.proxycian.bytebuddy;
+
+import lombok.Data;
+import one.edee.oss.proxycian.metrics.CountingMetricsListener;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This test verifies that the proxy classes generated in parallel by the warm-up are used by the proxies created later.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class ByteBuddyWarmUpTest extends AbstractByteBuddyProxycianTest {
+	private static final ProxyRecipe NAME_RECIPE = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+	private static final ProxyRecipe AGE_RECIPE = new ProxyRecipe(DelegateCallsAdvice.getInstance(AgeInterface.class));
+	private ExecutorService executor;
+	private CountingMetricsListener listener;
+
+	@BeforeEach
+	void createExecutor() {
+		this.executor = Executors.newFixedThreadPool(4);
+		this.listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(this.listener);
+	}
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+		ProxycianMetrics.setListener(null);
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_WarmUp_RecipeClassesUsedByProxies() {
+		final Map<ProxyRecipe, Object> proxyStates = new LinkedHashMap<>();
+		proxyStates.put(NAME_RECIPE, new NameImplementation());
+		proxyStates.put(AGE_RECIPE, new AgeImplementation());
+
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> proxyClasses = ByteBuddyProxyGenerator.warmUp(proxyStates, this.executor);
+		CompletableFuture.allOf(proxyClasses.values().toArray(new CompletableFuture[0])).join();
+		assertEquals(2, this.listener.getGeneratedClassCount());
+
+		final NameInterface nameProxy = ByteBuddyProxyGenerator.instantiate(NAME_RECIPE, new NameImplementation());
+		final AgeInterface ageProxy = ByteBuddyProxyGenerator.instantiate(AGE_RECIPE, new AgeImplementation());
+		assertSame(proxyClasses.get(NAME_RECIPE).join(), nameProxy.getClass());
+		assertSame(proxyClasses.get(AGE_RECIPE).join(), ageProxy.getClass());
+		assertEquals(2, this.listener.getGeneratedClassCount());
+
+		nameProxy.setName("Jan");
+		assertEquals("Jan", nameProxy.getName());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_WarmUp_SerializableRecipeClassesUsedByProxies() {
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> proxyClasses = ByteBuddyProxyGenerator.warmUpSerializable(
+			Collections.singletonMap(NAME_RECIPE, new NameImplementation()), this.executor
+		);
+
+		final NameInterface nameProxy = ByteBuddyProxyGenerator.instantiateSerializable(NAME_RECIPE, new NameImplementation());
+		assertSame(proxyClasses.get(NAME_RECIPE).join(), nameProxy.getClass());
+		assertEquals(1, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_WarmUp_ContractClassesReturnedInOrder() {
+		final List<CompletableFuture<Class<?>>> proxyClasses = ByteBuddyProxyGenerator.warmUp(
+			Arrays.asList(new Class<?>[]{NameInterface.class}, new Class<?>[]{AgeInterface.class}), this.executor
+		);
+
+		assertSame(ByteBuddyProxyGenerator.getProxyClass(new Class<?>[]{NameInterface.class}), proxyClasses.get(0).join());
+		assertSame(ByteBuddyProxyGenerator.getProxyClass(new Class<?>[]{AgeInterface.class}), proxyClasses.get(1).join());
+		assertEquals(2, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void ByteBuddyProxyGenerator_WarmUp_FailureReportedByFuture() {
+		final List<CompletableFuture<Class<?>>> proxyClasses = ByteBuddyProxyGenerator.warmUp(
+			Arrays.asList(new Class<?>[]{String.class}, new Class<?>[]{NameInterface.class}), this.executor
+		);
+
+		assertThrows(CompletionException.class, () -> proxyClasses.get(0).join());
+		assertSame(ByteBuddyProxyGenerator.getProxyClass(new Class<?>[]{NameInterface.class}), proxyClasses.get(1).join());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	public interface AgeInterface {
+
+		int getAge();
+
+		void setAge(int age);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface, Serializable {
+		private static final long serialVersionUID = 2254396318012398765L;
+		private String name;
+	}
+
+	@Data
+	public static class AgeImplementation implements AgeInterface, Serializable {
+		private static final long serialVersionUID = -5290114318830265241L;
+		private int age;
+	}
+
+}
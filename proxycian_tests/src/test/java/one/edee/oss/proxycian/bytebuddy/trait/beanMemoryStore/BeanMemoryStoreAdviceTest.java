@@ -10,6 +10,10 @@ import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -129,6 +133,49 @@ public class BeanMemoryStoreAdviceTest extends AbstractByteBuddyProxycianTest {
 		assertArrayEquals(new String[] {"A", "C"}, proxy.getItems().toArray(new String[0]));
 	}
 
+	@Test
+	public void ByteBuddyProxyRecipeGenerator_shouldSerializeAndDeserializeProxy() throws Exception {
+		final SomeJavaBeanIface proxy = ByteBuddyProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(
+				new Class[] {SomeJavaBeanIface.class},
+				new Advice[] {BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}
+			),
+			new GenericBucket()
+		);
+		proxy.setAge((byte) 43);
+		proxy.setName("Jan Novotný");
+
+		final ByteArrayOutputStream serializedProxy = new ByteArrayOutputStream();
+		try (ObjectOutputStream serializationStream = new ObjectOutputStream(serializedProxy)) {
+			serializationStream.writeObject(proxy);
+		}
+
+		final SomeJavaBeanIface deserializedProxy;
+		try (ObjectInputStream deserializationStream = new ObjectInputStream(new ByteArrayInputStream(serializedProxy.toByteArray()))) {
+			deserializedProxy = (SomeJavaBeanIface) deserializationStream.readObject();
+		}
+
+		assertNotSame(proxy, deserializedProxy);
+		assertEquals((byte) 43, deserializedProxy.getAge());
+		assertEquals("Jan Novotný (43)", deserializedProxy.print());
+	}
+
+	@Test
+	public void ByteBuddyProxyRecipeGenerator_shouldProxyNonBooleanIsGetter() {
+		final JavaBeanWithStatus proxy = ByteBuddyProxyGenerator.instantiate(
+			new ProxyRecipe(
+				new Class[] {JavaBeanWithStatus.class},
+				new Advice[] {BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}
+			),
+			new GenericBucket()
+		);
+
+		proxy.setStatus("active");
+		proxy.setVisible(true);
+		assertEquals("active", proxy.isStatus());
+		assertTrue(proxy.isVisible());
+	}
+
 	public interface SomeJavaBeanIface extends Cloneable {
 
 		boolean isLiving();
@@ -188,4 +235,14 @@ public class BeanMemoryStoreAdviceTest extends AbstractByteBuddyProxycianTest {
 
 	}
 
+	public interface JavaBeanWithStatus {
+
+		String isStatus();
+		void setStatus(String status);
+
+		Boolean isVisible();
+		void setVisible(Boolean visible);
+
+	}
+
 }
@@ -0,0 +1,113 @@
+package one.edee.oss.proxycian.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that {@link ClassScopedCache} with {@link EvictionPolicy} keeps its size bounded, keeps frequently
+ * used entries and counts its statistics.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class ClassScopedCacheEvictionTest {
+	private static final int MAXIMUM_SIZE = 10;
+
+	@Test
+	void shouldBeUnboundedByDefault() {
+		final ClassScopedCache<Integer, String> cache = new ClassScopedCache<>();
+		fill(cache, 0, 100);
+		assertNull(cache.getEvictionPolicy());
+		assertEquals(100, cache.size());
+		assertEquals(new CacheStatistics(0, 100, 0), cache.getStatistics());
+	}
+
+	@Test
+	void shouldKeepSizeBoundedWithWindowTinyLfu() {
+		assertSizeBounded(new WindowTinyLfuEvictionPolicy(MAXIMUM_SIZE));
+	}
+
+	@Test
+	void shouldKeepSizeBoundedWithSegmentedLru() {
+		assertSizeBounded(new SegmentedLruEvictionPolicy(MAXIMUM_SIZE));
+	}
+
+	@Test
+	void shouldKeepFrequentlyUsedEntriesWithWindowTinyLfu() {
+		assertFrequentlyUsedEntriesKept(new WindowTinyLfuEvictionPolicy(MAXIMUM_SIZE));
+	}
+
+	@Test
+	void shouldKeepFrequentlyUsedEntriesWithSegmentedLru() {
+		assertFrequentlyUsedEntriesKept(new SegmentedLruEvictionPolicy(MAXIMUM_SIZE));
+	}
+
+	@Test
+	void shouldCountHitsAndMisses() {
+		final ClassScopedCache<Integer, String> cache = new ClassScopedCache<>();
+		cache.setEvictionPolicy(new WindowTinyLfuEvictionPolicy(MAXIMUM_SIZE));
+		fill(cache, 0, 3);
+		fill(cache, 0, 3);
+		fill(cache, 0, 1);
+
+		final CacheStatistics statistics = cache.getStatistics();
+		assertEquals(4, statistics.getHitCount());
+		assertEquals(3, statistics.getMissCount());
+		assertEquals(0, statistics.getEvictionCount());
+		assertEquals(4.0 / 7.0, statistics.getHitRate(), 0.0001);
+	}
+
+	@Test
+	void shouldDropEntriesWhenPolicyChanges() {
+		final ClassScopedCache<Integer, String> cache = new ClassScopedCache<>();
+		fill(cache, 0, 5);
+		cache.setEvictionPolicy(new SegmentedLruEvictionPolicy(MAXIMUM_SIZE));
+		assertTrue(cache.isEmpty());
+		fill(cache, 0, 5);
+		assertEquals(5, cache.size());
+	}
+
+	private static void assertSizeBounded(EvictionPolicy policy) {
+		final ClassScopedCache<Integer, String> cache = new ClassScopedCache<>();
+		cache.setEvictionPolicy(policy);
+		fill(cache, 0, 100);
+		assertEquals(MAXIMUM_SIZE, cache.size());
+		assertEquals(new CacheStatistics(0, 100, 100 - MAXIMUM_SIZE), cache.getStatistics());
+	}
+
+	private static void assertFrequentlyUsedEntriesKept(EvictionPolicy policy) {
+		final ClassScopedCache<Integer, String> cache = new ClassScopedCache<>();
+		cache.setEvictionPolicy(policy);
+		// HOT ENTRIES ARE ACCESSED REPEATEDLY
+		for (int i = 0; i < 5; i++) {
+			fill(cache, 0, 5);
+		}
+		// SCAN OF THE ONE-OFF ENTRIES
+		fill(cache, 1000, 1100);
+
+		final AtomicInteger recomputed = new AtomicInteger();
+		for (int i = 0; i < 5; i++) {
+			cache.computeIfAbsent(owner(i), i, key -> {
+				recomputed.incrementAndGet();
+				return String.valueOf(key);
+			});
+		}
+		assertTrue(recomputed.get() <= 1, "Hot entries should survive the scan, but " + recomputed.get() + " were recomputed!");
+	}
+
+	private static void fill(ClassScopedCache<Integer, String> cache, int from, int to) {
+		for (int i = from; i < to; i++) {
+			assertEquals(String.valueOf(i), cache.computeIfAbsent(owner(i), i, String::valueOf));
+		}
+	}
+
+	private static Class<?> owner(int key) {
+		// ENTRIES ARE SPREAD AMONG MULTIPLE OWNER CLASSES
+		return key % 2 == 0 ? Integer.class : Long.class;
+	}
+
+}
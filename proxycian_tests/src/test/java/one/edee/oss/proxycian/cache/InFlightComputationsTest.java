@@ -0,0 +1,189 @@
+package one.edee.oss.proxycian.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that {@link ClassLoaderScopedCache} and {@link ClassScopedCache} compute missing values outside
+ * their locks - concurrent requests for the same key share single computation and requests for other keys don't wait
+ * for it.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class InFlightComputationsTest {
+	private static final int THREAD_COUNT = 8;
+	private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	void shouldComputeValueOnceForConcurrentRequestsInClassLoaderScopedCache() throws Exception {
+		final ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		assertComputedOnce(factory -> cache.computeIfAbsent(classLoader, "key", factory::apply));
+	}
+
+	@Test
+	void shouldComputeValueOnceForConcurrentRequestsInClassScopedCache() throws Exception {
+		final ClassScopedCache<String, Object> cache = new ClassScopedCache<>();
+		assertComputedOnce(factory -> cache.computeIfAbsent(getClass(), "key", factory::apply));
+		assertEquals(1L, cache.getStatistics().getMissCount());
+	}
+
+	@Test
+	void shouldNotBlockOtherKeysDuringComputation() throws Exception {
+		final ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final CountDownLatch computationStarted = new CountDownLatch(1);
+		final CountDownLatch computationReleased = new CountDownLatch(1);
+		final Future<Object> slowValue = this.executor.submit(
+			() -> cache.computeIfAbsent(
+				classLoader, "slow",
+				key -> {
+					computationStarted.countDown();
+					await(computationReleased);
+					return new Object();
+				}
+			)
+		);
+		assertTrue(computationStarted.await(10, TimeUnit.SECONDS));
+
+		final Object fastValue = new Object();
+		assertSame(fastValue, cache.computeIfAbsent(classLoader, "fast", key -> fastValue));
+		assertFalse(slowValue.isDone());
+
+		computationReleased.countDown();
+		assertSame(slowValue.get(10, TimeUnit.SECONDS), cache.get(classLoader, "slow"));
+	}
+
+	@Test
+	void shouldNotCacheFailedComputation() {
+		final ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		assertThrows(
+			IllegalArgumentException.class,
+			() -> cache.computeIfAbsent(classLoader, "key", key -> {
+				throw new IllegalArgumentException("Failed!");
+			})
+		);
+
+		final Object value = new Object();
+		assertSame(value, cache.computeIfAbsent(classLoader, "key", key -> value));
+	}
+
+	@Test
+	void shouldRejectRecursiveComputationOfTheSameKey() {
+		final ClassScopedCache<String, Object> cache = new ClassScopedCache<>();
+		assertThrows(
+			IllegalStateException.class,
+			() -> cache.computeIfAbsent(getClass(), "key", key -> cache.computeIfAbsent(getClass(), key, theKey -> new Object()))
+		);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void shouldKeepValueComputedDuringClearInClassLoaderScopedCache() {
+		final ClassLoaderScopedCache<String, Object> cache = new ClassLoaderScopedCache<>();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		cache.computeIfAbsent(classLoader, "other", key -> new Object());
+		final Object value = new Object();
+		assertSame(
+			value,
+			cache.computeIfAbsent(classLoader, "key", key -> {
+				cache.clear();
+				return value;
+			})
+		);
+
+		assertSame(value, cache.get(classLoader, "key"));
+		assertNull(cache.get(classLoader, "other"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void shouldKeepValueComputedDuringClearInClassScopedCache() {
+		final ClassScopedCache<String, Object> cache = new ClassScopedCache<>();
+		cache.computeIfAbsent(getClass(), "other", key -> new Object());
+		final Object value = new Object();
+		assertSame(
+			value,
+			cache.computeIfAbsent(getClass(), "key", key -> {
+				cache.clear();
+				return value;
+			})
+		);
+
+		assertSame(value, cache.getIfPresent(getClass(), "key"));
+		assertNull(cache.getIfPresent(getClass(), "other"));
+		assertEquals(1, cache.size());
+		assertSame(value, cache.values().iterator().next());
+	}
+
+	/**
+	 * Runs passed cache lookup in all threads at once and checks that all of them got the same value computed once.
+	 */
+	private void assertComputedOnce(CacheLookup lookup) throws Exception {
+		final AtomicInteger computationCount = new AtomicInteger();
+		final CountDownLatch computationStarted = new CountDownLatch(1);
+		final CountDownLatch computationReleased = new CountDownLatch(1);
+		final List<Future<Object>> values = new ArrayList<>(THREAD_COUNT);
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			values.add(
+				this.executor.submit(
+					() -> lookup.computeIfAbsent(
+						key -> {
+							computationCount.incrementAndGet();
+							computationStarted.countDown();
+							await(computationReleased);
+							return new Object();
+						}
+					)
+				)
+			);
+		}
+		assertTrue(computationStarted.await(10, TimeUnit.SECONDS));
+		computationReleased.countDown();
+
+		final Object value = values.get(0).get(10, TimeUnit.SECONDS);
+		for (Future<Object> otherValue : values) {
+			assertSame(value, otherValue.get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(1, computationCount.get());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private interface CacheLookup {
+
+		Object computeIfAbsent(Function<String, Object> factory);
+
+	}
+
+}
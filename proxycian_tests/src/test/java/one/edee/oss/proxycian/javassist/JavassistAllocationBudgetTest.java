@@ -0,0 +1,108 @@
+package one.edee.oss.proxycian.javassist;
+
+import one.edee.oss.proxycian.model.allocation.Customer;
+import one.edee.oss.proxycian.model.allocation.CustomerImplementation;
+import one.edee.oss.proxycian.model.allocation.CustomerState;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.Test;
+
+import static one.edee.oss.proxycian.utils.AllocationMeter.assertAllocatesAtMost;
+import static one.edee.oss.proxycian.utils.AllocationMeter.measureArrayBytes;
+import static one.edee.oss.proxycian.utils.AllocationMeter.measureBytesPerCall;
+
+/**
+ * This test verifies that the standard paths of the proxy don't allocate more than they structurally need. Javassist
+ * passes the arguments as an array to each call, calls dispatched to the invocation handler wrap the super method into
+ * a small callable in addition and the super call may allocate only a few small objects passing the call on top of what
+ * the super method allocates itself. The budgets are composed of the sizes measured on the running VM, so that they
+ * don't depend on its object layout.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistAllocationBudgetTest extends AbstractJavassistProxycianTest {
+	/**
+	 * Count of references of the callable wrapping the super method and of the largest object passing the super call.
+	 */
+	private static final int SMALL_OBJECT_REFERENCES = 4;
+	/**
+	 * Count of the small objects the super call may allocate - the callable invoking the super method and the objects
+	 * of the reflective invocation JIT doesn't eliminate in every run.
+	 */
+	private static final int SUPER_CALL_OBJECTS = 4;
+
+	@Test
+	public void JavassistProxyGenerator_Getter_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		assertAllocatesAtMost("Getter", getDispatchBudget(0), proxy::getName);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_Setter_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		assertAllocatesAtMost("Setter", getDispatchBudget(1), () -> {
+			proxy.setName("Jan");
+			return null;
+		});
+	}
+
+	@Test
+	public void JavassistProxyGenerator_GetProxyState_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		// FAST PATH DOESN'T REACH THE INVOCATION HANDLER, ONLY THE ARGUMENTS ARRAY IS ALLOCATED
+		assertAllocatesAtMost("getProxyState()", measureArrayBytes(0), ((ProxyStateAccessor) proxy)::getProxyState);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_HashCode_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		assertAllocatesAtMost("hashCode()", measureArrayBytes(0), proxy::hashCode);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_DelegateCall_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createDelegatingProxy();
+		assertAllocatesAtMost("Delegate call", getDispatchBudget(0), proxy::getName);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_SuperCall_StaysWithinAllocationBudget() throws Exception {
+		final Customer proxy = createBeanProxy();
+		final CustomerImplementation customer = new CustomerImplementation();
+		customer.setName("Jan");
+		// THE SUPER METHOD CALLS THE GETTER OF THE PROXY
+		final long superCallBudget = measureBytesPerCall(customer::greet) + getDispatchBudget(0) +
+			getDispatchBudget(0) + SUPER_CALL_OBJECTS * measureArrayBytes(SMALL_OBJECT_REFERENCES);
+		assertAllocatesAtMost("Super call", superCallBudget, proxy::greet);
+	}
+
+	/**
+	 * Returns the budget of the call with passed count of arguments dispatched to the invocation handler - the arguments
+	 * array and the callable wrapping the super method.
+	 */
+	private static long getDispatchBudget(int argumentCount) throws Exception {
+		return measureArrayBytes(argumentCount) + measureArrayBytes(SMALL_OBJECT_REFERENCES);
+	}
+
+	private static Customer createBeanProxy() {
+		final Customer proxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(new Class[]{Customer.class}, new Advice[]{BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}),
+			new CustomerState(1)
+		);
+		proxy.setName("Jan");
+		return proxy;
+	}
+
+	private static Customer createDelegatingProxy() {
+		final Customer proxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(Customer.class)),
+			new CustomerImplementation()
+		);
+		proxy.setName("Jan");
+		return proxy;
+	}
+
+}
@@ -0,0 +1,127 @@
+package one.edee.oss.proxycian.javassist;
+
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.cache.BytecodeCache;
+import one.edee.oss.proxycian.metrics.CountingMetricsListener;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.utils.RedeployableClassLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that the byte-code of generated proxy classes is stored in the cache directory and that the cached
+ * classes are used instead of generating them again.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistBytecodeCacheTest extends AbstractJavassistProxycianTest {
+	@TempDir Path cacheDirectory;
+	private CountingMetricsListener listener;
+
+	@BeforeEach
+	void enableCache() {
+		JavassistProxyGenerator.setBytecodeCacheDirectory(this.cacheDirectory);
+		this.listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(this.listener);
+	}
+
+	@AfterEach
+	void disableCache() {
+		JavassistProxyGenerator.setBytecodeCacheDirectory(null);
+		ProxycianMetrics.setListener(null);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_BytecodeCache_GeneratedClassStored() {
+		final StoredGreeter proxy = instantiate(StoredGreeter.class, Greeter.class.getClassLoader(), "Jan");
+
+		assertEquals("Hello Jan", proxy.greet());
+		assertEquals(1, this.listener.getGeneratedClassCount());
+		assertTrue(proxy.getClass().getName().contains("$Proxycian_"));
+		assertTrue(Files.exists(new BytecodeCache(this.cacheDirectory).getClassFile(proxy.getClass().getName())));
+	}
+
+	@Test
+	public void JavassistProxyGenerator_BytecodeCache_DefinedClassReusedAfterClassCacheClear() {
+		final Class<?> proxyClass = JavassistProxyGenerator.getProxyClass(ReusedGreeter.class);
+		JavassistProxyGenerator.clearClassCache();
+
+		assertSame(proxyClass, JavassistProxyGenerator.getProxyClass(ReusedGreeter.class));
+		assertEquals(1, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_BytecodeCache_ClassLoadedFromCacheDirectory() throws Exception {
+		final ClassLoader firstLoader = new RedeployableClassLoader(getClass().getClassLoader(), Greeter.class);
+		final Class<?> firstInterface = firstLoader.loadClass(Greeter.class.getName());
+		final Class<?> proxyClass = JavassistProxyGenerator.getProxyClass(new Class[]{firstInterface}, firstLoader);
+
+		// REDEPLOYED APPLICATION SEES THE CACHED CLASS AS IF THE JVM WAS STARTED AGAIN
+		final ClassLoader secondLoader = new RedeployableClassLoader(getClass().getClassLoader(), Greeter.class);
+		final Class<?> secondInterface = secondLoader.loadClass(Greeter.class.getName());
+		final Object proxy = instantiate(secondInterface, secondLoader, "Petr");
+
+		assertEquals(proxyClass.getName(), proxy.getClass().getName());
+		assertNotSame(proxyClass, proxy.getClass());
+		assertSame(secondLoader, proxy.getClass().getClassLoader());
+		assertEquals("Hello Petr", secondInterface.getMethod("greet").invoke(proxy));
+		assertEquals(1, this.listener.getGeneratedClassCount());
+	}
+
+	private static <T> T instantiate(Class<?> greeterInterface, ClassLoader classLoader, String name) {
+		return JavassistProxyGenerator.instantiate(
+			new JavassistDispatcherInvocationHandler<>(
+				name,
+				new PredicateMethodClassification<Object, Void, String>(
+					"Greeter methods",
+					(method, proxyState) -> method.getDeclaringClass().isInterface() && method.getDeclaringClass().isAssignableFrom(greeterInterface),
+					MethodClassification.noContext(),
+					(proxy, method, args, methodContext, proxyState, invokeSuper) -> {
+						if (!method.isDefault()) {
+							return proxyState;
+						}
+						try {
+							return invokeSuper.call();
+						} catch (Exception e) {
+							throw new InvocationTargetException(e);
+						}
+					}
+				)
+			),
+			new Class[]{greeterInterface},
+			classLoader
+		);
+	}
+
+	public interface Greeter {
+
+		String getName();
+
+		default String greet() {
+			return "Hello " + getName();
+		}
+
+	}
+
+	// EACH TEST NEEDS ITS OWN CONTRACT - CACHED CLASSES STAY DEFINED IN THE CLASS LOADER AFTER THE TEST ENDS
+	public interface StoredGreeter extends Greeter {
+
+	}
+
+	public interface ReusedGreeter extends Greeter {
+
+	}
+
+}
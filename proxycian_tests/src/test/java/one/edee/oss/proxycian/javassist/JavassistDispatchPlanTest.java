@@ -0,0 +1,90 @@
+package one.edee.oss.proxycian.javassist;
+
+import one.edee.oss.proxycian.DispatchPlan;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.MethodDispatchPlan;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+import static one.edee.oss.proxycian.MethodClassification.noContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that dispatch plan describes matched classifications, real method fall-throughs and cached
+ * methods of the proxy class.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistDispatchPlanTest extends AbstractJavassistProxycianTest {
+
+	@Test
+	public void JavassistProxyGenerator_DispatchPlan_ExplainsRecipe() {
+		final DispatchPlan plan = JavassistProxyGenerator.explain(createRecipe(), "state");
+
+		final MethodDispatchPlan getName = plan.getMethodPlan("getName", 0);
+		assertEquals(1, getName.getMatchedChain().size());
+		assertEquals("name", getName.getMatchedChain().get(0).getClassification());
+		assertFalse(getName.isRealMethodFallThrough());
+		assertFalse(getName.isCached());
+		assertTrue(plan.getMethodPlan("greet", 0).isRealMethodFallThrough());
+		assertTrue(plan.getUnhandledMethods().isEmpty());
+		assertTrue(JavassistProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_DispatchPlan_ExplainsProxy() {
+		final Greeting proxy = JavassistProxyGenerator.instantiateSerializable(createRecipe(), "state");
+		assertEquals("Jan", proxy.getName());
+
+		final DispatchPlan plan = JavassistProxyGenerator.explain(proxy);
+		assertEquals(proxy.getClass(), plan.getProxyClass());
+		assertTrue(plan.getMethodPlan("getName", 0).isCached());
+		assertFalse(plan.getMethodPlan("greet", 0).isCached());
+		assertEquals("Hello Jan", proxy.greet());
+	}
+
+	private static ProxyRecipe createRecipe() {
+		return new ProxyRecipe(new Class[]{Greeting.class}, new Advice[]{NameAdvice.INSTANCE});
+	}
+
+	public interface Greeting {
+
+		String getName();
+
+		default String greet() {
+			return "Hello " + getName();
+		}
+
+	}
+
+	public static class NameAdvice implements Advice<Serializable> {
+		private static final long serialVersionUID = -4380016739946226358L;
+		public static final NameAdvice INSTANCE = new NameAdvice();
+
+		@Override
+		public Class<Serializable> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Serializable>> getMethodClassification() {
+			return Collections.singletonList(
+				new PredicateMethodClassification<>(
+					/* description */   "name",
+					/* matcher */       (method, proxyState) -> method.getName().equals("getName"),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "Jan"
+				)
+			);
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+package one.edee.oss.proxycian.javassist;
+
+import lombok.Data;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.cache.MethodDispatchTable;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * This test verifies that resolved method handlers are kept in {@link MethodDispatchTable} shared by the proxies
+ * of the same class and the same cache key.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistDispatchTableTest extends AbstractJavassistProxycianTest {
+
+	@Test
+	public void JavassistProxyGenerator_DispatchTable_SharedByProxiesOfSameRecipe() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameInterface first = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		final NameInterface second = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		assertSame(first.getClass(), second.getClass());
+
+		first.setName("Jan");
+		second.setName("Petr");
+		assertEquals("Jan", first.getName());
+		assertEquals("Petr", second.getName());
+
+		assertEquals(1, JavassistProxyGenerator.CLASSIFICATION_CACHE.size());
+		final MethodDispatchTable dispatchTable = JavassistProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertSame(first.getClass(), dispatchTable.getProxyClass());
+		assertEquals(2, dispatchTable.size());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_DispatchTable_ClearedWithClassificationCache() {
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		proxy.setName("Jan");
+		final MethodDispatchTable dispatchTable = JavassistProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertEquals(1, dispatchTable.size());
+
+		JavassistProxyGenerator.clearMethodClassificationCache();
+		assertEquals(0, dispatchTable.size());
+		assertEquals(0, JavassistProxyGenerator.CLASSIFICATION_CACHE.size());
+
+		assertEquals("Jan", proxy.getName());
+		assertEquals(1, dispatchTable.size());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_DispatchTable_SeparatedForDifferentCacheKeys() {
+		final NameInterface first = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class, o -> ((CompositionState) o).getFirst())),
+			new CompositionState()
+		);
+		final NameInterface second = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class, o -> ((CompositionState) o).getSecond())),
+			new CompositionState()
+		);
+		assertSame(first.getClass(), second.getClass());
+
+		first.setName("Jan");
+		second.setName("Petr");
+		assertEquals("Jan", first.getName());
+		assertEquals("Petr", second.getName());
+		assertEquals("Jan", ((CompositionState) ((ProxyStateAccessor) first).getProxyState()).getFirst().getName());
+		assertEquals("Petr", ((CompositionState) ((ProxyStateAccessor) second).getProxyState()).getSecond().getName());
+
+		assertEquals(2, JavassistProxyGenerator.CLASSIFICATION_CACHE.size());
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Test
+	public void JavassistProxyGenerator_DispatchTable_HandlerSharedByProxiesOfDifferentClasses() {
+		final NameImplementation state = new NameImplementation();
+		final JavassistDispatcherInvocationHandler<NameImplementation> handler = new JavassistDispatcherInvocationHandler<>(
+			state, DelegateCallsAdvice.getInstance(NameInterface.class).getMethodClassification().toArray(new MethodClassification[0])
+		);
+		final NameInterface first = JavassistProxyGenerator.instantiate(handler, NameInterface.class);
+		final NameInterface second = JavassistProxyGenerator.instantiate(handler, NameInterface.class, Comparable.class);
+		assertNotSame(first.getClass(), second.getClass());
+
+		// METHODS ARE CALLED IN DIFFERENT ORDER SO THAT THEIR ORDINALS DIFFER IN EACH PROXY CLASS
+		assertNull(first.getName());
+		second.setName("Jan");
+		first.setName("Petr");
+		assertEquals("Petr", second.getName());
+		assertEquals("Petr", state.getName());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements Serializable, NameInterface {
+		private static final long serialVersionUID = 4380541744516412962L;
+		private String name;
+	}
+
+	@Data
+	public static class CompositionState implements Serializable {
+		private static final long serialVersionUID = -6409787417364931215L;
+		private final NameImplementation first = new NameImplementation();
+		private final NameImplementation second = new NameImplementation();
+	}
+
+}
@@ -0,0 +1,131 @@
+package one.edee.oss.proxycian.javassist;
+
+import lombok.Data;
+import one.edee.oss.proxycian.cache.MethodDispatchTable;
+import one.edee.oss.proxycian.exception.MissingMethodImplementationException;
+import one.edee.oss.proxycian.model.traits.GenericBucket;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.trait.localDataStore.LocalDataStore;
+import one.edee.oss.proxycian.trait.localDataStore.LocalDataStoreAdvice;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that recipe with eager classification fills the dispatch table when the proxy is created and fails
+ * fast when some method is not handled.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistEagerClassificationTest extends AbstractJavassistProxycianTest {
+
+	@Test
+	public void JavassistProxyGenerator_EagerClassification_FillsDispatchTable() {
+		assertDispatchTableFilled();
+	}
+
+	@Test
+	public void JavassistProxyGenerator_EagerClassification_UsesOrdinalsOfInvokedMethods() {
+		final ProxyRecipe recipe = new ProxyRecipe(
+			new Class[]{LabelInterface.class}, new Advice[]{DelegateCallsAdvice.getInstance(NameInterface.class)}
+		).withEagerClassification();
+		final LabelInterface proxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		final int methodCount = JavassistProxyGenerator.getProxyMethods(proxy.getClass()).length;
+		final MethodDispatchTable dispatchTable = JavassistProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		final int classifiedMethods = dispatchTable.size();
+
+		// THE HANDLER FINDS THE ORDINALS ASSIGNED BY THE EAGER CLASSIFICATION - NO NEW METHOD IS REGISTERED OR CLASSIFIED
+		((NameInterface) proxy).setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals(methodCount, JavassistProxyGenerator.METHOD_ORDINALS.get(proxy.getClass()).size());
+		assertEquals(classifiedMethods, dispatchTable.size());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_LazyClassification_LeavesDispatchTableEmpty() {
+		JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)),
+			new NameImplementation()
+		);
+		assertTrue(JavassistProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_EagerClassification_FailsOnUnhandledMethod() {
+		final ProxyRecipe recipe = new ProxyRecipe(
+			new Class[]{IncompleteInterface.class}, new Advice[]{LocalDataStoreAdvice.INSTANCE}
+		).withEagerClassification();
+
+		final MissingMethodImplementationException exception = assertThrows(
+			MissingMethodImplementationException.class,
+			() -> JavassistProxyGenerator.instantiateSerializable(recipe, new GenericBucket())
+		);
+		assertEquals(1, exception.getUnhandledMethods().size());
+		assertEquals("getCode", exception.getUnhandledMethods().get(0).getName());
+
+		final MethodDispatchTable dispatchTable = JavassistProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertFalse(dispatchTable.isFullyClassified());
+		// EACH ATTEMPT FAILS THE SAME WAY
+		assertThrows(
+			MissingMethodImplementationException.class,
+			() -> JavassistProxyGenerator.instantiateSerializable(recipe, new GenericBucket())
+		);
+	}
+
+	private static void assertDispatchTableFilled() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)).withEagerClassification();
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+
+		assertEquals(1, JavassistProxyGenerator.CLASSIFICATION_CACHE.size());
+		final MethodDispatchTable dispatchTable = JavassistProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next();
+		assertTrue(dispatchTable.isFullyClassified());
+		final int classifiedMethods = dispatchTable.size();
+		assertEquals(JavassistProxyGenerator.getProxyMethods(proxy.getClass()).length, classifiedMethods);
+
+		// NO METHOD IS CLASSIFIED ON ITS CALL
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals(new NameImplementation().toString().replace("null", "Jan"), proxy.toString());
+		assertEquals(classifiedMethods, dispatchTable.size());
+
+		// THE SECOND PROXY REUSES THE TABLE
+		final NameInterface secondProxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		secondProxy.setName("Petr");
+		assertEquals("Petr", secondProxy.getName());
+		assertEquals(1, JavassistProxyGenerator.CLASSIFICATION_CACHE.size());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	public interface LabelInterface {
+
+		String getName();
+
+	}
+
+	public interface IncompleteInterface extends LocalDataStore {
+
+		String getCode();
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface, Serializable {
+		private static final long serialVersionUID = 4638123487023523081L;
+		private String name;
+	}
+
+}
@@ -0,0 +1,45 @@
+package one.edee.oss.proxycian.javassist;
+
+import one.edee.oss.proxycian.ProxyFootprint;
+import one.edee.oss.proxycian.javassist.JavassistDispatchTableTest.NameImplementation;
+import one.edee.oss.proxycian.javassist.JavassistDispatchTableTest.NameInterface;
+import one.edee.oss.proxycian.metrics.ObjectSizeCalculator;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.Test;
+
+import static one.edee.oss.proxycian.utils.FootprintAssertions.assertOverheadAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that footprint report splits the heap retained by single proxy into its parts and that
+ * the footprint doesn't grow over the expected limits.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistFootprintTest extends AbstractJavassistProxycianTest {
+
+	@Test
+	public void JavassistProxyGenerator_Footprint_StaysWithinLimits() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		final NameInterface siblingProxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		final ProxyFootprint footprint = JavassistProxyGenerator.measureFootprint(proxy, siblingProxy);
+
+		assertEquals(ObjectSizeCalculator.getShallowSize(proxy), footprint.getProxy().getShallowSize());
+		assertEquals(ObjectSizeCalculator.getShallowSize(new NameImplementation()), footprint.getState().getRetainedSize());
+		assertTrue(footprint.getHandler().getShallowSize() > 0);
+		assertTrue(footprint.getClassifications().getRetainedSize() > footprint.getClassifications().getShallowSize());
+		assertOverheadAtMost(footprint, 1024);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_Footprint_RejectsObjectThatIsNotProxy() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		assertThrows(IllegalArgumentException.class, () -> JavassistProxyGenerator.measureFootprint(proxy, new NameImplementation()));
+	}
+
+}
@@ -0,0 +1,82 @@
+package one.edee.oss.proxycian.javassist;
+
+import lombok.Data;
+import one.edee.oss.proxycian.metrics.InvocationTrace;
+import one.edee.oss.proxycian.metrics.InvocationTraceEntry;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that {@link InvocationTrace} registered to the generator records the invocations of the proxy
+ * methods.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistInvocationTraceTest extends AbstractJavassistProxycianTest {
+
+	@AfterEach
+	void tearDown() {
+		JavassistProxyGenerator.setInvocationTrace(null);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_InvocationTrace_RecordsInvocations() {
+		final InvocationTrace trace = new InvocationTrace(2);
+		JavassistProxyGenerator.setInvocationTrace(trace);
+
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals("Jan", proxy.getName());
+
+		// ONLY THE LAST TWO INVOCATIONS FIT INTO THE TRACE
+		final List<InvocationTraceEntry> entries = trace.getEntries();
+		assertEquals(2, entries.size());
+		assertEquals(3, trace.getRecordedCount());
+		for (InvocationTraceEntry entry : entries) {
+			assertEquals(proxy.getClass(), entry.getProxyClass());
+			assertEquals("getName", entry.getMethod().getName());
+		}
+		assertEquals(entries.get(0).getMethodOrdinal(), entries.get(1).getMethodOrdinal());
+		assertTrue(trace.dump().contains(proxy.getClass().getName() + ".getName"));
+	}
+
+	@Test
+	public void JavassistProxyGenerator_InvocationTrace_NothingRecordedWhenDisabled() {
+		final InvocationTrace trace = new InvocationTrace(16);
+		JavassistProxyGenerator.setInvocationTrace(trace);
+		JavassistProxyGenerator.setInvocationTrace(null);
+
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals(0, trace.getRecordedCount());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface, Serializable {
+		private static final long serialVersionUID = 4129836645839217736L;
+		private String name;
+	}
+
+}
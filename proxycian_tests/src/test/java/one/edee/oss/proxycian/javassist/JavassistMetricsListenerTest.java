@@ -0,0 +1,87 @@
+package one.edee.oss.proxycian.javassist;
+
+import lombok.Data;
+import one.edee.oss.proxycian.metrics.CountingMetricsListener;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that {@link CountingMetricsListener} observes class generation, classification and instantiation
+ * of the proxies.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistMetricsListenerTest extends AbstractJavassistProxycianTest {
+
+	@AfterEach
+	void tearDown() {
+		ProxycianMetrics.setListener(null);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_MetricsListener_CountsGenerationClassificationAndInstantiation() {
+		final CountingMetricsListener listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(listener);
+
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameInterface firstProxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+		final NameInterface secondProxy = JavassistProxyGenerator.instantiateSerializable(recipe, new NameImplementation());
+
+		assertEquals(1, listener.getGeneratedClassCount());
+		assertTrue(listener.getClassGenerationNanos() > 0);
+		assertEquals(2, listener.getInstantiatedProxyCount());
+		assertEquals(2, listener.getInstantiatedProxyCount(firstProxy.getClass()));
+
+		firstProxy.setName("Jan");
+		assertEquals("Jan", firstProxy.getName());
+		secondProxy.setName("Petr");
+		assertEquals("Petr", secondProxy.getName());
+
+		assertEquals(1, listener.getClassificationCacheMissCount());
+		assertEquals(1, listener.getClassificationCacheHitCount());
+		assertEquals(2, listener.getClassifiedMethodCount());
+
+		// NOTHING IS REPORTED WHEN CLASSIFIED METHOD IS CALLED AGAIN
+		assertEquals("Jan", firstProxy.getName());
+		assertEquals(2, listener.getClassifiedMethodCount());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_MetricsListener_NothingReportedWhenDisabled() {
+		final CountingMetricsListener listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(listener);
+		ProxycianMetrics.setListener(null);
+
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+		proxy.setName("Jan");
+		assertEquals("Jan", proxy.getName());
+		assertEquals(0, listener.getGeneratedClassCount());
+		assertEquals(0, listener.getInstantiatedProxyCount());
+		assertEquals(0, listener.getClassifiedMethodCount());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface, Serializable {
+		private static final long serialVersionUID = -1822434468231683391L;
+		private String name;
+	}
+
+}
@@ -0,0 +1,179 @@
+package one.edee.oss.proxycian.javassist;
+
+import lombok.Data;
+import one.edee.oss.proxycian.CacheKeyProvider;
+import one.edee.oss.proxycian.MethodClassification;
+import one.edee.oss.proxycian.PredicateMethodClassification;
+import one.edee.oss.proxycian.recipe.Advice;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.ProxyStateAccessor;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import one.edee.oss.proxycian.util.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+import static one.edee.oss.proxycian.MethodClassification.noContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that standard methods not overridden by the recipe are answered by the invocation handler
+ * directly and don't go through the dispatch table.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistStandardMethodFastPathTest extends AbstractJavassistProxycianTest {
+
+	@Test
+	public void JavassistProxyGenerator_FastPath_StandardMethodsBypassDispatcher() {
+		assertStandardMethodsBypassDispatcher();
+	}
+
+	@Test
+	public void JavassistProxyGenerator_FastPath_OverriddenMethodGoesThroughDispatcher() {
+		final ProxyRecipe recipe = new ProxyRecipe(
+			DelegateCallsAdvice.getInstance(NameInterface.class), ToStringAdvice.INSTANCE
+		);
+		final NameImplementation state = new NameImplementation();
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(recipe, state);
+
+		assertEquals("overridden", proxy.toString());
+		assertEquals(state.hashCode(), proxy.hashCode());
+		assertEquals(1, JavassistProxyGenerator.CLASSIFICATION_CACHE.size());
+		assertEquals(1, JavassistProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next().size());
+
+		// PROXY OF THE RECIPE THAT DOESN'T OVERRIDE TO STRING SHARES THE CLASS BUT NOT THE OVERRIDE
+		final NameInterface plainProxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class)), new NameImplementation()
+		);
+		assertSame(proxy.getClass(), plainProxy.getClass());
+		assertEquals(new NameImplementation().toString(), plainProxy.toString());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_FastPath_StateDependentOverrideRespectedForEachState() {
+		final ProxyRecipe recipe = new ProxyRecipe(
+			DelegateCallsAdvice.getInstance(NameInterface.class), LabelAdvice.INSTANCE
+		);
+		final LabeledNameImplementation plainState = new LabeledNameImplementation(false);
+		final NameInterface plainProxy = JavassistProxyGenerator.instantiateSerializable(recipe, plainState);
+		final NameInterface labeledProxy = JavassistProxyGenerator.instantiateSerializable(recipe, new LabeledNameImplementation(true));
+
+		// STATES OF THE SAME CLASS DIFFER IN THEIR CACHE KEY - ONLY THE LABELED ONE OVERRIDES TO STRING
+		assertEquals(plainState.toString(), plainProxy.toString());
+		assertEquals("labeled", labeledProxy.toString());
+	}
+
+	private static void assertStandardMethodsBypassDispatcher() {
+		final ProxyRecipe recipe = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+		final NameImplementation state = new NameImplementation();
+		state.setName("Jan");
+		final NameInterface proxy = JavassistProxyGenerator.instantiateSerializable(recipe, state);
+		final NameImplementation otherState = new NameImplementation();
+		otherState.setName("Jan");
+		final NameInterface otherProxy = JavassistProxyGenerator.instantiateSerializable(recipe, otherState);
+
+		assertSame(proxy.getClass(), otherProxy.getClass());
+		assertSame(state, ((ProxyStateAccessor) proxy).getProxyState());
+		assertEquals(state.hashCode(), proxy.hashCode());
+		assertEquals(state.toString(), proxy.toString());
+		assertTrue(proxy.equals(otherProxy));
+		assertFalse(proxy.equals(state));
+		assertFalse(proxy.equals(null));
+
+		// NONE OF THE STANDARD METHODS WAS CLASSIFIED
+		assertTrue(JavassistProxyGenerator.CLASSIFICATION_CACHE.isEmpty());
+
+		otherProxy.setName("Petr");
+		assertEquals("Petr", otherProxy.getName());
+		assertFalse(proxy.equals(otherProxy));
+		assertNotNull(JavassistProxyGenerator.CLASSIFICATION_CACHE.values().iterator().next());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface, Serializable {
+		private static final long serialVersionUID = -6027433585064215094L;
+		private String name;
+	}
+
+	/**
+	 * Advice that overrides {@link Object#toString()} method of the proxy.
+	 */
+	public static class ToStringAdvice implements Advice<Object> {
+		private static final long serialVersionUID = 5823417306498251907L;
+		public static final ToStringAdvice INSTANCE = new ToStringAdvice();
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			return Collections.singletonList(
+				new PredicateMethodClassification<>(
+					/* description */   "Object.toString",
+					/* matcher */       (method, proxyState) -> ReflectionUtils.isMethodDeclaredOn(method, Object.class, "toString"),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "overridden"
+				)
+			);
+		}
+	}
+
+	/**
+	 * State whose cache key decides whether the {@link LabelAdvice} overrides {@link Object#toString()} method.
+	 */
+	@Data
+	public static class LabeledNameImplementation implements NameInterface, CacheKeyProvider, Serializable {
+		private static final long serialVersionUID = 4417063390417745911L;
+		private final boolean labeled;
+		private String name;
+
+		@Override
+		public Object getCacheKey() {
+			return this.labeled;
+		}
+	}
+
+	/**
+	 * Advice that overrides {@link Object#toString()} method of the proxy only for the labeled proxy states.
+	 */
+	public static class LabelAdvice implements Advice<Object> {
+		private static final long serialVersionUID = -2084617340275391056L;
+		public static final LabelAdvice INSTANCE = new LabelAdvice();
+
+		@Override
+		public Class<Object> getRequestedStateContract() {
+			return null;
+		}
+
+		@Override
+		public List<MethodClassification<?, Object>> getMethodClassification() {
+			return Collections.singletonList(
+				new PredicateMethodClassification<>(
+					/* description */   "Object.toString of labeled state",
+					/* matcher */       (method, proxyState) -> ReflectionUtils.isMethodDeclaredOn(method, Object.class, "toString") &&
+						((LabeledNameImplementation) proxyState).isLabeled(),
+					/* methodContext */ noContext(),
+					/* invocation */    (proxy, method, args, methodContext, proxyState, invokeSuper) -> "labeled"
+				)
+			);
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+package one.edee.oss.proxycian.javassist;
+
+import lombok.Data;
+import one.edee.oss.proxycian.metrics.CountingMetricsListener;
+import one.edee.oss.proxycian.metrics.ProxycianMetrics;
+import one.edee.oss.proxycian.recipe.ProxyRecipe;
+import one.edee.oss.proxycian.trait.delegate.DelegateCallsAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This test verifies that the proxy classes generated in parallel by the warm-up are used by the proxies created later.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class JavassistWarmUpTest extends AbstractJavassistProxycianTest {
+	private static final ProxyRecipe NAME_RECIPE = new ProxyRecipe(DelegateCallsAdvice.getInstance(NameInterface.class));
+	private static final ProxyRecipe AGE_RECIPE = new ProxyRecipe(DelegateCallsAdvice.getInstance(AgeInterface.class));
+	private ExecutorService executor;
+	private CountingMetricsListener listener;
+
+	@BeforeEach
+	void createExecutor() {
+		this.executor = Executors.newFixedThreadPool(4);
+		this.listener = new CountingMetricsListener();
+		ProxycianMetrics.setListener(this.listener);
+	}
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+		ProxycianMetrics.setListener(null);
+	}
+
+	@Test
+	public void JavassistProxyGenerator_WarmUp_RecipeClassesUsedByProxies() {
+		final Map<ProxyRecipe, Object> proxyStates = new LinkedHashMap<>();
+		proxyStates.put(NAME_RECIPE, new NameImplementation());
+		proxyStates.put(AGE_RECIPE, new AgeImplementation());
+
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> proxyClasses = JavassistProxyGenerator.warmUp(proxyStates, this.executor);
+		CompletableFuture.allOf(proxyClasses.values().toArray(new CompletableFuture[0])).join();
+		assertEquals(2, this.listener.getGeneratedClassCount());
+
+		final NameInterface nameProxy = JavassistProxyGenerator.instantiate(NAME_RECIPE, new NameImplementation());
+		final AgeInterface ageProxy = JavassistProxyGenerator.instantiate(AGE_RECIPE, new AgeImplementation());
+		assertSame(proxyClasses.get(NAME_RECIPE).join(), nameProxy.getClass());
+		assertSame(proxyClasses.get(AGE_RECIPE).join(), ageProxy.getClass());
+		assertEquals(2, this.listener.getGeneratedClassCount());
+
+		nameProxy.setName("Jan");
+		assertEquals("Jan", nameProxy.getName());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_WarmUp_RecipeClassesGeneratedInPassedClassLoader() {
+		final ClassLoader classLoader = NameInterface.class.getClassLoader();
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> proxyClasses = JavassistProxyGenerator.warmUp(
+			Collections.singletonMap(NAME_RECIPE, new NameImplementation()), classLoader, this.executor
+		);
+
+		assertSame(classLoader, proxyClasses.get(NAME_RECIPE).join().getClassLoader());
+		assertSame(
+			JavassistProxyGenerator.getProxyClass(NAME_RECIPE.getInterfaces(), classLoader),
+			proxyClasses.get(NAME_RECIPE).join()
+		);
+		assertEquals(1, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_WarmUp_SerializableRecipeClassesUsedByProxies() {
+		final Map<ProxyRecipe, CompletableFuture<Class<?>>> proxyClasses = JavassistProxyGenerator.warmUpSerializable(
+			Collections.singletonMap(NAME_RECIPE, new NameImplementation()), this.executor
+		);
+
+		final NameInterface nameProxy = JavassistProxyGenerator.instantiateSerializable(NAME_RECIPE, new NameImplementation());
+		assertSame(proxyClasses.get(NAME_RECIPE).join(), nameProxy.getClass());
+		assertEquals(1, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_WarmUp_ContractClassesReturnedInOrder() {
+		final List<CompletableFuture<Class<?>>> proxyClasses = JavassistProxyGenerator.warmUp(
+			Arrays.asList(new Class<?>[]{NameInterface.class}, new Class<?>[]{AgeInterface.class}), this.executor
+		);
+
+		assertSame(JavassistProxyGenerator.getProxyClass(NameInterface.class), proxyClasses.get(0).join());
+		assertSame(JavassistProxyGenerator.getProxyClass(AgeInterface.class), proxyClasses.get(1).join());
+		assertEquals(2, this.listener.getGeneratedClassCount());
+	}
+
+	@Test
+	public void JavassistProxyGenerator_WarmUp_FailureReportedByFuture() {
+		final List<CompletableFuture<Class<?>>> proxyClasses = JavassistProxyGenerator.warmUp(
+			Arrays.asList(new Class<?>[]{String.class}, new Class<?>[]{NameInterface.class}), this.executor
+		);
+
+		assertThrows(CompletionException.class, () -> proxyClasses.get(0).join());
+		assertSame(JavassistProxyGenerator.getProxyClass(NameInterface.class), proxyClasses.get(1).join());
+	}
+
+	public interface NameInterface {
+
+		String getName();
+
+		void setName(String name);
+
+	}
+
+	public interface AgeInterface {
+
+		int getAge();
+
+		void setAge(int age);
+
+	}
+
+	@Data
+	public static class NameImplementation implements NameInterface, Serializable {
+		private static final long serialVersionUID = -3868190557286434046L;
+		private String name;
+	}
+
+	@Data
+	public static class AgeImplementation implements AgeInterface, Serializable {
+		private static final long serialVersionUID = 7404552313356012377L;
+		private int age;
+	}
+
+}
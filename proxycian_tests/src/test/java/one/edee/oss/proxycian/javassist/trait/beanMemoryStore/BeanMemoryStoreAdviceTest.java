@@ -10,6 +10,11 @@ import one.edee.oss.proxycian.trait.ProxyStateAccessor;
 import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -102,6 +107,49 @@ public class BeanMemoryStoreAdviceTest extends AbstractJavassistProxycianTest {
 		assertEquals("Jan Novotný (43)", proxy.print());
 	}
 
+	@Test
+	public void JavassistGenerator_shouldSerializeAndDeserializeProxy() throws Exception {
+		final SomeJavaBeanIface proxy = JavassistProxyGenerator.instantiateSerializable(
+			new ProxyRecipe(
+				new Class[] {SomeJavaBeanIface.class},
+				new Advice[] {BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}
+			),
+			new GenericBucket()
+		);
+		proxy.setAge((byte) 43);
+		proxy.setName("Jan Novotný");
+
+		final ByteArrayOutputStream serializedProxy = new ByteArrayOutputStream();
+		try (ObjectOutputStream serializationStream = new ObjectOutputStream(serializedProxy)) {
+			serializationStream.writeObject(proxy);
+		}
+
+		final SomeJavaBeanIface deserializedProxy;
+		try (ObjectInputStream deserializationStream = new ObjectInputStream(new ByteArrayInputStream(serializedProxy.toByteArray()))) {
+			deserializedProxy = (SomeJavaBeanIface) deserializationStream.readObject();
+		}
+
+		assertNotSame(proxy, deserializedProxy);
+		assertEquals((byte) 43, deserializedProxy.getAge());
+		assertEquals("Jan Novotný (43)", deserializedProxy.print());
+	}
+
+	@Test
+	public void JavassistGenerator_shouldProxyNonBooleanIsGetter() {
+		final JavaBeanWithStatus proxy = JavassistProxyGenerator.instantiate(
+			new ProxyRecipe(
+				new Class[] {JavaBeanWithStatus.class},
+				new Advice[] {BeanMemoryStoreAdvice.ABSTRACT_METHOD_INSTANCE}
+			),
+			new GenericBucket()
+		);
+
+		proxy.setStatus("active");
+		proxy.setVisible(true);
+		assertEquals("active", proxy.isStatus());
+		assertTrue(proxy.isVisible());
+	}
+
 	public interface SomeJavaBeanIface {
 
 		boolean isLiving();
@@ -150,4 +198,14 @@ public class BeanMemoryStoreAdviceTest extends AbstractJavassistProxycianTest {
 
 	}
 
+	public interface JavaBeanWithStatus {
+
+		String isStatus();
+		void setStatus(String status);
+
+		Boolean isVisible();
+		void setVisible(Boolean visible);
+
+	}
+
 }
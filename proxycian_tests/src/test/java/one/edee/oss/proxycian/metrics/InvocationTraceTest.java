@@ -0,0 +1,138 @@
+package one.edee.oss.proxycian.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that {@link InvocationTrace} keeps the last invocations in their order and that its entries stay
+ * consistent when written from many threads at once.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class InvocationTraceTest {
+	private static final Method HASH_CODE;
+	private static final Method TO_STRING;
+
+	static {
+		try {
+			HASH_CODE = Object.class.getMethod("hashCode");
+			TO_STRING = Object.class.getMethod("toString");
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	void shouldRoundCapacityUpToPowerOfTwo() {
+		assertEquals(1, new InvocationTrace(1).getCapacity());
+		assertEquals(8, new InvocationTrace(5).getCapacity());
+		assertEquals(16, new InvocationTrace(16).getCapacity());
+		assertThrows(IllegalArgumentException.class, () -> new InvocationTrace(0));
+	}
+
+	@Test
+	void shouldKeepLastInvocationsInOrder() {
+		final InvocationTrace trace = new InvocationTrace(4);
+		assertTrue(trace.getEntries().isEmpty());
+
+		for (int i = 0; i < 10; i++) {
+			trace.record(String.class, HASH_CODE, i, "handler" + i, i * 100L);
+		}
+
+		final List<InvocationTraceEntry> entries = trace.getEntries();
+		assertEquals(4, entries.size());
+		for (int i = 0; i < 4; i++) {
+			final InvocationTraceEntry entry = entries.get(i);
+			assertEquals(6 + i, entry.getSequence());
+			assertEquals(String.class, entry.getProxyClass());
+			assertEquals(HASH_CODE, entry.getMethod());
+			assertEquals(6 + i, entry.getMethodOrdinal());
+			assertEquals("handler" + (6 + i), entry.getClassification());
+			assertEquals((6 + i) * 100L, entry.getDurationNanos());
+		}
+		assertEquals(10, trace.getRecordedCount());
+		assertEquals(0, trace.getDroppedCount());
+		assertEquals(
+			"#9 java.lang.String.hashCode [9] handled by handler9 in 900 ns",
+			trace.dump().split("\n")[3]
+		);
+	}
+
+	@Test
+	void shouldDropAllRecordsOnClear() {
+		final InvocationTrace trace = new InvocationTrace(4);
+		trace.record(String.class, HASH_CODE, 0, "handler0", 100L);
+		trace.record(String.class, TO_STRING, 1, "handler1", 200L);
+
+		trace.clear();
+		assertTrue(trace.getEntries().isEmpty());
+		assertEquals(2, trace.getRecordedCount());
+
+		trace.record(Integer.class, TO_STRING, 2, "handler2", 300L);
+		final List<InvocationTraceEntry> entries = trace.getEntries();
+		assertEquals(1, entries.size());
+		assertEquals(Integer.class, entries.get(0).getProxyClass());
+	}
+
+	@Test
+	void shouldKeepEntriesConsistentWhenWrittenConcurrently() throws InterruptedException {
+		final InvocationTrace trace = new InvocationTrace(64);
+		final int threadCount = 4;
+		final int invocationCount = 100_000;
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> threads = new ArrayList<>(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			final int threadIndex = i;
+			final Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				// EACH THREAD WRITES ITS OWN COMBINATION OF VALUES SO THAT TORN ENTRIES WOULD BE DETECTED
+				final Method method = threadIndex % 2 == 0 ? HASH_CODE : TO_STRING;
+				final String handler = "thread" + threadIndex;
+				for (int j = 0; j < invocationCount; j++) {
+					trace.record(String.class, method, threadIndex, handler, threadIndex);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		start.countDown();
+		// READ WHILE WRITING
+		while (threads.stream().anyMatch(Thread::isAlive)) {
+			assertConsistent(trace.getEntries());
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		final List<InvocationTraceEntry> entries = trace.getEntries();
+		assertConsistent(entries);
+		assertEquals(threadCount * invocationCount, trace.getRecordedCount());
+		assertTrue(entries.size() <= trace.getCapacity());
+	}
+
+	private static void assertConsistent(List<InvocationTraceEntry> entries) {
+		long lastSequence = -1;
+		for (InvocationTraceEntry entry : entries) {
+			final int threadIndex = entry.getMethodOrdinal();
+			assertEquals(threadIndex % 2 == 0 ? HASH_CODE : TO_STRING, entry.getMethod());
+			assertEquals("thread" + threadIndex, entry.getClassification());
+			assertEquals(threadIndex, entry.getDurationNanos());
+			assertTrue(entry.getSequence() > lastSequence);
+			lastSequence = entry.getSequence();
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+package one.edee.oss.proxycian.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies that {@link ObjectSizeCalculator} estimates the object sizes consistently, counts each object
+ * of the graph only once and prefers the registered instrumentation over the estimates.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+class ObjectSizeCalculatorTest {
+
+	@Test
+	void shouldEstimateAlignedSizes() {
+		final long emptyArraySize = ObjectSizeCalculator.getShallowSize(new long[0]);
+		assertTrue(emptyArraySize > 0);
+		assertEquals(emptyArraySize + 16, ObjectSizeCalculator.getShallowSize(new long[2]));
+		assertEquals(0, ObjectSizeCalculator.getShallowSize(new Object()) % 8);
+		assertEquals(0, ObjectSizeCalculator.getShallowSize(new byte[3]) % 8);
+		assertTrue(ObjectSizeCalculator.getShallowSize(new Node(null)) >= ObjectSizeCalculator.getShallowSize(new Object()));
+	}
+
+	@Test
+	void shouldCountEachObjectOfGraphOnce() {
+		final Node leaf = new Node(null);
+		final Object[] root = {leaf, leaf, new Node(leaf)};
+		final long expectedSize = ObjectSizeCalculator.getShallowSize(root) + 2 * ObjectSizeCalculator.getShallowSize(leaf);
+
+		final Set<Object> visited = ObjectSizeCalculator.createIdentitySet();
+		assertEquals(expectedSize, ObjectSizeCalculator.getRetainedSize(root, visited, Collections.emptySet()));
+		assertEquals(3, visited.size());
+		// THE SECOND WALK FINDS ONLY VISITED OBJECTS
+		assertEquals(0L, ObjectSizeCalculator.getRetainedSize(root, visited, Collections.emptySet()));
+	}
+
+	@Test
+	void shouldNotWalkThroughExcludedObjects() {
+		final Node leaf = new Node(null);
+		final Node shared = new Node(leaf);
+		final Node root = new Node(shared);
+
+		final Set<Object> excluded = ObjectSizeCalculator.createIdentitySet();
+		excluded.add(shared);
+		assertEquals(
+			ObjectSizeCalculator.getShallowSize(root),
+			ObjectSizeCalculator.getRetainedSize(root, ObjectSizeCalculator.createIdentitySet(), excluded)
+		);
+	}
+
+	@Test
+	void shouldUseRegisteredInstrumentation() {
+		final Instrumentation instrumentation = (Instrumentation) Proxy.newProxyInstance(
+			ObjectSizeCalculatorTest.class.getClassLoader(),
+			new Class[]{Instrumentation.class},
+			(proxy, method, args) -> "getObjectSize".equals(method.getName()) ? 1000L : null
+		);
+		ObjectSizeCalculator.setInstrumentation(instrumentation);
+		try {
+			assertTrue(ObjectSizeCalculator.isInstrumented());
+			assertEquals(1000L, ObjectSizeCalculator.getShallowSize(new Object()));
+		} finally {
+			ObjectSizeCalculator.setInstrumentation(null);
+		}
+		assertFalse(ObjectSizeCalculator.isInstrumented());
+	}
+
+	private static class Node {
+		private final Node next;
+		private final long value = 42L;
+
+		Node(Node next) {
+			this.next = next;
+		}
+	}
+
+}
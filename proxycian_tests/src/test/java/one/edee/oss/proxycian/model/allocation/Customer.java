@@ -0,0 +1,18 @@
+package one.edee.oss.proxycian.model.allocation;
+
+/**
+ * Contract of the proxies used for measuring allocations of the standard proxy paths.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public interface Customer {
+
+	String getName();
+
+	void setName(String name);
+
+	default String greet() {
+		return "Hello " + getName();
+	}
+
+}
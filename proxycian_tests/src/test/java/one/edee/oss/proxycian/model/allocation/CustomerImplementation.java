@@ -0,0 +1,16 @@
+package one.edee.oss.proxycian.model.allocation;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Plain implementation of the {@link Customer} used as the delegate of the delegating proxies.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Data
+public class CustomerImplementation implements Customer, Serializable {
+	private static final long serialVersionUID = 1946733160327563195L;
+	private String name;
+}
@@ -0,0 +1,66 @@
+package one.edee.oss.proxycian.model.allocation;
+
+import one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStore;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proxy state for {@link one.edee.oss.proxycian.trait.beanMemoryStore.BeanMemoryStoreAdvice} that doesn't allocate
+ * anything when existing value is read or replaced and when its hash code is computed - so that the measured
+ * allocations belong to the proxy only.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class CustomerState implements BeanMemoryStore, Serializable {
+	private static final long serialVersionUID = -5130716243196120376L;
+	private final Map<String, Serializable> data = new HashMap<>(8);
+	private final int id;
+
+	public CustomerState(int id) {
+		this.id = id;
+	}
+
+	@Override
+	public <T extends Serializable> void putValueToMemoryStore(String name, T value) {
+		this.data.put(name, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends Serializable> T getValueFromMemoryStore(String name) {
+		return (T) this.data.get(name);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends Serializable> boolean addValueToCollectionInMemoryStore(String name, T value) {
+		return ((List<T>) this.data.computeIfAbsent(name, key -> new ArrayList<>())).add(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends Serializable> boolean removeValueFromCollectionInMemoryStore(String name, T value) {
+		final List<T> collection = (List<T>) this.data.get(name);
+		return collection != null && collection.remove(value);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.id;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof CustomerState && this.id == ((CustomerState) o).id;
+	}
+
+	@Override
+	public String toString() {
+		return "CustomerState#" + this.id;
+	}
+
+}
@@ -0,0 +1,41 @@
+package one.edee.oss.proxycian.model.precompiled;
+
+import one.edee.oss.proxycian.recipe.PrecompiledProxy;
+
+import java.io.IOException;
+
+/**
+ * Abstract class contract whose proxy class is generated by the annotation processor.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@PrecompiledProxy
+public abstract class PrecompiledEmployee {
+	private final String company;
+
+	protected PrecompiledEmployee(String company) {
+		this.company = company;
+	}
+
+	public abstract String getName();
+	public abstract void setName(String name);
+
+	public abstract int getLevel();
+	public abstract void setLevel(int level);
+
+	public String getCompany() {
+		return this.company;
+	}
+
+	public String describe() {
+		return getName() + " (" + getLevel() + ") at " + getCompany();
+	}
+
+	public String verify(String value) throws IOException {
+		if (value.isEmpty()) {
+			throw new IOException("Empty value!");
+		}
+		return value;
+	}
+
+}
@@ -0,0 +1,39 @@
+package one.edee.oss.proxycian.model.precompiled;
+
+import one.edee.oss.proxycian.recipe.PrecompiledProxy;
+
+/**
+ * Interface contract whose proxy classes are generated by the annotation processor.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@PrecompiledProxy(serializable = true)
+public interface PrecompiledPerson extends Cloneable {
+
+	boolean isLiving();
+	void setLiving(boolean living);
+
+	byte getAge();
+	void setAge(byte age);
+
+	long getIq();
+	void setIq(long iq);
+
+	String getName();
+	void setName(String name);
+
+	Object clone();
+
+	default String print() {
+		return getName() + " (" + getAge() + ")";
+	}
+
+	default String join(String... parts) {
+		return getName() + ": " + String.join(", ", parts);
+	}
+
+	default <T extends Comparable<T>> T max(T first, T second) {
+		return first.compareTo(second) >= 0 ? first : second;
+	}
+
+}
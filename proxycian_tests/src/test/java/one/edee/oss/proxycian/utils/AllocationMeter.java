@@ -0,0 +1,85 @@
+package one.edee.oss.proxycian.utils;
+
+import javax.annotation.Nonnull;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures bytes allocated by the current thread per single call of the measured code using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. The code is called repeatedly until it's
+ * optimized by JIT (so that the escape analysis could take place) and the lowest of several measured rounds is taken,
+ * which filters out the allocations of the JIT compilation, class loading and other background activity of the thread.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class AllocationMeter {
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 10;
+	private static final int CALLS_PER_ROUND = 50_000;
+	private static volatile Object SINK;
+
+	private AllocationMeter() {
+	}
+
+	/**
+	 * Returns true if the running VM can measure the bytes allocated by the thread.
+	 */
+	public static boolean isSupported() {
+		final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		return threadMXBean instanceof com.sun.management.ThreadMXBean &&
+			((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported() &&
+			((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+	}
+
+	/**
+	 * Returns count of bytes allocated by single call of passed code once the code is optimized.
+	 */
+	public static long measureBytesPerCall(@Nonnull Callable<?> call) throws Exception {
+		final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		final long threadId = Thread.currentThread().getId();
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			callRepeatedly(call);
+		}
+		long minimum = Long.MAX_VALUE;
+		for (int i = 0; i < MEASURED_ROUNDS; i++) {
+			final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+			callRepeatedly(call);
+			final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+			minimum = Math.min(minimum, allocated);
+		}
+		// ROUNDING ABSORBS THE FEW BYTES ALLOCATED BY THE MEASUREMENT ITSELF
+		return Math.round((double) minimum / CALLS_PER_ROUND);
+	}
+
+	/**
+	 * Returns count of bytes allocated by the array of references of passed length on the running VM. The size depends
+	 * on the object layout of the VM (compressed references, object alignment), so the allocation budgets are composed
+	 * of it instead of the absolute byte counts.
+	 */
+	public static long measureArrayBytes(int length) throws Exception {
+		return measureBytesPerCall(() -> new Object[length]);
+	}
+
+	/**
+	 * Verifies that single call of passed code allocates at most passed count of bytes once the code is optimized.
+	 * The test is skipped when the running VM can't measure the allocated bytes.
+	 */
+	public static void assertAllocatesAtMost(@Nonnull String path, long budgetBytes, @Nonnull Callable<?> call) throws Exception {
+		assumeTrue(isSupported(), "Thread allocation measurement is not supported by the VM.");
+		final long bytesPerCall = measureBytesPerCall(call);
+		if (bytesPerCall > budgetBytes) {
+			fail(path + " allocates " + bytesPerCall + " B per call, which is more than the budget of " + budgetBytes + " B!");
+		}
+	}
+
+	private static void callRepeatedly(@Nonnull Callable<?> call) throws Exception {
+		for (int i = 0; i < CALLS_PER_ROUND; i++) {
+			SINK = call.call();
+		}
+	}
+
+}
@@ -0,0 +1,39 @@
+package one.edee.oss.proxycian.utils;
+
+import one.edee.oss.proxycian.ProxyFootprint;
+
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Assertions guarding the heap footprint of the proxies against regressions. Failure message contains the complete
+ * {@link ProxyFootprint} report so that the part that grew is visible immediately.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class FootprintAssertions {
+
+	private FootprintAssertions() {
+	}
+
+	/**
+	 * Verifies that single proxy instance (including its state) retains at most passed count of bytes.
+	 */
+	public static void assertRetainedSizeAtMost(@Nonnull ProxyFootprint footprint, long maxRetainedBytes) {
+		if (footprint.getRetainedSize() > maxRetainedBytes) {
+			fail("Proxy retains " + footprint.getRetainedSize() + " B, which is more than " + maxRetainedBytes + " B!\n" + footprint);
+		}
+	}
+
+	/**
+	 * Verifies that single proxy instance retains at most passed count of bytes over its state - i.e. the proxy object,
+	 * its handler and the classification list together.
+	 */
+	public static void assertOverheadAtMost(@Nonnull ProxyFootprint footprint, long maxOverheadBytes) {
+		if (footprint.getOverheadSize() > maxOverheadBytes) {
+			fail("Proxy overhead is " + footprint.getOverheadSize() + " B, which is more than " + maxOverheadBytes + " B!\n" + footprint);
+		}
+	}
+
+}
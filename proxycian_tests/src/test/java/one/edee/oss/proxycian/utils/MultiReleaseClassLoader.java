@@ -0,0 +1,92 @@
+package one.edee.oss.proxycian.utils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+/**
+ * Class loader that emulates multi-release jar when the class path consists of directories - e.g. when the tests run
+ * against the `target/classes` directories of the reactor modules, where the JVM ignores `META-INF/versions`. It defines
+ * the classes of passed packages on its own (child first) and prefers their versions from `META-INF/versions/N` with
+ * the highest N supported by the running JVM. All other classes are delegated to the parent class loader.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class MultiReleaseClassLoader extends ClassLoader {
+	private static final int FIRST_VERSIONED_RELEASE = 9;
+	private final String[] packagePrefixes;
+	private final int javaVersion;
+
+	public MultiReleaseClassLoader(@Nonnull ClassLoader parent, @Nonnull String... packagePrefixes) {
+		super(parent);
+		this.packagePrefixes = packagePrefixes;
+		final String specificationVersion = System.getProperty("java.specification.version");
+		this.javaVersion = specificationVersion.startsWith("1.") ?
+			Integer.parseInt(specificationVersion.substring(2)) : Integer.parseInt(specificationVersion);
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		if (!isDefinedHere(name)) {
+			return super.loadClass(name, resolve);
+		}
+		synchronized (getClassLoadingLock(name)) {
+			Class<?> clazz = findLoadedClass(name);
+			if (clazz == null) {
+				clazz = findClass(name);
+			}
+			if (resolve) {
+				resolveClass(clazz);
+			}
+			return clazz;
+		}
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		final URL classFile = findClassFile(name.replace('.', '/') + ".class");
+		if (classFile == null) {
+			throw new ClassNotFoundException(name);
+		}
+		try (final InputStream is = classFile.openStream()) {
+			final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[4096];
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				bos.write(buffer, 0, read);
+			}
+			final byte[] bytes = bos.toByteArray();
+			return defineClass(name, bytes, 0, bytes.length);
+		} catch (IOException e) {
+			throw new ClassNotFoundException(name, e);
+		}
+	}
+
+	private boolean isDefinedHere(@Nonnull String name) {
+		// RELOCATED LIBRARIES OF THE SHADED JARS HAVE NO VERSIONED CLASSES - THEY'RE SHARED WITH THE PARENT
+		if (name.contains(".original.")) {
+			return false;
+		}
+		for (String packagePrefix : this.packagePrefixes) {
+			if (name.startsWith(packagePrefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Nullable
+	private URL findClassFile(@Nonnull String resourceName) {
+		for (int version = this.javaVersion; version >= FIRST_VERSIONED_RELEASE; version--) {
+			final URL versionedClassFile = getParent().getResource("META-INF/versions/" + version + "/" + resourceName);
+			if (versionedClassFile != null) {
+				return versionedClassFile;
+			}
+		}
+		return getParent().getResource(resourceName);
+	}
+
+}
@@ -0,0 +1,86 @@
+package one.edee.oss.proxycian.utils;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class loader that simulates application redeploy - it defines passed classes on its own (child first) from
+ * the bytecode available in the parent class loader, so that they're different classes than the ones loaded by
+ * the parent class loader. All other classes are delegated to the parent class loader.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class RedeployableClassLoader extends ClassLoader {
+	private final Set<String> redeployedClassNames;
+
+	public RedeployableClassLoader(@Nonnull ClassLoader parent, @Nonnull Class<?>... redeployedClasses) {
+		super(parent);
+		this.redeployedClassNames = new HashSet<>(redeployedClasses.length);
+		for (Class<?> redeployedClass : redeployedClasses) {
+			this.redeployedClassNames.add(redeployedClass.getName());
+		}
+	}
+
+	/**
+	 * Waits until all passed references are cleared by the garbage collector. Returns true if they have been cleared.
+	 */
+	public static boolean awaitCollected(@Nonnull List<? extends WeakReference<?>> references) throws InterruptedException {
+		for (int i = 0; i < 50 && references.stream().anyMatch(it -> it.get() != null); i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		return references.stream().allMatch(it -> it.get() == null);
+	}
+
+	/**
+	 * Waits until passed reference is cleared by the garbage collector. Returns true if it has been cleared.
+	 */
+	public static boolean awaitCollected(@Nonnull WeakReference<?> reference) throws InterruptedException {
+		return awaitCollected(Arrays.asList(reference));
+	}
+
+	@Override
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		if (!redeployedClassNames.contains(name)) {
+			return super.loadClass(name, resolve);
+		}
+		synchronized (getClassLoadingLock(name)) {
+			Class<?> clazz = findLoadedClass(name);
+			if (clazz == null) {
+				clazz = findClass(name);
+			}
+			if (resolve) {
+				resolveClass(clazz);
+			}
+			return clazz;
+		}
+	}
+
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		final String resourceName = name.replace('.', '/') + ".class";
+		try (final InputStream is = getParent().getResourceAsStream(resourceName)) {
+			if (is == null) {
+				throw new ClassNotFoundException(name);
+			}
+			final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[4096];
+			int read;
+			while ((read = is.read(buffer)) != -1) {
+				bos.write(buffer, 0, read);
+			}
+			final byte[] bytes = bos.toByteArray();
+			return defineClass(name, bytes, 0, bytes.length);
+		} catch (IOException e) {
+			throw new ClassNotFoundException(name, e);
+		}
+	}
+
+}